@@ -6,6 +6,7 @@ package io.strimzi.certs;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -144,4 +145,78 @@ public interface CertManager {
      * @throws IOException If an input or output file could not be read/written.
      */
     void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException;
+
+    /**
+     * Generate a new private key and a certificate signed by a Certificate Authority and add them to a new keystore.
+     * The default implementation uses temporary files and the file based methods of this manager. Implementations
+     * which can work in memory should override it.
+     *
+     * @param sbj subject information (the common name is used as the alias in the keystore)
+     * @param caKey CA private key bytes
+     * @param caCert CA certificate bytes
+     * @param days certificate duration
+     * @param keyStorePassword password for protecting the keystore
+     * @return the private key, the signed certificate and the keystore
+     * @throws IOException If the certificate could not be generated.
+     */
+    default CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days, String keyStorePassword) throws IOException {
+        File csrFile = File.createTempFile("tls", "csr");
+        File keyFile = File.createTempFile("tls", "key");
+        File certFile = File.createTempFile("tls", "cert");
+        File keyStoreFile = File.createTempFile("tls", "p12");
+
+        try {
+            generateCsr(keyFile, csrFile, sbj);
+            generateCert(csrFile, caKey, caCert, certFile, sbj, days);
+            addKeyAndCertToKeyStore(keyFile, certFile, sbj.commonName(), keyStoreFile, keyStorePassword);
+
+            return new CertAndKey(
+                    Files.readAllBytes(keyFile.toPath()),
+                    Files.readAllBytes(certFile.toPath()),
+                    null,
+                    Files.readAllBytes(keyStoreFile.toPath()),
+                    keyStorePassword);
+        } finally {
+            Files.deleteIfExists(csrFile.toPath());
+            Files.deleteIfExists(keyFile.toPath());
+            Files.deleteIfExists(certFile.toPath());
+            Files.deleteIfExists(keyStoreFile.toPath());
+        }
+    }
+
+    /**
+     * Add the provided key and certificate to a new keystore.
+     * The default implementation uses temporary files and the file based methods of this manager. Implementations
+     * which can work in memory should override it.
+     *
+     * @param key private key bytes
+     * @param cert certificate bytes
+     * @param alias key and certificate alias in the keystore
+     * @param keyStorePassword password for protecting the keystore
+     * @return the private key, the certificate and the keystore
+     * @throws IOException If the keystore could not be generated.
+     */
+    default CertAndKey addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        File keyFile = File.createTempFile("tls", "key");
+        File certFile = File.createTempFile("tls", "cert");
+        File keyStoreFile = File.createTempFile("tls", "p12");
+
+        try {
+            Files.write(keyFile.toPath(), key);
+            Files.write(certFile.toPath(), cert);
+
+            addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
+
+            return new CertAndKey(
+                    Files.readAllBytes(keyFile.toPath()),
+                    Files.readAllBytes(certFile.toPath()),
+                    null,
+                    Files.readAllBytes(keyStoreFile.toPath()),
+                    keyStorePassword);
+        } finally {
+            Files.deleteIfExists(keyFile.toPath());
+            Files.deleteIfExists(certFile.toPath());
+            Files.deleteIfExists(keyStoreFile.toPath());
+        }
+    }
 }
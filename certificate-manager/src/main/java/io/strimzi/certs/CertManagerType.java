@@ -0,0 +1,29 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+/**
+ * The {@link CertManager} implementations which can be selected by the operators
+ *
+ * OPENSSL is the default and runs the openssl binary for every operation
+ * JAVA generates the keys, certificates and keystores in-process
+ */
+public enum CertManagerType {
+    OPENSSL,
+    JAVA;
+
+    /**
+     * @return  New instance of the certificate manager of this type
+     */
+    public CertManager create() {
+        switch (this) {
+            case JAVA:
+                return new JavaCertManager();
+            case OPENSSL:
+            default:
+                return new OpenSslCertManager();
+        }
+    }
+}
@@ -0,0 +1,509 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaMiscPEMGenerator;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCSException;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+import org.bouncycastle.util.io.pem.PemObjectGenerator;
+
+/**
+ * A certificates manager which generates the keys, certificates and keystores in-process using the Bouncy Castle
+ * PKIX APIs. Unlike {@link OpenSslCertManager}, it does not start any processes and does not create any temporary
+ * files. The file based methods read and write only the files passed to them and the in-memory methods
+ * ({@link #generateSignedCert(Subject, byte[], byte[], int, String)} and
+ * {@link #addKeyAndCertToKeyStore(byte[], byte[], String, String)}) do not touch the filesystem at all.
+ *
+ * It produces the same formats as {@link OpenSslCertManager} (2048-bit RSA keys in PKCS#8 PEM, certificates signed
+ * with SHA-256 in PEM and PKCS12 keystores), so both managers can be used with the same CAs. Existing CA keys can be
+ * RSA or EC keys in PKCS#8 or PKCS#1 PEM.
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class JavaCertManager implements CertManager {
+    private static final int KEY_SIZE = 2048;
+    private static final String DEFAULT_ORGANIZATION = "io.strimzi";
+
+    private final SecureRandom random = new SecureRandom();
+
+    public JavaCertManager() {}
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, null, days);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        X509Certificate cert = selfSignedCert(keyPair.getPrivate(), keyPair.getPublic(), sbj, days);
+
+        Files.write(keyFile.toPath(), pem(new JcaPKCS8Generator(keyPair.getPrivate(), null)));
+        Files.write(certFile.toPath(), pem(new JcaMiscPEMGenerator(cert)));
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        PrivateKey key = privateKey(Files.readAllBytes(keyFile.toPath()));
+        X509Certificate cert = selfSignedCert(key, publicKey(key, certFile), sbj, days);
+
+        Files.write(certFile.toPath(), pem(new JcaMiscPEMGenerator(cert)));
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+
+        // the KeyStore class is able to create an empty store if the input stream is null
+        if (trustStoreFile.length() > 0) {
+            try (FileInputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+                trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+            }
+        } else {
+            trustStore.load(null, trustStorePassword.toCharArray());
+        }
+
+        try (FileInputStream isCertificate = new FileInputStream(certFile)) {
+            Certificate certificate = CertificateFactory.getInstance("X.509").generateCertificate(isCertificate);
+            trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        }
+
+        try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+
+        try (FileInputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+        }
+
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+
+        try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        byte[] keyStore = keyStore(Files.readAllBytes(keyFile.toPath()), Files.readAllBytes(certFile.toPath()), alias, keyStorePassword);
+        Files.write(keyStoreFile.toPath(), keyStore);
+    }
+
+    @Override
+    public CertAndKey addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        return new CertAndKey(key, cert, null, keyStore(key, cert, alias, keyStorePassword), keyStorePassword);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+
+        JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(name(sbj), keyPair.getPublic());
+        if (sbj != null && sbj.subjectAltNames() != null && sbj.subjectAltNames().size() > 0) {
+            builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest,
+                    new Extensions(new Extension(Extension.subjectAlternativeName, false, subjectAltNames(sbj.subjectAltNames()).getEncoded())));
+        }
+        PKCS10CertificationRequest csr = builder.build(signer(keyPair.getPrivate()));
+
+        Files.write(keyFile.toPath(), pem(new JcaPKCS8Generator(keyPair.getPrivate(), null)));
+        Files.write(csrFile.toPath(), pem(new JcaMiscPEMGenerator(csr)));
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        PKCS10CertificationRequest csr = readPem(Files.readAllBytes(csrFile.toPath()), PKCS10CertificationRequest.class);
+        if (csr == null) {
+            throw new IOException("No certificate signing request found in " + csrFile);
+        }
+
+        try {
+            if (!csr.isSignatureValid(new JcaContentVerifierProviderBuilder().build(csr.getSubjectPublicKeyInfo()))) {
+                throw new IOException("Invalid signature of the certificate signing request");
+            }
+        } catch (OperatorCreationException | PKCSException e) {
+            throw new IOException("Failed to verify the signature of the certificate signing request", e);
+        }
+
+        X509Certificate cert = signedCert(csr.getSubject(), csr.getSubjectPublicKeyInfo(), sbj, privateKey(caKey), certificate(caCert), days);
+        Files.write(crtFile.toPath(), pem(new JcaMiscPEMGenerator(cert)));
+    }
+
+    @Override
+    public CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days, String keyStorePassword) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        X509Certificate cert = signedCert(name(sbj), SubjectPublicKeyInfo.getInstance(keyPair.getPublic().getEncoded()), sbj,
+                privateKey(caKey), certificate(caCert), days);
+
+        return new CertAndKey(pem(new JcaPKCS8Generator(keyPair.getPrivate(), null)), pem(new JcaMiscPEMGenerator(cert)), null,
+                keyStore(keyPair.getPrivate(), new Certificate[] {cert}, sbj.commonName(), keyStorePassword), keyStorePassword);
+    }
+
+    private KeyPair generateKeyPair() throws IOException {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(KEY_SIZE, random);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the private key", e);
+        }
+    }
+
+    /**
+     * Builds a self-signed CA certificate
+     *
+     * @param key       The private key of the CA
+     * @param publicKey The public key of the CA
+     * @param sbj       The subject of the CA (when null or empty, {@value #DEFAULT_ORGANIZATION} is used as the organization)
+     * @param days      The certificate duration
+     *
+     * @return  The certificate
+     */
+    private X509Certificate selfSignedCert(PrivateKey key, PublicKey publicKey, Subject sbj, int days) throws IOException {
+        if (sbj == null || (sbj.organizationName() == null && sbj.commonName() == null)) {
+            // The issuer cannot be empty, OpenSSL would use the defaults from its configuration instead
+            Subject defaultSbj = new Subject();
+            defaultSbj.setOrganizationName(DEFAULT_ORGANIZATION);
+            defaultSbj.setSubjectAltNames(sbj != null ? sbj.subjectAltNames() : null);
+            sbj = defaultSbj;
+        }
+
+        X500Name name = name(sbj);
+        X509v3CertificateBuilder builder = builder(name, name, SubjectPublicKeyInfo.getInstance(publicKey.getEncoded()), days);
+
+        try {
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(0));
+            builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(publicKey));
+            builder.addExtension(Extension.authorityKeyIdentifier, false, extensionUtils.createAuthorityKeyIdentifier(publicKey));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to calculate the key identifier", e);
+        }
+        addSubjectAltNames(builder, sbj);
+
+        return sign(builder, key);
+    }
+
+    /**
+     * Builds a certificate signed by a CA
+     *
+     * @param subject               The subject name
+     * @param subjectPublicKeyInfo  The public key
+     * @param sbj                   The subject with the subject alternative names (may be null)
+     * @param caKey                 The private key of the CA
+     * @param caCert                The certificate of the CA
+     * @param days                  The certificate duration
+     *
+     * @return  The certificate
+     */
+    private X509Certificate signedCert(X500Name subject, SubjectPublicKeyInfo subjectPublicKeyInfo, Subject sbj, PrivateKey caKey, X509Certificate caCert, int days) throws IOException {
+        X500Name issuer;
+        try {
+            issuer = new JcaX509CertificateHolder(caCert).getSubject();
+        } catch (CertificateException e) {
+            throw new IOException("Failed to read the CA certificate", e);
+        }
+
+        X509v3CertificateBuilder builder = builder(issuer, subject, subjectPublicKeyInfo, days);
+        addSubjectAltNames(builder, sbj);
+
+        return sign(builder, caKey);
+    }
+
+    private X509v3CertificateBuilder builder(X500Name issuer, X500Name subject, SubjectPublicKeyInfo subjectPublicKeyInfo, int days) {
+        Instant notBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        // Positive 159-bit serial number, as generated by OpenSSL
+        BigInteger serial = new BigInteger(159, random).setBit(0);
+
+        return new X509v3CertificateBuilder(issuer, serial, Date.from(notBefore), Date.from(notBefore.plus(days, ChronoUnit.DAYS)),
+                subject, subjectPublicKeyInfo);
+    }
+
+    private static void addSubjectAltNames(X509v3CertificateBuilder builder, Subject sbj) throws IOException {
+        if (sbj != null && sbj.subjectAltNames() != null && sbj.subjectAltNames().size() > 0) {
+            builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj.subjectAltNames()));
+        }
+    }
+
+    private static X509Certificate sign(X509v3CertificateBuilder builder, PrivateKey key) throws IOException {
+        try {
+            return new JcaX509CertificateConverter().getCertificate(builder.build(signer(key)));
+        } catch (CertificateException e) {
+            throw new IOException("Failed to sign the certificate", e);
+        }
+    }
+
+    private static ContentSigner signer(PrivateKey key) throws IOException {
+        String algorithm;
+        switch (key.getAlgorithm()) {
+            case "RSA":
+                algorithm = "SHA256withRSA";
+                break;
+            case "EC":
+            case "ECDSA":
+                algorithm = "SHA256withECDSA";
+                break;
+            default:
+                throw new IOException("Unsupported private key algorithm " + key.getAlgorithm());
+        }
+
+        try {
+            return new JcaContentSignerBuilder(algorithm).build(key);
+        } catch (OperatorCreationException e) {
+            throw new IOException("Failed to create the signer", e);
+        }
+    }
+
+    private static X500Name name(Subject sbj) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        if (sbj != null && sbj.organizationName() != null) {
+            builder.addRDN(BCStyle.O, sbj.organizationName());
+        }
+
+        if (sbj != null && sbj.commonName() != null) {
+            builder.addRDN(BCStyle.CN, sbj.commonName());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Builds the subject alternative names from the alternative names in the OpenSSL configuration format
+     * (for example {@code DNS.1 = my-cluster-kafka-bootstrap} or {@code IP.1 = 10.0.0.1})
+     *
+     * @param subjectAltNames   The alternative names
+     *
+     * @return  The subject alternative names
+     */
+    private static GeneralNames subjectAltNames(Map<String, String> subjectAltNames) throws IOException {
+        List<GeneralName> generalNames = new ArrayList<>(subjectAltNames.size());
+
+        for (Map.Entry<String, String> entry : subjectAltNames.entrySet()) {
+            String type = entry.getKey().contains(".") ? entry.getKey().substring(0, entry.getKey().indexOf('.')) : entry.getKey();
+
+            try {
+                switch (type) {
+                    case "email":
+                        generalNames.add(new GeneralName(GeneralName.rfc822Name, entry.getValue()));
+                        break;
+                    case "DNS":
+                        generalNames.add(new GeneralName(GeneralName.dNSName, entry.getValue()));
+                        break;
+                    case "URI":
+                        generalNames.add(new GeneralName(GeneralName.uniformResourceIdentifier, entry.getValue()));
+                        break;
+                    case "IP":
+                        generalNames.add(new GeneralName(GeneralName.iPAddress, entry.getValue()));
+                        break;
+                    default:
+                        throw new IOException("Unsupported subject alternative name " + entry.getKey());
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid subject alternative name " + entry.getKey() + " = " + entry.getValue(), e);
+            }
+        }
+
+        return new GeneralNames(generalNames.toArray(new GeneralName[0]));
+    }
+
+    /**
+     * Gets the public key which belongs to the private key. It is derived from the RSA private key or, for other
+     * keys, taken from the existing certificate.
+     *
+     * @param key       The private key
+     * @param certFile  The file with the existing certificate
+     *
+     * @return  The public key
+     */
+    private static PublicKey publicKey(PrivateKey key, File certFile) throws IOException {
+        if (key instanceof RSAPrivateCrtKey) {
+            RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) key;
+
+            try {
+                return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Failed to derive the public key", e);
+            }
+        } else if (certFile.length() > 0) {
+            return certificate(Files.readAllBytes(certFile.toPath())).getPublicKey();
+        } else {
+            throw new IOException("Cannot get the public key for the " + key.getAlgorithm() + " private key");
+        }
+    }
+
+    /**
+     * Reads the private key from PKCS#8 ({@code PRIVATE KEY}) or PKCS#1 ({@code RSA PRIVATE KEY} or
+     * {@code EC PRIVATE KEY}) PEM
+     *
+     * @param pem   The PEM encoded key
+     *
+     * @return  The private key
+     */
+    private static PrivateKey privateKey(byte[] pem) throws IOException {
+        try (PEMParser parser = new PEMParser(new StringReader(new String(pem, StandardCharsets.US_ASCII)))) {
+            JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+            Object object;
+            while ((object = parser.readObject()) != null) {
+                if (object instanceof PrivateKeyInfo) {
+                    return converter.getPrivateKey((PrivateKeyInfo) object);
+                } else if (object instanceof PEMKeyPair) {
+                    return converter.getKeyPair((PEMKeyPair) object).getPrivate();
+                }
+            }
+        }
+
+        throw new IOException("No supported private key found");
+    }
+
+    /**
+     * Reads the first object of the given type from the PEM
+     *
+     * @param pem   The PEM encoded objects
+     * @param type  The type of the object
+     * @param <T>   The type of the object
+     *
+     * @return  The object or null if the PEM does not contain any object of the given type
+     */
+    private static <T> T readPem(byte[] pem, Class<T> type) throws IOException {
+        try (PEMParser parser = new PEMParser(new StringReader(new String(pem, StandardCharsets.US_ASCII)))) {
+            Object object;
+            while ((object = parser.readObject()) != null) {
+                if (type.isInstance(object)) {
+                    return type.cast(object);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static X509Certificate certificate(byte[] cert) throws IOException {
+        try {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(cert));
+        } catch (CertificateException e) {
+            throw new IOException("Failed to read the certificate", e);
+        }
+    }
+
+    private static Certificate[] certificates(byte[] certs) throws IOException {
+        try {
+            Collection<? extends Certificate> chain = CertificateFactory.getInstance("X.509").generateCertificates(new ByteArrayInputStream(certs));
+            return chain.toArray(new Certificate[0]);
+        } catch (CertificateException e) {
+            throw new IOException("Failed to read the certificates", e);
+        }
+    }
+
+    private static byte[] keyStore(byte[] key, byte[] certs, String alias, String keyStorePassword) throws IOException {
+        return keyStore(privateKey(key), certificates(certs), alias, keyStorePassword);
+    }
+
+    private static byte[] keyStore(PrivateKey key, Certificate[] chain, String alias, String keyStorePassword) throws IOException {
+        try {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, key, keyStorePassword.toCharArray(), chain);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            keyStore.store(out, keyStorePassword.toCharArray());
+            return out.toByteArray();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the keystore", e);
+        }
+    }
+
+    private static byte[] pem(PemObjectGenerator object) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(object);
+        }
+
+        return writer.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput (certificates per second) of the {@link OpenSslCertManager} and the {@link JavaCertManager}
+ * when generating a signed user certificate with its keystore, as done by the User Operator for every TLS user.
+ *
+ * This is not a unit test and is not run by the build. Run it with the test classpath of this module, for example
+ * from the IDE using the {@link #main(String[])} method. The OpenSSL based manager needs the {@code openssl} binary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CertManagerBenchmark {
+    @Param({"openssl", "java"})
+    public String certManagerType;
+
+    private CertManager certManager;
+    private Subject subject;
+    private byte[] caKey;
+    private byte[] caCert;
+
+    @Setup
+    public void setup() throws IOException {
+        certManager = "java".equals(certManagerType) ? new JavaCertManager() : new OpenSslCertManager();
+
+        File caKeyFile = File.createTempFile("ca-key-", ".key");
+        File caCertFile = File.createTempFile("ca-crt-", ".crt");
+
+        Subject caSubject = new Subject();
+        caSubject.setOrganizationName("io.strimzi");
+        caSubject.setCommonName("clients-ca");
+        certManager.generateSelfSignedCert(caKeyFile, caCertFile, caSubject, 365);
+
+        caKey = Files.readAllBytes(caKeyFile.toPath());
+        caCert = Files.readAllBytes(caCertFile.toPath());
+        Files.delete(caKeyFile.toPath());
+        Files.delete(caCertFile.toPath());
+
+        subject = new Subject();
+        subject.setCommonName("my-user");
+    }
+
+    @Benchmark
+    public CertAndKey generateSignedCert() throws IOException {
+        return certManager.generateSignedCert(subject, caKey, caCert, 365, "123456");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CertManagerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.security.KeyStore;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+/**
+ * Runs the same tests as for the OpenSSL based manager and checks that both managers can be used with the CAs
+ * created by the other one.
+ */
+public class JavaCertManagerTest extends OpenSslCertManagerTest {
+
+    @BeforeAll
+    public static void before() throws CertificateException {
+        certFactory = CertificateFactory.getInstance("X.509");
+        ssl = new JavaCertManager();
+    }
+
+    @Test
+    public void testGenerateSignedCertInMemory() throws Exception {
+        File caKey = File.createTempFile("ca-key-", ".key");
+        File caCert = File.createTempFile("ca-crt-", ".crt");
+
+        Subject caSbj = new Subject();
+        caSbj.setCommonName("CACommonName");
+        caSbj.setOrganizationName("CAOrganizationName");
+        ssl.generateSelfSignedCert(caKey, caCert, caSbj, 365);
+
+        Subject sbj = new Subject();
+        sbj.setCommonName("MyCommonName");
+        sbj.setSubjectAltNames(Map.of("DNS.1", "example1.com", "IP.1", "10.0.0.1"));
+
+        CertAndKey certAndKey = ssl.generateSignedCert(sbj, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), 365, "123456");
+
+        X509Certificate ca = loadCertificate(caCert);
+        X509Certificate cert = (X509Certificate) certFactory.generateCertificate(new ByteArrayInputStream(certAndKey.cert()));
+        assertCaCertificate(cert, false);
+        cert.verify(ca.getPublicKey());
+        assertThat(cert.getSubjectDN().getName(), is("CN=MyCommonName"));
+        assertThat(cert.getIssuerDN().getName(), is("CN=CACommonName, O=CAOrganizationName"));
+        assertThat(cert.getSubjectAlternativeNames(), containsInAnyOrder(List.of(2, "example1.com"), List.of(7, "10.0.0.1")));
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(new ByteArrayInputStream(certAndKey.keyStore()), "123456".toCharArray());
+        assertThat(keyStore.getCertificate("MyCommonName"), is(cert));
+        assertThat(keyStore.getKey("MyCommonName", "123456".toCharArray()).getAlgorithm(), is("RSA"));
+
+        caKey.delete();
+        caCert.delete();
+    }
+
+    @Test
+    public void testCompatibilityWithOpenSslCertManager() throws Exception {
+        Assumptions.assumeTrue(System.getProperty("os.name").contains("nux"));
+        CertManager openSsl = new OpenSslCertManager();
+
+        Subject caSbj = new Subject();
+        caSbj.setCommonName("CACommonName");
+        caSbj.setOrganizationName("CAOrganizationName");
+
+        Subject sbj = new Subject();
+        sbj.setCommonName("MyCommonName");
+        sbj.setOrganizationName("MyOrganization");
+
+        File caKey = File.createTempFile("ca-key-", ".key");
+        File caCert = File.createTempFile("ca-crt-", ".crt");
+        File key = File.createTempFile("key-", ".key");
+        File csr = File.createTempFile("csr-", ".csr");
+        File cert = File.createTempFile("crt-", ".crt");
+
+        // CA created by OpenSSL, CSR and certificate by this manager
+        openSsl.generateSelfSignedCert(caKey, caCert, caSbj, 365);
+        ssl.generateCsr(key, csr, sbj);
+        ssl.generateCert(csr, caKey, caCert, cert, sbj, 365);
+        loadCertificate(cert).verify(loadCertificate(caCert).getPublicKey());
+
+        // CA and CSR created by this manager, certificate by OpenSSL
+        ssl.generateSelfSignedCert(caKey, caCert, caSbj, 365);
+        ssl.generateCsr(key, csr, sbj);
+        openSsl.generateCert(csr, caKey, caCert, cert, sbj, 365);
+        loadCertificate(cert).verify(loadCertificate(caCert).getPublicKey());
+        assertThat(loadCertificate(cert).getSubjectDN().getName(), is("CN=MyCommonName, O=MyOrganization"));
+
+        caKey.delete();
+        caCert.delete();
+        key.delete();
+        csr.delete();
+        cert.delete();
+    }
+}
@@ -40,8 +40,8 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 public class OpenSslCertManagerTest {
 
-    private static CertificateFactory certFactory;
-    private static CertManager ssl;
+    protected static CertificateFactory certFactory;
+    protected static CertManager ssl;
 
     @BeforeAll
     public static void before() throws CertificateException {
@@ -121,14 +121,14 @@ public class OpenSslCertManagerTest {
         }
     }
 
-    private X509Certificate loadCertificate(File cert) throws CertificateException, FileNotFoundException {
+    protected X509Certificate loadCertificate(File cert) throws CertificateException, FileNotFoundException {
         Certificate c1 = certFactory.generateCertificate(new FileInputStream(cert));
         assertTrue(c1 instanceof X509Certificate);
         X509Certificate x509Certificate = (X509Certificate) c1;
         return x509Certificate;
     }
 
-    private void assertCaCertificate(X509Certificate x509Certificate, boolean expectCa) throws CertificateException, NoSuchAlgorithmException, InvalidKeyException, NoSuchProviderException, SignatureException {
+    protected void assertCaCertificate(X509Certificate x509Certificate, boolean expectCa) throws CertificateException, NoSuchAlgorithmException, InvalidKeyException, NoSuchProviderException, SignatureException {
         try {
             x509Certificate.verify(x509Certificate.getPublicKey());
             if (!expectCa) {
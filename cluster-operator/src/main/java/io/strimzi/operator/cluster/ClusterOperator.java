@@ -13,6 +13,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperato
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectS2IAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.ReconciliationStepRecorder;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.common.MetricsProvider;
@@ -23,10 +24,13 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,6 +53,8 @@ public class ClusterOperator extends AbstractVerticle {
     private static final String CERTS_SUFFIX = NAME_SUFFIX + "-certs";
 
     private static final int HEALTH_SERVER_PORT = 8080;
+    private static final int DEFAULT_SLOW_STEPS_RECONCILIATIONS = 5;
+    private static final int DEFAULT_SLOW_STEPS_STEPS = 5;
 
     private final MetricsProvider metricsProvider;
 
@@ -178,6 +184,8 @@ public class ClusterOperator extends AbstractVerticle {
                         PrometheusMeterRegistry metrics = (PrometheusMeterRegistry) metricsProvider.meterRegistry();
                         request.response().setStatusCode(200)
                                 .end(metrics.scrape());
+                    } else if (request.path().equals("/slow-steps")) {
+                        slowSteps(request);
                     }
                 })
                 .listen(HEALTH_SERVER_PORT, ar -> {
@@ -191,6 +199,49 @@ public class ClusterOperator extends AbstractVerticle {
         return result.future();
     }
 
+    /**
+     * Responds with the slowest steps of the last reconciliations of every resource. The number of the reported
+     * reconciliations per resource and the number of steps per reconciliation can be set using the
+     * {@code reconciliations} and {@code steps} query parameters.
+     *
+     * @param request   The HTTP request
+     */
+    private void slowSteps(HttpServerRequest request) {
+        int reconciliations;
+        int steps;
+
+        try {
+            reconciliations = intParam(request, "reconciliations", DEFAULT_SLOW_STEPS_RECONCILIATIONS);
+            steps = intParam(request, "steps", DEFAULT_SLOW_STEPS_STEPS);
+        } catch (NumberFormatException e) {
+            request.response().setStatusCode(400).end(e.getMessage());
+            return;
+        }
+
+        JsonObject report = new JsonObject();
+        for (Map.Entry<String, ReconciliationStepRecorder> recorder : stepRecorders().entrySet()) {
+            report.put(recorder.getKey(), recorder.getValue().report(reconciliations, steps));
+        }
+
+        request.response().setStatusCode(200)
+                .putHeader("Content-Type", "application/json")
+                .end(report.encodePrettily());
+    }
+
+    private static int intParam(HttpServerRequest request, String name, int defaultValue) {
+        String value = request.getParam(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private Map<String, ReconciliationStepRecorder> stepRecorders() {
+        Map<String, ReconciliationStepRecorder> recorders = new LinkedHashMap<>();
+        recorders.put(kafkaAssemblyOperator.kind(), kafkaAssemblyOperator.stepRecorder());
+        recorders.put(kafkaConnectAssemblyOperator.kind(), kafkaConnectAssemblyOperator.stepRecorder());
+        recorders.put(kafkaMirrorMaker2AssemblyOperator.kind(), kafkaMirrorMaker2AssemblyOperator.stepRecorder());
+        recorders.put(kafkaBridgeAssemblyOperator.kind(), kafkaBridgeAssemblyOperator.stepRecorder());
+        return recorders;
+    }
+
     public static String secretName(String cluster) {
         return cluster + CERTS_SUFFIX;
     }
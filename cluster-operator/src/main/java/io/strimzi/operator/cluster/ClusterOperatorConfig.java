@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
@@ -45,6 +46,12 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CUSTOM_RESOURCE_SELECTOR = "STRIMZI_CUSTOM_RESOURCE_SELECTOR";
     public static final String STRIMZI_FEATURE_GATES = "STRIMZI_FEATURE_GATES";
     public static final String STRIMZI_OPERATIONS_THREAD_POOL_SIZE = "STRIMZI_OPERATIONS_THREAD_POOL_SIZE";
+    public static final String STRIMZI_MAX_PERIODIC_RECONCILIATIONS_IN_FLIGHT = "STRIMZI_MAX_PERIODIC_RECONCILIATIONS_IN_FLIGHT";
+    public static final String STRIMZI_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT = "STRIMZI_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT";
+    public static final String STRIMZI_QUEUED_RECONCILIATIONS_PER_SECOND = "STRIMZI_QUEUED_RECONCILIATIONS_PER_SECOND";
+    public static final String STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS = "STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS";
+    public static final String STRIMZI_MAX_ROLLING_BATCH_SIZE = "STRIMZI_MAX_ROLLING_BATCH_SIZE";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
 
     // Feature Flags
     public static final String STRIMZI_RBAC_SCOPE = "STRIMZI_RBAC_SCOPE";
@@ -73,6 +80,12 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final long DEFAULT_CONNECT_BUILD_TIMEOUT_MS = 300_000;
     public static final int DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE = 10;
+    public static final int DEFAULT_MAX_PERIODIC_RECONCILIATIONS_IN_FLIGHT = 0;
+    public static final int DEFAULT_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT = 0;
+    public static final int DEFAULT_QUEUED_RECONCILIATIONS_PER_SECOND = 0;
+    public static final long DEFAULT_PERIODIC_RECONCILIATION_SPREAD_MS = 0;
+    public static final int DEFAULT_MAX_ROLLING_BATCH_SIZE = 1;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -88,6 +101,12 @@ public class ClusterOperatorConfig {
     private final Labels customResourceSelector;
     private final FeatureGates featureGates;
     private final int operationsThreadPoolSize;
+    private final int maxPeriodicReconciliationsInFlight;
+    private final int maxQueuedReconciliationsInFlight;
+    private final int queuedReconciliationsPerSecond;
+    private final long periodicReconciliationSpreadMs;
+    private final int maxRollingBatchSize;
+    private final CertManagerType certManagerType;
 
     /**
      * Constructor
@@ -106,6 +125,12 @@ public class ClusterOperatorConfig {
      * @param customResourceSelector Labels used to filter the custom resources seen by the cluster operator
      * @param featureGates Configuration string with feature gates settings
      * @param operationsThreadPoolSize The size of the thread pool used for various operations
+     * @param maxPeriodicReconciliationsInFlight Maximal number of resources of each kind reconciled at the same time by the periodic reconciliation (0 for no limit)
+     * @param maxQueuedReconciliationsInFlight Maximal number of resources of each kind reconciled at the same time by the work queue (0 for no limit)
+     * @param queuedReconciliationsPerSecond Maximal number of reconciliations of resources of each kind started by the work queue per second (0 for no limit)
+     * @param periodicReconciliationSpreadMs Time window over which the periodic reconciliation of the resources of each kind is spread (0 to start all of them at once)
+     * @param maxRollingBatchSize Maximal number of Kafka brokers from the same rack which are rolled at the same time (1 to roll them one by one)
+     * @param certManagerType Implementation of the certificate manager used to generate the keys and certificates
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -122,7 +147,13 @@ public class ClusterOperatorConfig {
             RbacScope rbacScope,
             Labels customResourceSelector,
             String featureGates,
-            int operationsThreadPoolSize) {
+            int operationsThreadPoolSize,
+            int maxPeriodicReconciliationsInFlight,
+            int maxQueuedReconciliationsInFlight,
+            int queuedReconciliationsPerSecond,
+            long periodicReconciliationSpreadMs,
+            int maxRollingBatchSize,
+            CertManagerType certManagerType) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -137,6 +168,12 @@ public class ClusterOperatorConfig {
         this.customResourceSelector = customResourceSelector;
         this.featureGates = new FeatureGates(featureGates);
         this.operationsThreadPoolSize = operationsThreadPoolSize;
+        this.maxPeriodicReconciliationsInFlight = maxPeriodicReconciliationsInFlight;
+        this.maxQueuedReconciliationsInFlight = maxQueuedReconciliationsInFlight;
+        this.queuedReconciliationsPerSecond = queuedReconciliationsPerSecond;
+        this.periodicReconciliationSpreadMs = periodicReconciliationSpreadMs;
+        this.maxRollingBatchSize = maxRollingBatchSize;
+        this.certManagerType = certManagerType;
     }
 
     /**
@@ -185,6 +222,12 @@ public class ClusterOperatorConfig {
         Labels customResourceSelector = parseLabels(map, STRIMZI_CUSTOM_RESOURCE_SELECTOR);
         String featureGates = map.getOrDefault(STRIMZI_FEATURE_GATES, "");
         int operationsThreadPoolSize = parseInt(map.get(STRIMZI_OPERATIONS_THREAD_POOL_SIZE), DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE);
+        int maxPeriodicReconciliationsInFlight = parseInt(map.get(STRIMZI_MAX_PERIODIC_RECONCILIATIONS_IN_FLIGHT), DEFAULT_MAX_PERIODIC_RECONCILIATIONS_IN_FLIGHT);
+        int maxQueuedReconciliationsInFlight = parseNonNegativeInt(STRIMZI_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT, map.get(STRIMZI_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT), DEFAULT_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT);
+        int queuedReconciliationsPerSecond = parseNonNegativeInt(STRIMZI_QUEUED_RECONCILIATIONS_PER_SECOND, map.get(STRIMZI_QUEUED_RECONCILIATIONS_PER_SECOND), DEFAULT_QUEUED_RECONCILIATIONS_PER_SECOND);
+        long periodicReconciliationSpreadMs = parsePeriodicReconciliationSpread(map.get(STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS), reconciliationInterval);
+        int maxRollingBatchSize = parseMaxRollingBatchSize(map.get(STRIMZI_MAX_ROLLING_BATCH_SIZE));
+        CertManagerType certManagerType = parseCertManager(map.get(STRIMZI_CERT_MANAGER));
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -200,7 +243,13 @@ public class ClusterOperatorConfig {
                 rbacScope,
                 customResourceSelector,
                 featureGates,
-                operationsThreadPoolSize);
+                operationsThreadPoolSize,
+                maxPeriodicReconciliationsInFlight,
+                maxQueuedReconciliationsInFlight,
+                queuedReconciliationsPerSecond,
+                periodicReconciliationSpreadMs,
+                maxRollingBatchSize,
+                certManagerType);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -232,6 +281,49 @@ public class ClusterOperatorConfig {
         return reconciliationInterval;
     }
 
+    private static long parsePeriodicReconciliationSpread(String spreadEnvVar, long reconciliationInterval) {
+        long spread = DEFAULT_PERIODIC_RECONCILIATION_SPREAD_MS;
+
+        if (spreadEnvVar != null) {
+            spread = Long.parseLong(spreadEnvVar);
+
+            if (spread < 0 || spread >= reconciliationInterval) {
+                throw new InvalidConfigurationException(STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS
+                        + " has to be between 0 and the reconciliation interval (" + reconciliationInterval + "ms)");
+            }
+        }
+
+        return spread;
+    }
+
+    private static int parseNonNegativeInt(String envVarName, String envVar, int defaultValue) {
+        int value = defaultValue;
+
+        if (envVar != null) {
+            value = Integer.parseInt(envVar);
+
+            if (value < 0) {
+                throw new InvalidConfigurationException(envVarName + " cannot be negative");
+            }
+        }
+
+        return value;
+    }
+
+    private static int parseMaxRollingBatchSize(String batchSizeEnvVar) {
+        int batchSize = DEFAULT_MAX_ROLLING_BATCH_SIZE;
+
+        if (batchSizeEnvVar != null) {
+            batchSize = Integer.parseInt(batchSizeEnvVar);
+
+            if (batchSize < 1) {
+                throw new InvalidConfigurationException(STRIMZI_MAX_ROLLING_BATCH_SIZE + " has to be at least 1");
+            }
+        }
+
+        return batchSize;
+    }
+
     private static long parseTimeout(String timeoutEnvVar, long defaultTimeout) {
         long timeout = defaultTimeout;
 
@@ -293,6 +385,27 @@ public class ClusterOperatorConfig {
         return rbacScope;
     }
 
+    private static CertManagerType parseCertManager(String certManagerEnvVar) {
+        CertManagerType certManagerType = DEFAULT_CERT_MANAGER;
+
+        if (certManagerEnvVar != null) {
+            switch (certManagerEnvVar.trim().toLowerCase(Locale.ENGLISH)) {
+                case "openssl":
+                    certManagerType = CertManagerType.OPENSSL;
+                    break;
+                case "java":
+                    certManagerType = CertManagerType.JAVA;
+                    break;
+                default:
+                    throw new InvalidConfigurationException(certManagerEnvVar
+                            + " is not a valid " + STRIMZI_CERT_MANAGER + " value. " +
+                            STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, java.");
+            }
+        }
+
+        return certManagerType;
+    }
+
     private static ImagePullPolicy parseImagePullPolicy(String imagePullPolicyEnvVar) {
         ImagePullPolicy imagePullPolicy = null;
 
@@ -483,6 +596,48 @@ public class ClusterOperatorConfig {
         return operationsThreadPoolSize;
     }
 
+    /**
+     * @return Maximal number of resources of each kind reconciled at the same time by the periodic reconciliation
+     */
+    public int getMaxPeriodicReconciliationsInFlight() {
+        return maxPeriodicReconciliationsInFlight;
+    }
+
+    /**
+     * @return Maximal number of resources of each kind reconciled at the same time by the work queue (0 for no limit)
+     */
+    public int getMaxQueuedReconciliationsInFlight() {
+        return maxQueuedReconciliationsInFlight;
+    }
+
+    /**
+     * @return Maximal number of reconciliations of resources of each kind started by the work queue per second (0 for no limit)
+     */
+    public int getQueuedReconciliationsPerSecond() {
+        return queuedReconciliationsPerSecond;
+    }
+
+    /**
+     * @return Time window in milliseconds over which the periodic reconciliation of the resources is spread
+     */
+    public long getPeriodicReconciliationSpreadMs() {
+        return periodicReconciliationSpreadMs;
+    }
+
+    /**
+     * @return Maximal number of Kafka brokers from the same rack which are rolled at the same time
+     */
+    public int getMaxRollingBatchSize() {
+        return maxRollingBatchSize;
+    }
+
+    /**
+     * @return Implementation of the certificate manager used to generate the keys and certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -499,6 +654,12 @@ public class ClusterOperatorConfig {
                 ",rbacScope=" + rbacScope +
                 ",customResourceSelector=" + customResourceSelector +
                 ",featureGates=" + featureGates +
+                ",maxPeriodicReconciliationsInFlight=" + maxPeriodicReconciliationsInFlight +
+                ",maxQueuedReconciliationsInFlight=" + maxQueuedReconciliationsInFlight +
+                ",queuedReconciliationsPerSecond=" + queuedReconciliationsPerSecond +
+                ",periodicReconciliationSpreadMs=" + periodicReconciliationSpreadMs +
+                ",maxRollingBatchSize=" + maxRollingBatchSize +
+                ",certManagerType=" + certManagerType +
                 ")";
     }
 }
@@ -15,8 +15,10 @@ import static java.util.Arrays.asList;
  */
 public class FeatureGates {
     private static final String CONTROL_PLANE_LISTENER = "ControlPlaneListener";
+    private static final String DESIRED_STATE_HASHING = "DesiredStateHashing";
 
     private final FeatureGate controlPlaneListener = new FeatureGate(CONTROL_PLANE_LISTENER, false);
+    private final FeatureGate desiredStateHashing = new FeatureGate(DESIRED_STATE_HASHING, false);
 
     /**
      * Constructs the feature gates configuration.
@@ -41,6 +43,9 @@ public class FeatureGates {
                     case CONTROL_PLANE_LISTENER:
                         setValueOnlyOnce(controlPlaneListener, value);
                         break;
+                    case DESIRED_STATE_HASHING:
+                        setValueOnlyOnce(desiredStateHashing, value);
+                        break;
                     default:
                         throw new InvalidConfigurationException("Unknown feature gate " + featureGate + " found in the configuration");
                 }
@@ -70,10 +75,18 @@ public class FeatureGates {
         return controlPlaneListener.isEnabled();
     }
 
+    /**
+     * @return  Returns true when the DesiredStateHashing feature gate is enabled
+     */
+    public boolean desiredStateHashingEnabled() {
+        return desiredStateHashing.isEnabled();
+    }
+
     @Override
     public String toString() {
         return "FeatureGates(" +
                 "controlPlaneListener=" + controlPlaneListener.isEnabled() +
+                ",desiredStateHashing=" + desiredStateHashing.isEnabled() +
                 ")";
     }
 
@@ -118,6 +118,8 @@ public class KafkaCluster extends AbstractModel {
     protected static final String REPLICATION_PORT_NAME = "tcp-replication";
     public static final int CONTROLPLANE_PORT = 9090;
     protected static final String CONTROLPLANE_PORT_NAME = "tcp-ctrlplane"; // port name is up to 15 characters
+    // The Kafka agent serves the broker state over HTTPS on this port (it is used by the Cluster Operator only)
+    public static final int KAFKA_AGENT_PORT = 8443;
 
     // Ingress and Route listeners advertise port 443 regardless what port is used in Kafka, so we store them here
     protected static final int ROUTE_PORT = 443;
@@ -1713,8 +1715,8 @@ public class KafkaCluster extends AbstractModel {
                 .build();
 
         // List of network policy rules for all ports
-        // Default size is number of listeners configured by the user + 4 (Control Plane listener, replication listener, metrics and JMX)
-        List<NetworkPolicyIngressRule> rules = new ArrayList<>(listeners.size() + 4);
+        // Default size is number of listeners configured by the user + 5 (Control Plane listener, replication listener, Kafka agent, metrics and JMX)
+        List<NetworkPolicyIngressRule> rules = new ArrayList<>(listeners.size() + 5);
 
         // Control Plane rule covers the control plane listener.
         // Control plane listener is used by Kafka for internal coordination only
@@ -1740,6 +1742,17 @@ public class KafkaCluster extends AbstractModel {
         replicationRule.setFrom(List.of(clusterOperatorPeer, kafkaClusterPeer, entityOperatorPeer, kafkaExporterPeer, cruiseControlPeer));
         rules.add(replicationRule);
 
+        // Kafka agent rule covers the broker state endpoint of the Kafka agent which is used by the Cluster Operator only
+        NetworkPolicyIngressRule kafkaAgentRule = new NetworkPolicyIngressRuleBuilder()
+                .addNewPort()
+                    .withNewPort(KAFKA_AGENT_PORT)
+                    .withNewProtocol("TCP")
+                .endPort()
+                .build();
+
+        kafkaAgentRule.setFrom(List.of(clusterOperatorPeer));
+        rules.add(kafkaAgentRule);
+
         // User-configured listeners are by default open for all.
         // But users can pass peers in the Kafka CR
         for (GenericKafkaListener listener : listeners) {
@@ -0,0 +1,111 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.kafka.config.model.Scope;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The config model of a Kafka broker version. The config models are read from the
+ * {@code /kafka-<version>-config-model.json} classpath resources only once for every Kafka version and then shared by
+ * all reconciliations. Apart from the config models themselves, the names of the configs are indexed by their scope
+ * (i.e. whether they can be updated dynamically per broker, cluster-wide or not at all).
+ *
+ * The config models must not be modified after they are read.
+ */
+public class KafkaConfigModels {
+    private static final Map<String, KafkaConfigModels> MODELS = new ConcurrentHashMap<>();
+
+    private final Map<String, ConfigModel> configs;
+    private final Map<Scope, Set<String>> configsByScope;
+
+    private KafkaConfigModels(Map<String, ConfigModel> configs) {
+        this.configs = Collections.unmodifiableMap(configs);
+
+        Map<Scope, Set<String>> configsByScope = new EnumMap<>(Scope.class);
+        for (Scope scope : Scope.values()) {
+            configsByScope.put(scope, new HashSet<>());
+        }
+
+        for (Map.Entry<String, ConfigModel> config : configs.entrySet()) {
+            Scope scope = config.getValue().getScope();
+
+            if (scope != null) {
+                configsByScope.get(scope).add(config.getKey());
+            }
+        }
+
+        configsByScope.replaceAll((scope, names) -> Collections.unmodifiableSet(names));
+        this.configsByScope = Collections.unmodifiableMap(configsByScope);
+    }
+
+    /**
+     * Gets the config models for the given version of the Kafka broker. They are read from the classpath on the
+     * first call for given version and cached afterwards.
+     *
+     * @param kafkaVersion The broker version.
+     * @return The config models for that broker version.
+     */
+    public static KafkaConfigModels forVersion(KafkaVersion kafkaVersion) {
+        return MODELS.computeIfAbsent(kafkaVersion.version(), version -> new KafkaConfigModels(read(version)));
+    }
+
+    private static Map<String, ConfigModel> read(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
+        try {
+            try (InputStream in = KafkaConfigModels.class.getResourceAsStream(name)) {
+                ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
+                if (!version.equals(configModels.getVersion())) {
+                    throw new RuntimeException("Incorrect version");
+                }
+                return configModels.getConfigs();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading from classpath resource " + name, e);
+        }
+    }
+
+    /**
+     * @return Unmodifiable map of the config names to their config models.
+     */
+    public Map<String, ConfigModel> configs() {
+        return configs;
+    }
+
+    /**
+     * @param name Name of the config.
+     * @return The config model of the config or null if the config is not a known broker config.
+     */
+    public ConfigModel get(String name) {
+        return configs.get(name);
+    }
+
+    /**
+     * @param name Name of the config.
+     * @return True if the config is a known broker config. False otherwise (e.g. for configs of broker plugins).
+     */
+    public boolean isKnown(String name) {
+        return configs.containsKey(name);
+    }
+
+    /**
+     * @param scope The scope.
+     * @return Unmodifiable set with the names of the configs with given scope.
+     */
+    public Set<String> withScope(Scope scope) {
+        return configsByScope.get(scope);
+    }
+}
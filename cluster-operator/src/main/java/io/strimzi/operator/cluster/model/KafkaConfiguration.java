@@ -5,21 +5,16 @@
 
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.KafkaClusterSpec;
 import io.strimzi.kafka.config.model.ConfigModel;
-import io.strimzi.kafka.config.model.ConfigModels;
 import io.strimzi.kafka.config.model.Scope;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 
@@ -81,7 +76,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
      */
     public List<String> validate(KafkaVersion kafkaVersion) {
         List<String> errors = new ArrayList<>();
-        Map<String, ConfigModel> models = readConfigModel(kafkaVersion);
+        KafkaConfigModels models = KafkaConfigModels.forVersion(kafkaVersion);
         for (Map.Entry<String, String> entry: asOrderedProperties().asMap().entrySet()) {
             String key = entry.getKey();
             String value = entry.getValue();
@@ -97,22 +92,12 @@ public class KafkaConfiguration extends AbstractConfiguration {
 
     /**
      * Gets the config model for the given version of the Kafka broker.
+     * The config model is read only once and cached, see {@link KafkaConfigModels}.
      * @param kafkaVersion The broker version.
-     * @return The config model for that broker version.
+     * @return The unmodifiable config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
-        try {
-            try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                if (!kafkaVersion.version().equals(configModels.getVersion())) {
-                    throw new RuntimeException("Incorrect version");
-                }
-                return configModels.getConfigs();
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading from classpath resource " + name, e);
-        }
+        return KafkaConfigModels.forVersion(kafkaVersion).configs();
     }
 
     /**
@@ -153,11 +138,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     private Set<String> withScope(KafkaVersion kafkaVersion, Scope scope) {
-        Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
-        List<String> configsOfScope = c.entrySet().stream()
-                .filter(config -> scope.equals(config.getValue().getScope()))
-                .map(config -> config.getKey())
-                .collect(Collectors.toList());
+        Set<String> configsOfScope = KafkaConfigModels.forVersion(kafkaVersion).withScope(scope);
         Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
         result.retainAll(configsOfScope);
         return Collections.unmodifiableSet(result);
@@ -170,9 +151,9 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The unknown configs.
      */
     public Set<String> unknownConfigs(KafkaVersion kafkaVersion) {
-        Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
+        KafkaConfigModels models = KafkaConfigModels.forVersion(kafkaVersion);
         Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
-        result.removeAll(c.keySet());
+        result.removeIf(models::isKnown);
         return result;
     }
 
@@ -183,10 +164,10 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The unknown configs.
      */
     public Set<String> unknownConfigsWithValues(KafkaVersion kafkaVersion) {
-        Map<String, ConfigModel> configModel = readConfigModel(kafkaVersion);
+        KafkaConfigModels models = KafkaConfigModels.forVersion(kafkaVersion);
         Set<String> result = new HashSet<>();
         for (Map.Entry<String, String> e :this.asOrderedProperties().asMap().entrySet()) {
-            if (!configModel.containsKey(e.getKey())) {
+            if (!models.isKnown(e.getKey())) {
                 result.add(e.getKey() + "=" + e.getValue());
             }
         }
@@ -59,6 +59,8 @@ public abstract class AbstractAssemblyOperator<C extends KubernetesClient, T ext
     protected final List<LocalObjectReference> imagePullSecrets;
     protected final KafkaVersion.Lookup versions;
     protected long operationTimeoutMs;
+    protected final ReconciliationStepRecorder stepRecorder;
+    private final ResourceOperatorSupplier resourceOperatorSupplier;
 
     /**
      * @param vertx The Vertx instance
@@ -75,7 +77,9 @@ public abstract class AbstractAssemblyOperator<C extends KubernetesClient, T ext
                                        AbstractWatchableStatusedResourceOperator<C, T, L, R> resourceOperator,
                                        ResourceOperatorSupplier supplier,
                                        ClusterOperatorConfig config) {
-        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector());
+        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector(),
+                config.getMaxPeriodicReconciliationsInFlight(), config.getPeriodicReconciliationSpreadMs(),
+                config.getMaxQueuedReconciliationsInFlight(), config.getQueuedReconciliationsPerSecond());
         this.pfa = pfa;
         this.certManager = certManager;
         this.passwordGenerator = passwordGenerator;
@@ -90,9 +94,30 @@ public abstract class AbstractAssemblyOperator<C extends KubernetesClient, T ext
         this.imagePullSecrets = config.getImagePullSecrets();
         this.versions = config.versions();
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.stepRecorder = new ReconciliationStepRecorder(metrics);
+        this.resourceOperatorSupplier = supplier;
     }
 
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        stepRecorder.forget(reconciliation);
+        forgetDesiredState(reconciliation);
         return Future.succeededFuture(Boolean.FALSE);
     }
+
+    /**
+     * Forgets the desired states last applied to the resources of the deleted custom resource. They are deleted by the
+     * garbage collection and not through the resource operators.
+     *
+     * @param reconciliation    The Reconciliation identification of the deleted custom resource
+     */
+    protected void forgetDesiredState(Reconciliation reconciliation) {
+        resourceOperatorSupplier.forgetDesiredState(reconciliation.namespace(), reconciliation.kind(), reconciliation.name());
+    }
+
+    /**
+     * @return  The recorder of the durations of the reconciliation steps
+     */
+    public ReconciliationStepRecorder stepRecorder() {
+        return stepRecorder;
+    }
 }
@@ -116,6 +116,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final Labels operatorNamespaceLabels;
     protected final PlatformFeaturesAvailability pfa;
     protected final ServiceAccountOperator serviceAccountOperations;
+    protected final ReconciliationStepRecorder stepRecorder;
+    private final ResourceOperatorSupplier resourceOperatorSupplier;
     private final int port;
 
     private final Counter connectorsReconciliationsCounter;
@@ -129,7 +131,9 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                    ResourceOperatorSupplier supplier, ClusterOperatorConfig config,
                                    Function<Vertx, KafkaConnectApi> connectClientProvider,
                                    int port) {
-        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector());
+        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector(),
+                config.getMaxPeriodicReconciliationsInFlight(), config.getPeriodicReconciliationSpreadMs(),
+                config.getMaxQueuedReconciliationsInFlight(), config.getQueuedReconciliationsPerSecond());
         this.connectorOperator = supplier.kafkaConnectorOperator;
         this.connectClientProvider = connectClientProvider;
         this.configMapOperations = supplier.configMapOperations;
@@ -145,6 +149,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.pfa = pfa;
         this.port = port;
+        this.stepRecorder = new ReconciliationStepRecorder(metrics);
+        this.resourceOperatorSupplier = supplier;
 
         // Setup metrics for connectors
         Tags metricTags = Tags.of(Tag.of("kind", KafkaConnector.RESOURCE_KIND));
@@ -170,8 +176,19 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 metricTags);
     }
 
+    /**
+     * @return  The recorder of the durations of the reconciliation steps
+     */
+    public ReconciliationStepRecorder stepRecorder() {
+        return stepRecorder;
+    }
+
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        stepRecorder.forget(reconciliation);
+        // The resources of the deleted cluster are deleted by the garbage collection and not through the resource operators
+        resourceOperatorSupplier.forgetDesiredState(reconciliation.namespace(), reconciliation.kind(), reconciliation.name());
+
         // When deleting KafkaConnect we need to update the status of all selected KafkaConnector
         return connectorOperator.listAsync(reconciliation.namespace(), Labels.forStrimziCluster(reconciliation.name())).compose(connectors -> {
             List<Future> connectorFutures = new ArrayList<>();
@@ -374,12 +391,14 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return CompositeFuture.join(
-                apiClient.list(host, port),
+                apiClient.listWithConfigAndStatus(host, port),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(host, port),
                 apiClient.updateConnectLoggers(host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            // The configs and statuses of all connectors are fetched with a single request and used for the rest of
+            // this reconciliation instead of getting them connector by connector
+            Map<String, ConnectorConfigAndStatus> runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
@@ -390,16 +409,16 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 connectorsResourceCounter.set(desiredConnectors.size());
             }
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             log.debug("{}: {} cluster: delete connectors: {}", reconciliation, kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
+                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null, runningConnectors)
             );
 
             log.debug("{}: {} cluster: required connectors: {}", reconciliation, kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, runningConnectors));
 
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -427,6 +446,26 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    /**
+     * Reconciles a single connector and updates the reconciliation metrics
+     *
+     * @param reconciliation    The reconciliation
+     * @param host              The REST API host
+     * @param apiClient         The client instance
+     * @param useResources      Whether the connectors are managed using the KafkaConnector resources
+     * @param connectorName     The connector name
+     * @param connector         The KafkaConnector resource (null if the connector should be deleted)
+     * @param runningConnectors The configs and statuses of all running connectors fetched at the beginning of the
+     *                          reconciliation (null if they are not known and should be fetched for this connector)
+     *
+     * @return  A future which completes when the connector is reconciled
+     */
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                           boolean useResources, String connectorName, KafkaConnector connector,
+                                                           Map<String, ConnectorConfigAndStatus> runningConnectors) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         connectorsReconciliationsCounter.increment();
@@ -443,7 +482,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, runningConnectors)
                 .onComplete(result -> {
                     connectorsReconciliationsTimerSample.stop(connectorsReconciliationsTimer);
 
@@ -460,7 +499,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<Void> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, ConnectorConfigAndStatus> runningConnectors) {
         if (connector == null) {
             if (useResources) {
                 log.info("{}: deleting connector: {}", reconciliation, connectorName);
@@ -479,7 +519,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
                 Promise<Void> promise = Promise.promise();
-                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector)
+                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, runningConnectors)
                         .onComplete(result -> {
                             if (result.succeeded()) {
                                 maybeUpdateConnectorStatus(reconciliation, connector, result.result(), null)
@@ -510,37 +550,87 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
         return apiClient.getConnectorConfig(new BackOff(200L, 2, 6), host, port, connectorName).compose(
-            config -> {
-                if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
-                    log.debug("{}: Connector {} exists and has desired config, {}=={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
-                    return apiClient.status(host, port, connectorName)
-                        .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
-                        .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
-                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)))
-                        .compose(status -> updateConnectorTopics(host, apiClient, connectorName, status));
-                } else {
-                    log.debug("{}: Connector {} exists but does not have desired config, {}!={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(host, apiClient, connectorName, status));
-                }
-            },
+            config -> reconcileExistingConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, config, null),
             error -> {
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
                     log.debug("{}: Connector {} does not exist", reconciliation, connectorName);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(host, apiClient, connectorName, status));
+                    return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
                 } else {
                     return Future.failedFuture(error);
                 }
             });
     }
 
+    /**
+     * Same as {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)},
+     * but uses the config and the status of the connector fetched with all other connectors at the beginning of the
+     * reconciliation instead of getting them from the REST API. When the connector has the desired config and state,
+     * the only request made for it is the one to get its topics.
+     *
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param runningConnectors The configs and statuses of the running connectors (null if they are not known).
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    private Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                              String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                              Map<String, ConnectorConfigAndStatus> runningConnectors) {
+        if (runningConnectors == null) {
+            return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource);
+        }
+
+        ConnectorConfigAndStatus running = runningConnectors.get(connectorName);
+
+        if (running == null || running.config() == null || running.status() == null) {
+            // The connector might have been created by a concurrent reconciliation after the list was taken. So we check
+            // it connector by connector to avoid creating it twice.
+            return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource);
+        } else {
+            return reconcileExistingConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, running.config(), running.status());
+        }
+    }
+
+    private Future<ConnectorStatusAndConditions> reconcileExistingConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                            String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                            Map<String, String> config, Map<String, Object> knownStatus) {
+        if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
+            if (knownStatus != null
+                    && !needsPauseOrResume(connectorSpec, knownStatus)
+                    && !hasRestartAnnotation(resource, connectorName)
+                    && getRestartTaskAnnotationTaskID(resource, connectorName) < 0) {
+                log.debug("{}: Connector {} exists and has desired config and state, {}=={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+                return createConnectorStatusAndConditions().apply(knownStatus)
+                    .compose(status -> updateConnectorTopics(host, apiClient, connectorName, status));
+            }
+
+            log.debug("{}: Connector {} exists and has desired config, {}=={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+            Future<Map<String, Object>> currentStatus = knownStatus != null ? Future.succeededFuture(knownStatus) : apiClient.status(host, port, connectorName);
+            return currentStatus
+                .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
+                .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
+                .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+                .compose(conditions ->
+                    apiClient.statusWithBackOff(new BackOff(200L, 2, 10), host, port, connectorName)
+                        .compose(createConnectorStatusAndConditions(conditions)))
+                .compose(status -> updateConnectorTopics(host, apiClient, connectorName, status));
+        } else {
+            log.debug("{}: Connector {} exists but does not have desired config, {}!={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+            return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
+        }
+    }
+
+    private Future<ConnectorStatusAndConditions> createConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                 String connectorName, KafkaConnectorSpec connectorSpec) {
+        return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
+            .compose(createConnectorStatusAndConditions())
+            .compose(status -> updateConnectorTopics(host, apiClient, connectorName, status));
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> actual) {
@@ -571,6 +661,18 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(host, port, connectorName));
     }
 
+    /**
+     * Checks whether the connector has to be paused or resumed. Returns true also when the state of the connector is
+     * unknown, so that the error is handled by {@link #pauseResume}.
+     */
+    private static boolean needsPauseOrResume(KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+        boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
+        return !(state instanceof String)
+                || ("RUNNING".equals(state) && shouldPause)
+                || ("PAUSED".equals(state) && !shouldPause);
+    }
+
     private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
         if (!(path instanceof String)) {
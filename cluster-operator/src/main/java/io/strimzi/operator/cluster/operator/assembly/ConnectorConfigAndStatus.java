@@ -0,0 +1,32 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import java.util.Map;
+
+/**
+ * The configuration and the status of a connector as returned by the Kafka Connect REST API
+ */
+public class ConnectorConfigAndStatus {
+    private final Map<String, String> config;
+    private final Map<String, Object> status;
+
+    /**
+     * @param config    The connector's config (the same as returned by {@code GET /connectors/${connectorName}/config})
+     * @param status    The connector's status (the same as returned by {@code GET /connectors/${connectorName}/status})
+     */
+    public ConnectorConfigAndStatus(Map<String, String> config, Map<String, Object> status) {
+        this.config = config;
+        this.status = status;
+    }
+
+    public Map<String, String> config() {
+        return config;
+    }
+
+    public Map<String, Object> status() {
+        return status;
+    }
+}
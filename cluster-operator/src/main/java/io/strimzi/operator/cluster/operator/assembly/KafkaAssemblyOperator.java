@@ -73,6 +73,7 @@ import io.strimzi.operator.cluster.model.StorageDiff;
 import io.strimzi.operator.cluster.model.StorageUtils;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.cluster.operator.resource.ConcurrentDeletionException;
+import io.strimzi.operator.cluster.operator.resource.KafkaClusterMetadata;
 import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
 import io.strimzi.operator.cluster.operator.resource.KafkaSetOperator;
 import io.strimzi.operator.cluster.operator.resource.KafkaSpecChecker;
@@ -130,10 +131,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -160,6 +163,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private static final Logger log = LogManager.getLogger(KafkaAssemblyOperator.class.getName());
 
     private final long operationTimeoutMs;
+    private final int maxRollingBatchSize;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
     private final FeatureGates featureGates;
@@ -179,6 +183,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> crdOperator;
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
+    private final Map<String, KafkaClusterMetadata> clusterMetadata = new ConcurrentHashMap<>();
 
     /**
      * @param vertx The Vertx instance
@@ -195,6 +200,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         super(vertx, pfa, Kafka.RESOURCE_KIND, certManager, passwordGenerator,
                 supplier.kafkaOperator, supplier, config);
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxRollingBatchSize = config.getMaxRollingBatchSize();
         this.operatorNamespace = config.getOperatorNamespace();
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.featureGates = config.featureGates();
@@ -255,117 +261,143 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     }
 
     Future<Void> reconcile(ReconciliationState reconcileState)  {
-        Promise<Void> chainPromise = Promise.promise();
+        return reconciliationGraph().execute(reconcileState.reconciliation, reconcileState);
+    }
 
-        reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.prepareVersionChange())
+    /**
+     * Builds the graph of the reconciliation steps. The steps which do not depend on each other (for example the
+     * different types of Kafka listener resources or the RBAC resources of the Entity Operator) run concurrently. The
+     * steps which share some state or which have to be done in a particular order (rolling updates, scaling, waiting
+     * for readiness and the steps collecting the listener addresses) are chained one after another.
+     *
+     * @return  Graph of the reconciliation steps
+     */
+    ReconciliationGraph<ReconciliationState> reconciliationGraph() {
+        ReconciliationGraph<ReconciliationState> graph = new ReconciliationGraph<>(vertx, stepRecorder);
+
+        graph.then("initialStatus", ReconciliationState::initialStatus)
+                .then("reconcileCas", state -> state.reconcileCas(this::dateSupplier))
+                .then("clusterOperatorSecret", state -> state.clusterOperatorSecret(this::dateSupplier))
+                .then("getKafkaClusterDescription", ReconciliationState::getKafkaClusterDescription)
+                .then("prepareVersionChange", ReconciliationState::prepareVersionChange)
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
-                .compose(state -> state.kafkaIngressesV1Beta1())
-                .compose(state -> state.kafkaInternalServicesReady())
-                .compose(state -> state.kafkaLoadBalancerServicesReady())
-                .compose(state -> state.kafkaNodePortServicesReady())
-                .compose(state -> state.kafkaRoutesReady())
-                .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaIngressesV1Beta1Ready())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollToAddOrRemoveVolumes())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaGetClusterId())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
+                .then("rollingUpdateForNewCaKey", ReconciliationState::rollingUpdateForNewCaKey);
+
+        // ZooKeeper
+        graph.then("getZookeeperDescription", ReconciliationState::getZookeeperDescription)
+                .then("zkModelWarnings", ReconciliationState::zkModelWarnings)
+                .then("zkManualPodCleaning", ReconciliationState::zkManualPodCleaning)
+                .then("zkNetPolicy", ReconciliationState::zkNetPolicy)
+                .then("zkManualRollingUpdate", ReconciliationState::zkManualRollingUpdate)
+                .then("zkVersionChange", ReconciliationState::zkVersionChange)
+                .add("zookeeperServiceAccount", ReconciliationState::zookeeperServiceAccount, "zkVersionChange")
+                .add("zkPvcs", ReconciliationState::zkPvcs, "zkVersionChange")
+                .add("zkService", ReconciliationState::zkService, "zkVersionChange")
+                .add("zkHeadlessService", ReconciliationState::zkHeadlessService, "zkVersionChange")
+                .add("zkGenerateCertificates", state -> state.zkGenerateCertificates(this::dateSupplier),
+                        "zookeeperServiceAccount", "zkPvcs", "zkService", "zkHeadlessService")
+                .add("zkAncillaryCm", ReconciliationState::zkAncillaryCm, "zkGenerateCertificates")
+                .add("zkNodesSecret", ReconciliationState::zkNodesSecret, "zkGenerateCertificates")
+                .add("zkPodDisruptionBudget", ReconciliationState::zkPodDisruptionBudget, "zkGenerateCertificates")
+                .add("zkStatefulSet", ReconciliationState::zkStatefulSet, "zkAncillaryCm", "zkNodesSecret", "zkPodDisruptionBudget")
+                .then("zkScalingDown", ReconciliationState::zkScalingDown)
+                .then("zkRollingUpdate", ReconciliationState::zkRollingUpdate)
+                .then("zkPodsReady", ReconciliationState::zkPodsReady)
+                .then("zkScalingUp", ReconciliationState::zkScalingUp)
+                .then("zkScalingCheck", ReconciliationState::zkScalingCheck)
+                .then("zkServiceEndpointReadiness", ReconciliationState::zkServiceEndpointReadiness)
+                .then("zkHeadlessServiceEndpointReadiness", ReconciliationState::zkHeadlessServiceEndpointReadiness)
+                .then("zkPersistentClaimDeletion", ReconciliationState::zkPersistentClaimDeletion);
+
+        // Kafka
+        graph.then("checkKafkaSpec", ReconciliationState::checkKafkaSpec)
+                .then("kafkaModelWarnings", ReconciliationState::kafkaModelWarnings)
+                .then("kafkaManualPodCleaning", ReconciliationState::kafkaManualPodCleaning)
+                .then("kafkaNetPolicy", ReconciliationState::kafkaNetPolicy)
+                .then("kafkaManualRollingUpdate", ReconciliationState::kafkaManualRollingUpdate)
+                .then("kafkaPvcs", ReconciliationState::kafkaPvcs)
+                .then("kafkaInitServiceAccount", ReconciliationState::kafkaInitServiceAccount)
+                .then("kafkaInitClusterRoleBinding", ReconciliationState::kafkaInitClusterRoleBinding)
+                .then("kafkaScaleDown", ReconciliationState::kafkaScaleDown)
+                .add("kafkaServices", ReconciliationState::kafkaServices, "kafkaScaleDown")
+                .add("kafkaRoutes", ReconciliationState::kafkaRoutes, "kafkaScaleDown")
+                .add("kafkaIngresses", ReconciliationState::kafkaIngresses, "kafkaScaleDown")
+                .add("kafkaIngressesV1Beta1", ReconciliationState::kafkaIngressesV1Beta1, "kafkaScaleDown")
+                // The readiness steps collect the addresses of the listeners into shared state => they run one after another
+                .add("kafkaInternalServicesReady", ReconciliationState::kafkaInternalServicesReady,
+                        "kafkaServices", "kafkaRoutes", "kafkaIngresses", "kafkaIngressesV1Beta1")
+                .then("kafkaLoadBalancerServicesReady", ReconciliationState::kafkaLoadBalancerServicesReady)
+                .then("kafkaNodePortServicesReady", ReconciliationState::kafkaNodePortServicesReady)
+                .then("kafkaRoutesReady", ReconciliationState::kafkaRoutesReady)
+                .then("kafkaIngressesReady", ReconciliationState::kafkaIngressesReady)
+                .then("kafkaIngressesV1Beta1Ready", ReconciliationState::kafkaIngressesV1Beta1Ready)
+                .then("kafkaGenerateCertificates", state -> state.kafkaGenerateCertificates(this::dateSupplier))
+                .then("customListenerCertificates", ReconciliationState::customListenerCertificates)
+                .add("kafkaAncillaryCm", ReconciliationState::kafkaAncillaryCm, "customListenerCertificates")
+                .add("kafkaBrokersSecret", ReconciliationState::kafkaBrokersSecret, "customListenerCertificates")
+                .add("kafkaJmxSecret", ReconciliationState::kafkaJmxSecret, "customListenerCertificates")
+                .add("kafkaPodDisruptionBudget", ReconciliationState::kafkaPodDisruptionBudget, "customListenerCertificates")
+                .add("kafkaStatefulSet", ReconciliationState::kafkaStatefulSet,
+                        "kafkaAncillaryCm", "kafkaBrokersSecret", "kafkaJmxSecret", "kafkaPodDisruptionBudget")
+                .then("kafkaRollToAddOrRemoveVolumes", ReconciliationState::kafkaRollToAddOrRemoveVolumes)
+                .then("kafkaRollingUpdate", ReconciliationState::kafkaRollingUpdate)
+                .then("kafkaScaleUp", ReconciliationState::kafkaScaleUp)
+                .then("kafkaPodsReady", ReconciliationState::kafkaPodsReady)
+                .then("kafkaServiceEndpointReady", ReconciliationState::kafkaServiceEndpointReady)
+                .then("kafkaHeadlessServiceEndpointReady", ReconciliationState::kafkaHeadlessServiceEndpointReady)
+                .then("kafkaGetClusterId", ReconciliationState::kafkaGetClusterId)
+                .then("kafkaPersistentClaimDeletion", ReconciliationState::kafkaPersistentClaimDeletion)
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaCustomCertificatesToStatus())
-
-                .compose(state -> state.checkUnsupportedTopicOperator())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorRole())
-                .compose(state -> state.entityTopicOperatorRole())
-                .compose(state -> state.entityUserOperatorRole())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorUserOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
-                .map((Void) null)
-                .onComplete(chainPromise);
-
-        return chainPromise.future();
+                .then("kafkaNodePortExternalListenerStatus", ReconciliationState::kafkaNodePortExternalListenerStatus)
+                .then("kafkaCustomCertificatesToStatus", ReconciliationState::kafkaCustomCertificatesToStatus)
+                .then("checkUnsupportedTopicOperator", ReconciliationState::checkUnsupportedTopicOperator);
+
+        // The Entity Operator, Cruise Control, Kafka Exporter and JMX Trans are independent of each other
+        String kafkaReady = "checkUnsupportedTopicOperator";
+
+        // Entity Operator
+        graph.add("getEntityOperatorDescription", ReconciliationState::getEntityOperatorDescription, kafkaReady)
+                .add("entityOperatorRole", ReconciliationState::entityOperatorRole, "getEntityOperatorDescription")
+                .add("entityTopicOperatorRole", ReconciliationState::entityTopicOperatorRole, "getEntityOperatorDescription")
+                .add("entityUserOperatorRole", ReconciliationState::entityUserOperatorRole, "getEntityOperatorDescription")
+                .add("entityOperatorServiceAccount", ReconciliationState::entityOperatorServiceAccount, "getEntityOperatorDescription")
+                .add("entityOperatorTopicOpRoleBindingForRole", ReconciliationState::entityOperatorTopicOpRoleBindingForRole,
+                        "entityOperatorRole", "entityTopicOperatorRole")
+                .add("entityOperatorUserOpRoleBindingForRole", ReconciliationState::entityOperatorUserOpRoleBindingForRole,
+                        "entityOperatorRole", "entityUserOperatorRole")
+                .add("entityOperatorTopicOpAncillaryCm", ReconciliationState::entityOperatorTopicOpAncillaryCm, "getEntityOperatorDescription")
+                .add("entityOperatorUserOpAncillaryCm", ReconciliationState::entityOperatorUserOpAncillaryCm, "getEntityOperatorDescription")
+                .add("entityOperatorSecret", state -> state.entityOperatorSecret(this::dateSupplier), "getEntityOperatorDescription")
+                .add("entityOperatorDeployment", ReconciliationState::entityOperatorDeployment,
+                        "entityOperatorServiceAccount", "entityOperatorTopicOpRoleBindingForRole", "entityOperatorUserOpRoleBindingForRole",
+                        "entityOperatorTopicOpAncillaryCm", "entityOperatorUserOpAncillaryCm", "entityOperatorSecret")
+                .then("entityOperatorReady", ReconciliationState::entityOperatorReady);
+
+        // Cruise Control
+        graph.add("getCruiseControlDescription", ReconciliationState::getCruiseControlDescription, kafkaReady)
+                .then("cruiseControlNetPolicy", ReconciliationState::cruiseControlNetPolicy)
+                .then("cruiseControlServiceAccount", ReconciliationState::cruiseControlServiceAccount)
+                .then("cruiseControlAncillaryCm", ReconciliationState::cruiseControlAncillaryCm)
+                .then("cruiseControlSecret", state -> state.cruiseControlSecret(this::dateSupplier))
+                .then("cruiseControlDeployment", ReconciliationState::cruiseControlDeployment)
+                .then("cruiseControlService", ReconciliationState::cruiseControlService)
+                .then("cruiseControlReady", ReconciliationState::cruiseControlReady);
+
+        // Kafka Exporter
+        graph.add("getKafkaExporterDescription", ReconciliationState::getKafkaExporterDescription, kafkaReady)
+                .then("kafkaExporterServiceAccount", ReconciliationState::kafkaExporterServiceAccount)
+                .then("kafkaExporterSecret", state -> state.kafkaExporterSecret(this::dateSupplier))
+                .then("kafkaExporterDeployment", ReconciliationState::kafkaExporterDeployment)
+                .then("kafkaExporterReady", ReconciliationState::kafkaExporterReady);
+
+        // JMX Trans
+        graph.add("getJmxTransDescription", ReconciliationState::getJmxTransDescription, kafkaReady)
+                .then("jmxTransServiceAccount", ReconciliationState::jmxTransServiceAccount)
+                .then("jmxTransConfigMap", ReconciliationState::jmxTransConfigMap)
+                .then("jmxTransDeployment", ReconciliationState::jmxTransDeployment)
+                .then("jmxTransDeploymentReady", ReconciliationState::jmxTransDeploymentReady);
+
+        return graph;
     }
 
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
@@ -738,7 +770,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
                         .compose(sts -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                             () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
+                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true, maxRollingBatchSize, clusterMetadata(namespace, name))
                             .rollingRestart(rollPodAndLogReason))
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
@@ -1125,7 +1157,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return adminClientSecrets()
                 .compose(compositeFuture -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                     () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
-                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration)
+                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration, maxRollingBatchSize, clusterMetadata(namespace, name))
                     .rollingRestart(podNeedsRestart));
         }
 
@@ -2941,7 +2973,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                             Pod deletion = podOperations.get(namespace, podName);
                             log.trace("Checking if Pod {} in namespace {} has been deleted or recreated", podName, namespace);
                             return deletion == null;
-                        });
+                        }, Objects::isNull);
 
                         return waitForDeletion;
                     })
@@ -2960,7 +2992,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 PersistentVolumeClaim deletion = pvcOperations.get(namespace, pvcName);
                                 log.trace("Checking if {} {} in namespace {} has been deleted", pvc.getKind(), pvcName, namespace);
                                 return deletion == null || (deletion.getMetadata() != null && !uid.equals(deletion.getMetadata().getUid()));
-                            });
+                            }, deletion -> deletion == null || (deletion.getMetadata() != null && !uid.equals(deletion.getMetadata().getUid())));
 
                             waitForDeletionResults.add(waitForDeletion);
                         }
@@ -3782,6 +3814,17 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return new KafkaStatus();
     }
 
+    /**
+     * Returns the topic metadata of the Kafka cluster shared by all KafkaRollers of the cluster
+     *
+     * @param namespace Namespace of the Kafka cluster
+     * @param name      Name of the Kafka cluster
+     * @return          The shared topic metadata
+     */
+    private KafkaClusterMetadata clusterMetadata(String namespace, String name) {
+        return clusterMetadata.computeIfAbsent(namespace + "/" + name, key -> new KafkaClusterMetadata());
+    }
+
     /**
      * Deletes the ClusterRoleBinding which as a cluster-scoped resource cannot be deleted by the ownerReference
      *
@@ -3790,6 +3833,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        clusterMetadata.remove(reconciliation.namespace() + "/" + reconciliation.name());
+        stepRecorder.forget(reconciliation);
+        forgetDesiredState(reconciliation);
+
         return withIgnoreRbacError(clusterRoleBindingOperations.reconcile(KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
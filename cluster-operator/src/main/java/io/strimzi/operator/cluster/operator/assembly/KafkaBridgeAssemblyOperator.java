@@ -83,16 +83,17 @@ public class KafkaBridgeAssemblyOperator extends AbstractAssemblyOperator<Kubern
 
         boolean bridgeHasZeroReplicas = bridge.getReplicas() == 0;
         log.debug("{}: Updating Kafka Bridge cluster", reconciliation);
-        kafkaBridgeServiceAccount(namespace, bridge)
-            .compose(i -> deploymentOperations.scaleDown(namespace, bridge.getName(), bridge.getReplicas()))
-            .compose(scale -> serviceOperations.reconcile(namespace, bridge.getServiceName(), bridge.generateService()))
-            .compose(i -> Util.metricsAndLogging(configMapOperations, namespace, bridge.getLogging(), null))
-            .compose(metricsAndLogging -> configMapOperations.reconcile(namespace, bridge.getAncillaryConfigMapName(), bridge.generateMetricsAndLogConfigMap(metricsAndLogging)))
-            .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, bridge.getName(), bridge.generatePodDisruptionBudget()))
-            .compose(i -> deploymentOperations.reconcile(namespace, bridge.getName(), bridge.generateDeployment(Collections.emptyMap(), pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-            .compose(i -> deploymentOperations.scaleUp(namespace, bridge.getName(), bridge.getReplicas()))
-            .compose(i -> deploymentOperations.waitForObserved(namespace, bridge.getName(), 1_000, operationTimeoutMs))
-            .compose(i -> bridgeHasZeroReplicas ? Future.succeededFuture() : deploymentOperations.readiness(namespace, bridge.getName(), 1_000, operationTimeoutMs))
+        ReconciliationStepRecorder.Recording steps = stepRecorder.start(reconciliation);
+        steps.step("bridgeServiceAccount", () -> kafkaBridgeServiceAccount(namespace, bridge))
+            .compose(i -> steps.step("bridgeScaleDown", () -> deploymentOperations.scaleDown(namespace, bridge.getName(), bridge.getReplicas())))
+            .compose(scale -> steps.step("bridgeService", () -> serviceOperations.reconcile(namespace, bridge.getServiceName(), bridge.generateService())))
+            .compose(i -> steps.step("bridgeAncillaryCm", () -> Util.metricsAndLogging(configMapOperations, namespace, bridge.getLogging(), null)
+                    .compose(metricsAndLogging -> configMapOperations.reconcile(namespace, bridge.getAncillaryConfigMapName(), bridge.generateMetricsAndLogConfigMap(metricsAndLogging)))))
+            .compose(i -> steps.step("bridgePodDisruptionBudget", () -> podDisruptionBudgetOperator.reconcile(namespace, bridge.getName(), bridge.generatePodDisruptionBudget())))
+            .compose(i -> steps.step("bridgeDeployment", () -> deploymentOperations.reconcile(namespace, bridge.getName(), bridge.generateDeployment(Collections.emptyMap(), pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+            .compose(i -> steps.step("bridgeScaleUp", () -> deploymentOperations.scaleUp(namespace, bridge.getName(), bridge.getReplicas())))
+            .compose(i -> steps.step("bridgeWaitForObserved", () -> deploymentOperations.waitForObserved(namespace, bridge.getName(), 1_000, operationTimeoutMs)))
+            .compose(i -> steps.step("bridgeReady", () -> bridgeHasZeroReplicas ? Future.succeededFuture() : deploymentOperations.readiness(namespace, bridge.getName(), 1_000, operationTimeoutMs)))
             .onComplete(reconciliationResult -> {
                 StatusUtils.setStatusConditionAndObservedGeneration(assemblyResource, kafkaBridgeStatus, reconciliationResult.mapEmpty());
                 if (!bridgeHasZeroReplicas) {
@@ -119,6 +119,16 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=info&expand=status} to get the configs and the statuses
+     * of all the connectors with a single request.
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns the configs and statuses of the connectors keyed by the connector names.
+     */
+    Future<Map<String, ConnectorConfigAndStatus>> listWithConfigAndStatus(String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param host The host to make the request to.
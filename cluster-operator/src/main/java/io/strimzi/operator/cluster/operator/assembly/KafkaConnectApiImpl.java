@@ -5,11 +5,13 @@
 
 package io.strimzi.operator.cluster.operator.assembly;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.PooledHttpClient;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.vertx.core.Future;
@@ -33,6 +35,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
@@ -48,11 +51,49 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<Map<String, Map<String, List<String>>>>() {
     };
+    private static final TypeReference<Map<String, ExpandedConnector>> MAP_OF_EXPANDED_CONNECTORS = new TypeReference<Map<String, ExpandedConnector>>() {
+    };
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final PooledHttpClient httpClient;
 
+    /**
+     * Creates the Kafka Connect API client with its own pooled HTTP client. This should be used only for long living
+     * API clients. The operators create a new API client in every reconciliation and should use {@link #provider}
+     * instead, so that the connections are pooled across the reconciliations.
+     *
+     * @param vertx The Vertx instance
+     */
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, new PooledHttpClient(vertx, "KafkaConnect", httpClientOptions(), null));
+    }
+
+    /**
+     * @param vertx         The Vertx instance
+     * @param httpClient    The pooled HTTP client used to talk to the Kafka Connect REST API
+     */
+    public KafkaConnectApiImpl(Vertx vertx, PooledHttpClient httpClient) {
         this.vertx = vertx;
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Creates the provider of the Kafka Connect API clients. All the API clients created by the provider share the same
+     * pooled HTTP client.
+     *
+     * @param vertx     The Vertx instance
+     * @param kind      Kind of the custom resources the API clients are used for
+     * @param metrics   Metrics provider (null if the metrics should not be collected)
+     *
+     * @return  The Kafka Connect API client provider
+     */
+    public static Function<Vertx, KafkaConnectApi> provider(Vertx vertx, String kind, MetricsProvider metrics) {
+        PooledHttpClient httpClient = new PooledHttpClient(vertx, kind, httpClientOptions(), metrics);
+        return connect -> new KafkaConnectApiImpl(connect, httpClient);
+    }
+
+    private static HttpClientOptions httpClientOptions() {
+        return PooledHttpClient.defaultOptions().setLogActivity(true);
     }
 
     @Override
@@ -63,7 +104,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         log.debug("Making PUT request to {} with body {}", path, configJson);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClient.withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -112,7 +153,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private <T> Future<T> doGet(String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         log.debug("Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClient.withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -165,7 +206,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Void> delete(String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClient.withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -282,7 +323,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Void> pauseResume(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClient.withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -310,7 +351,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<String>> list(String host, int port) {
         String path = "/connectors";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClient.withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
 
                     if (request.succeeded()) {
@@ -344,10 +385,26 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    @Override
+    public Future<Map<String, ConnectorConfigAndStatus>> listWithConfigAndStatus(String host, int port) {
+        return doGet(host, port, "/connectors?expand=info&expand=status",
+                new HashSet<>(asList(200)),
+                MAP_OF_EXPANDED_CONNECTORS)
+                .map(connectors -> {
+                    Map<String, ConnectorConfigAndStatus> result = new LinkedHashMap<>(connectors.size());
+                    for (Map.Entry<String, ExpandedConnector> connector : connectors.entrySet()) {
+                        ExpandedConnector expanded = connector.getValue();
+                        Map<String, String> config = expanded.info != null ? expanded.info.config : null;
+                        result.put(connector.getKey(), new ConnectorConfigAndStatus(config, expanded.status));
+                    }
+                    return result;
+                });
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(String host, int port) {
         String path = "/connector-plugins";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClient.withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -381,7 +438,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         log.debug("Making PUT request to {} with body {}", path, levelJO);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
+        return httpClient.withHttpClient((httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .request(HttpMethod.PUT, port, host, path, request -> {
@@ -415,7 +472,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, Map<String, String>>> listConnectLoggers(String host, int port) {
         String path = "/admin/loggers/";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClient.withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -542,7 +599,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Void> restartConnectorOrTask(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClient.withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -570,7 +627,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<String>> getConnectorTopics(String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/topics", connectorName);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClient.withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -603,4 +660,21 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }
             }));
     }
+
+    /**
+     * Single connector in the response to the {@code GET /connectors} request with the expanded info and status
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class ExpandedConnector {
+        public ExpandedConnectorInfo info;
+        public Map<String, Object> status;
+    }
+
+    /**
+     * The expanded info of a connector. Only the config is used.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class ExpandedConnectorInfo {
+        public Map<String, String> config;
+    }
 }
@@ -81,7 +81,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, KafkaConnectApiImpl.provider(vertx, KafkaConnect.RESOURCE_KIND, supplier.metricsProvider));
     }
 
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
@@ -137,6 +137,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
         boolean connectHasZeroReplicas = connect.getReplicas() == 0;
 
         final AtomicReference<String> desiredLogging = new AtomicReference<>();
+        ReconciliationStepRecorder.Recording steps = stepRecorder.start(reconciliation);
         connectS2ICheck
                 .compose(otherConnect -> {
                     if (otherConnect != null
@@ -148,10 +149,10 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                         return Future.succeededFuture();
                     }
                 })
-                .compose(i -> connectServiceAccount(namespace, connect))
-                .compose(i -> connectInitClusterRoleBinding(namespace, kafkaConnect.getMetadata().getName(), connect))
-                .compose(i -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(isUseResources(kafkaConnect), operatorNamespace, operatorNamespaceLabels)))
-                .compose(i -> deploymentOperations.getAsync(namespace, connect.getName()))
+                .compose(i -> steps.step("connectServiceAccount", () -> connectServiceAccount(namespace, connect)))
+                .compose(i -> steps.step("connectInitClusterRoleBinding", () -> connectInitClusterRoleBinding(namespace, kafkaConnect.getMetadata().getName(), connect)))
+                .compose(i -> steps.step("connectNetworkPolicy", () -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(isUseResources(kafkaConnect), operatorNamespace, operatorNamespaceLabels))))
+                .compose(i -> steps.step("connectGetDeployment", () -> deploymentOperations.getAsync(namespace, connect.getName())))
                 .compose(deployment -> {
                     if (deployment != null) {
                         // Extract information from the current deployment. This is used to figure out if new build needs to be run or not.
@@ -162,20 +163,20 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
 
                     return Future.succeededFuture();
                 })
-                .compose(i -> connectBuild(namespace, build, buildState))
-                .compose(i -> deploymentOperations.scaleDown(namespace, connect.getName(), connect.getReplicas()))
-                .compose(scale -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService()))
-                .compose(i -> Util.metricsAndLogging(configMapOperations, namespace, connect.getLogging(), connect.getMetricsConfigInCm()))
-                .compose(metricsAndLoggingCm -> {
-                    ConfigMap logAndMetricsConfigMap = connect.generateMetricsAndLogConfigMap(metricsAndLoggingCm);
-                    annotations.put(Annotations.ANNO_STRIMZI_LOGGING_DYNAMICALLY_UNCHANGEABLE_HASH,
-                            Util.stringHash(Util.getLoggingDynamicallyUnmodifiableEntries(logAndMetricsConfigMap.getData().get(AbstractModel.ANCILLARY_CM_KEY_LOG_CONFIG))));
-                    desiredLogging.set(logAndMetricsConfigMap.getData().get(AbstractModel.ANCILLARY_CM_KEY_LOG_CONFIG));
-                    return configMapOperations.reconcile(namespace, connect.getAncillaryConfigMapName(), logAndMetricsConfigMap);
-                })
-                .compose(i -> kafkaConnectJmxSecret(namespace, kafkaConnect.getMetadata().getName(), connect))
-                .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget()))
-                .compose(i -> {
+                .compose(i -> steps.step("connectBuild", () -> connectBuild(namespace, build, buildState)))
+                .compose(i -> steps.step("connectScaleDown", () -> deploymentOperations.scaleDown(namespace, connect.getName(), connect.getReplicas())))
+                .compose(scale -> steps.step("connectService", () -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService())))
+                .compose(i -> steps.step("connectAncillaryCm", () -> Util.metricsAndLogging(configMapOperations, namespace, connect.getLogging(), connect.getMetricsConfigInCm())
+                        .compose(metricsAndLoggingCm -> {
+                            ConfigMap logAndMetricsConfigMap = connect.generateMetricsAndLogConfigMap(metricsAndLoggingCm);
+                            annotations.put(Annotations.ANNO_STRIMZI_LOGGING_DYNAMICALLY_UNCHANGEABLE_HASH,
+                                    Util.stringHash(Util.getLoggingDynamicallyUnmodifiableEntries(logAndMetricsConfigMap.getData().get(AbstractModel.ANCILLARY_CM_KEY_LOG_CONFIG))));
+                            desiredLogging.set(logAndMetricsConfigMap.getData().get(AbstractModel.ANCILLARY_CM_KEY_LOG_CONFIG));
+                            return configMapOperations.reconcile(namespace, connect.getAncillaryConfigMapName(), logAndMetricsConfigMap);
+                        })))
+                .compose(i -> steps.step("connectJmxSecret", () -> kafkaConnectJmxSecret(namespace, kafkaConnect.getMetadata().getName(), connect)))
+                .compose(i -> steps.step("connectPodDisruptionBudget", () -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget())))
+                .compose(i -> steps.step("connectDeployment", () -> {
                     if (buildState.desiredBuildRevision != null) {
                         annotations.put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, buildState.desiredBuildRevision);
                     }
@@ -187,11 +188,11 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                     }
 
                     return deploymentOperations.reconcile(namespace, connect.getName(), dep);
-                })
-                .compose(i -> deploymentOperations.scaleUp(namespace, connect.getName(), connect.getReplicas()))
-                .compose(i -> deploymentOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> connectHasZeroReplicas ? Future.succeededFuture() : deploymentOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> reconcileConnectors(reconciliation, kafkaConnect, kafkaConnectStatus, connectHasZeroReplicas, desiredLogging.get(), connect.getDefaultLogConfig()))
+                }))
+                .compose(i -> steps.step("connectScaleUp", () -> deploymentOperations.scaleUp(namespace, connect.getName(), connect.getReplicas())))
+                .compose(i -> steps.step("connectWaitForObserved", () -> deploymentOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(i -> steps.step("connectReady", () -> connectHasZeroReplicas ? Future.succeededFuture() : deploymentOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(i -> steps.step("reconcileConnectors", () -> reconcileConnectors(reconciliation, kafkaConnect, kafkaConnectStatus, connectHasZeroReplicas, desiredLogging.get(), connect.getDefaultLogConfig())))
                 .onComplete(reconciliationResult -> {
                     StatusUtils.setStatusConditionAndObservedGeneration(kafkaConnect, kafkaConnectStatus, reconciliationResult);
 
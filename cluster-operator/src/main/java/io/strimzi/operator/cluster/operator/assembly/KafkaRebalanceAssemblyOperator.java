@@ -30,9 +30,12 @@ import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlResponse;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTasksPoller;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
+import io.strimzi.operator.cluster.operator.resource.PooledHttpClient;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
@@ -42,6 +45,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -56,6 +60,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -135,6 +140,7 @@ public class KafkaRebalanceAssemblyOperator
 
     private static final Logger log = LogManager.getLogger(KafkaRebalanceAssemblyOperator.class.getName());
 
+    private static final long REBALANCE_POLLING_MIN_TIMER_MS = 1_000;
     private static final long REBALANCE_POLLING_TIMER_MS = 5_000;
     private static final int MAX_API_RETRIES = 5;
 
@@ -142,6 +148,8 @@ public class KafkaRebalanceAssemblyOperator
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final PlatformFeaturesAvailability pfa;
     private final Optional<LabelSelector> kafkaSelector;
+    private final PooledHttpClient cruiseControlHttpClient;
+    private final Map<String, CruiseControlUserTasksPoller> cruiseControlPollers = new ConcurrentHashMap<>();
 
     /**
      * @param vertx The Vertx instance
@@ -151,11 +159,14 @@ public class KafkaRebalanceAssemblyOperator
      */
     public KafkaRebalanceAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                           ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
-        super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider, null);
+        super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider, null,
+                config.getMaxPeriodicReconciliationsInFlight(), config.getPeriodicReconciliationSpreadMs(),
+                config.getMaxQueuedReconciliationsInFlight(), config.getQueuedReconciliationsPerSecond());
         this.kafkaSelector = (config.getCustomResourceSelector() == null || config.getCustomResourceSelector().toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, config.getCustomResourceSelector().toMap()));
         this.pfa = pfa;
         this.kafkaRebalanceOperator = supplier.kafkaRebalanceOperator;
         this.kafkaOperator = supplier.kafkaOperator;
+        this.cruiseControlHttpClient = CruiseControlApiImpl.pooledHttpClient(vertx, supplier.metricsProvider);
     }
 
     /**
@@ -164,7 +175,35 @@ public class KafkaRebalanceAssemblyOperator
      * @return Cruise Control API client instance
      */
     protected CruiseControlApi cruiseControlClientProvider() {
-        return new CruiseControlApiImpl(vertx);
+        return new CruiseControlApiImpl(cruiseControlHttpClient);
+    }
+
+    /**
+     * Subscribes to the poller shared by all the {@code KafkaRebalance} resources using the same Cruise Control. The
+     * poller is removed once its last subscriber is gone, so a new one using the current API client is created when
+     * the previous one already stopped.
+     *
+     * @param host Cruise Control service to poll
+     * @param apiClient Cruise Control REST API client instance
+     * @param userTaskId The user task whose state should be passed to the subscriber or null
+     * @param subscriber The subscriber
+     */
+    private void subscribeToCruiseControl(String host, CruiseControlApi apiClient, String userTaskId,
+                                          CruiseControlUserTasksPoller.Subscriber subscriber) {
+        while (true) {
+            CruiseControlUserTasksPoller poller = cruiseControlPollers.computeIfAbsent(host, h -> newCruiseControlPoller(h, apiClient));
+
+            if (poller.subscribe(userTaskId, subscriber)) {
+                return;
+            }
+
+            cruiseControlPollers.remove(host, poller);
+        }
+    }
+
+    private CruiseControlUserTasksPoller newCruiseControlPoller(String host, CruiseControlApi apiClient) {
+        return new CruiseControlUserTasksPoller(vertx, apiClient, host, CruiseControl.REST_API_PORT,
+                REBALANCE_POLLING_MIN_TIMER_MS, REBALANCE_POLLING_TIMER_MS, stopped -> cruiseControlPollers.remove(host, stopped));
     }
 
     /**
@@ -537,54 +576,50 @@ public class KafkaRebalanceAssemblyOperator
         Promise<KafkaRebalanceStatus> p = Promise.promise();
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
             log.debug("{}: Starting Cruise Control rebalance proposal request timer", reconciliation);
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t ->
+            subscribeToCruiseControl(host, apiClient, null, ignored ->
                 kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
-                    .onSuccess(currentKafkaRebalance -> {
+                    .compose(currentKafkaRebalance -> {
                         // Checking that the resource was not deleted between periodic polls
                         if (currentKafkaRebalance != null) {
                             // Check resource is in the right state as previous execution might have set the status and completed the future
-                            // Safety check as timer might be called again (from a delayed timer firing)
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.PendingProposal) {
                                 if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     log.debug("{}: Stopping current Cruise Control proposal request timer", reconciliation);
-                                    vertx.cancelTimer(t);
                                     p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, validate(currentKafkaRebalance)));
+                                    return Future.succeededFuture(true);
                                 } else {
-                                    requestRebalance(reconciliation, host, apiClient, true, rebalanceOptionsBuilder,
+                                    return requestRebalance(reconciliation, host, apiClient, true, rebalanceOptionsBuilder,
                                             currentKafkaRebalance.getStatus().getSessionId(), currentKafkaRebalance)
-                                        .onSuccess(rebalanceStatus -> {
+                                        .map(rebalanceStatus -> {
                                             // If the returned status has an optimization result then the rebalance proposal
                                             // is ready, so stop the polling
                                             if (rebalanceStatus.getOptimizationResult() != null &&
                                                     !rebalanceStatus.getOptimizationResult().isEmpty()) {
-                                                vertx.cancelTimer(t);
                                                 log.debug("{}: Optimization proposal ready", reconciliation);
                                                 p.complete(rebalanceStatus);
+                                                return true;
                                             } else {
-                                                // The rebalance proposal is still not ready yet, keep the timer for polling
+                                                // The rebalance proposal is still not ready yet, keep polling
                                                 log.debug("{}: Waiting for optimization proposal to be ready", reconciliation);
+                                                return false;
                                             }
                                         })
-                                        .onFailure(e -> {
+                                        .recover(e -> {
                                             log.error("{}: Cruise Control getting rebalance proposal failed", reconciliation, e.getCause());
-                                            vertx.cancelTimer(t);
                                             p.fail(e.getCause());
+                                            return Future.succeededFuture(true);
                                         });
                                 }
                             } else {
                                 p.complete(currentKafkaRebalance.getStatus());
+                                return Future.succeededFuture(true);
                             }
                         } else {
                             log.debug("{}: Rebalance resource was deleted, stopping the request time", reconciliation);
-                            vertx.cancelTimer(t);
                             p.complete();
+                            return Future.succeededFuture(true);
                         }
-                    })
-                    .onFailure(e -> {
-                        log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, e.getCause());
-                        vertx.cancelTimer(t);
-                        p.fail(e.getCause());
-                    })
+                    }, e -> onRebalanceResourceFailure(reconciliation, e, p))
             );
         } else {
             p.complete(kafkaRebalance.getStatus());
@@ -656,103 +691,44 @@ public class KafkaRebalanceAssemblyOperator
             log.info("{}: Starting Cruise Control rebalance user task status timer", reconciliation);
             String sessionId = kafkaRebalance.getStatus().getSessionId();
             AtomicInteger ccApiErrorCount = new AtomicInteger();
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t -> {
+            subscribeToCruiseControl(host, apiClient, sessionId, userTaskStatus -> {
                 // Check that we have not already failed to contact the API beyond the allowed number of times.
                 if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
-                    vertx.cancelTimer(t);
                     p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
+                    return Future.succeededFuture(true);
                 }
-                kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
-                    .onSuccess(currentKafkaRebalance -> {
+                return kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
+                    .compose(currentKafkaRebalance -> {
                         // Checking that the resource was not deleted between periodic polls
                         if (currentKafkaRebalance != null) {
                             // Check resource is in the right state as previous execution might have set the status and completed the future
-                            // Safety check as timer might be called again (from a delayed timer firing)
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
                                 if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     log.debug("{}: Stopping current Cruise Control rebalance user task", reconciliation);
-                                    vertx.cancelTimer(t);
-                                    apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
-                                        .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, validate(kafkaRebalance))))
-                                        .onFailure(e -> {
+                                    return apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
+                                        .map(r -> {
+                                            p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, validate(kafkaRebalance)));
+                                            return true;
+                                        })
+                                        .recover(e -> {
                                             log.error("{}: Cruise Control stopping execution failed", reconciliation, e.getCause());
                                             p.fail(e.getCause());
+                                            return Future.succeededFuture(true);
                                         });
                                 } else {
-                                    log.info("{}: Getting Cruise Control rebalance user task status", reconciliation);
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
-                                        .onSuccess(cruiseControlResponse -> {
-                                            JsonObject taskStatusJson = cruiseControlResponse.getJson();
-                                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
-                                            switch (taskStatus) {
-                                                case COMPLETED:
-                                                    vertx.cancelTimer(t);
-                                                    log.info("{}: Rebalance ({}) is now complete", reconciliation, sessionId);
-                                                    p.complete(buildRebalanceStatus(
-                                                        null, KafkaRebalanceState.Ready, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap(), validate(kafkaRebalance)));
-                                                    break;
-                                                case COMPLETED_WITH_ERROR:
-                                                    // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
-                                                    //       We may need to propose an upstream PR for this.
-                                                    // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
-                                                    //       details of any issues while rebalancing.
-                                                    log.error("{}: Rebalance ({}) optimization proposal has failed to complete", reconciliation, sessionId);
-                                                    vertx.cancelTimer(t);
-                                                    p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, validate(kafkaRebalance)));
-                                                    break;
-                                                case IN_EXECUTION: // Rebalance is still in progress
-                                                    // We need to check that the status has been updated with the ongoing optimisation proposal
-                                                    // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
-                                                    // proposal was still being prepared (in progress). In that case the rebalance will start when
-                                                    // the proposal is complete but the optimisation proposal summary will be missing.
-                                                    if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
-                                                            currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
-                                                        log.info("{}: Rebalance ({}) optimization proposal is now ready and has been added to the status", reconciliation, sessionId);
-                                                        // Cancel the timer so that the status is returned and updated.
-                                                        vertx.cancelTimer(t);
-                                                        p.complete(buildRebalanceStatus(
-                                                            sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap(), validate(kafkaRebalance)));
-                                                    }
-                                                    ccApiErrorCount.set(0);
-                                                    // TODO: Find out if there is any way to check the progress of a rebalance.
-                                                    //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
-                                                    //       We can then update the status at this point.
-                                                    break;
-                                                case ACTIVE: // Rebalance proposal is still being calculated
-                                                    // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
-                                                    // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
-                                                    // check that the optimisation proposal is added to the status on the next reconcile.
-                                                    log.info("{}: Rebalance ({}) optimization proposal is still being prepared", reconciliation, sessionId);
-                                                    ccApiErrorCount.set(0);
-                                                    break;
-                                                default:
-                                                    log.error("{}: Unexpected state {}", reconciliation, taskStatus);
-                                                    vertx.cancelTimer(t);
-                                                    p.fail("Unexpected state " + taskStatus);
-                                                    break;
-                                            }
-                                        })
-                                        .onFailure(e -> {
-                                            log.error("{}: Cruise Control getting rebalance task status failed", reconciliation, e.getCause());
-                                            // To make sure this error is not just a temporary problem with the network we retry several times.
-                                            // If the number of errors pass the MAX_API_ERRORS limit then the period method will fail the promise.
-                                            ccApiErrorCount.getAndIncrement();
-                                        });
+                                    return Future.succeededFuture(onUserTaskStatus(reconciliation, currentKafkaRebalance, kafkaRebalance,
+                                            sessionId, userTaskStatus, ccApiErrorCount, p));
                                 }
                             } else {
                                 p.complete(currentKafkaRebalance.getStatus());
+                                return Future.succeededFuture(true);
                             }
                         } else {
                             log.debug("{}: Rebalance resource was deleted, stopping the request time", reconciliation);
-                            vertx.cancelTimer(t);
                             p.complete();
+                            return Future.succeededFuture(true);
                         }
-                    })
-                    .onFailure(e -> {
-                        log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, e.getCause());
-                        vertx.cancelTimer(t);
-                        p.fail(e.getCause());
-                    });
+                    }, e -> onRebalanceResourceFailure(reconciliation, e, p));
             });
         } else {
             p.complete(kafkaRebalance.getStatus());
@@ -760,6 +736,93 @@ public class KafkaRebalanceAssemblyOperator
         return p.future();
     }
 
+    /**
+     * Fails the given promise when the {@code KafkaRebalance} resource could not be read while polling Cruise Control
+     *
+     * @return Future completed with true to stop the polling
+     */
+    private Future<Boolean> onRebalanceResourceFailure(Reconciliation reconciliation, Throwable e, Promise<KafkaRebalanceStatus> p) {
+        log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, e.getCause());
+        p.fail(e.getCause());
+        return Future.succeededFuture(true);
+    }
+
+    /**
+     * Handles the state of the rebalance user task polled from Cruise Control while in the {@code Rebalancing} state.
+     *
+     * @param reconciliation Reconciliation information
+     * @param currentKafkaRebalance The current {@code KafkaRebalance} resource
+     * @param kafkaRebalance The {@code KafkaRebalance} resource at the start of the reconciliation
+     * @param sessionId The ID of the rebalance user task
+     * @param userTaskStatus The polled state of the rebalance user task
+     * @param ccApiErrorCount The number of the consecutive failures to get the user task state
+     * @param p Promise to complete with the next {@code KafkaRebalanceStatus} when the rebalance is not in progress anymore
+     * @return True if the polling of the user task state should stop. False otherwise.
+     */
+    private boolean onUserTaskStatus(Reconciliation reconciliation, KafkaRebalance currentKafkaRebalance, KafkaRebalance kafkaRebalance,
+                                     String sessionId, AsyncResult<CruiseControlResponse> userTaskStatus,
+                                     AtomicInteger ccApiErrorCount, Promise<KafkaRebalanceStatus> p) {
+        if (userTaskStatus.failed() || userTaskStatus.result() == null) {
+            if (userTaskStatus.failed()) {
+                log.error("{}: Cruise Control getting rebalance task status failed", reconciliation, userTaskStatus.cause());
+            } else {
+                log.error("{}: Rebalance ({}) user task is not known to Cruise Control", reconciliation, sessionId);
+            }
+            // To make sure this error is not just a temporary problem with the network we retry several times.
+            // If the number of errors pass the MAX_API_ERRORS limit then the next poll will fail the promise.
+            ccApiErrorCount.getAndIncrement();
+            return false;
+        }
+
+        log.info("{}: Got Cruise Control rebalance user task status", reconciliation);
+        JsonObject taskStatusJson = userTaskStatus.result().getJson();
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
+        switch (taskStatus) {
+            case COMPLETED:
+                log.info("{}: Rebalance ({}) is now complete", reconciliation, sessionId);
+                p.complete(buildRebalanceStatus(
+                    null, KafkaRebalanceState.Ready, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap(), validate(kafkaRebalance)));
+                return true;
+            case COMPLETED_WITH_ERROR:
+                // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
+                //       We may need to propose an upstream PR for this.
+                // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
+                //       details of any issues while rebalancing.
+                log.error("{}: Rebalance ({}) optimization proposal has failed to complete", reconciliation, sessionId);
+                p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, validate(kafkaRebalance)));
+                return true;
+            case IN_EXECUTION: // Rebalance is still in progress
+                // We need to check that the status has been updated with the ongoing optimisation proposal
+                // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
+                // proposal was still being prepared (in progress). In that case the rebalance will start when
+                // the proposal is complete but the optimisation proposal summary will be missing.
+                ccApiErrorCount.set(0);
+                if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
+                        currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
+                    log.info("{}: Rebalance ({}) optimization proposal is now ready and has been added to the status", reconciliation, sessionId);
+                    // Stop the polling so that the status is returned and updated.
+                    p.complete(buildRebalanceStatus(
+                        sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap(), validate(kafkaRebalance)));
+                    return true;
+                }
+                // TODO: Find out if there is any way to check the progress of a rebalance.
+                //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
+                //       We can then update the status at this point.
+                return false;
+            case ACTIVE: // Rebalance proposal is still being calculated
+                // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
+                // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
+                // check that the optimisation proposal is added to the status on the next reconcile.
+                log.info("{}: Rebalance ({}) optimization proposal is still being prepared", reconciliation, sessionId);
+                ccApiErrorCount.set(0);
+                return false;
+            default:
+                log.error("{}: Unexpected state {}", reconciliation, taskStatus);
+                p.fail("Unexpected state " + taskStatus);
+                return true;
+        }
+    }
+
     /**
      * This method handles the transition from {@code Stopped} state.
      * If the user set strimzi.io/rebalance=refresh annotation, it calls the Cruise Control API for requesting a new rebalance proposal.
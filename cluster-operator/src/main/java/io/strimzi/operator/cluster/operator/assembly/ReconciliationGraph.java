@@ -0,0 +1,249 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Function;
+
+/**
+ * Reconciliation pipeline expressed as a graph of steps and their dependencies. A step is started as soon as all the
+ * steps it depends on succeeded, so the independent steps run concurrently. The steps which are ready at the same time
+ * are started in the order in which they were added.
+ *
+ * All steps are started and their results are handled on the Vert.x context on which the graph was executed. When a
+ * step fails, no further steps are started and the execution fails with the cause of the first failed step once the
+ * steps which are already running complete. This is the same as with a sequential chain of composed futures, except
+ * that the concurrently running steps are allowed to finish.
+ *
+ * The duration of every step is recorded by the {@link ReconciliationStepRecorder}.
+ *
+ * @param <S>   Type of the reconciliation state passed to the steps
+ */
+class ReconciliationGraph<S> {
+    private static final Logger log = LogManager.getLogger(ReconciliationGraph.class.getName());
+
+    private final Vertx vertx;
+    private final ReconciliationStepRecorder recorder;
+    private final Map<String, Step<S>> steps = new LinkedHashMap<>();
+    private String lastStep = null;
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vertx instance
+     * @param recorder  Recorder of the step durations
+     */
+    ReconciliationGraph(Vertx vertx, ReconciliationStepRecorder recorder) {
+        this.vertx = vertx;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Adds a step to the graph. The dependencies have to be added before the step which depends on them, so the graph
+     * cannot contain any cycles.
+     *
+     * @param name          Unique name of the step
+     * @param step          Function executing the step
+     * @param dependencies  Names of the steps which have to succeed before this step is started
+     *
+     * @return  This graph
+     */
+    ReconciliationGraph<S> add(String name, Function<S, Future<S>> step, String... dependencies) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " is already defined");
+        }
+
+        Step<S> newStep = new Step<>(name, step, dependencies.length);
+
+        for (String dependency : dependencies) {
+            Step<S> dependencyStep = steps.get(dependency);
+
+            if (dependencyStep == null) {
+                throw new IllegalArgumentException("Step " + name + " depends on step " + dependency + " which is not defined");
+            }
+
+            dependencyStep.dependents.add(newStep);
+        }
+
+        steps.put(name, newStep);
+        lastStep = name;
+
+        return this;
+    }
+
+    /**
+     * Adds a step which depends on the previously added step (or on nothing if it is the first step)
+     *
+     * @param name  Unique name of the step
+     * @param step  Function executing the step
+     *
+     * @return  This graph
+     */
+    ReconciliationGraph<S> then(String name, Function<S, Future<S>> step) {
+        return lastStep == null ? add(name, step) : add(name, step, lastStep);
+    }
+
+    /**
+     * Executes the steps of the graph
+     *
+     * @param reconciliation    The reconciliation
+     * @param state             The state passed to every step
+     *
+     * @return  Future which completes when all steps succeeded or fails with the cause of the first failed step
+     */
+    Future<Void> execute(Reconciliation reconciliation, S state) {
+        return new Execution(reconciliation, state).start();
+    }
+
+    /**
+     * Single step of the graph
+     *
+     * @param <S>   Type of the reconciliation state
+     */
+    private static class Step<S> {
+        private final String name;
+        private final Function<S, Future<S>> function;
+        private final int dependencies;
+        private final List<Step<S>> dependents = new ArrayList<>();
+
+        Step(String name, Function<S, Future<S>> function, int dependencies) {
+            this.name = name;
+            this.function = function;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * State of a single execution of the graph. It is accessed only from the Vert.x context of the execution.
+     */
+    private class Execution {
+        private final Reconciliation reconciliation;
+        private final ReconciliationStepRecorder.Recording recording;
+        private final S state;
+        private final Context context;
+        private final Promise<Void> promise = Promise.promise();
+        private final Map<Step<S>, Integer> missingDependencies = new LinkedHashMap<>();
+        private final Queue<Step<S>> ready = new ArrayDeque<>();
+
+        private int running = 0;
+        private boolean dispatching = false;
+        private Throwable failure = null;
+
+        Execution(Reconciliation reconciliation, S state) {
+            this.reconciliation = reconciliation;
+            this.recording = recorder.start(reconciliation);
+            this.state = state;
+            this.context = vertx.getOrCreateContext();
+
+            for (Step<S> step : steps.values()) {
+                if (step.dependencies == 0) {
+                    ready.add(step);
+                } else {
+                    missingDependencies.put(step, step.dependencies);
+                }
+            }
+        }
+
+        Future<Void> start() {
+            onContext(this::dispatch);
+            return promise.future();
+        }
+
+        /**
+         * Starts the steps which are ready. The steps which complete synchronously add their dependents to the queue
+         * instead of starting them recursively.
+         */
+        private void dispatch() {
+            if (dispatching) {
+                return;
+            }
+
+            dispatching = true;
+            try {
+                while (failure == null && !ready.isEmpty()) {
+                    run(ready.poll());
+                }
+            } finally {
+                dispatching = false;
+            }
+
+            if (running == 0 && !promise.future().isComplete()) {
+                if (failure != null) {
+                    promise.fail(failure);
+                } else {
+                    promise.complete();
+                }
+            }
+        }
+
+        private void run(Step<S> step) {
+            log.debug("{}: Starting reconciliation step {}", reconciliation, step.name);
+
+            running++;
+            long startNanos = System.nanoTime();
+            Future<S> result;
+
+            try {
+                result = step.function.apply(state);
+
+                if (result == null) {
+                    result = Future.failedFuture(new NullPointerException("Reconciliation step " + step.name + " returned null"));
+                }
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+
+            result.onComplete(res -> onContext(() -> completed(step, startNanos, res)));
+        }
+
+        private void completed(Step<S> step, long startNanos, AsyncResult<S> result) {
+            running--;
+            recording.record(step.name, System.nanoTime() - startNanos);
+
+            if (result.succeeded()) {
+                log.debug("{}: Reconciliation step {} succeeded", reconciliation, step.name);
+
+                for (Step<S> dependent : step.dependents) {
+                    int missing = missingDependencies.merge(dependent, -1, Integer::sum);
+
+                    if (missing == 0) {
+                        missingDependencies.remove(dependent);
+                        ready.add(dependent);
+                    }
+                }
+            } else {
+                log.debug("{}: Reconciliation step {} failed", reconciliation, step.name, result.cause());
+
+                if (failure == null) {
+                    failure = result.cause();
+                }
+            }
+
+            dispatch();
+        }
+
+        private void onContext(Runnable action) {
+            if (Vertx.currentContext() == context) {
+                action.run();
+            } else {
+                context.runOnContext(ignored -> action.run());
+            }
+        }
+    }
+}
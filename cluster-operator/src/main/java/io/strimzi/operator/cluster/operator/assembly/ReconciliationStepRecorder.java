@@ -0,0 +1,211 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records the duration of the individual steps of the reconciliations done by an assembly operator. Every step
+ * duration is recorded in the {@code strimzi.reconciliations.step.duration} timer tagged with the kind of the resource
+ * and the name of the step. In addition, the step durations of the last few reconciliations of every resource are kept
+ * in memory, so that the slowest steps can be reported on demand (for example by the health server of the Cluster
+ * Operator).
+ */
+public class ReconciliationStepRecorder {
+    /**
+     * Number of the last reconciliations of every resource which are kept in memory
+     */
+    public static final int HISTORY_SIZE = 10;
+
+    /* test */ static final String STEP_DURATION_METRIC = AbstractOperator.METRICS_PREFIX + "reconciliations.step.duration";
+
+    private final MetricsProvider metrics;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    // Sorted to make the report stable
+    private final Map<String, Deque<Recording>> history = new TreeMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param metrics   Metrics provider used for the step timers (null if the metrics should not be collected)
+     */
+    public ReconciliationStepRecorder(MetricsProvider metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts recording the steps of a reconciliation. The oldest recording of the same resource is dropped when there
+     * are more than {@link #HISTORY_SIZE} of them.
+     *
+     * @param reconciliation    The reconciliation
+     *
+     * @return  Recording of the reconciliation steps
+     */
+    public Recording start(Reconciliation reconciliation) {
+        Recording recording = new Recording(reconciliation);
+
+        synchronized (history) {
+            Deque<Recording> recordings = history.computeIfAbsent(key(reconciliation), k -> new ArrayDeque<>(HISTORY_SIZE));
+
+            if (recordings.size() >= HISTORY_SIZE) {
+                recordings.removeFirst();
+            }
+
+            recordings.addLast(recording);
+        }
+
+        return recording;
+    }
+
+    /**
+     * Drops the recordings of a resource. This should be called when the resource is deleted.
+     *
+     * @param reconciliation    The reconciliation of the deleted resource
+     */
+    public void forget(Reconciliation reconciliation) {
+        synchronized (history) {
+            history.remove(key(reconciliation));
+        }
+    }
+
+    /**
+     * Reports the slowest steps of the last reconciliations of every resource
+     *
+     * @param reconciliations   Maximal number of the last reconciliations reported for every resource
+     * @param steps             Maximal number of the slowest steps reported for every reconciliation
+     *
+     * @return  JSON object with the "namespace/name" of the resources as keys and arrays with the reconciliations
+     *          (the latest first) as values
+     */
+    public JsonObject report(int reconciliations, int steps) {
+        JsonObject report = new JsonObject();
+
+        synchronized (history) {
+            for (Map.Entry<String, Deque<Recording>> entry : history.entrySet()) {
+                JsonArray resourceReport = new JsonArray();
+                Iterator<Recording> latestFirst = entry.getValue().descendingIterator();
+
+                for (int i = 0; i < reconciliations && latestFirst.hasNext(); i++) {
+                    resourceReport.add(latestFirst.next().report(steps));
+                }
+
+                report.put(entry.getKey(), resourceReport);
+            }
+        }
+
+        return report;
+    }
+
+    private Timer timer(String kind, String step) {
+        return timers.computeIfAbsent(kind + "/" + step, k -> metrics.timer(STEP_DURATION_METRIC,
+                "The time the reconciliation steps take to complete",
+                Tags.of(Tag.of("kind", kind), Tag.of("step", step))));
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * The step durations of a single reconciliation
+     */
+    public class Recording {
+        private final Reconciliation reconciliation;
+        private final Instant started = Instant.now();
+        private final List<StepDuration> steps = new ArrayList<>();
+
+        private Recording(Reconciliation reconciliation) {
+            this.reconciliation = reconciliation;
+        }
+
+        /**
+         * Executes a reconciliation step and records its duration when it completes
+         *
+         * @param name  Name of the step
+         * @param step  The step
+         * @param <T>   Type of the result of the step
+         *
+         * @return  Future with the result of the step
+         */
+        public <T> Future<T> step(String name, Supplier<Future<T>> step) {
+            long startNanos = System.nanoTime();
+            Future<T> result;
+
+            try {
+                result = step.get();
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+
+            return result.onComplete(ignored -> record(name, System.nanoTime() - startNanos));
+        }
+
+        /**
+         * Records the duration of a reconciliation step
+         *
+         * @param name              Name of the step
+         * @param durationNanos     Duration of the step in nanoseconds
+         */
+        public void record(String name, long durationNanos) {
+            if (metrics != null) {
+                timer(reconciliation.kind(), name).record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+
+            synchronized (this) {
+                steps.add(new StepDuration(name, durationNanos));
+            }
+        }
+
+        private synchronized JsonObject report(int limit) {
+            JsonArray slowest = new JsonArray();
+            steps.stream()
+                    .sorted(Comparator.comparingLong((StepDuration step) -> step.durationNanos).reversed())
+                    .limit(limit)
+                    .forEach(step -> slowest.add(new JsonObject()
+                            .put("step", step.name)
+                            .put("durationMs", TimeUnit.NANOSECONDS.toMillis(step.durationNanos))));
+
+            return new JsonObject()
+                    .put("reconciliation", reconciliation.toString())
+                    .put("started", started.toString())
+                    .put("completedSteps", steps.size())
+                    .put("slowestSteps", slowest);
+        }
+    }
+
+    /**
+     * Duration of a completed step
+     */
+    private static class StepDuration {
+        private final String name;
+        private final long durationNanos;
+
+        StepDuration(String name, long durationNanos) {
+            this.name = name;
+            this.durationNanos = durationNanos;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.operator.cluster.model.Ca;
+import io.strimzi.operator.common.Util;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client for the HTTPS endpoint of the Kafka agent running in the Kafka broker pods. It reports the state of the broker
+ * including the progress of its log recovery. The agent presents the broker certificate signed by the cluster CA and
+ * accepts only the Cluster Operator certificate, so the client uses the same Secrets as the Admin client of the
+ * Cluster Operator.
+ */
+public class KafkaAgentClient {
+    /**
+     * Path of the broker state endpoint (the same as {@code KafkaAgent.BROKER_STATE_PATH})
+     */
+    public static final String BROKER_STATE_PATH = "/v1/broker-state";
+
+    private static final int TIMEOUT_MS = 5_000;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String CO_KEY_CERT_NAME = "cluster-operator";
+
+    private final int port;
+    private final SSLSocketFactory socketFactory;
+
+    /**
+     * Constructor
+     *
+     * @param port                  Port of the Kafka agent HTTPS endpoint
+     * @param clusterCaCertSecret   Secret with the cluster CA certificates which are trusted
+     * @param coKeySecret           Secret with the Cluster Operator keystore used for the TLS client authentication
+     */
+    public KafkaAgentClient(int port, Secret clusterCaCertSecret, Secret coKeySecret) {
+        this.port = port;
+        this.socketFactory = sslContext(clusterCaCertSecret, coKeySecret).getSocketFactory();
+    }
+
+    private static SSLContext sslContext(Secret clusterCaCertSecret, Secret coKeySecret) {
+        try {
+            // All the certificates are trusted to not fail while the cluster CA is renewed
+            KeyStore trustStore = KeyStore.getInstance("PKCS12");
+            trustStore.load(null, null);
+            for (Map.Entry<String, String> entry : clusterCaCertSecret.getData().entrySet()) {
+                if (entry.getKey().endsWith(".crt")) {
+                    trustStore.setCertificateEntry(entry.getKey(), Ca.cert(clusterCaCertSecret, entry.getKey()));
+                }
+            }
+            TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagerFactory.init(trustStore);
+
+            char[] password = new String(Util.decodeFromSecret(coKeySecret, CO_KEY_CERT_NAME + ".password"), StandardCharsets.US_ASCII).toCharArray();
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(new ByteArrayInputStream(Util.decodeFromSecret(coKeySecret, CO_KEY_CERT_NAME + ".p12")), password);
+            KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagerFactory.init(keyStore, password);
+
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(keyManagerFactory.getKeyManagers(), trustManagerFactory.getTrustManagers(), null);
+            return sslContext;
+        } catch (GeneralSecurityException | IOException e) {
+            throw new RuntimeException("Failed to create the TLS context for the Kafka agent client", e);
+        }
+    }
+
+    /**
+     * Gets the state of a broker. This is a blocking call.
+     *
+     * @param host  Hostname of the broker pod
+     *
+     * @return  The state of the broker
+     *
+     * @throws IOException  If the state could not be obtained
+     */
+    public BrokerState brokerState(String host) throws IOException {
+        HttpsURLConnection connection = (HttpsURLConnection) new URL("https", host, port, BROKER_STATE_PATH).openConnection();
+        connection.setSSLSocketFactory(socketFactory);
+        connection.setConnectTimeout(TIMEOUT_MS);
+        connection.setReadTimeout(TIMEOUT_MS);
+
+        try {
+            int responseCode = connection.getResponseCode();
+            if (responseCode != 200) {
+                throw new IOException("Unexpected response code " + responseCode + " from the Kafka agent on " + host);
+            }
+
+            try (InputStream in = connection.getInputStream()) {
+                return MAPPER.readValue(in, BrokerState.class);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * The broker state reported by the Kafka agent. The values which the broker does not report (for example the log
+     * recovery progress in the Kafka versions which do not expose it) are null.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class BrokerState {
+        /**
+         * The broker is loading and recovering its logs (see {@code kafka.server.BrokerState})
+         */
+        public static final int RECOVERY = 2;
+
+        /**
+         * The broker is running (see {@code kafka.server.BrokerState})
+         */
+        public static final int RUNNING = 3;
+
+        private Integer brokerState;
+        private String sessionState;
+        private Integer remainingLogsToRecover;
+        private Integer remainingSegmentsToRecover;
+        private Integer underReplicatedPartitions;
+        private Integer offlinePartitions;
+        private Boolean activeController;
+        private List<Transition> transitions = Collections.emptyList();
+
+        public Integer getBrokerState() {
+            return brokerState;
+        }
+
+        public void setBrokerState(Integer brokerState) {
+            this.brokerState = brokerState;
+        }
+
+        public String getSessionState() {
+            return sessionState;
+        }
+
+        public void setSessionState(String sessionState) {
+            this.sessionState = sessionState;
+        }
+
+        public Integer getRemainingLogsToRecover() {
+            return remainingLogsToRecover;
+        }
+
+        public void setRemainingLogsToRecover(Integer remainingLogsToRecover) {
+            this.remainingLogsToRecover = remainingLogsToRecover;
+        }
+
+        public Integer getRemainingSegmentsToRecover() {
+            return remainingSegmentsToRecover;
+        }
+
+        public void setRemainingSegmentsToRecover(Integer remainingSegmentsToRecover) {
+            this.remainingSegmentsToRecover = remainingSegmentsToRecover;
+        }
+
+        public Integer getUnderReplicatedPartitions() {
+            return underReplicatedPartitions;
+        }
+
+        public void setUnderReplicatedPartitions(Integer underReplicatedPartitions) {
+            this.underReplicatedPartitions = underReplicatedPartitions;
+        }
+
+        public Integer getOfflinePartitions() {
+            return offlinePartitions;
+        }
+
+        public void setOfflinePartitions(Integer offlinePartitions) {
+            this.offlinePartitions = offlinePartitions;
+        }
+
+        public Boolean getActiveController() {
+            return activeController;
+        }
+
+        public void setActiveController(Boolean activeController) {
+            this.activeController = activeController;
+        }
+
+        public List<Transition> getTransitions() {
+            return transitions;
+        }
+
+        public void setTransitions(List<Transition> transitions) {
+            this.transitions = transitions;
+        }
+
+        /**
+         * @return True if the broker is loading and recovering its logs
+         */
+        public boolean isRecovering() {
+            return brokerState != null && brokerState == RECOVERY;
+        }
+
+        /**
+         * Checks whether the broker is still recovering its logs and made some progress since the previous state.
+         * When the broker does not report the recovery progress, it is assumed to be progressing while it is
+         * recovering.
+         *
+         * @param previous  The previously observed state or null if this is the first observation
+         *
+         * @return True if the broker is recovering its logs and it made progress since the previous state
+         */
+        public boolean isRecoveryProgressing(BrokerState previous) {
+            if (!isRecovering()) {
+                return false;
+            } else if (previous == null || !previous.isRecovering()) {
+                return true;
+            } else if (remainingSegmentsToRecover != null && previous.remainingSegmentsToRecover != null) {
+                return remainingSegmentsToRecover < previous.remainingSegmentsToRecover;
+            } else if (remainingLogsToRecover != null && previous.remainingLogsToRecover != null) {
+                return remainingLogsToRecover < previous.remainingLogsToRecover;
+            } else {
+                return true;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "BrokerState(" +
+                    "brokerState=" + brokerState +
+                    ", sessionState=" + sessionState +
+                    ", remainingLogsToRecover=" + remainingLogsToRecover +
+                    ", remainingSegmentsToRecover=" + remainingSegmentsToRecover +
+                    ", underReplicatedPartitions=" + underReplicatedPartitions +
+                    ", offlinePartitions=" + offlinePartitions +
+                    ", activeController=" + activeController +
+                    ")";
+        }
+    }
+
+    /**
+     * Broker state observed by the Kafka agent at some point in time
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Transition {
+        private int brokerState;
+        private long timestamp;
+
+        public int getBrokerState() {
+            return brokerState;
+        }
+
+        public void setBrokerState(int brokerState) {
+            this.brokerState = brokerState;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public void setTimestamp(long timestamp) {
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -4,33 +4,31 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.strimzi.operator.cluster.operator.resource.KafkaClusterMetadata.PartitionState;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.Config;
-import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.TopicDescription;
-import org.apache.kafka.common.Node;
-import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
-
-import static java.lang.Integer.parseInt;
+import java.util.stream.IntStream;
 
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ * The topic metadata are looked up in a {@link KafkaClusterMetadata} snapshot which is refreshed only when needed.
  */
 class KafkaAvailability {
 
@@ -40,19 +38,16 @@ class KafkaAvailability {
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final KafkaClusterMetadata metadata;
 
     KafkaAvailability(Admin ac, Reconciliation reconciliation) {
+        this(ac, reconciliation, new KafkaClusterMetadata());
+    }
+
+    KafkaAvailability(Admin ac, Reconciliation reconciliation, KafkaClusterMetadata metadata) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            log.debug("{}: Got {} topic names", reconciliation, names.size());
-            log.trace("{}: Topic names {}", reconciliation, names);
-            return describeTopics(names);
-        });
+        this.metadata = metadata;
     }
 
     /**
@@ -60,95 +55,132 @@ class KafkaAvailability {
      * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
      */
     Future<Boolean> canRoll(int podId) {
-        log.debug("{}: Determining whether broker {} can be rolled", reconciliation, podId);
-        return canRollBroker(descriptions, podId);
+        return canRoll(podId, Collections.emptySet());
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    log.debug("{}: Got {} topic descriptions", reconciliation, topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+    /**
+     * Determine whether the given broker can be rolled at the same time as the given brokers which are already being
+     * rolled without affecting producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+     * The brokers which are already being rolled are treated as if they were out of the ISR.
+     */
+    Future<Boolean> canRoll(int podId, Set<Integer> rollingPodIds) {
+        log.debug("{}: Determining whether broker {} can be rolled together with brokers {}", reconciliation, podId, rollingPodIds);
+        return canRollBroker(podId, rollingPodIds);
+    }
+
+    private Future<Boolean> canRollBroker(int podId, Set<Integer> rollingPodIds) {
+        Set<Integer> brokers = Collections.singleton(podId);
+
+        // 1. Refresh the topic descriptions (if needed)
+        return refreshTopics(brokers)
+                .recover(error -> {
                     log.warn("{}: failed to get topic descriptions", reconciliation, error);
                     return Future.failedFuture(error);
+                })
+                // 2. Get the missing topic configs (for those on $broker)
+                .compose(ignored -> refreshConfigs(brokers))
+                // 3. Check the partitions on $broker
+                .map(ignored -> {
+                    List<PartitionState> partitions = metadata.partitionsOnBroker(podId);
+                    log.debug("{}: Broker {} hosts {} partitions", reconciliation, podId, partitions.size());
+                    boolean canRoll = partitions.stream().noneMatch(
+                        partition -> wouldAffectAvailability(podId, rollingPodIds, partition));
+                    if (!canRoll) {
+                        log.debug("{}: Restart pod {} would remove it from ISR, stalling producers with acks=all", reconciliation, podId);
+                    }
+                    return canRoll;
+                }).recover(error -> {
+                    log.warn("{}: Error determining whether it is safe to restart pod {}", reconciliation, podId, error);
+                    return Future.failedFuture(error);
                 });
+    }
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
-
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
-            if (!canRoll) {
-                log.debug("{}: Restart pod {} would remove it from ISR, stalling producers with acks=all", reconciliation, podId);
-            }
-            return canRoll;
-        }).recover(error -> {
-            log.warn("{}: Error determining whether it is safe to restart pod {}", reconciliation, podId, error);
-            return Future.failedFuture(error);
-        });
+    private Future<Void> refreshTopics(Set<Integer> brokers) {
+        long now = System.currentTimeMillis();
+
+        if (metadata.isFresh(now)) {
+            log.debug("{}: Using cached topic descriptions", reconciliation);
+            return Future.succeededFuture();
+        }
+
+        boolean full = metadata.needsFullRefresh(now);
+
+        return topicNames()
+                .compose(names -> {
+                    log.debug("{}: Got {} topic names", reconciliation, names.size());
+                    log.trace("{}: Topic names {}", reconciliation, names);
+                    KafkaClusterMetadata.Refresh refresh = metadata.startRefresh(names, brokers, full);
+                    Future<Collection<TopicDescription>> described = refresh.topicsToDescribe().isEmpty()
+                            ? Future.succeededFuture(Collections.emptyList())
+                            : describeTopics(refresh.topicsToDescribe());
+                    return described
+                            .map(descriptions -> {
+                                log.debug("{}: Got {} topic descriptions", reconciliation, descriptions.size());
+                                metadata.completeRefresh(refresh, descriptions, now);
+                                return null;
+                            });
+                });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            log.debug("{}: {} has {}={}.", reconciliation, td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
-        } else {
-            minIsr = -1;
-            log.debug("{}: {} lacks {}.", reconciliation, td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+    private Future<Void> refreshConfigs(Set<Integer> brokers) {
+        Set<String> topicNames = metadata.topicsWithoutConfig(brokers);
+
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture();
         }
 
-        for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
-            if (minIsr >= 0) {
-                if (pi.replicas().size() <= minIsr) {
-                    log.debug("{}: {}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                            reconciliation, td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                            pi.replicas().size());
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
-                    logIsrReplicas(td, pi, isr);
-                    log.info("{}: {}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
-                                    "so should not be restarted right now (it might be first to catch up).",
-                            reconciliation, td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                    return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
-                        logIsrReplicas(td, pi, isr);
-                        log.info("{}: {}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
-                                reconciliation, td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                        return true;
-                    } else {
-                        log.debug("{}: {}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                reconciliation, td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                pi.replicas().size());
-                    }
-                }
+        return topicConfigs(topicNames)
+                .map(topicNameToConfig -> {
+                    metadata.updateConfigs(topicNameToConfig);
+                    return null;
+                });
+    }
+
+    private boolean wouldAffectAvailability(int broker, Set<Integer> rollingBrokers, PartitionState partition) {
+        int minIsr = metadata.minIsr(partition.topic);
+        if (minIsr >= 0) {
+            log.trace("{}: {} has {}={}.", reconciliation, partition.topic, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+
+            if (partition.replicas.length <= minIsr) {
+                log.debug("{}: {}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
+                        reconciliation, partition.topic, partition.partition, partition.isr.length, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                        partition.replicas.length);
+            } else if (partition.isr.length < minIsr
+                    && partition.isReplica(broker)) {
+                logIsrReplicas(partition);
+                log.info("{}: {}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
+                                "so should not be restarted right now (it might be first to catch up).",
+                        reconciliation, partition.topic, partition.partition, partition.isr.length, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                return true;
+            } else if (partition.isInIsr(broker)
+                    && isrWithout(partition.isr, broker, rollingBrokers) < minIsr) {
+                logIsrReplicas(partition);
+                log.info("{}: {}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted while brokers {} are rolled.",
+                        reconciliation, partition.topic, partition.partition, partition.isr.length, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker, rollingBrokers);
+                return true;
             }
+        } else {
+            log.trace("{}: {} lacks {}.", reconciliation, partition.topic, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         }
         return false;
     }
 
-    private void logIsrReplicas(TopicDescription td, TopicPartitionInfo pi, List<Node> isr) {
+    private void logIsrReplicas(PartitionState partition) {
         if (log.isDebugEnabled()) {
-            log.debug("{}: {}/{} has ISR={}, replicas={}", reconciliation, td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()));
+            log.debug("{}: {}/{} has ISR={}, replicas={}", reconciliation, partition.topic, partition.partition, nodeList(partition.isr), nodeList(partition.replicas));
         }
     }
 
-    String nodeList(List<Node> nodes) {
-        return nodes.stream().map(n -> String.valueOf(n.id())).collect(Collectors.joining(",", "[", "]"));
+    String nodeList(int[] nodes) {
+        return IntStream.of(nodes).mapToObj(String::valueOf).collect(Collectors.joining(",", "[", "]"));
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
+    /**
+     * Returns the number of ISR members which remain in the ISR when the given broker and the rolling brokers are
+     * restarted.
+     */
+    private long isrWithout(int[] isr, int broker, Set<Integer> rollingBrokers) {
+        return IntStream.of(isr).filter(node -> node != broker && !rollingBrokers.contains(node)).count();
     }
 
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
@@ -171,21 +203,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            log.trace("{}: {}", reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).all()
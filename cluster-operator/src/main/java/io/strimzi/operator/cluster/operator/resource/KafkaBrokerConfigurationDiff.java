@@ -8,14 +8,10 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.Scope;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
@@ -28,16 +24,15 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
-
 /**
  The algorithm:
  *  1. Create a map from the supplied desired String
  *  2. Fill placeholders (e.g. ${BROKER_ID}) in desired map as the broker's {@code kafka_config_generator.sh} would
- *  3a. Loop over all entries. If the entry is in IGNORABLE_PROPERTIES or entry.value from desired is equal to entry.value from current, do nothing
- *      else add it to the diff
+ *  3a. Loop over all current entries and look them up in the desired map by their name. If the entry is in IGNORABLE_PROPERTIES
+ *      or entry.value from desired is equal to entry.value from current, do nothing else add it to the diff
  *  3b. If entry was removed from desired, add it to the diff with null value.
  *  3c. If custom entry was removed, delete property
+ *  4. Loop over all desired entries and add those which are not in current to the diff
  */
 public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
 
@@ -74,8 +69,11 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     }
 
     private static void fillPlaceholderValue(Map<String, String> orderedProperties, String placeholder, String value) {
+        String token = "${" + placeholder + "}";
         orderedProperties.entrySet().forEach(entry -> {
-            entry.setValue(entry.getValue().replaceAll("\\$\\{" + Pattern.quote(placeholder) + "\\}", value));
+            if (entry.getValue().contains(token)) {
+                entry.setValue(entry.getValue().replace(token, value));
+            }
         });
     }
 
@@ -86,11 +84,8 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * @return true if property in desired map has a default value
      */
     boolean isDesiredPropertyDefaultValue(String key, Config config) {
-        Optional<ConfigEntry> entry = config.entries().stream().filter(configEntry -> configEntry.name().equals(key)).findFirst();
-        if (entry.isPresent()) {
-            return entry.get().isDefault();
-        }
-        return false;
+        ConfigEntry entry = config.get(key);
+        return entry != null && entry.isDefault();
     }
 
     public boolean canBeUpdatedDynamically() {
@@ -146,58 +141,43 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
-        Map<String, String> currentMap;
 
         Collection<AlterConfigOp> updatedCE = new ArrayList<>();
 
-        currentMap = brokerConfigs.entries().stream().collect(
-            Collectors.toMap(
-                ConfigEntry::name,
-                configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
-
         OrderedProperties orderedProperties = new OrderedProperties();
         orderedProperties.addStringPairs(desired);
         Map<String, String> desiredMap = orderedProperties.asMap();
 
         fillPlaceholderValue(desiredMap, "STRIMZI_BROKER_ID", Integer.toString(brokerId));
 
-        JsonNode source = patchMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true).valueToTree(currentMap);
-        JsonNode target = patchMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true).valueToTree(desiredMap);
-        JsonNode jsonDiff = JsonDiff.asJson(source, target);
-
-        for (JsonNode d : jsonDiff) {
-            String pathValue = d.get("path").asText();
-            String pathValueWithoutSlash = pathValue.substring(1);
+        Collection<ConfigEntry> currentEntries = brokerConfigs.entries();
+        Map<String, ConfigEntry> currentMap = new HashMap<>(currentEntries.size() * 4 / 3 + 1);
 
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
+        for (ConfigEntry entry : currentEntries) {
+            String currentValue = entry.value() == null ? "null" : entry.value();
+            String desiredValue = desiredMap.get(entry.name());
+            currentMap.put(entry.name(), entry);
 
-            String op = d.get("op").asText();
-            if (optEntry.isPresent()) {
-                ConfigEntry entry = optEntry.get();
-                if ("remove".equals(op)) {
-                    removeProperty(configModel, updatedCE, pathValueWithoutSlash, entry);
-                } else if ("replace".equals(op)) {
-                    // entry is in the current, desired is updated value
-                    updateOrAdd(entry.name(), configModel, desiredMap, updatedCE);
-                }
-            } else {
-                if ("add".equals(op)) {
-                    // entry is not in the current, it is added
-                    updateOrAdd(pathValueWithoutSlash, configModel, desiredMap, updatedCE);
-                }
+            if (desiredValue == null) {
+                // there is a lot of properties set by default - not having them in desired causes very noisy log output
+                log.trace("Kafka Broker {} Config Differs : {} was removed", brokerId, entry.name());
+                log.trace("Current Kafka Broker Config path {} has value {}", entry.name(), currentValue);
+                removeProperty(configModel, updatedCE, entry.name(), entry);
+            } else if (!desiredValue.equals(currentValue)) {
+                // entry is in the current, desired is updated value
+                log.debug("Kafka Broker {} Config Differs : {} was changed", brokerId, entry.name());
+                log.debug("Current Kafka Broker Config path {} has value {}", entry.name(), currentValue);
+                log.debug("Desired Kafka Broker Config path {} has value {}", entry.name(), desiredValue);
+                updateOrAdd(entry.name(), configModel, desiredMap, updatedCE);
             }
+        }
 
-            if ("remove".equals(op)) {
-                // there is a lot of properties set by default - not having them in desired causes very noisy log output
-                log.trace("Kafka Broker {} Config Differs : {}", brokerId, d);
-                log.trace("Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                log.trace("Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
-            } else {
-                log.debug("Kafka Broker {} Config Differs : {}", brokerId, d);
-                log.debug("Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                log.debug("Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
+        for (Map.Entry<String, String> entry : desiredMap.entrySet()) {
+            if (!currentMap.containsKey(entry.getKey())) {
+                // entry is not in the current, it is added
+                log.debug("Kafka Broker {} Config Differs : {} was added", brokerId, entry.getKey());
+                log.debug("Desired Kafka Broker Config path {} has value {}", entry.getKey(), entry.getValue());
+                updateOrAdd(entry.getKey(), configModel, desiredMap, updatedCE);
             }
         }
 
@@ -254,7 +234,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * @return true if entry is custom (not default)
      */
     private static boolean isCustomEntry(String entryName, Map<String, ConfigModel> configModel) {
-        return !configModel.keySet().contains(entryName);
+        return !configModel.containsKey(entryName);
     }
 
 }
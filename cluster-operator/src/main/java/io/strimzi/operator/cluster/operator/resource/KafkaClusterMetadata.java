@@ -0,0 +1,314 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.TopicConfig;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.Integer.parseInt;
+
+/**
+ * Snapshot of the topic metadata of a Kafka cluster used by {@link KafkaAvailability} to decide whether a broker can
+ * be rolled. A single instance is shared by all the {@link KafkaRoller}s of the same Kafka cluster, so that the
+ * metadata do not need to be fetched again for every roller and every pod.
+ *
+ * The snapshot keeps only the replicas and the ISR of the partitions, indexed by topic and by broker, and caches the
+ * {@code min.insync.replicas} of the topics. It is refreshed incrementally:
+ * <ul>
+ *     <li>Within {@link #DEFAULT_MAX_AGE_MS} from the last refresh, the snapshot is used as it is unless some broker
+ *     was invalidated (for example because it was restarted).</li>
+ *     <li>Otherwise only the new topics and the topics hosted by the checked and invalidated brokers are described
+ *     again, so that their ISR is up-to-date.</li>
+ *     <li>Every {@link #DEFAULT_FULL_REFRESH_INTERVAL_MS}, all topics are described again (to pick up partition
+ *     reassignments and new partitions) and the cached topic configurations are dropped.</li>
+ * </ul>
+ * The topic configurations are fetched lazily, only for the topics hosted by the checked brokers.
+ */
+public class KafkaClusterMetadata {
+    static final long DEFAULT_MAX_AGE_MS = 5_000;
+    static final long DEFAULT_FULL_REFRESH_INTERVAL_MS = 60_000;
+
+    private final long maxAgeMs;
+    private final long fullRefreshIntervalMs;
+
+    private final Map<String, List<PartitionState>> partitionsByTopic = new HashMap<>();
+    private final Map<Integer, Set<String>> topicsByBroker = new HashMap<>();
+    private final Map<String, Integer> minIsrByTopic = new HashMap<>();
+    private final Map<Integer, Long> invalidatedBrokers = new HashMap<>();
+    private long invalidations = 0;
+    private long refreshedAt = -1;
+    private long fullyRefreshedAt = -1;
+
+    public KafkaClusterMetadata() {
+        this(DEFAULT_MAX_AGE_MS, DEFAULT_FULL_REFRESH_INTERVAL_MS);
+    }
+
+    KafkaClusterMetadata(long maxAgeMs, long fullRefreshIntervalMs) {
+        this.maxAgeMs = maxAgeMs;
+        this.fullRefreshIntervalMs = fullRefreshIntervalMs;
+    }
+
+    /**
+     * Checks whether the snapshot can be used without refreshing it.
+     *
+     * @param now       Current time in milliseconds
+     *
+     * @return  True if the snapshot does not need to be refreshed
+     */
+    synchronized boolean isFresh(long now) {
+        return refreshedAt >= 0
+                && now - refreshedAt < maxAgeMs
+                && !needsFullRefresh(now)
+                // The restarted brokers might be missing in the ISR of partitions hosted also by the checked brokers
+                && invalidatedBrokers.isEmpty();
+    }
+
+    /**
+     * @param now   Current time in milliseconds
+     *
+     * @return  True if all topics should be described again
+     */
+    synchronized boolean needsFullRefresh(long now) {
+        return fullyRefreshedAt < 0 || now - fullyRefreshedAt >= fullRefreshIntervalMs;
+    }
+
+    /**
+     * Marks the given broker as invalidated. The topics hosted by it will be described again before the next lookup.
+     * This should be called when the broker was restarted and its ISR membership might have changed.
+     *
+     * @param broker    The broker ID
+     */
+    synchronized void invalidate(int broker) {
+        invalidatedBrokers.put(broker, ++invalidations);
+    }
+
+    /**
+     * Starts an incremental refresh of the snapshot.
+     *
+     * @param topicNames    Names of all topics in the cluster
+     * @param brokers       The checked brokers
+     * @param full          Whether all topics should be described
+     *
+     * @return  The refresh with the names of the topics which need to be described
+     */
+    synchronized Refresh startRefresh(Set<String> topicNames, Set<Integer> brokers, boolean full) {
+        Set<String> topicsToDescribe;
+
+        if (full) {
+            topicsToDescribe = topicNames;
+        } else {
+            topicsToDescribe = new HashSet<>();
+
+            for (String topicName : topicNames) {
+                if (!partitionsByTopic.containsKey(topicName)) {
+                    topicsToDescribe.add(topicName);
+                }
+            }
+
+            for (Integer broker : brokers) {
+                topicsToDescribe.addAll(topicsByBroker.getOrDefault(broker, Collections.emptySet()));
+            }
+
+            for (Integer broker : invalidatedBrokers.keySet()) {
+                topicsToDescribe.addAll(topicsByBroker.getOrDefault(broker, Collections.emptySet()));
+            }
+
+            // Topics which do not exist anymore do not need to be described
+            topicsToDescribe.retainAll(topicNames);
+        }
+
+        return new Refresh(topicNames, topicsToDescribe, full, invalidations);
+    }
+
+    /**
+     * Completes the refresh of the snapshot with the descriptions of the topics.
+     *
+     * @param refresh       The refresh started by {@link #startRefresh(Set, Set, boolean)}
+     * @param descriptions  Descriptions of the topics
+     * @param now           Time in milliseconds when the refresh was started
+     */
+    synchronized void completeRefresh(Refresh refresh, Collection<TopicDescription> descriptions, long now) {
+        for (String topicName : new ArrayList<>(partitionsByTopic.keySet())) {
+            if (!refresh.topicNames.contains(topicName)) {
+                removeTopic(topicName);
+                minIsrByTopic.remove(topicName);
+            }
+        }
+
+        if (refresh.full) {
+            minIsrByTopic.clear();
+            fullyRefreshedAt = now;
+        }
+
+        for (TopicDescription description : descriptions) {
+            removeTopic(description.name());
+
+            List<PartitionState> partitions = new ArrayList<>(description.partitions().size());
+            for (TopicPartitionInfo partition : description.partitions()) {
+                PartitionState state = new PartitionState(description.name(), partition);
+                partitions.add(state);
+
+                for (int replica : state.replicas) {
+                    topicsByBroker.computeIfAbsent(replica, r -> new HashSet<>()).add(description.name());
+                }
+            }
+            partitionsByTopic.put(description.name(), partitions);
+        }
+
+        // The topics of the brokers invalidated before the refresh started were described again
+        invalidatedBrokers.values().removeIf(invalidation -> invalidation <= refresh.invalidations);
+        refreshedAt = now;
+    }
+
+    /**
+     * @param brokers   The checked brokers
+     *
+     * @return  Names of the topics hosted by the given brokers without a cached configuration
+     */
+    synchronized Set<String> topicsWithoutConfig(Set<Integer> brokers) {
+        Set<String> topics = new HashSet<>();
+
+        for (Integer broker : brokers) {
+            for (String topicName : topicsByBroker.getOrDefault(broker, Collections.emptySet())) {
+                if (!minIsrByTopic.containsKey(topicName)) {
+                    topics.add(topicName);
+                }
+            }
+        }
+
+        return topics;
+    }
+
+    /**
+     * Caches the {@code min.insync.replicas} from the configurations of the topics
+     *
+     * @param configs   Map with the topic names and their configurations
+     */
+    synchronized void updateConfigs(Map<String, Config> configs) {
+        for (Map.Entry<String, Config> entry : configs.entrySet()) {
+            if (partitionsByTopic.containsKey(entry.getKey())) {
+                ConfigEntry minIsrConfig = entry.getValue().get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+                minIsrByTopic.put(entry.getKey(), minIsrConfig != null && minIsrConfig.value() != null ? parseInt(minIsrConfig.value()) : -1);
+            }
+        }
+    }
+
+    /**
+     * @param broker    The broker ID
+     *
+     * @return  The partitions which have a replica on the given broker
+     */
+    synchronized List<PartitionState> partitionsOnBroker(int broker) {
+        List<PartitionState> partitions = new ArrayList<>();
+
+        for (String topicName : topicsByBroker.getOrDefault(broker, Collections.emptySet())) {
+            for (PartitionState partition : partitionsByTopic.get(topicName)) {
+                if (partition.isReplica(broker)) {
+                    partitions.add(partition);
+                }
+            }
+        }
+
+        return partitions;
+    }
+
+    /**
+     * @param topicName     Name of the topic
+     *
+     * @return  The {@code min.insync.replicas} of the topic or -1 if it is not configured
+     */
+    synchronized int minIsr(String topicName) {
+        return minIsrByTopic.getOrDefault(topicName, -1);
+    }
+
+    private void removeTopic(String topicName) {
+        List<PartitionState> partitions = partitionsByTopic.remove(topicName);
+
+        if (partitions != null) {
+            for (PartitionState partition : partitions) {
+                for (int replica : partition.replicas) {
+                    Set<String> topics = topicsByBroker.get(replica);
+
+                    if (topics != null) {
+                        topics.remove(topicName);
+
+                        if (topics.isEmpty()) {
+                            topicsByBroker.remove(replica);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Refresh of the snapshot which is in progress
+     */
+    static class Refresh {
+        private final Set<String> topicNames;
+        private final Set<String> topicsToDescribe;
+        private final boolean full;
+        private final long invalidations;
+
+        Refresh(Set<String> topicNames, Set<String> topicsToDescribe, boolean full, long invalidations) {
+            this.topicNames = topicNames;
+            this.topicsToDescribe = topicsToDescribe;
+            this.full = full;
+            this.invalidations = invalidations;
+        }
+
+        Set<String> topicsToDescribe() {
+            return topicsToDescribe;
+        }
+    }
+
+    /**
+     * The replicas and the ISR of a single partition
+     */
+    static class PartitionState {
+        final String topic;
+        final int partition;
+        final int[] replicas;
+        final int[] isr;
+
+        PartitionState(String topic, TopicPartitionInfo partitionInfo) {
+            this.topic = topic;
+            this.partition = partitionInfo.partition();
+            this.replicas = partitionInfo.replicas().stream().mapToInt(Node::id).toArray();
+            this.isr = partitionInfo.isr().stream().mapToInt(Node::id).toArray();
+        }
+
+        boolean isReplica(int broker) {
+            return contains(replicas, broker);
+        }
+
+        boolean isInIsr(int broker) {
+            return contains(isr, broker);
+        }
+
+        private static boolean contains(int[] brokers, int broker) {
+            for (int b : brokers) {
+                if (b == broker) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
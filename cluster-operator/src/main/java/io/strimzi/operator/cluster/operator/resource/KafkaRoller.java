@@ -10,8 +10,10 @@ import java.net.Socket;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -94,6 +96,14 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>When the maximal rolling batch size is bigger than 1, the pods are processed by that many threads and are ordered
+ * so that the pods in the same rack (as given by the {@code broker.rack} of the brokers) follow each other. A pod
+ * which needs to be restarted while other pods are being rolled joins their batch only when it is in the same rack as
+ * them, the batch is not full yet and restarting it together with the rolling pods does not impact availability.
+ * Otherwise it waits until the batch is finished and continues as in the sequential rolling from step 5. Pods which
+ * are force-rolled (for example because they are stuck or because they are the controller and rolling them could not
+ * be deferred any longer) are never rolled together with other pods.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -108,6 +118,12 @@ public class KafkaRoller {
 
     private static final Logger log = LogManager.getLogger(KafkaRoller.class);
 
+    /**
+     * How many times the wait for a restarted pod is extended while its broker recovers the logs. With the default
+     * operation timeout of 5 minutes, the broker has one hour to recover its logs.
+     */
+    /*test*/ static final int MAX_LOG_RECOVERY_EXTENSIONS = 11;
+
     private final PodOperator podOperations;
     private final long pollingIntervalMs;
     protected final long operationTimeoutMs;
@@ -124,6 +140,11 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final int maxRollingBatchSize;
+    private final KafkaClusterMetadata clusterMetadata;
+    private final ScheduledExecutorService executor;
+    private final Set<Integer> rollingPods = new HashSet<>();
+    private Map<Integer, String> racks = Collections.emptyMap();
     private Admin allClient;
 
     public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
@@ -139,6 +160,27 @@ public class KafkaRoller {
                         StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                         AdminClientProvider adminClientProvider,
                         String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
+        this(vertx, reconciliation, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, allowReconfiguration, 1);
+    }
+
+    public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
+                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                        AdminClientProvider adminClientProvider,
+                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                        int maxRollingBatchSize) {
+        this(vertx, reconciliation, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, allowReconfiguration,
+                maxRollingBatchSize, new KafkaClusterMetadata());
+    }
+
+    public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
+                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                        AdminClientProvider adminClientProvider,
+                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                        int maxRollingBatchSize, KafkaClusterMetadata clusterMetadata) {
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -155,6 +197,10 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxRollingBatchSize = Math.max(maxRollingBatchSize, 1);
+        this.clusterMetadata = clusterMetadata;
+        this.executor = Executors.newScheduledThreadPool(this.maxRollingBatchSize,
+            runnable -> new Thread(runnable, "kafka-roller"));
     }
 
     /**
@@ -165,9 +211,6 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaCluster.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
-
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, List<String>> podNeedsRestart;
 
@@ -175,7 +218,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(IntStream.range(0, numPods).boxed().collect(Collectors.toList()), false);
@@ -197,7 +240,7 @@ public class KafkaRoller {
         this.podNeedsRestart = podNeedsRestart;
 
         Promise<Void> result = Promise.promise();
-        singleExecutor.submit(() -> {
+        executor.submit(() -> {
             List<Integer> podIds = new ArrayList<>(numPods);
 
             for (int podId = 0; podId < numPods; podId++) {
@@ -205,13 +248,16 @@ public class KafkaRoller {
                 // only for it not to become ready and thus drive the cluster to a worse state.
                 podIds.add(podOperations.isReady(namespace, podName(podId)) ? podIds.size() : 0, podId);
             }
+            if (maxRollingBatchSize > 1) {
+                podIds = groupByRack(podIds);
+            }
             log.debug("{}: Initial order for rolling restart {}", reconciliation, podIds);
             List<Future> futures = new ArrayList<>(numPods);
             for (Integer podId: podIds) {
                 futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
             }
             CompositeFuture.join(futures).onComplete(ar -> {
-                singleExecutor.shutdown();
+                executor.shutdown();
                 try {
                     if (allClient != null) {
                         allClient.close(Duration.ofSeconds(30));
@@ -225,6 +271,60 @@ public class KafkaRoller {
         return result.future();
     }
 
+    /**
+     * Orders the given pods so that the pods in the same rack follow each other. The racks are ordered by the
+     * position of their first pod in the given list and the order of the pods within the rack is kept, so the
+     * unready pods are still considered first. Pods in unknown racks are kept at the end.
+     *
+     * @param podIds The ids of the pods
+     * @return The ids of the pods grouped by rack
+     */
+    private List<Integer> groupByRack(List<Integer> podIds) {
+        if (initAdminClient()) {
+            try {
+                racks = brokerRacks();
+            } catch (ForceableProblem e) {
+                log.warn("{}: Failed to get the racks of the brokers, the pods will be rolled one by one", reconciliation, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        Map<String, List<Integer>> podsByRack = new LinkedHashMap<>();
+        List<Integer> podsInUnknownRack = new ArrayList<>();
+        for (Integer podId : podIds) {
+            String rack = racks.get(podId);
+
+            if (rack != null) {
+                podsByRack.computeIfAbsent(rack, r -> new ArrayList<>()).add(podId);
+            } else {
+                podsInUnknownRack.add(podId);
+            }
+        }
+
+        List<Integer> grouped = new ArrayList<>(podIds.size());
+        podsByRack.values().forEach(grouped::addAll);
+        grouped.addAll(podsInUnknownRack);
+        return grouped;
+    }
+
+    /**
+     * Returns the racks of the brokers in the cluster as given by their {@code broker.rack} configuration.
+     * Brokers without a rack are not included.
+     *
+     * @return The map of broker ids to their racks
+     */
+    protected Map<Integer, String> brokerRacks() throws ForceableProblem, InterruptedException {
+        Collection<Node> nodes = await(Util.kafkaFutureToVertxFuture(vertx, allClient.describeCluster().nodes()),
+            30, TimeUnit.SECONDS,
+            error -> new ForceableProblem("Error getting the racks of the brokers", error)
+        );
+
+        return nodes.stream()
+                .filter(Node::hasRack)
+                .collect(Collectors.toMap(Node::id, Node::rack));
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -263,7 +363,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled one-at-a-time (or in batches) so the delay may be overrun.
      * @param podId The pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -272,7 +372,7 @@ public class KafkaRoller {
     private Future<Void> schedule(int podId, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podId,
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             log.debug("{}: Considering restart of pod {} after delay of {} {}", reconciliation, podId, delay, unit);
             try {
                 restartIfNecessary(podId, ctx);
@@ -284,7 +384,7 @@ public class KafkaRoller {
                 log.info("{}: Could not restart pod {}, giving up after {} attempts. Total delay between attempts {}ms",
                         reconciliation, podId, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -358,13 +458,17 @@ public class KafkaRoller {
                     log.debug("{}: Pod {} is controller and there are other pods to roll", reconciliation, podId);
                     throw new ForceableProblem("Pod " + podName(podId) + " is currently the controller and there are other pods still to roll");
                 } else {
-                    if (restartPlan.forceRestart || canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false)) {
-                        // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
-                        if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
-                            log.debug("{}: Pod {} can be rolled now", reconciliation, podId);
-                            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
-                        } else {
-                            awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    if (startRolling(podId, restartPlan.forceRestart, !restartPlan.forceRestart, false)) {
+                        try {
+                            // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
+                            if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
+                                log.debug("{}: Pod {} can be rolled now", reconciliation, podId);
+                                restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            } else {
+                                awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            }
+                        } finally {
+                            finishRolling(podId);
                         }
                     } else {
                         log.debug("{}: Pod {} cannot be rolled right now", reconciliation, podId);
@@ -382,9 +486,13 @@ public class KafkaRoller {
             }
         } catch (ForceableProblem e) {
             if (isPodStuck(pod) || restartContext.backOff.done() || e.forceNow) {
-                if (canRoll(podId, 60_000, TimeUnit.MILLISECONDS, true)) {
+                if (startRolling(podId, false, false, true)) {
                     log.warn("{}: Pod {} will be force-rolled, due to error: {}", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
-                    restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    try {
+                        restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    } finally {
+                        finishRolling(podId);
+                    }
                 } else {
                     log.warn("{}: Pod {} can't be safely force-rolled; original error: ", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
                     throw e;
@@ -626,6 +734,101 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Synchronously waits until the given pod can be rolled. When other pods are being rolled, the pod either joins
+     * their batch (when {@code joinBatch} is true) or waits until they are rolled. When no other pods are being rolled,
+     * the pod can be rolled if {@code force} is true or when it can be rolled without impacting availability.
+     * When this method returns true, the pod is considered to be rolling until {@link #finishRolling(int)} is called.
+     *
+     * @param podId The id of the pod to roll.
+     * @param force Whether the pod should be rolled regardless of availability.
+     * @param joinBatch Whether the pod can be rolled together with other pods.
+     * @param ignoreSslError Whether to consider the pod rollable when the connection to it fails on SSL.
+     * @return True if the pod can be rolled now.
+     */
+    private boolean startRolling(int podId, boolean force, boolean joinBatch, boolean ignoreSslError)
+            throws ForceableProblem, InterruptedException {
+        while (true) {
+            Set<Integer> batch;
+            synchronized (rollingPods) {
+                while (!rollingPods.isEmpty() && !(joinBatch && mayJoinBatch(podId))) {
+                    log.debug("{}: Pod {} is waiting for pods {} to be rolled", reconciliation, podId, rollingPods);
+                    rollingPods.wait();
+                }
+
+                batch = new HashSet<>(rollingPods);
+            }
+
+            // Checking the availability can take up to a minute, so it is done without holding the lock to not block
+            // the pods which finish rolling in the meantime
+            boolean rollable;
+            if (batch.isEmpty()) {
+                rollable = force || canRoll(podId, 60_000, TimeUnit.MILLISECONDS, ignoreSslError);
+            } else {
+                rollable = canRollTogether(podId, batch);
+            }
+
+            synchronized (rollingPods) {
+                if (!rollingPods.equals(batch)) {
+                    // Other pods started or finished rolling during the check, so it has to be repeated
+                    continue;
+                }
+
+                if (rollable) {
+                    if (!batch.isEmpty()) {
+                        log.debug("{}: Pod {} will be rolled together with pods {}", reconciliation, podId, batch);
+                    }
+
+                    rollingPods.add(podId);
+                    return true;
+                } else if (batch.isEmpty()) {
+                    return false;
+                }
+
+                log.debug("{}: Pod {} is waiting for pods {} to be rolled", reconciliation, podId, rollingPods);
+                rollingPods.wait();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given pod is in the same rack as the pods which are already being rolled and whether the
+     * batch is not full yet. Must be called while holding the lock on {@link #rollingPods}.
+     */
+    private boolean mayJoinBatch(int podId) {
+        String rack = racks.get(podId);
+
+        return rollingPods.size() < maxRollingBatchSize
+                && rack != null
+                && rollingPods.stream().allMatch(rollingPodId -> rack.equals(racks.get(rollingPodId)));
+    }
+
+    /**
+     * Checks whether the given pod can be rolled together with the given pods without impacting availability.
+     */
+    private boolean canRollTogether(int podId, Set<Integer> batch) throws InterruptedException {
+        try {
+            return await(availability(allClient).canRoll(podId, batch), 60_000, TimeUnit.MILLISECONDS,
+                t -> new ForceableProblem("An error while trying to determine rollability", t));
+        } catch (ForceableProblem e) {
+            log.debug("{}: Could not determine whether pod {} can be rolled together with pods {}", reconciliation, podId, batch, e);
+            return false;
+        }
+    }
+
+    /**
+     * Marks the rolling of the given pod as finished and wakes up the pods waiting to be rolled.
+     */
+    private void finishRolling(int podId) {
+        // The ISR of the partitions on the restarted broker has to be checked again
+        clusterMetadata.invalidate(podId);
+
+        synchronized (rollingPods) {
+            rollingPods.remove(podId);
+            rollingPods.notifyAll();
+        }
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
@@ -641,13 +844,57 @@ public class KafkaRoller {
         awaitReadiness(pod, timeout, unit);
     }
 
+    /**
+     * Synchronously wait for the given pod to become ready. When the pod does not become ready within the timeout,
+     * the broker state reported by the Kafka agent is checked. As long as the broker is recovering its logs and makes
+     * progress, we keep waiting instead of failing, because the recovery of large logs can take a long time. The
+     * brokers which do not report the recovery progress are assumed to make progress while they are recovering, so the
+     * wait is extended at most {@link #MAX_LOG_RECOVERY_EXTENSIONS} times.
+     * @param pod The Pod to wait for.
+     * @param timeout The timeout.
+     * @param unit The timeout unit.
+     */
     private void awaitReadiness(Pod pod, long timeout, TimeUnit unit) throws FatalProblem, InterruptedException {
         String podName = pod.getMetadata().getName();
         log.debug("{}: Waiting for restarted pod {} to become ready", reconciliation, podName);
-        await(isReady(pod), timeout, unit, e -> new FatalProblem("Error while waiting for restarted pod " + podName + " to become ready", e));
+        KafkaAgentClient.BrokerState previousState = null;
+        for (int extensions = 0; ; extensions++) {
+            try {
+                await(isReady(pod), timeout, unit, e -> new FatalProblem("Error while waiting for restarted pod " + podName + " to become ready", e));
+                break;
+            } catch (FatalProblem e) {
+                if (extensions >= MAX_LOG_RECOVERY_EXTENSIONS) {
+                    log.warn("{}: Pod {} did not become ready while its broker was recovering the logs", reconciliation, podName);
+                    throw e;
+                }
+
+                KafkaAgentClient.BrokerState state = brokerState(podName);
+                if (state == null || !state.isRecoveryProgressing(previousState)) {
+                    throw e;
+                }
+                log.info("{}: Pod {} is not ready yet, because the broker is still recovering its logs " +
+                        "(remaining logs: {}, remaining segments: {})", reconciliation, podName,
+                        state.getRemainingLogsToRecover(), state.getRemainingSegmentsToRecover());
+                previousState = state;
+            }
+        }
         log.debug("{}: Pod {} is now ready", reconciliation, podName);
     }
 
+    /**
+     * Gets the broker state from the Kafka agent running in the given pod.
+     * @param podName The name of the pod.
+     * @return The broker state or null if it could not be obtained (for example because the agent does not serve it).
+     */
+    protected KafkaAgentClient.BrokerState brokerState(String podName) {
+        try {
+            return new KafkaAgentClient(KafkaCluster.KAFKA_AGENT_PORT, clusterCaCertSecret, coKeySecret).brokerState(KafkaCluster.podDnsName(namespace, cluster, podName));
+        } catch (IOException | RuntimeException e) {
+            log.debug("{}: Could not get the broker state of pod {}", reconciliation, podName, e);
+            return null;
+        }
+    }
+
     /**
      * Block waiting for up to the given timeout for the given Future to complete, returning its result.
      * @param future The future to wait for.
@@ -713,7 +960,7 @@ public class KafkaRoller {
     }
 
     protected KafkaAvailability availability(Admin ac) {
-        return new KafkaAvailability(ac, reconciliation);
+        return new KafkaAvailability(ac, reconciliation, clusterMetadata);
     }
 
     String podName(int podId) {
@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.operator.common.AdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
@@ -33,10 +34,11 @@ public class KafkaSetOperator extends StatefulSetOperator {
      * @param client The Kubernetes client
      * @param operationTimeoutMs The timeout.
      * @param adminClientProvider A provider for the AdminClient.
+     * @param metrics The metrics provider used to record the wait times.
      */
     public KafkaSetOperator(Vertx vertx, KubernetesClient client, long operationTimeoutMs,
-                            AdminClientProvider adminClientProvider) {
-        super(vertx, client, operationTimeoutMs);
+                            AdminClientProvider adminClientProvider, MetricsProvider metrics) {
+        super(vertx, client, operationTimeoutMs, metrics);
         this.adminClientProvider = adminClientProvider;
     }
 
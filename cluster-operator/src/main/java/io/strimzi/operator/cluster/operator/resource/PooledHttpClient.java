@@ -0,0 +1,137 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * HTTP client which keeps the connections to the REST APIs it talks to (for example Kafka Connect or Cruise Control)
+ * open and reuses them for the subsequent requests instead of opening a new TCP (and TLS) connection for every request.
+ * Vert.x keeps a separate connection pool for every target host and port, so the connections to one target never
+ * block the requests to another target.
+ *
+ * The client should be created once when the operator is created and shared by all its reconciliations. When created
+ * outside of a verticle, it is closed together with the Vert.x instance. When created inside a verticle, Vert.x closes
+ * it when the verticle is undeployed.
+ */
+public class PooledHttpClient {
+    /**
+     * Maximal number of connections opened to a single target
+     */
+    public static final int MAX_POOL_SIZE = 10;
+
+    /**
+     * Idle connections are closed after this timeout. It is shorter than the default idle timeout of the Jetty server
+     * used by Kafka Connect and Cruise Control (30 seconds), so that the client does not try to reuse connections which
+     * the server is just closing.
+     */
+    public static final int KEEP_ALIVE_TIMEOUT_SECONDS = 20;
+
+    /* test */ static final String CONNECTIONS_METRIC = AbstractOperator.METRICS_PREFIX + "http.client.connections";
+    /* test */ static final String OPEN_CONNECTIONS_METRIC = AbstractOperator.METRICS_PREFIX + "http.client.connections.open";
+    /* test */ static final String REQUESTS_METRIC = AbstractOperator.METRICS_PREFIX + "http.client.requests";
+
+    private final HttpClient httpClient;
+    private final Counter connections;
+    private final AtomicInteger openConnections;
+    private final Counter requests;
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vertx instance
+     * @param kind      Kind of the custom resources the client is used for (used to tag its metrics)
+     * @param options   Options of the client (typically based on {@link #defaultOptions()})
+     * @param metrics   Metrics provider (null if the metrics should not be collected)
+     */
+    public PooledHttpClient(Vertx vertx, String kind, HttpClientOptions options, MetricsProvider metrics) {
+        Tags tags = Tags.of(Tag.of("kind", kind));
+
+        if (metrics != null) {
+            this.connections = metrics.counter(CONNECTIONS_METRIC, "Number of connections opened by the HTTP client", tags);
+            this.openConnections = metrics.gauge(OPEN_CONNECTIONS_METRIC, "Number of connections currently open by the HTTP client", tags);
+            this.requests = metrics.counter(REQUESTS_METRIC, "Number of requests sent by the HTTP client", tags);
+        } else {
+            this.connections = null;
+            this.openConnections = null;
+            this.requests = null;
+        }
+
+        this.httpClient = vertx.createHttpClient(options)
+                .connectionHandler(connection -> {
+                    if (connections != null) {
+                        connections.increment();
+                    }
+
+                    if (openConnections != null) {
+                        openConnections.incrementAndGet();
+                        connection.closeHandler(ignored -> openConnections.decrementAndGet());
+                    }
+                });
+    }
+
+    /**
+     * Default options of the pooled HTTP clients. The connections are kept alive and reused. HTTP pipelining is
+     * disabled, because some REST API calls (for example creating or updating a connector while Kafka Connect is
+     * rebalancing) can take a long time and all requests pipelined behind them would have to wait for them.
+     * Instead, up to {@link #MAX_POOL_SIZE} requests are sent to a single target in parallel and the other requests
+     * wait for a free connection.
+     *
+     * @return  New instance of the default HTTP client options
+     */
+    public static HttpClientOptions defaultOptions() {
+        return new HttpClientOptions()
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS)
+                .setMaxPoolSize(MAX_POOL_SIZE)
+                .setPipelining(false);
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using the pooled HTTP client. Unlike with a dedicated
+     * client, the connection used by the operation is returned to the pool once the response is read.
+     *
+     * @param operation The operation to perform.
+     * @param <T> The type of the result
+     *
+     * @return A future which is completed with the result performed by the operation
+     */
+    public <T> Future<T> withHttpClient(BiConsumer<HttpClient, Promise<T>> operation) {
+        if (requests != null) {
+            requests.increment();
+        }
+
+        Promise<T> promise = Promise.promise();
+
+        try {
+            operation.accept(httpClient, promise);
+        } catch (Throwable t) {
+            promise.tryFail(t);
+        }
+
+        return promise.future();
+    }
+
+    /**
+     * Closes the client and all its pooled connections
+     *
+     * @return  Future which completes when the client is closed
+     */
+    public Future<Void> close() {
+        return httpClient.close();
+    }
+}
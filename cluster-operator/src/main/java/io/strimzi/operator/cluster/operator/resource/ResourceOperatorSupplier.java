@@ -27,6 +27,7 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -53,6 +54,10 @@ import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.vertx.core.Vertx;
 
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
 // Deprecation is suppressed because of KafkaConnectS2I
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
 public class ResourceOperatorSupplier {
@@ -105,27 +110,27 @@ public class ResourceOperatorSupplier {
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, ZookeeperLeaderFinder zlf,
                                     AdminClientProvider adminClientProvider, ZookeeperScalerProvider zkScalerProvider,
                                     MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, long operationTimeoutMs) {
-        this(new ServiceOperator(vertx, client),
-                pfa.hasRoutes() ? new RouteOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
-                new ZookeeperSetOperator(vertx, client, zlf, operationTimeoutMs),
-                new KafkaSetOperator(vertx, client, operationTimeoutMs, adminClientProvider),
+        this(new ServiceOperator(vertx, client, metricsProvider),
+                pfa.hasRoutes() ? new RouteOperator(vertx, client.adapt(OpenShiftClient.class), metricsProvider) : null,
+                new ZookeeperSetOperator(vertx, client, zlf, operationTimeoutMs, metricsProvider),
+                new KafkaSetOperator(vertx, client, operationTimeoutMs, adminClientProvider, metricsProvider),
                 new ConfigMapOperator(vertx, client),
                 new SecretOperator(vertx, client),
-                new PvcOperator(vertx, client),
-                new DeploymentOperator(vertx, client),
+                new PvcOperator(vertx, client, metricsProvider),
+                new DeploymentOperator(vertx, client, metricsProvider),
                 new ServiceAccountOperator(vertx, client),
                 new RoleBindingOperator(vertx, client),
                 new RoleOperator(vertx, client),
                 new ClusterRoleBindingOperator(vertx, client),
                 new NetworkPolicyOperator(vertx, client),
                 new PodDisruptionBudgetOperator(vertx, client),
-                new PodOperator(vertx, client),
-                new IngressOperator(vertx, client),
-                new IngressV1Beta1Operator(vertx, client),
+                new PodOperator(vertx, client, metricsProvider),
+                new IngressOperator(vertx, client, metricsProvider),
+                new IngressV1Beta1Operator(vertx, client, metricsProvider),
                 pfa.hasImages() ? new ImageStreamOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
                 pfa.hasBuilds() ? new BuildConfigOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
-                pfa.hasBuilds() ? new BuildOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
-                pfa.hasApps() ? new DeploymentConfigOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
+                pfa.hasBuilds() ? new BuildOperator(vertx, client.adapt(OpenShiftClient.class), metricsProvider) : null,
+                pfa.hasApps() ? new DeploymentConfigOperator(vertx, client.adapt(OpenShiftClient.class), metricsProvider) : null,
                 new CrdOperator<>(vertx, client, Kafka.class, KafkaList.class, Kafka.RESOURCE_KIND),
                 new CrdOperator<>(vertx, client, KafkaConnect.class, KafkaConnectList.class, KafkaConnect.RESOURCE_KIND),
                 pfa.hasBuilds() && pfa.hasApps() && pfa.hasImages() ? new CrdOperator<>(vertx, client.adapt(OpenShiftClient.class), KafkaConnectS2I.class, KafkaConnectS2IList.class, KafkaConnectS2I.RESOURCE_KIND) : null,
@@ -210,4 +215,46 @@ public class ResourceOperatorSupplier {
         this.metricsProvider = metricsProvider;
         this.adminClientProvider = adminClientProvider;
     }
+
+    /**
+     * Enables or disables the desired state hashing in the operators of the resources generated from the custom
+     * resources. Secrets are not included to not expose hashes of their content in the annotations. Pods and
+     * PersistentVolumeClaims are not included because their reconciliation depends on the state managed by Kubernetes.
+     * ServiceAccounts are never patched, so there is nothing to skip for them.
+     *
+     * @param enabled   True to enable the desired state hashing, false to disable it
+     */
+    public void setDesiredStateHashing(boolean enabled) {
+        for (AbstractResourceOperator<?, ?, ?, ?> operator : desiredStateHashingOperators()) {
+            if (operator != null) {
+                operator.setDesiredStateHashing(enabled);
+            }
+        }
+
+        clusterRoleBindingOperator.setDesiredStateHashing(enabled);
+    }
+
+    /**
+     * Forgets the desired states last applied to the resources of a deleted custom resource
+     *
+     * @param namespace Namespace of the deleted custom resource
+     * @param kind      Kind of the deleted custom resource
+     * @param name      Name of the deleted custom resource
+     */
+    public void forgetDesiredState(String namespace, String kind, String name) {
+        for (AbstractResourceOperator<?, ?, ?, ?> operator : desiredStateHashingOperators()) {
+            if (operator != null) {
+                operator.forgetDesiredState(namespace, kind, name);
+            }
+        }
+
+        clusterRoleBindingOperator.forgetDesiredState(namespace, kind, name);
+    }
+
+    private List<AbstractResourceOperator<?, ?, ?, ?>> desiredStateHashingOperators() {
+        return asList(serviceOperations, routeOperations, zkSetOperations,
+                kafkaSetOperations, configMapOperations, deploymentOperations, roleBindingOperations, roleOperations,
+                networkPolicyOperator, podDisruptionBudgetOperator, ingressOperations, ingressV1Beta1Operations,
+                imagesStreamOperations, buildConfigOperations, deploymentConfigOperations);
+    }
 }
@@ -18,6 +18,7 @@ import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.ClusterOperator;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractScalableResourceOperator;
@@ -58,7 +59,18 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
      * @param operationTimeoutMs The timeout.
      */
     public StatefulSetOperator(Vertx vertx, KubernetesClient client, long operationTimeoutMs) {
-        this(vertx, client, operationTimeoutMs, new PodOperator(vertx, client), new PvcOperator(vertx, client));
+        this(vertx, client, operationTimeoutMs, null);
+    }
+
+    /**
+     * Constructor
+     * @param vertx The Vertx instance.
+     * @param client The Kubernetes client.
+     * @param operationTimeoutMs The timeout.
+     * @param metrics The metrics provider used to record the wait times or null to not record them.
+     */
+    public StatefulSetOperator(Vertx vertx, KubernetesClient client, long operationTimeoutMs, MetricsProvider metrics) {
+        this(vertx, client, operationTimeoutMs, new PodOperator(vertx, client, metrics), new PvcOperator(vertx, client, metrics), metrics);
     }
 
     /**
@@ -70,7 +82,20 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
      */
     public StatefulSetOperator(Vertx vertx, KubernetesClient client, long operationTimeoutMs,
                                PodOperator podOperator, PvcOperator pvcOperator) {
-        super(vertx, client, "StatefulSet");
+        this(vertx, client, operationTimeoutMs, podOperator, pvcOperator, null);
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param client The Kubernetes client.
+     * @param operationTimeoutMs The timeout.
+     * @param podOperator The pod operator.
+     * @param pvcOperator The PVC operator.
+     * @param metrics The metrics provider used to record the wait times or null to not record them.
+     */
+    public StatefulSetOperator(Vertx vertx, KubernetesClient client, long operationTimeoutMs,
+                               PodOperator podOperator, PvcOperator pvcOperator, MetricsProvider metrics) {
+        super(vertx, client, "StatefulSet", metrics);
         this.secretOperations = new SecretOperator(vertx, client);
         this.podOperations = podOperator;
         this.operationTimeoutMs = operationTimeoutMs;
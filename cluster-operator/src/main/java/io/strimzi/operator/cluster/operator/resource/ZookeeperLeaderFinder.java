@@ -32,6 +32,7 @@ import java.security.cert.CertificateFactory;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -39,19 +40,23 @@ import java.util.regex.Pattern;
 import static java.lang.Integer.parseInt;
 
 /**
- * Helper class for finding the leader of a ZK cluster
+ * Helper class for finding the leader of a ZK cluster. The last known leader of every cluster is remembered across
+ * reconciliations. When it is known, it is validated with a single {@code stat} probe first and all the pods are
+ * scanned only when it is not the leader anymore.
  */
 public class ZookeeperLeaderFinder {
 
     private static final Logger log = LogManager.getLogger(ZookeeperLeaderFinder.class);
 
     private static final Pattern LEADER_MODE_PATTERN = Pattern.compile("^Mode: leader$", Pattern.MULTILINE);
+    private static final Pattern ZXID_PATTERN = Pattern.compile("^Zxid: 0x([0-9a-fA-F]+)$", Pattern.MULTILINE);
 
     public static final int UNKNOWN_LEADER = -1;
 
     private final Vertx vertx;
     final SecretOperator secretOperator;
     private final Supplier<BackOff> backOffSupplier;
+    private final Map<String, KnownLeader> knownLeaders = new ConcurrentHashMap<>();
 
     public ZookeeperLeaderFinder(Vertx vertx, SecretOperator secretOperator, Supplier<BackOff> backOffSupplier) {
         this.vertx = vertx;
@@ -133,7 +138,8 @@ public class ZookeeperLeaderFinder {
 
     /**
      * Returns a Future which completes with the the id of the Zookeeper leader.
-     * An exponential backoff is used if no ZK node is leader on the attempt to find it.
+     * If the last known leader of the cluster is still the leader, it is returned without checking the other pods.
+     * Otherwise an exponential backoff is used if no ZK node is leader on the attempt to find it.
      * If there is no leader after 3 attempts then the returned Future completes with {@link #UNKNOWN_LEADER}.
      */
     Future<Integer> findZookeeperLeader(String cluster, String namespace, List<Pod> pods, Secret coKeySecret) {
@@ -148,21 +154,65 @@ public class ZookeeperLeaderFinder {
             }
             try {
                 NetClientOptions netClientOptions = clientOptions(coKeySecret, clusterCaCertificateSecret);
-                return zookeeperLeader(cluster, namespace, pods, netClientOptions);
+                String key = namespace + "/" + cluster;
+                return knownLeader(key, pods, netClientOptions).compose(leader -> {
+                    if (leader != UNKNOWN_LEADER) {
+                        return Future.succeededFuture(leader);
+                    } else {
+                        return zookeeperLeader(cluster, namespace, pods, netClientOptions);
+                    }
+                });
             } catch (Throwable e) {
                 return Future.failedFuture(e);
             }
         });
 
     }
+
+    /**
+     * Checks whether the last known leader of the cluster is still the leader in the same or a newer epoch.
+     * Forgets it otherwise.
+     *
+     * @return Future which completes with the id of the last known leader if it is still the leader or with
+     * {@link #UNKNOWN_LEADER} otherwise.
+     */
+    private Future<Integer> knownLeader(String key, List<Pod> pods, NetClientOptions netClientOptions) {
+        KnownLeader known = knownLeaders.get(key);
+        if (known == null) {
+            return Future.succeededFuture(UNKNOWN_LEADER);
+        }
+
+        for (int i = 0; i < pods.size(); i++) {
+            final int podNum = i;
+            Pod pod = pods.get(i);
+            if (known.podName.equals(pod.getMetadata().getName())) {
+                return stat(pod, netClientOptions).map(stat -> {
+                    if (stat.isLeader && stat.epoch >= known.epoch) {
+                        log.debug("Pod {} is still leader", known.podName);
+                        knownLeaders.put(key, new KnownLeader(known.podName, stat.epoch));
+                        return podNum;
+                    } else {
+                        log.info("Pod {} is not leader anymore", known.podName);
+                        knownLeaders.remove(key, known);
+                        return UNKNOWN_LEADER;
+                    }
+                });
+            }
+        }
+
+        knownLeaders.remove(key, known);
+        return Future.succeededFuture(UNKNOWN_LEADER);
+    }
+
     private Future<Integer> zookeeperLeader(String cluster, String namespace, List<Pod> pods,
                                             NetClientOptions netClientOptions) {
+        String key = namespace + "/" + cluster;
         Promise<Integer> result = Promise.promise();
         BackOff backOff = backOffSupplier.get();
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long tid) {
-                zookeeperLeader(pods, netClientOptions).onComplete(leader -> {
+                zookeeperLeader(key, pods, netClientOptions).onComplete(leader -> {
                     if (leader.succeeded()) {
                         if (leader.result() != UNKNOWN_LEADER) {
                             result.complete(leader.result());
@@ -205,9 +255,9 @@ public class ZookeeperLeaderFinder {
 
     /**
      * Synchronously find the leader by testing each pod in the given list
-     * using {@link #isLeader(Pod, NetClientOptions)}.
+     * using {@link #stat(Pod, NetClientOptions)} and remember it as the known leader.
      */
-    private Future<Integer> zookeeperLeader(List<Pod> pods, NetClientOptions netClientOptions) {
+    private Future<Integer> zookeeperLeader(String key, List<Pod> pods, NetClientOptions netClientOptions) {
         try {
             Future<Integer> f = Future.succeededFuture(UNKNOWN_LEADER);
             for (int i = 0; i < pods.size(); i++) {
@@ -217,9 +267,10 @@ public class ZookeeperLeaderFinder {
                 f = f.compose(leader -> {
                     if (leader == UNKNOWN_LEADER) {
                         log.debug("Checker whether {} is leader", podName);
-                        return isLeader(pod, netClientOptions).map(isLeader -> {
-                            if (isLeader != null && isLeader) {
+                        return stat(pod, netClientOptions).map(stat -> {
+                            if (stat.isLeader) {
                                 log.info("Pod {} is leader", podName);
+                                knownLeaders.put(key, new KnownLeader(podName, stat.epoch));
                                 return podNum;
                             } else {
                                 log.info("Pod {} is not a leader", podName);
@@ -238,11 +289,11 @@ public class ZookeeperLeaderFinder {
     }
 
     /**
-     * Returns whether the given pod is the zookeeper leader.
+     * Returns whether the given pod is the zookeeper leader and the epoch it knows.
      */
-    protected Future<Boolean> isLeader(Pod pod, NetClientOptions netClientOptions) {
+    protected Future<Stat> stat(Pod pod, NetClientOptions netClientOptions) {
 
-        Promise<Boolean> promise = Promise.promise();
+        Promise<Stat> promise = Promise.promise();
         String host = host(pod);
         int port = port(pod);
         log.debug("Connecting to zookeeper on {}:{}", host, port);
@@ -270,10 +321,9 @@ public class ZookeeperLeaderFinder {
                     });
                     socket.closeHandler(v -> {
                         vertx.cancelTimer(timerId);
-                        Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
-                        boolean isLeader = matcher.find();
-                        log.debug("ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
-                        if (!promise.tryComplete(isLeader)) {
+                        Stat stat = Stat.parse(sb);
+                        log.debug("ZK {}:{}: {} leader in epoch {}", host, port, stat.isLeader ? "is" : "is not", stat.epoch);
+                        if (!promise.tryComplete(stat)) {
                             log.debug("ZK {}:{}: Ignoring leader result: Future is already complete",
                                     host, port);
                         }
@@ -290,10 +340,57 @@ public class ZookeeperLeaderFinder {
             });
         return promise.future().recover(error -> {
             log.debug("ZK {}:{}: Error trying to determine whether leader ({}) => not leader", host, port, error);
-            return Future.succeededFuture(Boolean.FALSE);
+            return Future.succeededFuture(Stat.NOT_LEADER);
         });
     }
 
+    /**
+     * The parts of the ZooKeeper {@code stat} output used to find the leader
+     */
+    protected static class Stat {
+        static final Stat NOT_LEADER = new Stat(false, -1L);
+
+        final boolean isLeader;
+        /**
+         * The epoch from the high 32 bits of the last zxid seen by the server or -1 if it is not known
+         */
+        final long epoch;
+
+        public Stat(boolean isLeader, long epoch) {
+            this.isLeader = isLeader;
+            this.epoch = epoch;
+        }
+
+        static Stat parse(CharSequence stat) {
+            boolean isLeader = LEADER_MODE_PATTERN.matcher(stat).find();
+            long epoch = -1L;
+
+            Matcher zxid = ZXID_PATTERN.matcher(stat);
+            if (zxid.find()) {
+                try {
+                    epoch = Long.parseUnsignedLong(zxid.group(1), 16) >>> 32;
+                } catch (NumberFormatException e) {
+                    log.debug("Ignoring invalid zxid {}", zxid.group(1));
+                }
+            }
+
+            return new Stat(isLeader, epoch);
+        }
+    }
+
+    /**
+     * The last known leader of a cluster
+     */
+    private static class KnownLeader {
+        final String podName;
+        final long epoch;
+
+        KnownLeader(String podName, long epoch) {
+            this.podName = podName;
+            this.epoch = epoch;
+        }
+    }
+
     /** The hostname for connecting to zookeeper in the given pod. */
     protected String host(Pod pod) {
         String cluster = Labels.cluster(pod);
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -36,9 +37,11 @@ public class ZookeeperSetOperator extends StatefulSetOperator {
      * @param client The Kubernetes client
      * @param leaderFinder The Zookeeper leader finder.
      * @param operationTimeoutMs The timeout.
+     * @param metrics The metrics provider used to record the wait times.
      */
-    public ZookeeperSetOperator(Vertx vertx, KubernetesClient client, ZookeeperLeaderFinder leaderFinder, long operationTimeoutMs) {
-        super(vertx, client, operationTimeoutMs);
+    public ZookeeperSetOperator(Vertx vertx, KubernetesClient client, ZookeeperLeaderFinder leaderFinder, long operationTimeoutMs,
+                                MetricsProvider metrics) {
+        super(vertx, client, operationTimeoutMs, metrics);
         this.leaderFinder = leaderFinder;
     }
 
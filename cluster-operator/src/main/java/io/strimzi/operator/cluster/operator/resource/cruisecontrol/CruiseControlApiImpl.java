@@ -4,26 +4,35 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.PooledHttpClient;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
 public class CruiseControlApiImpl implements CruiseControlApi {
+    private static final Logger log = LogManager.getLogger(CruiseControlApiImpl.class);
 
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1; // use default internal HTTP client timeout
     private static final String STATUS_KEY = "Status";
     private static final String SUMMARY_KEY = "summary";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
 
-    private final Vertx vertx;
+    private final PooledHttpClient httpClient;
     private final long idleTimeout;
 
     public CruiseControlApiImpl(Vertx vertx) {
@@ -31,10 +40,35 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     }
 
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout) {
-        this.vertx = vertx;
+        this(pooledHttpClient(vertx, null), idleTimeout);
+    }
+
+    public CruiseControlApiImpl(PooledHttpClient httpClient) {
+        this(httpClient, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * @param httpClient    The pooled HTTP client shared by the Cruise Control API clients (see {@link #pooledHttpClient})
+     * @param idleTimeout   The idle timeout of the requests in seconds
+     */
+    public CruiseControlApiImpl(PooledHttpClient httpClient, int idleTimeout) {
+        this.httpClient = httpClient;
         this.idleTimeout = idleTimeout;
     }
 
+    /**
+     * Creates the pooled HTTP client for the Cruise Control REST API
+     *
+     * @param vertx     The Vertx instance
+     * @param metrics   Metrics provider (null if the metrics should not be collected)
+     *
+     * @return  The pooled HTTP client
+     */
+    public static PooledHttpClient pooledHttpClient(Vertx vertx, MetricsProvider metrics) {
+        return new PooledHttpClient(vertx, "KafkaRebalance",
+                PooledHttpClient.defaultOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING), metrics);
+    }
+
     @Override
     public Future<CruiseControlResponse> getCruiseControlState(String host, int port, boolean verbose) {
         return getCruiseControlState(host, port, verbose, null);
@@ -49,9 +83,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .addParameter(CruiseControlParameters.VERBOSE, String.valueOf(verbose))
                 .build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClient.withHttpClient((httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().send(response -> {
@@ -108,9 +140,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .addRebalanceParameters(rbOptions)
                 .build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClient.withHttpClient((httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
@@ -197,9 +227,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         String path = pathBuilder.build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClient.withHttpClient((httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().send(response -> {
@@ -215,28 +243,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                                 "Error for request: " + host + ":" + port + path + ". Server returned: " +
                                                         json.getString(CC_REST_API_ERROR_KEY)));
                                     }
-                                    JsonObject statusJson = new JsonObject();
-                                    String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                                    statusJson.put(STATUS_KEY, taskStatusStr);
-                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                                    switch (taskStatus) {
-                                        case ACTIVE:
-                                            // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                            break;
-                                        case IN_EXECUTION:
-                                            // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                            // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                        case COMPLETED:
-                                            // Completed tasks will have the original rebalance proposal summary in their original response
-                                            statusJson.put(SUMMARY_KEY, ((JsonObject) Json.decodeValue(jsonUserTask.getString("originalResponse"))).getJsonObject(SUMMARY_KEY));
-                                            break;
-                                        case COMPLETED_WITH_ERROR:
-                                            // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                            statusJson.put(SUMMARY_KEY, jsonUserTask.getString("originalResponse"));
-                                            break;
-                                        default:
-                                            throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                                    }
+                                    JsonObject statusJson = userTaskStatusJson(jsonUserTask);
                                     result.complete(new CruiseControlResponse(userTaskID, statusJson));
                                 });
                             } else if (response.result().statusCode() == 500) {
@@ -272,6 +279,108 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
+    /**
+     * Extracts the status and the summary of the original response of the task from the user task JSON
+     *
+     * @param jsonUserTask  The user task JSON from the response of the user tasks endpoint
+     *
+     * @return  JSON with the task status and summary
+     */
+    private static JsonObject userTaskStatusJson(JsonObject jsonUserTask) {
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                statusJson.put(SUMMARY_KEY, ((JsonObject) Json.decodeValue(jsonUserTask.getString("originalResponse"))).getJsonObject(SUMMARY_KEY));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(SUMMARY_KEY, jsonUserTask.getString("originalResponse"));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+        return statusJson;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Future<Map<String, CruiseControlResponse>> getUserTasksStatus(String host, int port, Collection<String> userTaskIds) {
+
+        String path = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
+                        .addParameter(CruiseControlParameters.JSON, "true")
+                        .addParameter(CruiseControlParameters.FETCH_COMPLETE, "true")
+                        .addParameter(CruiseControlParameters.USER_TASK_IDS, new ArrayList<>(userTaskIds))
+                        .build();
+
+        return httpClient.withHttpClient((httpClient, result) -> {
+            httpClient.request(HttpMethod.GET, port, host, path, request -> {
+                if (request.succeeded()) {
+                    request.result().send(response -> {
+                        if (response.succeeded()) {
+                            if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
+                                response.result().bodyHandler(buffer -> {
+                                    try {
+                                        JsonArray jsonUserTasks = buffer.toJsonObject().getJsonArray("userTasks");
+                                        Map<String, CruiseControlResponse> statuses = new HashMap<>(jsonUserTasks.size());
+                                        for (int i = 0; i < jsonUserTasks.size(); i++) {
+                                            JsonObject jsonUserTask = jsonUserTasks.getJsonObject(i);
+                                            String userTaskId = jsonUserTask.getString(USER_TASK_ID_KEY);
+                                            try {
+                                                statuses.put(userTaskId, new CruiseControlResponse(userTaskId, userTaskStatusJson(jsonUserTask)));
+                                            } catch (RuntimeException e) {
+                                                // The other user tasks in the response are still passed on
+                                                log.warn("Ignoring the state of user task {} from {}:{}: {}", userTaskId, host, port, e.getMessage());
+                                            }
+                                        }
+                                        result.complete(statuses);
+                                    } catch (RuntimeException e) {
+                                        result.fail(new CruiseControlRestException(
+                                                "Error for request: " + host + ":" + port + path + ". Unexpected response: " + e.getMessage()));
+                                    }
+                                });
+                            } else if (response.result().statusCode() == 500) {
+                                response.result().bodyHandler(buffer -> {
+                                    JsonObject json = buffer.toJsonObject();
+                                    String errorString;
+                                    if (json.containsKey(CC_REST_API_ERROR_KEY)) {
+                                        errorString = json.getString(CC_REST_API_ERROR_KEY);
+                                    } else {
+                                        errorString = json.toString();
+                                    }
+                                    result.fail(new CruiseControlRestException(
+                                            "Error for request: " + host + ":" + port + path + ". Server returned: " + errorString));
+                                });
+                            } else {
+                                result.fail(new CruiseControlRestException(
+                                        "Unexpected status code " + response.result().statusCode() + " for GET request to " +
+                                                host + ":" + port + path));
+                            }
+                        } else {
+                            result.fail(response.cause());
+                        }
+                    });
+
+                    if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
+                        request.result().setTimeout(idleTimeout * 1000);
+                    }
+
+                } else {
+                    httpExceptionHandler(result, request.cause());
+                }
+            });
+        });
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> stopExecution(String host, int port) {
@@ -279,9 +388,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         String path = new PathBuilder(CruiseControlEndpoints.STOP)
                         .addParameter(CruiseControlParameters.JSON, "true").build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClient.withHttpClient((httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().send(response -> {
@@ -317,7 +424,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
-    private void httpExceptionHandler(Promise<? extends CruiseControlResponse> result, Throwable t) {
+    private void httpExceptionHandler(Promise<?> result, Throwable t) {
         if (t instanceof TimeoutException) {
             // Vert.x throws a NoStackTraceTimeoutException (inherits from TimeoutException) when the request times out
             // so we catch and raise a TimeoutException instead
@@ -0,0 +1,254 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Periodically polls a Cruise Control server on behalf of all the subscribers using it (e.g. the KafkaRebalance
+ * resources waiting for their rebalance proposals or rebalances). There is a single timer per Cruise Control server and
+ * the states of all the subscribed user tasks are fetched in a single request on every poll and dispatched to the
+ * subscribers. The next poll is scheduled as soon as the states are dispatched and does not wait for the subscribers.
+ * A subscriber which is still handling the previous poll is skipped until it completes.
+ *
+ * The poll interval adapts to the progress of the user tasks. It starts at the minimal interval and it is doubled up
+ * to the maximal interval whenever none of the user tasks changed its state. It is reset to the minimal interval when
+ * a user task changes its state or a new subscriber is added.
+ *
+ * Once the last subscriber is gone, the poller stops and notifies its stop handler. A stopped poller cannot be
+ * subscribed to anymore and a new poller has to be created instead.
+ */
+public class CruiseControlUserTasksPoller {
+    private static final Logger log = LogManager.getLogger(CruiseControlUserTasksPoller.class);
+
+    private static final String STATUS_KEY = "Status";
+
+    private final Vertx vertx;
+    private final CruiseControlApi apiClient;
+    private final String host;
+    private final int port;
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+    private final Handler<CruiseControlUserTasksPoller> stopHandler;
+
+    // Guarded by this
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private long intervalMs;
+    private boolean subscribed;
+    private boolean scheduled;
+    private boolean stopped;
+
+    /**
+     * Subscriber of the Cruise Control poller
+     */
+    @FunctionalInterface
+    public interface Subscriber {
+        /**
+         * Called on every poll
+         *
+         * @param userTaskStatus The state of the subscribed user task. It is succeeded with null when the subscription
+         *                       is not for a user task or when the Cruise Control server does not know the user task.
+         *                       It is failed when the state could not be fetched from the Cruise Control server.
+         *
+         * @return Future which completes with true when the subscriber does not want to be polled anymore and with
+         *         false otherwise.
+         */
+        Future<Boolean> poll(AsyncResult<CruiseControlResponse> userTaskStatus);
+    }
+
+    /**
+     * @param vertx         The Vertx instance
+     * @param apiClient     The Cruise Control REST API client
+     * @param host          The address of the Cruise Control server
+     * @param port          The port of the Cruise Control server
+     * @param minIntervalMs The minimal poll interval in milliseconds
+     * @param maxIntervalMs The maximal poll interval in milliseconds
+     */
+    public CruiseControlUserTasksPoller(Vertx vertx, CruiseControlApi apiClient, String host, int port,
+                                       long minIntervalMs, long maxIntervalMs) {
+        this(vertx, apiClient, host, port, minIntervalMs, maxIntervalMs, poller -> { });
+    }
+
+    /**
+     * @param vertx         The Vertx instance
+     * @param apiClient     The Cruise Control REST API client
+     * @param host          The address of the Cruise Control server
+     * @param port          The port of the Cruise Control server
+     * @param minIntervalMs The minimal poll interval in milliseconds
+     * @param maxIntervalMs The maximal poll interval in milliseconds
+     * @param stopHandler   Called with this poller once it stopped because it has no subscribers left
+     */
+    public CruiseControlUserTasksPoller(Vertx vertx, CruiseControlApi apiClient, String host, int port,
+                                       long minIntervalMs, long maxIntervalMs,
+                                       Handler<CruiseControlUserTasksPoller> stopHandler) {
+        this.vertx = vertx;
+        this.apiClient = apiClient;
+        this.host = host;
+        this.port = port;
+        this.minIntervalMs = minIntervalMs;
+        this.maxIntervalMs = maxIntervalMs;
+        this.intervalMs = minIntervalMs;
+        this.stopHandler = stopHandler;
+    }
+
+    /**
+     * Subscribes to the polls. The subscriber is polled until it completes the future returned from
+     * {@link Subscriber#poll(AsyncResult)} with true or fails it.
+     *
+     * @param userTaskId The user task whose state should be passed to the subscriber or null if the subscriber is not
+     *                   interested in any user task.
+     * @param subscriber The subscriber
+     *
+     * @return True if the subscriber was added. False if this poller already stopped.
+     */
+    public synchronized boolean subscribe(String userTaskId, Subscriber subscriber) {
+        if (stopped) {
+            return false;
+        }
+
+        subscriptions.add(new Subscription(userTaskId, subscriber));
+        subscribed = true;
+
+        if (!scheduled) {
+            scheduled = true;
+            intervalMs = minIntervalMs;
+            vertx.setTimer(intervalMs, t -> poll());
+        }
+
+        return true;
+    }
+
+    /**
+     * @return The number of the current subscribers
+     */
+    public synchronized int subscribers() {
+        return subscriptions.size();
+    }
+
+    private void poll() {
+        List<Subscription> polled;
+        synchronized (this) {
+            polled = new ArrayList<>(subscriptions.size());
+            for (Subscription subscription : subscriptions) {
+                if (!subscription.polling) {
+                    subscription.polling = true;
+                    polled.add(subscription);
+                }
+            }
+            subscribed = false;
+        }
+
+        Set<String> userTaskIds = new LinkedHashSet<>();
+        for (Subscription subscription : polled) {
+            if (subscription.userTaskId != null) {
+                userTaskIds.add(subscription.userTaskId);
+            }
+        }
+
+        Future<Map<String, CruiseControlResponse>> statuses;
+        if (userTaskIds.isEmpty()) {
+            statuses = Future.succeededFuture(Collections.emptyMap());
+        } else {
+            log.debug("Getting the state of user tasks {} from Cruise Control {}", userTaskIds, host);
+            statuses = apiClient.getUserTasksStatus(host, port, userTaskIds);
+        }
+
+        statuses.onComplete(result -> {
+            boolean changed = false;
+
+            for (Subscription subscription : polled) {
+                AsyncResult<CruiseControlResponse> userTaskStatus;
+                if (result.failed()) {
+                    userTaskStatus = Future.failedFuture(result.cause());
+                } else if (subscription.userTaskId == null) {
+                    userTaskStatus = Future.succeededFuture();
+                } else {
+                    CruiseControlResponse status = result.result().get(subscription.userTaskId);
+                    changed |= subscription.statusChanged(status);
+                    userTaskStatus = Future.succeededFuture(status);
+                }
+
+                poll(subscription, userTaskStatus);
+            }
+
+            scheduleNextPoll(changed);
+        });
+    }
+
+    private void poll(Subscription subscription, AsyncResult<CruiseControlResponse> userTaskStatus) {
+        Future<Boolean> finished;
+        try {
+            finished = subscription.subscriber.poll(userTaskStatus);
+        } catch (RuntimeException e) {
+            finished = Future.failedFuture(e);
+        }
+
+        finished.onComplete(done -> {
+            if (done.failed()) {
+                log.warn("Cruise Control {} subscriber failed and will not be polled anymore", host, done.cause());
+            }
+
+            synchronized (this) {
+                subscription.polling = false;
+                if (done.failed() || done.result()) {
+                    subscriptions.remove(subscription);
+                }
+            }
+        });
+    }
+
+    private void scheduleNextPoll(boolean progressed) {
+        synchronized (this) {
+            if (!subscriptions.isEmpty()) {
+                intervalMs = progressed || subscribed ? minIntervalMs : Math.min(intervalMs * 2, maxIntervalMs);
+                log.debug("Polling Cruise Control {} again in {}ms", host, intervalMs);
+                vertx.setTimer(intervalMs, t -> poll());
+                return;
+            }
+
+            log.debug("No subscribers of Cruise Control {} left, stopping the polls", host);
+            scheduled = false;
+            stopped = true;
+        }
+
+        stopHandler.handle(this);
+    }
+
+    private static class Subscription {
+        private final String userTaskId;
+        private final Subscriber subscriber;
+        private String lastStatus;
+        // Guarded by the poller, true while the subscriber handles a poll
+        private boolean polling;
+
+        Subscription(String userTaskId, Subscriber subscriber) {
+            this.userTaskId = userTaskId;
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * @return True if the state of the user task is different from the previous poll
+         */
+        boolean statusChanged(CruiseControlResponse response) {
+            String status = response != null ? response.getJson().getString(STATUS_KEY) : null;
+            boolean changed = !Objects.equals(status, lastStatus);
+            lastStatus = status;
+            return changed;
+        }
+    }
+}
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.InvalidConfigurationException;
@@ -81,7 +82,13 @@ public class ClusterOperatorConfigTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
                 "",
-                10);
+                10,
+                0,
+                ClusterOperatorConfig.DEFAULT_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT,
+                ClusterOperatorConfig.DEFAULT_QUEUED_RECONCILIATIONS_PER_SECOND,
+                0,
+                ClusterOperatorConfig.DEFAULT_MAX_ROLLING_BATCH_SIZE,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -115,6 +122,95 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
     }
 
+    @Test
+    public void testPeriodicReconciliationThrottling() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxPeriodicReconciliationsInFlight(), is(ClusterOperatorConfig.DEFAULT_MAX_PERIODIC_RECONCILIATIONS_IN_FLIGHT));
+        assertThat(config.getPeriodicReconciliationSpreadMs(), is(ClusterOperatorConfig.DEFAULT_PERIODIC_RECONCILIATION_SPREAD_MS));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_PERIODIC_RECONCILIATIONS_IN_FLIGHT, "5");
+        envVars.put(ClusterOperatorConfig.STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS, "20000");
+
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxPeriodicReconciliationsInFlight(), is(5));
+        assertThat(config.getPeriodicReconciliationSpreadMs(), is(20_000L));
+
+        // The spread has to be shorter than the reconciliation interval
+        envVars.put(ClusterOperatorConfig.STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS, "30000");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testMaxQueuedReconciliationsInFlight() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxQueuedReconciliationsInFlight(), is(ClusterOperatorConfig.DEFAULT_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT, "25");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxQueuedReconciliationsInFlight(), is(25));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT, "0");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxQueuedReconciliationsInFlight(), is(0));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testQueuedReconciliationsPerSecond() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getQueuedReconciliationsPerSecond(), is(ClusterOperatorConfig.DEFAULT_QUEUED_RECONCILIATIONS_PER_SECOND));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_QUEUED_RECONCILIATIONS_PER_SECOND, "5");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getQueuedReconciliationsPerSecond(), is(5));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_QUEUED_RECONCILIATIONS_PER_SECOND, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testMaxRollingBatchSize() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxRollingBatchSize(), is(ClusterOperatorConfig.DEFAULT_MAX_ROLLING_BATCH_SIZE));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_ROLLING_BATCH_SIZE, "3");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxRollingBatchSize(), is(3));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_ROLLING_BATCH_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testCertManager() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getCertManagerType(), is(ClusterOperatorConfig.DEFAULT_CERT_MANAGER));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "Java");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getCertManagerType(), is(CertManagerType.JAVA));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "openssl");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString(ClusterOperatorConfig.STRIMZI_CERT_MANAGER));
+    }
+
     private Map<String, String> envWithImages() {
         Map<String, String> envVars = new HashMap<>(5);
         envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_IMAGES, KafkaVersionTestUtils.getKafkaImagesEnvVarString());
@@ -20,11 +20,15 @@ public class FeatureGatesTest {
         assertThat(new FeatureGates("+ControlPlaneListener").controlPlaneListenerEnabled(), is(true));
         assertThat(new FeatureGates("  +ControlPlaneListener    ").controlPlaneListenerEnabled(), is(true));
         assertThat(new FeatureGates("-ControlPlaneListener").controlPlaneListenerEnabled(), is(false));
+        assertThat(new FeatureGates("+DesiredStateHashing").desiredStateHashingEnabled(), is(true));
+        assertThat(new FeatureGates("-DesiredStateHashing").desiredStateHashingEnabled(), is(false));
+        assertThat(new FeatureGates("+ControlPlaneListener,+DesiredStateHashing").desiredStateHashingEnabled(), is(true));
     }
 
     @ParallelTest
     public void testEmptyFeatureGates() {
         assertThat(new FeatureGates(null).controlPlaneListenerEnabled(), is(false));
+        assertThat(new FeatureGates(null).desiredStateHashingEnabled(), is(false));
         assertThat(new FeatureGates("").controlPlaneListenerEnabled(), is(false));
         assertThat(new FeatureGates(" ").controlPlaneListenerEnabled(), is(false));
         assertThat(new FeatureGates("    ").controlPlaneListenerEnabled(), is(false));
@@ -621,8 +621,8 @@ public class ResourceUtils {
         return new ZookeeperLeaderFinder(vertx, new SecretOperator(vertx, client),
             () -> new BackOff(5_000, 2, 4)) {
                 @Override
-                protected Future<Boolean> isLeader(Pod pod, NetClientOptions options) {
-                    return Future.succeededFuture(true);
+                protected Future<Stat> stat(Pod pod, NetClientOptions options) {
+                    return Future.succeededFuture(new Stat(true, 0L));
                 }
 
                 @Override
@@ -820,7 +820,13 @@ public class ResourceUtils {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
                 "",
-                10);
+                10,
+                0,
+                ClusterOperatorConfig.DEFAULT_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT,
+                ClusterOperatorConfig.DEFAULT_QUEUED_RECONCILIATIONS_PER_SECOND,
+                0,
+                ClusterOperatorConfig.DEFAULT_MAX_ROLLING_BATCH_SIZE,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfigRolesOnly(KafkaVersion.Lookup versions, long operationTimeoutMs) {
@@ -838,7 +844,13 @@ public class ResourceUtils {
                 ClusterOperatorConfig.RbacScope.NAMESPACE,
                 null,
                 "",
-                10);
+                10,
+                0,
+                ClusterOperatorConfig.DEFAULT_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT,
+                ClusterOperatorConfig.DEFAULT_QUEUED_RECONCILIATIONS_PER_SECOND,
+                0,
+                ClusterOperatorConfig.DEFAULT_MAX_ROLLING_BATCH_SIZE,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions) {
@@ -1722,6 +1722,10 @@ public class KafkaClusterTest {
         assertThat(rules.contains(cruiseControlPeer), is(true));
         assertThat(rules.contains(clusterOperatorPeer), is(true));
 
+        rules = np.getSpec().getIngress().stream().filter(ing -> ing.getPorts().get(0).getPort().equals(new IntOrString(KafkaCluster.KAFKA_AGENT_PORT))).map(NetworkPolicyIngressRule::getFrom).findFirst().orElse(null);
+
+        assertThat(rules, is(List.of(clusterOperatorPeer)));
+
         // Check Network Policies => Same namespace
         np = k.generateNetworkPolicy(namespace, null);
 
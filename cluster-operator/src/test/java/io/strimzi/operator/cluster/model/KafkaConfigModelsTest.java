@@ -0,0 +1,51 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ParallelSuite
+public class KafkaConfigModelsTest {
+    private final KafkaVersion kafkaVersion = KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion();
+
+    @ParallelTest
+    public void testConfigModelsAreCached() {
+        KafkaConfigModels models = KafkaConfigModels.forVersion(kafkaVersion);
+
+        assertThat(KafkaConfigModels.forVersion(kafkaVersion), is(sameInstance(models)));
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(models.configs())));
+        assertThrows(UnsupportedOperationException.class, () -> models.configs().remove("broker.id"));
+    }
+
+    @ParallelTest
+    public void testLookups() {
+        KafkaConfigModels models = KafkaConfigModels.forVersion(kafkaVersion);
+
+        assertThat(models.isKnown("log.retention.bytes"), is(true));
+        assertThat(models.get("log.retention.bytes"), is(notNullValue()));
+        assertThat(models.isKnown("foo.bar"), is(false));
+        assertThat(models.get("foo.bar"), is(nullValue()));
+
+        assertThat(models.withScope(Scope.READ_ONLY).contains("broker.id"), is(true));
+        assertThat(models.withScope(Scope.CLUSTER_WIDE).contains("log.retention.bytes"), is(true));
+        assertThat(models.withScope(Scope.PER_BROKER).contains("log.retention.bytes"), is(false));
+
+        for (Scope scope : Scope.values()) {
+            for (String name : models.withScope(scope)) {
+                assertThat(models.get(name).getScope(), is(scope));
+            }
+        }
+    }
+}
@@ -392,7 +392,13 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 Labels.fromMap(Map.of("selectorLabel", "value")),
                 "",
-                10);
+                10,
+                0,
+                ClusterOperatorConfig.DEFAULT_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT,
+                ClusterOperatorConfig.DEFAULT_QUEUED_RECONCILIATIONS_PER_SECOND,
+                0,
+                ClusterOperatorConfig.DEFAULT_MAX_ROLLING_BATCH_SIZE,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER);
 
         KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_19), certManager, passwordGenerator,
                 supplier, config);
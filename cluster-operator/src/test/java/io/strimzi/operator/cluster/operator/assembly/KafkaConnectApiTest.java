@@ -29,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -194,7 +195,17 @@ public class KafkaConnectApiTest {
                         "name", "test",
                         "topic", "my-topic")));
             })))
-            .compose(config -> client.getConnectorConfig(new BackOff(10), "localhost", PORT, "does-not-exist"))
+            .compose(config -> client.listWithConfigAndStatus("localhost", PORT))
+            .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                assertThat(connectors.keySet(), is(Collections.singleton("test")));
+                assertThat(connectors.get("test").config(), is(TestUtils.map("connector.class", "FileStreamSource",
+                        "file", "/dev/null",
+                        "tasks.max", "1",
+                        "name", "test",
+                        "topic", "my-topic")));
+                assertThat(((Map) connectors.get("test").status().get("connector")).get("state"), is("RUNNING"));
+            })))
+            .compose(connectors -> client.getConnectorConfig(new BackOff(10), "localhost", PORT, "does-not-exist"))
             .onComplete(context.failing(error -> context.verify(() -> {
                 assertThat(error, instanceOf(ConnectRestException.class));
                 assertThat(((ConnectRestException) error).getStatusCode(), is(404));
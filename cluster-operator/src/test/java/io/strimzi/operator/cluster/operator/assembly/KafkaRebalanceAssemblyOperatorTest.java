@@ -911,7 +911,13 @@ public class KafkaRebalanceAssemblyOperatorTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 Labels.fromMap(Map.of("selectorLabel", "value")),
                 "",
-                10);
+                10,
+                0,
+                ClusterOperatorConfig.DEFAULT_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT,
+                ClusterOperatorConfig.DEFAULT_QUEUED_RECONCILIATIONS_PER_SECOND,
+                0,
+                ClusterOperatorConfig.DEFAULT_MAX_ROLLING_BATCH_SIZE,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER);
 
         kcrao = new KafkaRebalanceAssemblyOperator(Vertx.vertx(), pfa, supplier, config);
 
@@ -0,0 +1,199 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "ns", "my-cluster");
+
+    private static Vertx vertx;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final MetricsProvider metrics = new MetricsProvider() {
+        @Override
+        public MeterRegistry meterRegistry() {
+            return registry;
+        }
+
+        @Override
+        public Counter counter(String name, String description, Tags tags) {
+            return Counter.builder(name).description(description).tags(tags).register(registry);
+        }
+
+        @Override
+        public Timer timer(String name, String description, Tags tags) {
+            return Timer.builder(name).description(description).tags(tags).register(registry);
+        }
+
+        @Override
+        public AtomicInteger gauge(String name, String description, Tags tags) {
+            return registry.gauge(name, tags, new AtomicInteger(0));
+        }
+    };
+
+    private final List<String> started = new ArrayList<>();
+    private final Map<String, Promise<Object>> running = new HashMap<>();
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private Function<Object, Future<Object>> step(String name) {
+        return state -> {
+            Promise<Object> promise = Promise.promise();
+            started.add(name);
+            running.put(name, promise);
+            return promise.future();
+        };
+    }
+
+    private double stepCount(String step) {
+        return registry.get(ReconciliationStepRecorder.STEP_DURATION_METRIC).tag("kind", "Kafka").tag("step", step).timer().count();
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently(VertxTestContext context) {
+        ReconciliationGraph<Object> graph = new ReconciliationGraph<>(vertx, new ReconciliationStepRecorder(metrics))
+                .add("a", step("a"))
+                .add("b", step("b"), "a")
+                .add("c", step("c"), "a")
+                .add("d", step("d"), "b", "c");
+
+        vertx.runOnContext(ignored -> context.verify(() -> {
+            Future<Void> result = graph.execute(RECONCILIATION, new Object());
+            assertThat(started, contains("a"));
+
+            running.get("a").complete();
+            assertThat(started, contains("a", "b", "c"));
+
+            running.get("c").complete();
+            assertThat(started, contains("a", "b", "c"));
+
+            running.get("b").complete();
+            assertThat(started, contains("a", "b", "c", "d"));
+            assertThat(result.isComplete(), is(false));
+
+            running.get("d").complete();
+            assertThat(result.succeeded(), is(true));
+
+            for (String step : List.of("a", "b", "c", "d")) {
+                assertThat(stepCount(step), is(1.0));
+            }
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testSequentialSteps(VertxTestContext context) {
+        ReconciliationGraph<Object> graph = new ReconciliationGraph<>(vertx, new ReconciliationStepRecorder(metrics))
+                .then("a", state -> Future.succeededFuture(state))
+                .then("b", step("b"))
+                .then("c", state -> Future.succeededFuture(state));
+
+        vertx.runOnContext(ignored -> context.verify(() -> {
+            Future<Void> result = graph.execute(RECONCILIATION, new Object());
+            assertThat(started, contains("b"));
+            assertThat(stepCount("a"), is(1.0));
+            assertThat(result.isComplete(), is(false));
+
+            running.get("b").complete();
+            assertThat(result.succeeded(), is(true));
+            assertThat(stepCount("c"), is(1.0));
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testFailureWaitsForRunningStepsAndStopsTheRest(VertxTestContext context) {
+        ReconciliationGraph<Object> graph = new ReconciliationGraph<>(vertx, new ReconciliationStepRecorder(metrics))
+                .add("a", step("a"))
+                .add("b", step("b"), "a")
+                .add("c", step("c"), "a")
+                .add("d", step("d"), "b")
+                .add("e", step("e"), "c");
+
+        vertx.runOnContext(ignored -> context.verify(() -> {
+            Future<Void> result = graph.execute(RECONCILIATION, new Object());
+            running.get("a").complete();
+            assertThat(started, contains("a", "b", "c"));
+
+            RuntimeException failure = new RuntimeException("b failed");
+            running.get("b").fail(failure);
+            assertThat(result.isComplete(), is(false));
+
+            running.get("c").fail(new RuntimeException("c failed"));
+            assertThat(result.failed(), is(true));
+            assertThat(result.cause(), is(failure));
+            assertThat(started, contains("a", "b", "c"));
+            assertThat(stepCount("b"), is(1.0));
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testStepThrowingException(VertxTestContext context) {
+        RuntimeException failure = new RuntimeException("a failed");
+        ReconciliationGraph<Object> graph = new ReconciliationGraph<>(vertx, new ReconciliationStepRecorder(null))
+                .then("a", state -> {
+                    throw failure;
+                })
+                .then("b", step("b"));
+
+        graph.execute(RECONCILIATION, new Object()).onComplete(context.failing(cause -> context.verify(() -> {
+            assertThat(cause, is(failure));
+            assertThat(started.isEmpty(), is(true));
+
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testInvalidDependencies() {
+        ReconciliationGraph<Object> graph = new ReconciliationGraph<>(vertx, new ReconciliationStepRecorder(metrics))
+                .add("a", step("a"));
+
+        assertThrows(IllegalArgumentException.class, () -> graph.add("a", step("a")));
+        assertThrows(IllegalArgumentException.class, () -> graph.add("b", step("b"), "c"));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+public class ReconciliationStepRecorderTest {
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final MetricsProvider metrics = new MetricsProvider() {
+        @Override
+        public MeterRegistry meterRegistry() {
+            return registry;
+        }
+
+        @Override
+        public Counter counter(String name, String description, Tags tags) {
+            return Counter.builder(name).description(description).tags(tags).register(registry);
+        }
+
+        @Override
+        public Timer timer(String name, String description, Tags tags) {
+            return Timer.builder(name).description(description).tags(tags).register(registry);
+        }
+
+        @Override
+        public AtomicInteger gauge(String name, String description, Tags tags) {
+            return registry.gauge(name, tags, new AtomicInteger(0));
+        }
+    };
+
+    private static Reconciliation reconciliation(String trigger, String name) {
+        return new Reconciliation(trigger, "KafkaConnect", "ns", name);
+    }
+
+    @Test
+    public void testSlowestStepsAreReportedForTheLatestReconciliationsFirst() {
+        ReconciliationStepRecorder recorder = new ReconciliationStepRecorder(metrics);
+
+        ReconciliationStepRecorder.Recording first = recorder.start(reconciliation("first", "my-connect"));
+        first.record("a", TimeUnit.MILLISECONDS.toNanos(10));
+
+        ReconciliationStepRecorder.Recording second = recorder.start(reconciliation("second", "my-connect"));
+        second.record("a", TimeUnit.MILLISECONDS.toNanos(10));
+        second.record("b", TimeUnit.MILLISECONDS.toNanos(30));
+        second.record("c", TimeUnit.MILLISECONDS.toNanos(20));
+
+        JsonArray report = recorder.report(1, 2).getJsonArray("ns/my-connect");
+        assertThat(report.size(), is(1));
+
+        JsonObject latest = report.getJsonObject(0);
+        assertThat(latest.getString("reconciliation"), containsString("(second)"));
+        assertThat(latest.getInteger("completedSteps"), is(3));
+
+        JsonArray slowest = latest.getJsonArray("slowestSteps");
+        assertThat(slowest.size(), is(2));
+        assertThat(slowest.getJsonObject(0).getString("step"), is("b"));
+        assertThat(slowest.getJsonObject(0).getLong("durationMs"), is(30L));
+        assertThat(slowest.getJsonObject(1).getString("step"), is("c"));
+
+        assertThat(registry.get(ReconciliationStepRecorder.STEP_DURATION_METRIC)
+                .tag("kind", "KafkaConnect").tag("step", "a").timer().count(), is(2L));
+    }
+
+    @Test
+    public void testHistoryIsLimited() {
+        ReconciliationStepRecorder recorder = new ReconciliationStepRecorder(null);
+
+        for (int i = 0; i < ReconciliationStepRecorder.HISTORY_SIZE + 5; i++) {
+            recorder.start(reconciliation("trigger-" + i, "my-connect")).record("a", 1);
+        }
+
+        JsonArray report = recorder.report(Integer.MAX_VALUE, 5).getJsonArray("ns/my-connect");
+        assertThat(report.size(), is(ReconciliationStepRecorder.HISTORY_SIZE));
+        assertThat(report.getJsonObject(0).getString("reconciliation"),
+                containsString("(trigger-" + (ReconciliationStepRecorder.HISTORY_SIZE + 4) + ")"));
+    }
+
+    @Test
+    public void testForget() {
+        ReconciliationStepRecorder recorder = new ReconciliationStepRecorder(null);
+        recorder.start(reconciliation("trigger", "my-connect")).record("a", 1);
+        recorder.start(reconciliation("trigger", "other-connect")).record("a", 1);
+
+        recorder.forget(reconciliation("delete", "my-connect"));
+
+        JsonObject report = recorder.report(5, 5);
+        assertThat(report.containsKey("ns/my-connect"), is(false));
+        assertThat(report.containsKey("ns/other-connect"), is(true));
+    }
+
+    @Test
+    public void testStepRecordsFailedSteps() {
+        ReconciliationStepRecorder recorder = new ReconciliationStepRecorder(metrics);
+        ReconciliationStepRecorder.Recording recording = recorder.start(reconciliation("trigger", "my-connect"));
+
+        Future<Void> result = recording.step("failing", () -> {
+            throw new RuntimeException("failed");
+        });
+
+        assertThat(result.failed(), is(true));
+        assertThat(recorder.report(1, 1).getJsonArray("ns/my-connect").getJsonObject(0).getInteger("completedSteps"), is(1));
+        assertThat(registry.get(ReconciliationStepRecorder.STEP_DURATION_METRIC)
+                .tag("kind", "KafkaConnect").tag("step", "failing").timer().count(), is(1L));
+    }
+}
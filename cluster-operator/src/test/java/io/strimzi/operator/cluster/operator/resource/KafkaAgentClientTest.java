@@ -0,0 +1,192 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.certs.CertAndKey;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.Subject;
+import io.strimzi.operator.cluster.model.Ca;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.ClientAuth;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.core.net.PfxOptions;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaAgentClientTest {
+    private static final String PASSWORD = "changeit";
+
+    private static CertAndKey clusterCa;
+    private static CertAndKey otherCa;
+    private static CertAndKey brokerCert;
+    private static CertAndKey coCert;
+
+    private Vertx vertx;
+    private HttpServer server;
+    private volatile String response;
+
+    @BeforeAll
+    public static void generateCertificates() throws IOException {
+        OpenSslCertManager certManager = new OpenSslCertManager();
+        clusterCa = generateCa(certManager, "cluster-ca");
+        otherCa = generateCa(certManager, "other-ca");
+        brokerCert = certManager.generateSignedCert(subject("my-cluster-kafka", "localhost"), clusterCa.key(), clusterCa.cert(), 1, PASSWORD);
+        coCert = certManager.generateSignedCert(subject("cluster-operator", null), clusterCa.key(), clusterCa.cert(), 1, PASSWORD);
+    }
+
+    private static CertAndKey generateCa(OpenSslCertManager certManager, String commonName) throws IOException {
+        File keyFile = File.createTempFile("tls", "ca-key");
+        File certFile = File.createTempFile("tls", "ca-cert");
+        try {
+            certManager.generateSelfSignedCert(keyFile, certFile, subject(commonName, null), 1);
+            return new CertAndKey(Files.readAllBytes(keyFile.toPath()), Files.readAllBytes(certFile.toPath()));
+        } finally {
+            Files.deleteIfExists(keyFile.toPath());
+            Files.deleteIfExists(certFile.toPath());
+        }
+    }
+
+    private static Subject subject(String commonName, String dnsName) {
+        Subject subject = new Subject();
+        subject.setOrganizationName("io.strimzi");
+        subject.setCommonName(commonName);
+        if (dnsName != null) {
+            subject.setSubjectAltNames(Map.of("DNS.1", dnsName));
+        }
+        return subject;
+    }
+
+    @BeforeEach
+    public void before() throws Exception {
+        vertx = Vertx.vertx();
+        // The broker presents its certificate and requires a client certificate signed by the cluster CA like the Kafka agent
+        HttpServerOptions options = new HttpServerOptions()
+                .setSsl(true)
+                .setKeyCertOptions(new PfxOptions().setValue(Buffer.buffer(brokerCert.keyStore())).setPassword(PASSWORD))
+                .setTrustOptions(new PemTrustOptions().addCertValue(Buffer.buffer(clusterCa.cert())))
+                .setClientAuth(ClientAuth.REQUIRED);
+        server = vertx.createHttpServer(options)
+                .requestHandler(request -> {
+                    if (KafkaAgentClient.BROKER_STATE_PATH.equals(request.path()) && response != null) {
+                        request.response().putHeader("Content-Type", "application/json").end(response);
+                    } else {
+                        request.response().setStatusCode(404).end();
+                    }
+                });
+        server.listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    public void after(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void testRecoveringBroker() throws IOException {
+        response = "{\"brokerState\":2,\"sessionState\":\"CONNECTED\",\"remainingLogsToRecover\":5,\"remainingSegmentsToRecover\":40," +
+                "\"transitions\":[{\"brokerState\":1,\"timestamp\":1000},{\"brokerState\":2,\"timestamp\":2000}]}";
+
+        KafkaAgentClient.BrokerState state = client(clusterCa).brokerState("localhost");
+
+        assertThat(state.isRecovering(), is(true));
+        assertThat(state.getSessionState(), is("CONNECTED"));
+        assertThat(state.getRemainingLogsToRecover(), is(5));
+        assertThat(state.getRemainingSegmentsToRecover(), is(40));
+        assertThat(state.getUnderReplicatedPartitions(), is(nullValue()));
+        assertThat(state.getActiveController(), is(nullValue()));
+        assertThat(state.getTransitions().size(), is(2));
+        assertThat(state.getTransitions().get(1).getBrokerState(), is(2));
+        assertThat(state.getTransitions().get(1).getTimestamp(), is(2000L));
+    }
+
+    @Test
+    public void testRunningBroker() throws IOException {
+        response = "{\"brokerState\":3,\"underReplicatedPartitions\":1,\"offlinePartitions\":0,\"activeController\":true,\"transitions\":[]}";
+
+        KafkaAgentClient.BrokerState state = client(clusterCa).brokerState("localhost");
+
+        assertThat(state.isRecovering(), is(false));
+        assertThat(state.isRecoveryProgressing(null), is(false));
+        assertThat(state.getUnderReplicatedPartitions(), is(1));
+        assertThat(state.getOfflinePartitions(), is(0));
+        assertThat(state.getActiveController(), is(true));
+    }
+
+    @Test
+    public void testRecoveryProgress() {
+        KafkaAgentClient.BrokerState previous = recovering(10, 100);
+
+        assertThat(previous.isRecoveryProgressing(null), is(true));
+        assertThat(recovering(10, 90).isRecoveryProgressing(previous), is(true));
+        assertThat(recovering(10, 100).isRecoveryProgressing(previous), is(false));
+        assertThat(recovering(9, null).isRecoveryProgressing(recovering(10, null)), is(true));
+        // Kafka versions which do not report the progress
+        assertThat(recovering(null, null).isRecoveryProgressing(recovering(null, null)), is(true));
+    }
+
+    @Test
+    public void testUnexpectedResponse() {
+        response = null;
+        assertThrows(IOException.class, () -> client(clusterCa).brokerState("localhost"));
+    }
+
+    @Test
+    public void testUntrustedBroker() {
+        response = "{\"brokerState\":3}";
+        assertThrows(IOException.class, () -> client(otherCa).brokerState("localhost"));
+    }
+
+    private KafkaAgentClient client(CertAndKey trustedCa) {
+        Secret clusterCaCertSecret = new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-ca-cert")
+                .endMetadata()
+                .withData(Map.of(Ca.CA_CRT, base64(trustedCa.cert())))
+                .build();
+        Secret coKeySecret = new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-operator-certs")
+                .endMetadata()
+                .withData(Map.of("cluster-operator.p12", base64(coCert.keyStore()),
+                        "cluster-operator.password", base64(PASSWORD.getBytes())))
+                .build();
+        return new KafkaAgentClient(server.actualPort(), clusterCaCertSecret, coKeySecret);
+    }
+
+    private static String base64(byte[] bytes) {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static KafkaAgentClient.BrokerState recovering(Integer remainingLogs, Integer remainingSegments) {
+        KafkaAgentClient.BrokerState state = new KafkaAgentClient.BrokerState();
+        state.setBrokerState(KafkaAgentClient.BrokerState.RECOVERY);
+        state.setRemainingLogsToRecover(remainingLogs);
+        state.setRemainingSegmentsToRecover(remainingSegments);
+        return state;
+    }
+}
@@ -33,6 +33,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -42,6 +43,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -382,6 +385,45 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testAtMinIsrWithRollingBrokers(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(6);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ksb.ac(), null);
+
+        Checkpoint a = context.checkpoint(ksb.brokers.size());
+        for (Integer brokerId : ksb.brokers.keySet()) {
+            kafkaAvailability.canRoll(brokerId, Set.of(0)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                if (brokerId == 1 || brokerId == 2) {
+                    assertFalse(canRoll,
+                            "broker " + brokerId + " should not be rollable together with broker 0, being minisr = 2 and sharing the isr with broker 0");
+                } else {
+                    assertTrue(canRoll,
+                            "broker " + brokerId + " should be rollable together with broker 0, not sharing any isr with it");
+                }
+                a.flag();
+            })));
+        }
+    }
+
     @Test
     public void testMinIsrEqualsReplicas(VertxTestContext context) {
         KSB ksb = new KSB()
@@ -533,6 +575,67 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testMetadataAreCachedAndRefreshedIncrementally(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaClusterMetadata metadata = new KafkaClusterMetadata(60_000, 600_000);
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac, null, metadata);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(1)
+            .compose(canRoll -> {
+                context.verify(() -> {
+                    assertTrue(canRoll, "broker 1 should be rollable, being minisr = 2 and having three brokers in the isr");
+                    verify(ac, times(1)).listTopics(any());
+                    verify(ac, times(1)).describeTopics(any());
+                    verify(ac, times(1)).describeConfigs(any());
+                });
+
+                // Broker 0 was restarted and is not in the ISR anymore
+                ksb.addNewTopic("A", false).addNewPartition(0).leader(1).isr(1, 2);
+                metadata.invalidate(0);
+
+                return kafkaAvailability.canRoll(1);
+            })
+            .compose(canRoll -> {
+                context.verify(() -> {
+                    assertFalse(canRoll, "broker 1 should not be rollable, being minisr = 2 and having two brokers in the isr");
+                    // Only the topics on the invalidated broker are described again and the configs are cached
+                    verify(ac, times(2)).listTopics(any());
+                    verify(ac, times(1)).describeTopics(Set.of("A"));
+                    verify(ac, times(1)).describeConfigs(any());
+                });
+
+                return kafkaAvailability.canRoll(3);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertTrue(canRoll, "broker 3 should be rollable, being minisr = 2 and having three brokers in the isr");
+                // The topic descriptions are still fresh, only the configs of the topics on broker 3 are needed
+                verify(ac, times(2)).listTopics(any());
+                verify(ac, times(2)).describeTopics(any());
+                verify(ac, times(2)).describeConfigs(any());
+                a.flag();
+            })));
+    }
+
     // TODO when AC throws various exceptions (e.g. UnknownTopicOrPartitionException)
     @Test
     public void testCanRollThrowsTimeoutExceptionWhenTopicsListThrowsException(VertxTestContext context) {
@@ -0,0 +1,127 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.model.OrderedProperties;
+import io.strimzi.test.TestUtils;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
+/**
+ * Compares the key-indexed {@link KafkaBrokerConfigurationDiff} with the previously used approach of computing the
+ * JSON Patch between the current and desired broker configurations and looking up every patched config in the current
+ * broker configuration. The compared configurations are the same as in {@code KafkaBrokerConfigurationDiffTest}.
+ *
+ * This is not a unit test and is not run by the build. Run it with the test classpath of this module, for example
+ * from the IDE using the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaBrokerConfigurationDiffBenchmark {
+    private static final int BROKER_ID = 0;
+
+    /**
+     * unchanged: the desired configuration is the same as the current one
+     * changed: some dynamically updatable configs were changed, added and removed
+     */
+    @Param({"unchanged", "changed"})
+    public String scenario;
+
+    private final KafkaVersion kafkaVersion = KafkaVersionTestUtils.getKafkaVersionLookup().version("2.8.0");
+
+    private Config current;
+    private String desired;
+
+    @Setup
+    public void setup() {
+        List<ConfigEntry> entries = new ArrayList<>();
+        for (String line : TestUtils.readResource(getClass(), "/current-kafka-broker.conf").split("\n")) {
+            if (!line.isEmpty()) {
+                String[] split = line.split("=", 2);
+                entries.add(new ConfigEntry(split[0], split.length == 1 ? "" : split[1], true, true, false));
+            }
+        }
+
+        desired = TestUtils.readResource(getClass(), "/desired-kafka-broker.conf");
+
+        if ("changed".equals(scenario)) {
+            entries.add(new ConfigEntry("log.retention.bytes", "1000", false, false, false));
+            desired += "\nlog.retention.ms=10000\nlog.segment.bytes=20000\nunclean.leader.election.enable=true\n";
+        }
+
+        current = new Config(entries);
+    }
+
+    @Benchmark
+    public int keyIndexedDiff() {
+        return new KafkaBrokerConfigurationDiff(current, desired, kafkaVersion, BROKER_ID).getDiffSize();
+    }
+
+    @Benchmark
+    public int jsonPatchDiff() {
+        Map<String, String> currentMap = current.entries().stream().collect(
+                Collectors.toMap(ConfigEntry::name, entry -> entry.value() == null ? "null" : entry.value()));
+
+        OrderedProperties orderedProperties = new OrderedProperties();
+        orderedProperties.addStringPairs(desired);
+        Map<String, String> desiredMap = orderedProperties.asMap();
+        desiredMap.replaceAll((key, value) -> value.replaceAll("\\$\\{STRIMZI_BROKER_ID\\}", Integer.toString(BROKER_ID)));
+
+        JsonNode source = patchMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true).valueToTree(currentMap);
+        JsonNode target = patchMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true).valueToTree(desiredMap);
+
+        int found = 0;
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            String name = d.get("path").asText().substring(1);
+            Optional<ConfigEntry> entry = current.entries().stream()
+                    .filter(configEntry -> configEntry.name().equals(name))
+                    .findFirst();
+
+            if (entry.isPresent()) {
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KafkaBrokerConfigurationDiffBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -280,4 +280,20 @@ public class KafkaBrokerConfigurationDiffTest {
         assertThat(kcd.canBeUpdatedDynamically(), is(false));
     }
 
+    @Test
+    public void testChangedAddedAndRemovedConfigs() {
+        List<ConfigEntry> current = Arrays.asList(
+                new ConfigEntry("log.retention.bytes", "1000", false, false, false),
+                new ConfigEntry("log.retention.ms", "10000", false, false, false));
+        List<ConfigEntry> desired = Arrays.asList(
+                new ConfigEntry("log.retention.ms", "20000", false, false, false),
+                new ConfigEntry("log.segment.bytes", "30000", false, false, false));
+        KafkaBrokerConfigurationDiff kcd = new KafkaBrokerConfigurationDiff(getCurrentConfiguration(current),
+                getDesiredConfiguration(desired), kafkaVersion, brokerId);
+        assertThat(kcd.getDiffSize(), is(3));
+        assertThat(kcd.canBeUpdatedDynamically(), is(true));
+        assertConfig(kcd, new ConfigEntry("log.retention.bytes", null));
+        assertConfig(kcd, new ConfigEntry("log.retention.ms", "20000"));
+        assertConfig(kcd, new ConfigEntry("log.segment.bytes", "30000"));
+    }
 }
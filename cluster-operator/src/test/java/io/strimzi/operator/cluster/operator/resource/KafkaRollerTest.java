@@ -7,10 +7,13 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -24,11 +27,13 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -49,6 +54,7 @@ import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -56,6 +62,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -126,6 +133,73 @@ public class KafkaRollerTest {
                 asList(2, 3, 4, 0, 1));
     }
 
+    @Test
+    public void testRollInParallelWithinRacks(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        // The restarted pods get ready only after a while, so that the other pods from the same rack can join them
+        doAnswer(invocation -> {
+            Promise<Void> ready = Promise.promise();
+            vertx.setTimer(200, timerId -> ready.complete());
+            return ready.future();
+        }).when(podOps).readiness(any(), any(), anyLong(), anyLong());
+        restarted = Collections.synchronizedList(new ArrayList<>());
+        StatefulSet sts = buildStatefulSet();
+        Map<Integer, String> racks = Map.of(0, "zone-a", 1, "zone-b", 2, "zone-c", 3, "zone-a", 4, "zone-b");
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true),
+            2, racks, 2);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> {
+                testContext.verify(() -> {
+                    assertThat(restarted().size(), is(5));
+                    assertThat(new HashSet<>(restarted()), is(Set.of(0, 1, 2, 3, 4)));
+                    // The controller is still rolled last
+                    assertThat(restarted().get(4), is(2));
+                    // Only the pods from the same rack were rolled together
+                    assertThat(kafkaRoller.batches, is(asList(Set.of(0, 3), Set.of(1, 4))));
+                });
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            }));
+    }
+
+    @Test
+    public void testSlowBatchCheckDoesNotBlockFinishedPods(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        doAnswer(invocation -> {
+            Promise<Void> ready = Promise.promise();
+            vertx.setTimer(200, timerId -> ready.complete());
+            return ready.future();
+        }).when(podOps).readiness(any(), any(), anyLong(), anyLong());
+        restarted = Collections.synchronizedList(new ArrayList<>());
+        StatefulSet sts = buildStatefulSet();
+        Map<Integer, String> racks = Map.of(0, "zone-a", 1, "zone-b", 2, "zone-c", 3, "zone-a", 4, "zone-b");
+        // The check of pod 3 completes only once pod 1 is checked, which happens only after pod 0 finished rolling
+        Promise<Boolean> pod3Rollable = Promise.promise();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> {
+                if (brokerId == 3) {
+                    return pod3Rollable.future();
+                } else if (brokerId == 1) {
+                    pod3Rollable.tryComplete(true);
+                }
+                return succeededFuture(true);
+            },
+            3, racks, 2);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> {
+                testContext.verify(() -> assertThat(new HashSet<>(restarted()), is(Set.of(0, 1, 2, 3, 4))));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            }));
+    }
+
     @Test
     public void pod0NotReadyAfterRolling(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId ->
@@ -141,6 +215,68 @@ public class KafkaRollerTest {
         // TODO assert subsequent rolls
     }
 
+    @Test
+    public void pod0RecoveringLogsAfterRolling(VertxTestContext testContext) {
+        AtomicInteger readinessChecks = new AtomicInteger();
+        PodOperator podOps = mockPodOps(podId ->
+            podId == 0 && readinessChecks.incrementAndGet() <= 2 ? failedFuture(new TimeoutException("Timeout")) : succeededFuture()
+        );
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2);
+        List<Integer> remainingSegments = new CopyOnWriteArrayList<>(asList(100, 50));
+        kafkaRoller.brokerStates = podName -> {
+            KafkaAgentClient.BrokerState state = new KafkaAgentClient.BrokerState();
+            state.setBrokerState(KafkaAgentClient.BrokerState.RECOVERY);
+            state.setRemainingSegmentsToRecover(remainingSegments.remove(0));
+            return state;
+        };
+        // The pod does not get ready within the timeout twice, but the broker is making progress with the log recovery
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0),
+                asList(0));
+    }
+
+    @Test
+    public void pod0RecoveringLogsWithoutProgressAfterRolling(VertxTestContext testContext) throws InterruptedException {
+        PodOperator podOps = mockPodOps(podId ->
+            podId == 0 ? failedFuture(new TimeoutException("Timeout")) : succeededFuture()
+        );
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2);
+        kafkaRoller.brokerStates = podName -> {
+            KafkaAgentClient.BrokerState state = new KafkaAgentClient.BrokerState();
+            state.setBrokerState(KafkaAgentClient.BrokerState.RECOVERY);
+            state.setRemainingSegmentsToRecover(100);
+            return state;
+        };
+        doFailingRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                KafkaRoller.FatalProblem.class, "Error while waiting for restarted pod c-kafka-0 to become ready",
+                singletonList(0));
+    }
+
+    @Test
+    public void pod0RecoveringLogsWithoutProgressGaugesAfterRolling(VertxTestContext testContext) throws InterruptedException {
+        PodOperator podOps = mockPodOps(podId ->
+            podId == 0 ? failedFuture(new TimeoutException("Timeout")) : succeededFuture()
+        );
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2);
+        AtomicInteger brokerStateChecks = new AtomicInteger();
+        kafkaRoller.brokerStates = podName -> {
+            brokerStateChecks.incrementAndGet();
+            KafkaAgentClient.BrokerState state = new KafkaAgentClient.BrokerState();
+            state.setBrokerState(KafkaAgentClient.BrokerState.RECOVERY);
+            return state;
+        };
+        // The broker does not report the recovery progress, so the wait is extended only a limited number of times
+        doFailingRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                KafkaRoller.FatalProblem.class, "Error while waiting for restarted pod c-kafka-0 to become ready",
+                singletonList(0));
+        assertThat(brokerStateChecks.get(), is(KafkaRoller.MAX_LOG_RECOVERY_EXTENSIONS));
+    }
+
     @Test
     public void pod1NotReadyAfterRolling(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId ->
@@ -573,6 +709,9 @@ public class KafkaRollerTest {
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
         private final int[] controllers;
+        private final Map<Integer, String> racks;
+        private final List<Set<Integer>> batches = new CopyOnWriteArrayList<>();
+        private Function<String, KafkaAgentClient.BrokerState> brokerStates = podName -> null;
 
         private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                                    PodOperator podOps,
@@ -583,9 +722,26 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, 1, emptyMap(), controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int maxRollingBatchSize,
+                                   Map<Integer, String> racks,
+                                   int... controllers) {
             super(KafkaRollerTest.vertx, new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion(), true);
+                sts, clusterCaCertSecret, coKeySecret, new DefaultAdminClientProvider(), "", "", KafkaVersionTestUtils.getLatestVersion(), true, maxRollingBatchSize);
+            this.racks = racks;
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -636,9 +792,26 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRoll(int podId, Set<Integer> rollingPodIds) {
+                    return canRollFn.apply(podId).map(canRoll -> {
+                        if (canRoll) {
+                            Set<Integer> batch = new HashSet<>(rollingPodIds);
+                            batch.add(podId);
+                            batches.add(batch);
+                        }
+                        return canRoll;
+                    });
+                }
             };
         }
 
+        @Override
+        protected Map<Integer, String> brokerRacks() {
+            return racks;
+        }
+
         @Override
         int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws ForceableProblem {
             Throwable throwable = controllerException.apply(podId);
@@ -683,6 +856,11 @@ public class KafkaRollerTest {
             return succeededFuture();
         }
 
+        @Override
+        protected KafkaAgentClient.BrokerState brokerState(String podName) {
+            return brokerStates.apply(podName);
+        }
+
     }
 
     // TODO Error when finding the next broker
@@ -0,0 +1,120 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(VertxExtension.class)
+public class PooledHttpClientTest {
+    private static final int REQUESTS = 5;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final MetricsProvider metrics = new MetricsProvider() {
+        @Override
+        public MeterRegistry meterRegistry() {
+            return registry;
+        }
+
+        @Override
+        public Counter counter(String name, String description, Tags tags) {
+            return Counter.builder(name).description(description).tags(tags).register(registry);
+        }
+
+        @Override
+        public Timer timer(String name, String description, Tags tags) {
+            return Timer.builder(name).description(description).tags(tags).register(registry);
+        }
+
+        @Override
+        public AtomicInteger gauge(String name, String description, Tags tags) {
+            return registry.gauge(name, tags, new AtomicInteger(0));
+        }
+    };
+
+    private Vertx vertx;
+    private HttpServer server;
+
+    @BeforeEach
+    public void before(VertxTestContext context) {
+        vertx = Vertx.vertx();
+        server = vertx.createHttpServer()
+                .requestHandler(request -> request.response().end("ok"));
+        server.listen(0, context.succeedingThenComplete());
+    }
+
+    @AfterEach
+    public void after() {
+        vertx.close();
+    }
+
+    private Future<String> get(PooledHttpClient client) {
+        return client.withHttpClient((httpClient, result) ->
+            httpClient.request(HttpMethod.GET, server.actualPort(), "localhost", "/")
+                    .compose(request -> request.send())
+                    .compose(response -> response.body())
+                    .map(Buffer::toString)
+                    .onComplete(result));
+    }
+
+    private double counter(String name) {
+        return registry.get(name).tag("kind", "test").counter().count();
+    }
+
+    @Test
+    public void testSequentialRequestsReuseTheConnection(VertxTestContext context) {
+        PooledHttpClient client = new PooledHttpClient(vertx, "test", PooledHttpClient.defaultOptions(), metrics);
+        Checkpoint async = context.checkpoint();
+
+        Future<String> requests = get(client);
+        for (int i = 1; i < REQUESTS; i++) {
+            requests = requests.compose(ignored -> get(client));
+        }
+
+        requests.onComplete(context.succeeding(body -> context.verify(() -> {
+            assertThat(body, is("ok"));
+            assertThat(counter(PooledHttpClient.REQUESTS_METRIC), is((double) REQUESTS));
+            assertThat(counter(PooledHttpClient.CONNECTIONS_METRIC), is(1.0));
+            assertThat(registry.get(PooledHttpClient.OPEN_CONNECTIONS_METRIC).tag("kind", "test").gauge().value(), is(1.0));
+
+            client.close().onComplete(context.succeeding(v -> async.flag()));
+        })));
+    }
+
+    @Test
+    public void testOperationThrowingException(VertxTestContext context) {
+        PooledHttpClient client = new PooledHttpClient(vertx, "test", PooledHttpClient.defaultOptions(), null);
+        RuntimeException failure = new RuntimeException("failed");
+
+        client.<Void>withHttpClient((httpClient, result) -> {
+            throw failure;
+        }).onComplete(context.failing(cause -> context.verify(() -> {
+            assertThat(cause, is(failure));
+            context.completeNow();
+        })));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.common.operator.resource.ResourceDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
+/**
+ * Compares the structural {@link ResourceDiff} with the previously used approach of computing the full JSON Patch
+ * between the resources and matching all its paths against the ignorable paths. The compared resources are the
+ * Kafka StatefulSets generated by {@link KafkaCluster}.
+ *
+ * This is not a unit test and is not run by the build. Run it with the test classpath of this module, for example
+ * from the IDE using the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceDiffBenchmark {
+    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
+            "^(/metadata/managedFields" +
+                    "|/status)$");
+
+    /**
+     * unchanged: the current StatefulSet differs from the desired one only in the fields set by Kubernetes
+     * changed: the broker image was changed (the difference is deep inside the pod template)
+     */
+    @Param({"unchanged", "changed"})
+    public String scenario;
+
+    private StatefulSet current;
+    private StatefulSet desired;
+
+    @Setup
+    public void setup() {
+        Kafka kafka = ResourceUtils.createKafka("my-namespace", "my-cluster", 3, "strimzi/kafka:latest", 120, 30);
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(kafka, KafkaVersionTestUtils.getKafkaVersionLookup());
+
+        desired = kafkaCluster.generateStatefulSet(false, null, null);
+
+        StatefulSetBuilder currentBuilder = new StatefulSetBuilder(desired)
+                .editMetadata()
+                    .withResourceVersion("12345")
+                    .withUid("8c3b4a4e-6a4c-4f0a-9d3e-2f0c0a8b6f1d")
+                    .withCreationTimestamp(Instant.now().toString())
+                    .withGeneration(3L)
+                .endMetadata()
+                .withNewStatus()
+                    .withReplicas(3)
+                    .withReadyReplicas(3)
+                    .withCurrentReplicas(3)
+                    .withObservedGeneration(3L)
+                .endStatus();
+
+        if ("changed".equals(scenario)) {
+            currentBuilder.editSpec()
+                    .editTemplate()
+                        .editSpec()
+                            .editFirstContainer()
+                                .withImage("strimzi/kafka:previous")
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec();
+        }
+
+        current = currentBuilder.build();
+    }
+
+    @Benchmark
+    public boolean structuralDiff() {
+        return new ResourceDiff<>("StatefulSet", "my-cluster-kafka", current, desired, IGNORABLE_PATHS).isEmpty();
+    }
+
+    @Benchmark
+    public boolean jsonPatchDiff() {
+        JsonNode source = patchMapper().valueToTree(current);
+        JsonNode target = patchMapper().valueToTree(desired);
+
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            if (!IGNORABLE_PATHS.matcher(d.get("path").asText()).matches()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResourceDiffBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -466,6 +466,75 @@ public class ZookeeperLeaderFinderTest {
             })));
     }
 
+    @Test
+    public void testKnownLeaderIsValidatedWithSingleProbe(VertxTestContext context) throws InterruptedException {
+        int leader = 1;
+        mockSecrets();
+
+        int[] ports = startMockZks(context, 2, (id, attempt) -> id == leader);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        List<Pod> pods = asList(createPodWithId(0), createPodWithId(1));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret())
+            .compose(l -> finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret()))
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leader));
+                assertThat(zks.get(0).attempts.get(), is(1));
+                assertThat(zks.get(1).attempts.get(), is(2));
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testKnownLeaderChanged(VertxTestContext context) throws InterruptedException {
+        mockSecrets();
+
+        // Pod 1 is the leader only on the first attempt, pod 0 afterwards
+        int[] ports = startMockZks(context, 2, (id, attempt) -> id == 1 ? attempt == 0 : attempt > 0);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        List<Pod> pods = asList(createPodWithId(0), createPodWithId(1));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret())
+            .compose(l -> {
+                context.verify(() -> assertThat(l, is(1)));
+                return finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret());
+            })
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(0));
+                assertThat(zks.get(0).attempts.get(), is(2));
+                assertThat(zks.get(1).attempts.get(), is(2));
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testStatParsing() {
+        ZookeeperLeaderFinder.Stat stat = ZookeeperLeaderFinder.Stat.parse("Zookeeper version: 3.5.9\nLatency min/avg/max: 0/0/0\n" +
+                "Zxid: 0x300000002\nMode: leader\nNode count: 5\n");
+        assertThat(stat.isLeader, is(true));
+        assertThat(stat.epoch, is(3L));
+
+        stat = ZookeeperLeaderFinder.Stat.parse("Mode: follower\n");
+        assertThat(stat.isLeader, is(false));
+        assertThat(stat.epoch, is(-1L));
+    }
+
+    private void mockSecrets() {
+        when(mock.getAsync(eq(NAMESPACE), eq(KafkaResources.clusterCaCertificateSecretName(CLUSTER))))
+                .thenAnswer(i -> Future.succeededFuture(
+                        new SecretBuilder()
+                                .withNewMetadata()
+                                .withName(KafkaResources.clusterCaCertificateSecretName(CLUSTER))
+                                .withNamespace(NAMESPACE)
+                                .endMetadata()
+                                .withData(map(Ca.CA_CRT, "notacert"))
+                                .build()));
+    }
+
     Pod createPodWithId(int id) {
         return new PodBuilder()
                 .withNewMetadata()
@@ -17,6 +17,7 @@ import org.mockserver.integration.ClientAndServer;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Collections;
 
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasEntry;
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasKey;
@@ -25,6 +26,7 @@ import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.Cruise
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
 
 @ExtendWith(VertxExtension.class)
 public class CruiseControlClientTest {
@@ -169,4 +171,23 @@ public class CruiseControlClientTest {
             })));
     }
 
+    @Test
+    public void testCCGetRebalanceUserTasks(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+
+        MockCruiseControl.setupCCUserTasksResponseNoGoals(ccServer, 0, 0);
+
+        CruiseControlApi client = new CruiseControlApiImpl(vertx);
+        String userTaskID = MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID;
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTasksStatus(HOST, PORT, Collections.singletonList(userTaskID))
+            .onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(result.keySet(), contains(userTaskID));
+                assertThat(result.get(userTaskID).getUserTaskId(), is(userTaskID));
+                assertThat(result.get(userTaskID).getJson().getString("Status"), is(CruiseControlUserTaskStatus.COMPLETED.toString()));
+                assertThat(result.get(userTaskID).getJson().getJsonObject(CC_REST_API_SUMMARY), is(notNullValue()));
+                checkpoint.flag();
+            })));
+    }
+
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlUserTasksPollerTest {
+    private static final String HOST = "my-cluster-cruise-control";
+    private static final int PORT = 9090;
+
+    private static CruiseControlResponse status(String userTaskId, CruiseControlUserTaskStatus status) {
+        return new CruiseControlResponse(userTaskId, new JsonObject().put("Status", status.toString()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUserTasksAreFetchedInSingleRequest(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(anyString(), anyInt(), any())).thenAnswer(invocation -> {
+            Map<String, CruiseControlResponse> statuses = new HashMap<>();
+            for (String userTaskId : (Collection<String>) invocation.getArgument(2)) {
+                if (!"unknown".equals(userTaskId)) {
+                    statuses.put(userTaskId, status(userTaskId, CruiseControlUserTaskStatus.IN_EXECUTION));
+                }
+            }
+            return Future.succeededFuture(statuses);
+        });
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, api, HOST, PORT, 10, 50);
+
+        Checkpoint polled = context.checkpoint(3);
+        poller.subscribe("task-1", status -> {
+            context.verify(() -> assertThat(status.result().getUserTaskId(), is("task-1")));
+            polled.flag();
+            return Future.succeededFuture(true);
+        });
+        poller.subscribe("unknown", status -> {
+            context.verify(() -> assertThat(status.result(), is(nullValue())));
+            polled.flag();
+            return Future.succeededFuture(true);
+        });
+        poller.subscribe(null, status -> {
+            context.verify(() -> assertThat(status.result(), is(nullValue())));
+            polled.flag();
+            return Future.succeededFuture(true);
+        });
+
+        vertx.setTimer(200, t -> context.verify(() -> {
+            ArgumentCaptor<Collection<String>> userTaskIds = ArgumentCaptor.forClass(Collection.class);
+            verify(api, times(1)).getUserTasksStatus(anyString(), anyInt(), userTaskIds.capture());
+            assertThat(userTaskIds.getValue(), containsInAnyOrder("task-1", "unknown"));
+            assertThat(poller.subscribers(), is(0));
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSubscribersArePolledUntilDone(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.failedFuture(new CruiseControlRestException("Failed")))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", status("task-1", CruiseControlUserTaskStatus.ACTIVE))))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", status("task-1", CruiseControlUserTaskStatus.COMPLETED))));
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, api, HOST, PORT, 10, 50);
+
+        AtomicInteger polls = new AtomicInteger();
+        Checkpoint done = context.checkpoint();
+        poller.subscribe("task-1", status -> {
+            int poll = polls.getAndIncrement();
+            context.verify(() -> {
+                if (poll == 0) {
+                    assertThat(status.failed(), is(true));
+                } else {
+                    assertThat(status.succeeded(), is(true));
+                }
+            });
+
+            if (status.succeeded() && CruiseControlUserTaskStatus.COMPLETED.toString().equals(status.result().getJson().getString("Status"))) {
+                done.flag();
+                return Future.succeededFuture(true);
+            }
+            return Future.succeededFuture(false);
+        });
+
+        vertx.setTimer(500, t -> context.verify(() -> {
+            ArgumentCaptor<Collection<String>> userTaskIds = ArgumentCaptor.forClass(Collection.class);
+            verify(api, times(3)).getUserTasksStatus(anyString(), anyInt(), userTaskIds.capture());
+            for (Collection<String> ids : userTaskIds.getAllValues()) {
+                assertThat(ids, contains("task-1"));
+            }
+            assertThat(polls.get(), is(3));
+            assertThat(poller.subscribers(), is(0));
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testSlowSubscriberDoesNotBlockOtherSubscribers(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", status("task-1", CruiseControlUserTaskStatus.ACTIVE))));
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, api, HOST, PORT, 10, 10);
+
+        // The slow subscriber never completes its first poll
+        AtomicInteger slowPolls = new AtomicInteger();
+        poller.subscribe("task-1", status -> {
+            slowPolls.incrementAndGet();
+            return Promise.<Boolean>promise().future();
+        });
+
+        AtomicInteger fastPolls = new AtomicInteger();
+        Checkpoint done = context.checkpoint();
+        poller.subscribe(null, status -> {
+            if (fastPolls.incrementAndGet() == 3) {
+                done.flag();
+                return Future.succeededFuture(true);
+            }
+            return Future.succeededFuture(false);
+        });
+
+        vertx.setTimer(300, t -> context.verify(() -> {
+            assertThat(fastPolls.get(), is(3));
+            assertThat(slowPolls.get(), is(1));
+            assertThat(poller.subscribers(), is(1));
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testPollerStopsWithoutSubscribers(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+
+        Checkpoint stopped = context.checkpoint();
+        AtomicReference<CruiseControlUserTasksPoller> poller = new AtomicReference<>();
+        poller.set(new CruiseControlUserTasksPoller(vertx, api, HOST, PORT, 10, 50, stoppedPoller -> context.verify(() -> {
+            assertThat(stoppedPoller, is(poller.get()));
+            assertThat(stoppedPoller.subscribe(null, status -> Future.succeededFuture(true)), is(false));
+            assertThat(stoppedPoller.subscribers(), is(0));
+            stopped.flag();
+        })));
+
+        assertThat(poller.get().subscribe(null, status -> Future.succeededFuture(true)), is(true));
+    }
+}
@@ -4,6 +4,11 @@
  */
 package io.strimzi.kafka.agent;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsExchange;
+import com.sun.net.httpserver.HttpsParameters;
+import com.sun.net.httpserver.HttpsServer;
 import com.yammer.metrics.core.Gauge;
 import com.yammer.metrics.core.Metric;
 import com.yammer.metrics.core.MetricName;
@@ -13,30 +18,117 @@ import kafka.metrics.KafkaYammerMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.TrustManagerFactory;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
- * A very simple Java agent which polls the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
+ * A very simple Java agent which watches the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
  * Yammer Metric and once it reaches the value 3 (meaning "running as broker", see {@code kafka.server.BrokerState}),
  * creates a given file.
  * The presence of this file is tested via a Kube "exec" readiness probe to determine when the broker is ready.
+ * The gauges cannot notify about their changes, so the agent checks them every {@value #CHECK_INTERVAL_MS} ms on its
+ * single scheduler thread, starting as soon as Kafka registers them. Once the broker is ready, the time from the JVM
+ * start is reported by the {@code io.strimzi.kafka.agent:type=KafkaAgent,name=TimeToReadyMs} gauge.
+ *
+ * Optionally, the agent also serves the state of the broker as JSON on the {@value #BROKER_STATE_PATH} path of an
+ * HTTPS endpoint. Apart from the current broker state and its transitions, it reports the progress of the log
+ * recovery (when the broker exposes it), the number of under-replicated and offline partitions and whether the broker
+ * is the active controller. The Cluster Operator uses it while rolling the brokers to find out whether a broker which
+ * is not ready yet is still recovering its logs. The endpoint uses the same keystore and truststore as the replication
+ * listener, so it presents the broker certificate signed by the cluster CA and requires a client certificate signed by
+ * the cluster CA. Only the Cluster Operator certificate ({@value #CLUSTER_OPERATOR_PRINCIPAL}) is allowed to get the
+ * broker state. The password of both stores is read from the {@value #CERTS_STORE_PASSWORD_ENV} environment variable.
  */
 public class KafkaAgent {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgent.class);
 
+    /**
+     * Path of the HTTPS endpoint serving the broker state
+     */
+    public static final String BROKER_STATE_PATH = "/v1/broker-state";
+
+    /**
+     * Subject of the only client certificate which is allowed to get the broker state
+     */
+    public static final String CLUSTER_OPERATOR_PRINCIPAL = "CN=cluster-operator,O=io.strimzi";
+
+    /**
+     * Environment variable with the password of the keystore and the truststore
+     */
+    public static final String CERTS_STORE_PASSWORD_ENV = "CERTS_STORE_PASSWORD";
+
+    private static final int MAX_TRANSITIONS = 16;
+    private static final long CHECK_INTERVAL_MS = 100L;
+    // Log the not ready state about once a minute
+    private static final int LOG_EVERY_CHECKS = 600;
+
     private final File sessionConnectedFile;
     private File brokerReadyFile;
+    private final int httpsPort;
+    private final File keyStoreFile;
+    private final File trustStoreFile;
+    private final char[] storePassword;
     private MetricName brokerStateName;
-    private Gauge brokerState;
+    private volatile Gauge brokerState;
     private MetricName sessionStateName;
-    private Gauge sessionState;
+    private volatile Gauge sessionState;
+    private volatile Gauge underReplicatedPartitions;
+    private volatile Gauge activeControllerCount;
+    private volatile Gauge offlinePartitionsCount;
+    // Kafka registers the log recovery gauges per log directory
+    private final Map<MetricName, Gauge> remainingLogsToRecover = new ConcurrentHashMap<>();
+    private final Map<MetricName, Gauge> remainingSegmentsToRecover = new ConcurrentHashMap<>();
+    private final Deque<Transition> transitions = new ArrayDeque<>(MAX_TRANSITIONS);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "KafkaAgentScheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile ScheduledFuture<?> stateCheck;
+    private boolean ready = false;
+    private int checks = 0;
 
     public KafkaAgent(File brokerReadyFile, File sessionConnectedFile) {
+        this(brokerReadyFile, sessionConnectedFile, -1, null, null, null);
+    }
+
+    /**
+     * @param brokerReadyFile       File created once the broker is running
+     * @param sessionConnectedFile  File created while the broker is connected to ZooKeeper
+     * @param httpsPort             Port of the HTTPS endpoint serving the broker state or -1 to disable it
+     * @param keyStoreFile          PKCS12 keystore with the broker key and certificate
+     * @param trustStoreFile        PKCS12 truststore with the cluster CA certificates
+     * @param storePassword         Password of the keystore and the truststore
+     */
+    public KafkaAgent(File brokerReadyFile, File sessionConnectedFile, int httpsPort, File keyStoreFile, File trustStoreFile, char[] storePassword) {
         this.brokerReadyFile = brokerReadyFile;
         this.sessionConnectedFile = sessionConnectedFile;
+        this.httpsPort = httpsPort;
+        this.keyStoreFile = keyStoreFile;
+        this.trustStoreFile = trustStoreFile;
+        this.storePassword = storePassword;
     }
 
     private void run() {
@@ -45,127 +137,350 @@ public class KafkaAgent {
         MetricsRegistry metricsRegistry = KafkaYammerMetrics.defaultRegistry();
 
         metricsRegistry.addListener(new MetricsRegistryListener() {
-            @Override
-            public void onMetricRemoved(MetricName metricName) {
-            }
-
             @Override
             public synchronized void onMetricAdded(MetricName metricName, Metric metric) {
                 LOGGER.trace("Metric added {}", metricName);
-                if ("kafka.server".equals(metricName.getGroup())) {
-                    if ("KafkaServer".equals(metricName.getType())
-                            && "BrokerState".equals(metricName.getName())
-                            && metric instanceof Gauge) {
-                        LOGGER.debug("Metric {} added ", metricName);
-                        brokerStateName = metricName;
-                        brokerState = (Gauge) metric;
-                    } else if ("SessionExpireListener".equals(metricName.getType())
-                            && "SessionState".equals(metricName.getName())
-                            && metric instanceof Gauge) {
-                        sessionStateName = metricName;
-                        sessionState = (Gauge) metric;
-                    }
+                if (!(metric instanceof Gauge)) {
+                    return;
                 }
+                addGauge(metricName, (Gauge) metric);
                 if (brokerState != null
-                        && sessionState != null) {
-                    metricsRegistry.removeListener(this);
-                    LOGGER.info("Starting poller");
-                    Thread pollerThread = new Thread(poller(),
-                            "KafkaAgentPoller");
-                    pollerThread.setDaemon(true);
-                    pollerThread.start();
+                        && sessionState != null
+                        && stateCheck == null) {
+                    if (httpsPort < 0) {
+                        // The other metrics are needed only by the HTTPS endpoint
+                        metricsRegistry.removeListener(this);
+                    }
+                    LOGGER.info("Starting state checks");
+                    stateCheck = scheduler.scheduleWithFixedDelay(KafkaAgent.this::checkState, 0, CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
                 }
             }
+
+            @Override
+            public void onMetricRemoved(MetricName metricName) {
+                // The log recovery gauges are removed once the logs are loaded
+                remainingLogsToRecover.remove(metricName);
+                remainingSegmentsToRecover.remove(metricName);
+            }
         });
+
+        if (httpsPort >= 0) {
+            // The HTTPS server threads inherit the daemon flag from the thread which starts the server,
+            // so it is started from the scheduler thread to not prevent the broker JVM from exiting
+            scheduler.execute(this::startHttpsServer);
+        }
     }
 
-    private Runnable poller() {
-        return new Runnable() {
-            int i = 0;
+    private void addGauge(MetricName metricName, Gauge gauge) {
+        if ("kafka.server".equals(metricName.getGroup())) {
+            if ("KafkaServer".equals(metricName.getType())
+                    && "BrokerState".equals(metricName.getName())) {
+                LOGGER.debug("Metric {} added ", metricName);
+                brokerStateName = metricName;
+                brokerState = gauge;
+            } else if ("SessionExpireListener".equals(metricName.getType())
+                    && "SessionState".equals(metricName.getName())) {
+                sessionStateName = metricName;
+                sessionState = gauge;
+            } else if ("ReplicaManager".equals(metricName.getType())
+                    && "UnderReplicatedPartitions".equals(metricName.getName())) {
+                underReplicatedPartitions = gauge;
+            }
+        } else if ("kafka.controller".equals(metricName.getGroup())
+                && "KafkaController".equals(metricName.getType())) {
+            if ("ActiveControllerCount".equals(metricName.getName())) {
+                activeControllerCount = gauge;
+            } else if ("OfflinePartitionsCount".equals(metricName.getName())) {
+                offlinePartitionsCount = gauge;
+            }
+        } else if ("kafka.log".equals(metricName.getGroup())
+                && "LogManager".equals(metricName.getType())) {
+            // These are available only in the Kafka versions which report the log recovery progress
+            if ("remainingLogsToRecover".equals(metricName.getName())) {
+                remainingLogsToRecover.put(metricName, gauge);
+            } else if ("remainingSegmentsToRecover".equals(metricName.getName())) {
+                remainingSegmentsToRecover.put(metricName, gauge);
+            }
+        }
+    }
 
-            @Override
-            public void run() {
-                while (true) {
-                    handleSessionState();
+    private void startHttpsServer() {
+        try {
+            HttpsServer server = HttpsServer.create(new InetSocketAddress(httpsPort), 0);
+            server.setHttpsConfigurator(new HttpsConfigurator(sslContext()) {
+                @Override
+                public void configure(HttpsParameters params) {
+                    SSLParameters sslParameters = getSSLContext().getDefaultSSLParameters();
+                    sslParameters.setNeedClientAuth(true);
+                    params.setSSLParameters(sslParameters);
+                }
+            });
+            server.createContext(BROKER_STATE_PATH, this::handleBrokerStateRequest);
+            server.setExecutor(scheduler);
+            server.start();
+            LOGGER.info("Serving the broker state on port {}", httpsPort);
+        } catch (IOException | GeneralSecurityException e) {
+            LOGGER.error("Could not start the HTTPS server on port {}", httpsPort, e);
+        }
+    }
 
-                    if (handleBrokerState()) {
-                        break;
-                    }
+    private SSLContext sslContext() throws IOException, GeneralSecurityException {
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(loadStore(keyStoreFile), storePassword);
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(loadStore(trustStoreFile));
 
-                    try {
-                        Thread.sleep(1000L);
-                    } catch (InterruptedException e) {
-                        // In theory this should never normally happen
-                        LOGGER.warn("Unexpectedly interrupted");
-                        break;
-                    }
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), trustManagerFactory.getTrustManagers(), null);
+        return sslContext;
+    }
+
+    private KeyStore loadStore(File file) throws IOException, GeneralSecurityException {
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            store.load(in, storePassword);
+        }
+        return store;
+    }
+
+    private void handleBrokerStateRequest(HttpExchange exchange) throws IOException {
+        try {
+            if (!isClusterOperator(exchange)) {
+                exchange.sendResponseHeaders(403, -1);
+                return;
+            } else if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = brokerStateJson().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * The client certificate is already verified against the cluster CA during the TLS handshake, but the cluster CA
+     * also signs the certificates of the brokers and of the other components, so the subject is checked as well.
+     *
+     * @return True if the client authenticated with the Cluster Operator certificate
+     */
+    private static boolean isClusterOperator(HttpExchange exchange) {
+        try {
+            String principal = ((HttpsExchange) exchange).getSSLSession().getPeerPrincipal().getName();
+            if (CLUSTER_OPERATOR_PRINCIPAL.equals(principal)) {
+                return true;
+            }
+            LOGGER.warn("Rejected the broker state request from {} authenticated as {}", exchange.getRemoteAddress(), principal);
+        } catch (SSLPeerUnverifiedException e) {
+            LOGGER.warn("Rejected the unauthenticated broker state request from {}", exchange.getRemoteAddress());
+        }
+        return false;
+    }
+
+    /**
+     * @return The broker state as JSON. The values which are not known (yet) are omitted.
+     */
+    private String brokerStateJson() {
+        StringBuilder json = new StringBuilder("{");
+        Integer state = brokerState != null ? observeBrokerState() : null;
+        appendField(json, "brokerState", state);
+        appendField(json, "sessionState", sessionState != null ? "\"" + sessionState.value() + "\"" : null);
+        appendField(json, "remainingLogsToRecover", sum(remainingLogsToRecover));
+        appendField(json, "remainingSegmentsToRecover", sum(remainingSegmentsToRecover));
+        appendField(json, "underReplicatedPartitions", intValue(underReplicatedPartitions));
+        appendField(json, "offlinePartitions", intValue(offlinePartitionsCount));
+        Integer activeControllers = intValue(activeControllerCount);
+        appendField(json, "activeController", activeControllers != null ? activeControllers > 0 : null);
+
+        StringBuilder history = new StringBuilder("[");
+        synchronized (transitions) {
+            for (Transition transition : transitions) {
+                if (history.length() > 1) {
+                    history.append(',');
                 }
-                LOGGER.debug("Exiting thread");
-            }
-
-            boolean handleBrokerState() {
-                LOGGER.trace("Polling {}", brokerStateName);
-                boolean ready = false;
-                Integer running = Integer.valueOf(3);
-                Object value = brokerState.value();
-
-                if ((value instanceof Integer && running.equals(value))
-                        || (value instanceof Byte && running.equals(((Byte) value).intValue()))) {
-                    try {
-                        LOGGER.trace("Running as server according to {} => ready", brokerStateName);
-                        touch(brokerReadyFile);
-                    } catch (IOException e) {
-                        LOGGER.error("Could not write readiness file {}", brokerReadyFile, e);
-                    }
-                    ready = true;
+                history.append("{\"brokerState\":").append(transition.brokerState)
+                        .append(",\"timestamp\":").append(transition.timestamp).append('}');
+            }
+        }
+        appendField(json, "transitions", history.append(']'));
+
+        return json.append('}').toString();
+    }
 
-                } else if (i++ % 60 == 0) {
-                    LOGGER.debug("Metric {} = {} (type: {})", brokerStateName, value, value.getClass());
+    private static void appendField(StringBuilder json, String name, Object value) {
+        if (value != null) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"').append(name).append("\":").append(value);
+        }
+    }
+
+    private static Integer sum(Map<MetricName, Gauge> gauges) {
+        Integer sum = null;
+        for (Gauge gauge : gauges.values()) {
+            Integer value = intValue(gauge);
+            if (value != null) {
+                sum = sum == null ? value : sum + value;
+            }
+        }
+        return sum;
+    }
+
+    private static Integer intValue(Gauge gauge) {
+        Object value = gauge != null ? gauge.value() : null;
+        return value instanceof Number ? ((Number) value).intValue() : null;
+    }
+
+    /**
+     * Reads the current broker state and records it when it changed since the last time it was read.
+     * @return The current broker state.
+     */
+    private Integer observeBrokerState() {
+        Integer state = intValue(brokerState);
+        if (state != null) {
+            synchronized (transitions) {
+                if (transitions.isEmpty() || transitions.peekLast().brokerState != state) {
+                    if (transitions.size() >= MAX_TRANSITIONS) {
+                        transitions.removeFirst();
+                    }
+                    transitions.addLast(new Transition(state, System.currentTimeMillis()));
                 }
-                return ready;
-            }
-
-            void handleSessionState() {
-                LOGGER.trace("Polling {}", sessionStateName);
-                String sessionStateStr = String.valueOf(sessionState.value());
-                if ("CONNECTED".equals(sessionStateStr)) {
-                    if (!sessionConnectedFile.exists()) {
-                        try {
-                            touch(sessionConnectedFile);
-                        } catch (IOException e) {
-                            LOGGER.error("Could not write session connected file {}", sessionConnectedFile, e);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Checks the ZooKeeper session state and the broker state. Once the broker is ready, the checks are stopped.
+     */
+    private void checkState() {
+        if (ready) {
+            // The first check might run before the scheduled future is assigned, so the checks are stopped by the next one
+            stateCheck.cancel(false);
+            LOGGER.debug("Stopped state checks");
+            return;
+        }
+
+        try {
+            handleSessionState();
+            ready = handleBrokerState();
+        } catch (RuntimeException e) {
+            // Exceptions would cancel the scheduled checks
+            LOGGER.error("Failed to check the broker state", e);
+        }
+    }
+
+    private boolean handleBrokerState() {
+        LOGGER.trace("Checking {}", brokerStateName);
+        boolean ready = false;
+        Integer running = Integer.valueOf(3);
+        Object value = brokerState.value();
+        observeBrokerState();
+
+        if ((value instanceof Integer && running.equals(value))
+                || (value instanceof Byte && running.equals(((Byte) value).intValue()))) {
+            try {
+                LOGGER.trace("Running as server according to {} => ready", brokerStateName);
+                touch(brokerReadyFile);
+            } catch (IOException e) {
+                LOGGER.error("Could not write readiness file {}", brokerReadyFile, e);
+            }
+            ready = true;
+
+            long timeToReadyMs = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+            LOGGER.info("Broker is ready {} ms after the JVM start", timeToReadyMs);
+            KafkaYammerMetrics.defaultRegistry().newGauge(new MetricName("io.strimzi.kafka.agent", "KafkaAgent", "TimeToReadyMs"),
+                    new Gauge<Long>() {
+                        @Override
+                        public Long value() {
+                            return timeToReadyMs;
                         }
-                    }
-                } else {
-                    if (sessionConnectedFile.exists() && !sessionConnectedFile.delete()) {
-                        LOGGER.error("Could not delete session connected file {}", sessionConnectedFile);
-                    }
-                    if (i++ % 60 == 0) {
-                        LOGGER.debug("Metric {} = {}", sessionStateName, sessionStateStr);
-                    }
+                    });
+        } else if (checks++ % LOG_EVERY_CHECKS == 0) {
+            LOGGER.debug("Metric {} = {} (type: {})", brokerStateName, value, value.getClass());
+        }
+        return ready;
+    }
+
+    private void handleSessionState() {
+        LOGGER.trace("Checking {}", sessionStateName);
+        String sessionStateStr = String.valueOf(sessionState.value());
+        if ("CONNECTED".equals(sessionStateStr)) {
+            if (!sessionConnectedFile.exists()) {
+                try {
+                    touch(sessionConnectedFile);
+                } catch (IOException e) {
+                    LOGGER.error("Could not write session connected file {}", sessionConnectedFile, e);
                 }
             }
-        };
+        } else {
+            if (sessionConnectedFile.exists() && !sessionConnectedFile.delete()) {
+                LOGGER.error("Could not delete session connected file {}", sessionConnectedFile);
+            }
+            if (checks++ % LOG_EVERY_CHECKS == 0) {
+                LOGGER.debug("Metric {} = {}", sessionStateName, sessionStateStr);
+            }
+        }
     }
 
     private void touch(File file) throws IOException {
-        try (FileOutputStream out = new FileOutputStream(file)) {
-            file.deleteOnExit();
+        Files.write(file.toPath(), new byte[0]);
+        file.deleteOnExit();
+    }
+
+    /**
+     * Broker state observed at some point in time
+     */
+    private static class Transition {
+        private final int brokerState;
+        private final long timestamp;
+
+        Transition(int brokerState, long timestamp) {
+            this.brokerState = brokerState;
+            this.timestamp = timestamp;
         }
     }
 
     /**
      * Agent entry point
-     * @param agentArgs The agent arguments
+     * @param agentArgs The agent arguments in the format
+     *                  {@code <brokerReadyFile>:<sessionConnectedFile>[:<httpsPort>:<keyStoreFile>:<trustStoreFile>]}
      */
     public static void premain(String agentArgs) {
-        int index = agentArgs.indexOf(':');
-        if (index == -1) {
+        String[] args = agentArgs.split(":");
+        int httpsPort = -1;
+        File keyStoreFile = null;
+        File trustStoreFile = null;
+        char[] storePassword = null;
+        if (args.length == 5) {
+            try {
+                httpsPort = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                LOGGER.error("Unable to parse the HTTPS port in arguments {}", agentArgs);
+                System.exit(1);
+            }
+            keyStoreFile = new File(args[3]);
+            trustStoreFile = new File(args[4]);
+            String password = System.getenv(CERTS_STORE_PASSWORD_ENV);
+            if (password == null) {
+                LOGGER.error("The {} environment variable with the keystore and truststore password is not set", CERTS_STORE_PASSWORD_ENV);
+                System.exit(1);
+            }
+            storePassword = password.toCharArray();
+        }
+        if (args.length != 2 && args.length != 5) {
             LOGGER.error("Unable to parse arguments {}", agentArgs);
             System.exit(1);
         } else {
-            File brokerReadyFile = new File(agentArgs.substring(0, index));
-            File sessionConnectedFile = new File(agentArgs.substring(index + 1));
+            File brokerReadyFile = new File(args[0]);
+            File sessionConnectedFile = new File(args[1]);
             if (brokerReadyFile.exists() && !brokerReadyFile.delete()) {
                 LOGGER.error("Broker readiness file already exists and could not be deleted: {}", brokerReadyFile);
                 System.exit(1);
@@ -173,8 +488,9 @@ public class KafkaAgent {
                 LOGGER.error("Session connected file already exists and could not be deleted: {}", sessionConnectedFile);
                 System.exit(1);
             } else {
-                LOGGER.info("Starting KafkaAgent with brokerReadyFile={} and sessionConnectedFile={}", brokerReadyFile, sessionConnectedFile);
-                new KafkaAgent(brokerReadyFile, sessionConnectedFile).run();
+                LOGGER.info("Starting KafkaAgent with brokerReadyFile={}, sessionConnectedFile={}, httpsPort={}, keyStoreFile={} and trustStoreFile={}",
+                        brokerReadyFile, sessionConnectedFile, httpsPort, keyStoreFile, trustStoreFile);
+                new KafkaAgent(brokerReadyFile, sessionConnectedFile, httpsPort, keyStoreFile, trustStoreFile, storePassword).run();
             }
         }
     }
@@ -8,32 +8,53 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.management.JMException;
-import javax.management.MBeanServerConnection;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.NotificationFilter;
 import javax.management.ObjectName;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A Java agent which helps with the Readiness and Liveness check in Kafka Mirror Maker.
  *
  * Liveness:
- *   In every loop it touches a liveness file if it doesn't exist. The file is expected to tbe deleted by the Kubernetes
+ *   In every check it touches a liveness file if it doesn't exist. The file is expected to tbe deleted by the Kubernetes
  *   liveness probe. So it should be periodically deleted and recreated.
  *
  * Readiness:
  *   Readiness checks the number of connections to the source and target Kafka clusters. If at least one connection
- *   exists to each of the clusters, the readiness file will be created. If not it will be deleted.
+ *   exists to each of the clusters, the readiness file will be created. If not it will be deleted. While Mirror Maker
+ *   is not ready, the connections are checked every {@value #NOT_READY_CHECK_INTERVAL_MS} ms and immediately when a
+ *   producer or consumer registers its metrics. Once the Mirror Maker is ready, the regular readiness interval is used.
+ *   The time from the JVM start to the first readiness is reported by the {@code TimeToReadyMs} attribute of the
+ *   {@code io.strimzi.mirrormaker.agent:type=MirrorMakerAgent} MBean.
+ *
+ * Both checks run on a single scheduler thread.
  */
 public class MirrorMakerAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(MirrorMakerAgent.class);
 
+    private static final long NOT_READY_CHECK_INTERVAL_MS = 100L;
+
     private final File livenessFile;
     private final File readinessFile;
     private final long readinessSleepInterval;
     private final long livenessSleepInterval;
+    private final MBeanServer beanConn = ManagementFactory.getPlatformMBeanServer();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "MirrorMakerAgentScheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Readiness readiness = new Readiness();
 
     public MirrorMakerAgent(File readinessFile, File livenessFile, long readinessSleepInterval, long livenessSleepInterval) {
         this.readinessFile = readinessFile;
@@ -43,137 +64,126 @@ public class MirrorMakerAgent {
     }
 
     /**
-     * Starts two poller threads - one for readiness and one for liveness.
+     * Starts the readiness and liveness checks
      */
     private void run() {
-        LOGGER.info("Starting readiness poller");
-        Thread readinessThread = new Thread(readinessPoller(), "ReadinessPoller");
-        readinessThread.setDaemon(true);
-        readinessThread.start();
-
-        LOGGER.info("Starting liveness poller");
-        Thread livenessThread = new Thread(livenessPoller(), "LivenessPoller");
-        livenessThread.setDaemon(true);
-        livenessThread.start();
+        try {
+            beanConn.registerMBean(readiness, new ObjectName("io.strimzi.mirrormaker.agent:type=MirrorMakerAgent"));
+        } catch (JMException e) {
+            LOGGER.warn("Failed to register the readiness MBean", e);
+        }
+
+        LOGGER.info("Starting readiness checks");
+        scheduler.execute(this::checkReadiness);
+
+        // Check the readiness immediately when the producer or consumer metrics appear
+        NotificationFilter registrations = notification -> notification instanceof MBeanServerNotification
+                && MBeanServerNotification.REGISTRATION_NOTIFICATION.equals(notification.getType())
+                && isClientMetrics(((MBeanServerNotification) notification).getMBeanName());
+        try {
+            beanConn.addNotificationListener(MBeanServerDelegate.DELEGATE_NAME,
+                (notification, handback) -> scheduler.execute(this::checkReadinessOnce), registrations, null);
+        } catch (JMException e) {
+            LOGGER.warn("Failed to listen to the MBean registrations", e);
+        }
+
+        LOGGER.info("Starting liveness checks");
+        scheduler.scheduleWithFixedDelay(this::checkLiveness, 0, livenessSleepInterval, TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean isClientMetrics(ObjectName name) {
+        return ("kafka.producer".equals(name.getDomain()) && "producer-metrics".equals(name.getKeyProperty("type")))
+                || ("kafka.consumer".equals(name.getDomain()) && "consumer-metrics".equals(name.getKeyProperty("type")));
     }
 
     /**
-     * Creates the poller thread for the liveness check
-     *
-     * @return Runable for liveness check
+     * Touches the liveness file if it does not exist
      */
-    private Runnable livenessPoller() {
-        return () -> {
-            while (true) {
-                if (!livenessFile.exists()) {
-                    try {
-                        LOGGER.debug("Mirror Maker is alive");
-                        touch(livenessFile);
-                    } catch (IOException e) {
-                        LOGGER.error("Could not write liveness file {}", livenessFile, e);
-                    }
-                }
-
-                try {
-                    Thread.sleep(livenessSleepInterval);
-                } catch (InterruptedException e) {
-                    // In theory this should never normally happen
-                    LOGGER.warn("Unexpectedly interrupted");
-                    break;
-                }
+    private void checkLiveness() {
+        if (!livenessFile.exists()) {
+            try {
+                LOGGER.debug("Mirror Maker is alive");
+                touch(livenessFile);
+            } catch (IOException e) {
+                LOGGER.error("Could not write liveness file {}", livenessFile, e);
             }
-            LOGGER.debug("Exiting thread");
-        };
+        }
     }
 
     /**
-     * Creates the poller thread for the readiness check
+     * Checks the readiness and schedules the next check. The checks are more frequent while Mirror Maker is not ready.
+     */
+    private void checkReadiness() {
+        boolean ready = false;
+        try {
+            ready = checkReadinessOnce();
+        } finally {
+            scheduler.schedule(this::checkReadiness, ready ? readinessSleepInterval : NOT_READY_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Creates or deletes the readiness file based on the producer and consumer connections
      *
-     * @return Runable for readiness check
+     * @return True if Mirror Maker is ready. False otherwise.
      */
-    private Runnable readinessPoller() {
-        return new Runnable() {
-            private MBeanServerConnection beanConn = ManagementFactory.getPlatformMBeanServer();
-
-            @Override
-            public void run() {
-                while (true) {
-                    if (handleProducerConnected() && handleConsumerConnected()) {
-                        try {
-                            LOGGER.debug("Mirror Maker is ready");
-                            touch(readinessFile);
-                        } catch (IOException e) {
-                            LOGGER.error("Could not write readiness file {}", readinessFile, e);
-                        }
-                    } else {
-                        LOGGER.debug("Mirror Maker is not ready");
-
-                        if (readinessFile.exists() && !readinessFile.delete()) {
-                            LOGGER.error("Could not delete readiness indicator file {}", readinessFile);
-                        }
-                    }
-
-                    try {
-                        Thread.sleep(readinessSleepInterval);
-                    } catch (InterruptedException e) {
-                        // In theory this should never normally happen
-                        LOGGER.warn("Unexpectedly interrupted");
-                        break;
-                    }
-                }
-                LOGGER.debug("Exiting thread");
+    private boolean checkReadinessOnce() {
+        if (handleProducerConnected() && handleConsumerConnected()) {
+            try {
+                LOGGER.debug("Mirror Maker is ready");
+                touch(readinessFile);
+            } catch (IOException e) {
+                LOGGER.error("Could not write readiness file {}", readinessFile, e);
             }
+            readiness.ready();
+            return true;
+        } else {
+            LOGGER.debug("Mirror Maker is not ready");
 
-            /**
-             * Gets the producer connections from JMX and counts them.
-             *
-             * @return True if at least one producer connections exists. False otherwise.
-             */
-            boolean handleProducerConnected() {
-                LOGGER.debug("Polling for producer connections");
-                Double connectionCount = 0.0D;
-
-                try {
-                    Set<ObjectName> mbeans = beanConn.queryNames(new ObjectName("kafka.producer:type=producer-metrics,client-id=*"), null);
-
-                    for (ObjectName oName : mbeans) {
-                        Double attr = (Double) beanConn.getAttribute(oName, "connection-count");
-                        connectionCount += attr;
-                        LOGGER.trace("Found connection metric with name {} and value: {}", oName, attr);
-                    }
-                }   catch (IOException | JMException e) {
-                    LOGGER.error("Failed to query JMX metrics", e);
-                }   finally {
-                    LOGGER.trace("Total producer connections {}", connectionCount);
-                    return connectionCount > 0;
-                }
+            if (readinessFile.exists() && !readinessFile.delete()) {
+                LOGGER.error("Could not delete readiness indicator file {}", readinessFile);
             }
+            return false;
+        }
+    }
 
-            /**
-             * Gets the consumer connections from JMX and counts them.
-             *
-             * @return True if at least one consumer connections exists. False otherwise.
-             */
-            boolean handleConsumerConnected() {
-                LOGGER.debug("Polling for consumer connections");
-                Double connectionCount = 0.0D;
-
-                try {
-                    Set<ObjectName> mbeans = beanConn.queryNames(new ObjectName("kafka.consumer:type=consumer-metrics,client-id=*"), null);
-
-                    for (ObjectName oName : mbeans) {
-                        Double attr = (Double) beanConn.getAttribute(oName, "connection-count");
-                        connectionCount += attr;
-                        LOGGER.trace("Found connection metric with name {} and value: {}", oName, attr);
-                    }
-                }   catch (IOException | JMException e) {
-                    LOGGER.error("Failed to query JMX metrics", e);
-                }   finally {
-                    LOGGER.trace("Total consumer connections {}", connectionCount);
-                    return connectionCount > 0;
-                }
+    /**
+     * Gets the producer connections from JMX and counts them.
+     *
+     * @return True if at least one producer connections exists. False otherwise.
+     */
+    private boolean handleProducerConnected() {
+        LOGGER.debug("Polling for producer connections");
+        return connectionCount("kafka.producer:type=producer-metrics,client-id=*", "producer") > 0;
+    }
+
+    /**
+     * Gets the consumer connections from JMX and counts them.
+     *
+     * @return True if at least one consumer connections exists. False otherwise.
+     */
+    private boolean handleConsumerConnected() {
+        LOGGER.debug("Polling for consumer connections");
+        return connectionCount("kafka.consumer:type=consumer-metrics,client-id=*", "consumer") > 0;
+    }
+
+    private double connectionCount(String query, String clientType) {
+        double connectionCount = 0.0D;
+
+        try {
+            Set<ObjectName> mbeans = beanConn.queryNames(new ObjectName(query), null);
+
+            for (ObjectName oName : mbeans) {
+                Double attr = (Double) beanConn.getAttribute(oName, "connection-count");
+                connectionCount += attr;
+                LOGGER.trace("Found connection metric with name {} and value: {}", oName, attr);
             }
-        };
+        } catch (JMException | RuntimeException e) {
+            LOGGER.error("Failed to query JMX metrics", e);
+        }
+
+        LOGGER.trace("Total {} connections {}", clientType, connectionCount);
+        return connectionCount;
     }
 
     /**
@@ -184,15 +194,35 @@ public class MirrorMakerAgent {
      * @throws IOException
      */
     private void touch(File file) throws IOException {
-        FileOutputStream out = null;
-        try {
-            out = new FileOutputStream(file);
-            file.deleteOnExit();
-        } finally {
-            if (out != null) {
-                out.close();
+        Files.write(file.toPath(), new byte[0]);
+        file.deleteOnExit();
+    }
+
+    /**
+     * MBean interface reporting the readiness of Mirror Maker
+     */
+    public interface ReadinessMXBean {
+        /**
+         * @return The time in milliseconds from the JVM start until Mirror Maker was ready for the first time or -1 if it
+         * was not ready yet.
+         */
+        long getTimeToReadyMs();
+    }
+
+    private static class Readiness implements ReadinessMXBean {
+        private volatile long timeToReadyMs = -1L;
+
+        void ready() {
+            if (timeToReadyMs < 0) {
+                timeToReadyMs = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                LOGGER.info("Mirror Maker is ready {} ms after the JVM start", timeToReadyMs);
             }
         }
+
+        @Override
+        public long getTimeToReadyMs() {
+            return timeToReadyMs;
+        }
     }
 
     /**
@@ -418,9 +418,10 @@ class MockBuilder<T extends HasMetadata,
     private T doCreate(String resourceName, T argument) {
         checkNotExists(resourceName);
         LOGGER.debug("create {} {} -> {}", resourceType, resourceName, argument);
-        db.put(resourceName, incrementGeneration(incrementResourceVersion(copyResource(argument))));
-        fireWatchers(resourceName, argument, Watcher.Action.ADDED, "create");
-        return copyResource(argument);
+        T created = incrementGeneration(incrementResourceVersion(copyResource(argument)));
+        db.put(resourceName, created);
+        fireWatchers(resourceName, created, Watcher.Action.ADDED, "create");
+        return copyResource(created);
     }
 
     protected T incrementResourceVersion(T resource) {
@@ -250,29 +250,7 @@ public abstract class Ca {
     }
 
     public CertAndKey addKeyAndCertToKeyStore(String alias, byte[] key, byte[] cert) throws IOException {
-
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
-        Files.write(keyFile.toPath(), key);
-        Files.write(certFile.toPath(), cert);
-
-        String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
-
-        CertAndKey result = new CertAndKey(
-                Files.readAllBytes(keyFile.toPath()),
-                Files.readAllBytes(certFile.toPath()),
-                null,
-                Files.readAllBytes(keyStoreFile.toPath()),
-                keyStorePassword);
-
-        delete(keyFile);
-        delete(certFile);
-        delete(keyStoreFile);
-
-        return result;
+        return certManager.addKeyAndCertToKeyStore(key, cert, alias, passwordGenerator.generate());
     }
 
     /*test*/ CertAndKey generateSignedCert(Subject subject,
@@ -312,11 +290,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = File.createTempFile("tls", "csr");
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
         Subject subject = new Subject();
 
         if (organization != null) {
@@ -325,14 +298,9 @@ public abstract class Ca {
 
         subject.setCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject,
-                csrFile, keyFile, certFile, keyStoreFile);
+        log.debug("Generating certificate {}, signed by CA {}", subject, this);
 
-        delete(csrFile);
-        delete(keyFile);
-        delete(certFile);
-        delete(keyStoreFile);
-        return result;
+        return certManager.generateSignedCert(subject, currentCaKey(), currentCaCertBytes(), validityDays, passwordGenerator.generate());
     }
 
     /**
@@ -29,7 +29,9 @@ import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.shareddata.Lock;
@@ -38,6 +40,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Collections;
 import java.util.Optional;
@@ -77,6 +80,8 @@ public abstract class AbstractOperator<
 
     private static final long PROGRESS_WARNING = 60_000L;
     protected static final int LOCK_TIMEOUT_MS = 10000;
+    public static final int DEFAULT_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT = 0;
+    public static final int DEFAULT_QUEUED_RECONCILIATIONS_PER_SECOND = 0;
     public static final String METRICS_PREFIX = "strimzi.";
 
     protected final Vertx vertx;
@@ -95,8 +100,75 @@ public abstract class AbstractOperator<
     private final AtomicInteger resourceCounter;
     private final Timer reconciliationsTimer;
     private final Map<String, AtomicInteger> resourcesStateCounter;
+    private final ResourceCache<T> cache;
+    private final WorkQueue queue;
+    private final ThrottledReconciler periodicReconciler;
 
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, 0, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                             Vert.x instance
+     * @param kind                              Kind of the custom resource consumed by this operator
+     * @param resourceOperator                  Resource operator for the custom resource
+     * @param metrics                           Metrics provider
+     * @param selectorLabels                    Labels used to select the custom resources consumed by this operator
+     * @param maxPeriodicReconciliationsInFlight Maximal number of resources reconciled at the same time by
+     *                                          {@link #reconcileThese(String, Set, Handler)} or 0 for no limit
+     * @param periodicReconciliationSpreadMs    Time window over which {@link #reconcileThese(String, Set, Handler)}
+     *                                          spreads the start of the reconciliations or 0 to start them immediately
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels,
+                            int maxPeriodicReconciliationsInFlight, long periodicReconciliationSpreadMs) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, maxPeriodicReconciliationsInFlight,
+                periodicReconciliationSpreadMs, DEFAULT_MAX_QUEUED_RECONCILIATIONS_IN_FLIGHT);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                             Vert.x instance
+     * @param kind                              Kind of the custom resource consumed by this operator
+     * @param resourceOperator                  Resource operator for the custom resource
+     * @param metrics                           Metrics provider
+     * @param selectorLabels                    Labels used to select the custom resources consumed by this operator
+     * @param maxPeriodicReconciliationsInFlight Maximal number of resources reconciled at the same time by
+     *                                          {@link #reconcileThese(String, Set, Handler)} or 0 for no limit
+     * @param periodicReconciliationSpreadMs    Time window over which {@link #reconcileThese(String, Set, Handler)}
+     *                                          spreads the start of the reconciliations or 0 to start them immediately
+     * @param maxQueuedReconciliationsInFlight  Maximal number of resources reconciled at the same time by the
+     *                                          {@link WorkQueue} or 0 for no limit
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels,
+                            int maxPeriodicReconciliationsInFlight, long periodicReconciliationSpreadMs,
+                            int maxQueuedReconciliationsInFlight) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, maxPeriodicReconciliationsInFlight,
+                periodicReconciliationSpreadMs, maxQueuedReconciliationsInFlight, DEFAULT_QUEUED_RECONCILIATIONS_PER_SECOND);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                             Vert.x instance
+     * @param kind                              Kind of the custom resource consumed by this operator
+     * @param resourceOperator                  Resource operator for the custom resource
+     * @param metrics                           Metrics provider
+     * @param selectorLabels                    Labels used to select the custom resources consumed by this operator
+     * @param maxPeriodicReconciliationsInFlight Maximal number of resources reconciled at the same time by
+     *                                          {@link #reconcileThese(String, Set, Handler)} or 0 for no limit
+     * @param periodicReconciliationSpreadMs    Time window over which {@link #reconcileThese(String, Set, Handler)}
+     *                                          spreads the start of the reconciliations or 0 to start them immediately
+     * @param maxQueuedReconciliationsInFlight  Maximal number of resources reconciled at the same time by the
+     *                                          {@link WorkQueue} or 0 for no limit
+     * @param queuedReconciliationsPerSecond    Maximal number of reconciliations started by the {@link WorkQueue} per
+     *                                          second or 0 for no limit
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels,
+                            int maxPeriodicReconciliationsInFlight, long periodicReconciliationSpreadMs,
+                            int maxQueuedReconciliationsInFlight, int queuedReconciliationsPerSecond) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
@@ -139,6 +211,15 @@ public abstract class AbstractOperator<
                 metricTags);
 
         resourcesStateCounter = new ConcurrentHashMap<>();
+
+        cache = new ResourceCache<>(metrics, kind);
+        queue = new WorkQueue(vertx, kind, this::reconcile, metrics, maxQueuedReconciliationsInFlight, queuedReconciliationsPerSecond);
+
+        if (maxPeriodicReconciliationsInFlight > 0 || periodicReconciliationSpreadMs > 0) {
+            periodicReconciler = new ThrottledReconciler(vertx, queue::enqueue, maxPeriodicReconciliationsInFlight, periodicReconciliationSpreadMs);
+        } else {
+            periodicReconciler = null;
+        }
     }
 
     @Override
@@ -197,7 +278,7 @@ public abstract class AbstractOperator<
         Timer.Sample reconciliationTimerSample = Timer.start(metrics.meterRegistry());
 
         Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () -> {
-            T cr = resourceOperator.get(namespace, name);
+            T cr = getResource(namespace, name);
 
             if (cr != null) {
                 if (!Util.matchesSelector(selector(), cr))  {
@@ -311,6 +392,53 @@ public abstract class AbstractOperator<
         return result.future();
     }
 
+    /**
+     * Gets the custom resource which should be reconciled. The resource is served from the local cache fed by the
+     * watch when possible and fetched from the Kubernetes API otherwise.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     *
+     * @return  The custom resource or null if it does not exist
+     */
+    private T getResource(String namespace, String name) {
+        T cr = cache.get(namespace, name);
+        return cr != null ? cr : resourceOperator.get(namespace, name);
+    }
+
+    /**
+     * Reconciles the given resources. When a limit for the number of periodic reconciliations in flight or a time
+     * window for spreading them was configured, the reconciliations are throttled accordingly. Otherwise all
+     * reconciliations are queued at once.
+     *
+     * The reconciliations go through the same {@link WorkQueue} as the reconciliations triggered by the watch events.
+     * So a resource which is already queued or being reconciled because of a watch event is not reconciled again in
+     * parallel and the reconciliation does not fail because it could not get the lock. The limits of the queue apply
+     * to the periodic reconciliations as well.
+     *
+     * @param trigger The cause of this reconciliation (for logging).
+     * @param desiredNames The resources which should be reconciled.
+     * @param handler Handler called on completion.
+     */
+    @Override
+    public void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, Handler<AsyncResult<Void>> handler) {
+        getResourceCounter().set(desiredNames.size());
+
+        List<Reconciliation> reconciliations = desiredNames.stream()
+                .map(resourceRef -> new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName()))
+                .collect(Collectors.toList());
+
+        if (periodicReconciler == null) {
+            List<Future> futures = reconciliations.stream()
+                    .map(queue::enqueue)
+                    .collect(Collectors.toList());
+
+            CompositeFuture.join(futures).map((Void) null).onComplete(handler);
+        } else {
+            periodicReconciler.reconcile(reconciliations).onComplete(handler);
+        }
+    }
+
     protected void addWarningsToStatus(Status status, Set<Condition> unknownAndDeprecatedConditions)   {
         if (status != null)  {
             status.addConditions(unknownAndDeprecatedConditions);
@@ -345,7 +473,12 @@ public abstract class AbstractOperator<
                             res.setStatus(desiredStatus);
 
                             return resourceOperator.updateStatusAsync(res)
-                                    .compose(notUsed -> {
+                                    .compose(updated -> {
+                                        if (updated != null) {
+                                            // Make sure the next reconciliation does not use the pre-update version
+                                            cache.refresh(updated);
+                                        }
+
                                         log.debug("{}: Completed status update", reconciliation);
                                         return Future.succeededFuture();
                                     }, error -> {
@@ -447,6 +580,10 @@ public abstract class AbstractOperator<
     }
 
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
+        if (cache.isSynced(namespace)) {
+            return Future.succeededFuture(cache.names(namespace));
+        }
+
         return resourceOperator.listAsync(namespace, selector())
                 .map(resourceList ->
                         resourceList.stream()
@@ -464,7 +601,8 @@ public abstract class AbstractOperator<
     }
 
     /**
-     * Create Kubernetes watch.
+     * Create Kubernetes watch. Once the watch is open, the resources are listed to seed the local cache of the
+     * resource names which is then kept up to date by the watch events.
      *
      * @param namespace Namespace where to watch for users.
      * @param onClose Callback called when the watch is closed.
@@ -472,7 +610,17 @@ public abstract class AbstractOperator<
      * @return A future which completes when the watcher has been created.
      */
     public Future<Watch> createWatch(String namespace, Consumer<WatcherException> onClose) {
-        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose)));
+        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose, cache, queue)))
+                .compose(watch -> resourceOperator.listAsync(namespace, selector())
+                        .compose(resources -> {
+                            cache.seed(namespace, resources);
+                            log.debug("Cache of {} resources in namespace {} seeded with {} resources", kind, namespace, resources.size());
+                            return Future.succeededFuture(watch);
+                        }, error -> {
+                                // The operator still works without the cache, it just falls back to the Kubernetes API
+                                log.warn("Failed to seed the cache of {} resources in namespace {}", kind, namespace, error);
+                                return Future.succeededFuture(watch);
+                            }));
     }
 
     public Consumer<WatcherException> recreateWatch(String namespace) {
@@ -481,6 +629,8 @@ public abstract class AbstractOperator<
             public void accept(WatcherException e) {
                 if (e != null) {
                     log.error("Watcher closed with exception in namespace {}", namespace, e);
+                    // Events might be lost until the watch is re-created and the cache re-seeded
+                    cache.invalidate(namespace);
                     createWatch(namespace, this);
                 } else {
                     log.info("Watcher closed in namespace {}", namespace);
@@ -546,7 +696,7 @@ public abstract class AbstractOperator<
                     Tag.of("resource-namespace", reconciliation.namespace()),
                     Tag.of("reason", cause == null ? "none" : cause.getMessage() == null ? "unknown error" : cause.getMessage()));
 
-        T cr = resourceOperator.get(reconciliation.namespace(), reconciliation.name());
+        T cr = getResource(reconciliation.namespace(), reconciliation.name());
 
         Optional<Meter> metric = metrics.meterRegistry().getMeters()
                 .stream()
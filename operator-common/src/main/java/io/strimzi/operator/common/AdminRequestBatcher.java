@@ -0,0 +1,199 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Aggregates the single-key requests to the Kafka Admin API which arrive within a short window into a single
+ * multi-key request and fans out its per-key results to the callers.
+ *
+ * The window starts with the first request after the previous batch was sent. The batch is sent when the window
+ * expires or as soon as it contains the maximum number of keys. Concurrent requests for the same key within the window
+ * share the same result. When the window is not positive, every request is sent on its own.
+ *
+ * @param <K>   Type of the key (for example the topic name)
+ * @param <V>   Type of the per-key result
+ */
+public class AdminRequestBatcher<K, V> {
+
+    private final static Logger LOGGER = LogManager.getLogger(AdminRequestBatcher.class);
+
+    private final Vertx vertx;
+    private final String operation;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final Function<Set<K>, Map<K, KafkaFuture<V>>> request;
+
+    private final Counter batchesCounter;
+    private final Counter requestsCounter;
+    private final Timer windowTimer;
+
+    private Map<K, List<Promise<V>>> pending = new LinkedHashMap<>();
+    private long windowStartNanos;
+    private long timerId = -1;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vertx instance used for the window timer and for completing the results
+     * @param kind          Kind of the custom resources on behalf of which the requests are sent (used in metrics)
+     * @param operation     Name of the Admin API operation used in logs and metrics
+     * @param windowMs      How long the requests are collected before they are sent in a batch
+     * @param maxBatchSize  Maximal number of keys in a single batch
+     * @param request       Function sending the multi-key request and returning the per-key results
+     * @param metrics       Metrics provider (null if the metrics should not be collected)
+     */
+    public AdminRequestBatcher(Vertx vertx, String kind, String operation, long windowMs, int maxBatchSize,
+                               Function<Set<K>, Map<K, KafkaFuture<V>>> request, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.operation = operation;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.request = request;
+
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", kind), Tag.of("operation", operation));
+
+            batchesCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "admin.batches",
+                    "Number of batched requests sent to the Kafka Admin API",
+                    metricTags);
+
+            requestsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "admin.batches.requests",
+                    "Number of single-key requests aggregated into the batched requests (divided by the number of batches gives the average batch size)",
+                    metricTags);
+
+            windowTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "admin.batches.window",
+                    "Time for which the single-key requests were collected before the batched request was sent",
+                    metricTags);
+        } else {
+            batchesCounter = null;
+            requestsCounter = null;
+            windowTimer = null;
+        }
+    }
+
+    /**
+     * Adds the key to the current batch.
+     *
+     * @param key   The requested key
+     *
+     * @return  Future which completes on the Vertx context with the result for the given key
+     */
+    public Future<V> submit(K key) {
+        Promise<V> promise = Promise.promise();
+        Map<K, List<Promise<V>>> batch = null;
+
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                windowStartNanos = System.nanoTime();
+            }
+
+            pending.computeIfAbsent(key, k -> new ArrayList<>(1)).add(promise);
+
+            if (windowMs <= 0 || pending.size() >= maxBatchSize) {
+                batch = takeBatch();
+            } else if (timerId < 0) {
+                timerId = vertx.setTimer(windowMs, this::windowExpired);
+            }
+        }
+
+        if (batch != null) {
+            send(batch);
+        }
+
+        return promise.future();
+    }
+
+    private void windowExpired(long expiredTimerId) {
+        Map<K, List<Promise<V>>> batch = null;
+
+        synchronized (this) {
+            // The batch might have been already sent because it got full
+            if (timerId == expiredTimerId) {
+                batch = takeBatch();
+            }
+        }
+
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    /**
+     * Takes the pending requests as a batch and closes the window. Has to be called with the lock held.
+     *
+     * @return  The batch which should be sent
+     */
+    private Map<K, List<Promise<V>>> takeBatch() {
+        if (timerId >= 0) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+
+        if (windowTimer != null) {
+            windowTimer.record(System.nanoTime() - windowStartNanos, TimeUnit.NANOSECONDS);
+        }
+
+        Map<K, List<Promise<V>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void send(Map<K, List<Promise<V>>> batch) {
+        LOGGER.debug("Sending {} request for {} keys", operation, batch.size());
+
+        if (batchesCounter != null) {
+            batchesCounter.increment();
+            requestsCounter.increment(batch.size());
+        }
+
+        Map<K, KafkaFuture<V>> results;
+        try {
+            results = request.apply(batch.keySet());
+        } catch (Exception e) {
+            LOGGER.debug("{} request for {} keys failed", operation, batch.size(), e);
+            batch.values().forEach(promises -> vertx.runOnContext(ignored -> promises.forEach(promise -> promise.fail(e))));
+            return;
+        }
+
+        for (Map.Entry<K, List<Promise<V>>> entry : batch.entrySet()) {
+            List<Promise<V>> promises = entry.getValue();
+            KafkaFuture<V> result = results != null ? results.get(entry.getKey()) : null;
+
+            if (result == null) {
+                Exception e = new IllegalStateException("The " + operation + " request returned no result for " + entry.getKey());
+                vertx.runOnContext(ignored -> promises.forEach(promise -> promise.fail(e)));
+            } else {
+                result.whenComplete((value, error) -> vertx.runOnContext(ignored -> {
+                    for (Promise<V> promise : promises) {
+                        if (error != null) {
+                            promise.fail(error);
+                        } else {
+                            promise.complete(value);
+                        }
+                    }
+                }));
+            }
+        }
+    }
+}
@@ -41,6 +41,8 @@ public class Annotations {
     // This annotation with related possible values (approve, stop, refresh) is set by the user for interacting
     // with the rebalance operator in order to start, stop, or refresh rebalancing proposals and operations.
     public static final String ANNO_STRIMZI_IO_REBALANCE = STRIMZI_DOMAIN + "rebalance";
+    // Hash of the desired state of a resource managed by the operators (used to skip patching of unchanged resources)
+    public static final String ANNO_STRIMZI_IO_DESIRED_STATE_HASH = STRIMZI_DOMAIN + "desired-state-hash";
 
     /**
      * Annotations for restarting KafkaConnector and KafkaMirrorMaker2 connectors or tasks
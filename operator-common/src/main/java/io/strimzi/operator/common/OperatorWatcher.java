@@ -19,26 +19,57 @@ import java.util.function.Consumer;
 class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
     private final String namespace;
     private final Consumer<WatcherException> onClose;
+    private final ResourceCache<T> cache;
+    private final WorkQueue queue;
     private Operator operator;
     private static final Logger log = LogManager.getLogger(OperatorWatcher.class);
 
     OperatorWatcher(Operator operator, String namespace, Consumer<WatcherException> onClose) {
+        this(operator, namespace, onClose, null, null);
+    }
+
+    /**
+     * Constructs the watcher
+     *
+     * @param operator  The operator which should be triggered by the events
+     * @param namespace The watched namespace
+     * @param onClose   Callback called when the watch is closed
+     * @param cache     Cache which should be updated from the watch events or null if no cache is used
+     * @param queue     Work queue used to coalesce the reconciliations or null to reconcile directly
+     */
+    OperatorWatcher(Operator operator, String namespace, Consumer<WatcherException> onClose, ResourceCache<T> cache, WorkQueue queue) {
         this.namespace = namespace;
         this.onClose = onClose;
         this.operator = operator;
+        this.cache = cache;
+        this.queue = queue;
     }
 
     @Override
     public void eventReceived(Action action, T resource) {
         String name = resource.getMetadata().getName();
         String namespace = resource.getMetadata().getNamespace();
+        if (cache != null) {
+            // The cache has to be updated before the reconciliation is triggered so that it gets this version of the resource
+            if (action == Action.DELETED) {
+                cache.remove(resource);
+            } else if (action == Action.ADDED || action == Action.MODIFIED) {
+                cache.update(resource);
+            }
+        }
+
         switch (action) {
             case ADDED:
             case DELETED:
             case MODIFIED:
                 Reconciliation reconciliation = new Reconciliation("watch", operator.kind(), namespace, name);
                 log.info("{}: {} {} in namespace {} was {}", reconciliation, operator.kind(), name, namespace, action);
-                operator.reconcile(reconciliation);
+
+                if (queue != null) {
+                    queue.enqueue(reconciliation);
+                } else {
+                    operator.reconcile(reconciliation);
+                }
                 break;
             case ERROR:
                 log.error("Failed {} {} in namespace{} ", operator.kind(), name, namespace);
@@ -0,0 +1,296 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Namespace-indexed local cache of the custom resources consumed by an {@link AbstractOperator}. It serves the
+ * custom resources to the reconciliations and lists the names of the resources for the periodic reconciliation
+ * without calling the Kubernetes API. The status updates always get the resource from the Kubernetes API, so that
+ * they are never based on an outdated version of it.
+ *
+ * The cache is fed by the {@link OperatorWatcher} watch stream and seeded by a list of the resources once the watch
+ * has been (re)opened. Only once it was seeded for a namespace is it used as the source of truth for the resources
+ * in that namespace. Lookups which miss the cache fall back to the Kubernetes API.
+ *
+ * The watch events are delivered in order, so they always replace the cached resource. The list used for seeding
+ * can be older than the events received since the watch was opened, so the listed resources are added only when
+ * they are not older than the cached ones and were not deleted since. The deleted resources are remembered as
+ * tombstones for a limited time only, because they are needed only while the cache is being seeded.
+ *
+ * @param <T> The Java representation of the Kubernetes resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    /*test*/ static final long DEFAULT_TOMBSTONE_TTL_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final Map<String, Map<String, T>> resourcesByNamespace = new ConcurrentHashMap<>();
+    private final Map<NamespaceAndName, Tombstone> tombstones = new ConcurrentHashMap<>();
+    private final Set<String> syncedNamespaces = ConcurrentHashMap.newKeySet();
+
+    private final long tombstoneTtlMs;
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+
+    /**
+     * Constructs the cache
+     *
+     * @param metrics   Metrics provider used to register the cache hit and miss counters
+     * @param kind      Kind of the cached resource used to tag the metrics
+     */
+    public ResourceCache(MetricsProvider metrics, String kind) {
+        this(metrics, kind, DEFAULT_TOMBSTONE_TTL_MS);
+    }
+
+    /**
+     * Constructs the cache
+     *
+     * @param metrics           Metrics provider used to register the cache hit and miss counters
+     * @param kind              Kind of the cached resource used to tag the metrics
+     * @param tombstoneTtlMs    How long the deleted resources are remembered
+     */
+    /*test*/ ResourceCache(MetricsProvider metrics, String kind, long tombstoneTtlMs) {
+        this.tombstoneTtlMs = tombstoneTtlMs;
+
+        Tags metricTags = Tags.of(Tag.of("kind", kind));
+
+        hitsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "resources.cache.hits",
+                "Number of custom resource lookups served from the operator's local cache",
+                metricTags);
+
+        missesCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "resources.cache.misses",
+                "Number of custom resource lookups which were not served from the local cache and had to query the Kubernetes API",
+                metricTags);
+    }
+
+    /**
+     * Gets the cached resource. The resource is served only when the cache is synchronized for its namespace. Records
+     * a cache hit or miss.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     *
+     * @return  The cached resource or null if it is not cached
+     */
+    public T get(String namespace, String name) {
+        T resource = null;
+
+        if (isSynced(namespace)) {
+            Map<String, T> resources = resourcesByNamespace.get(namespace);
+            resource = resources != null ? resources.get(name) : null;
+        }
+
+        if (resource != null) {
+            increment(hitsCounter);
+        } else {
+            increment(missesCounter);
+        }
+
+        return resource;
+    }
+
+    /**
+     * Lists the names of the cached resources.
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     *
+     * @return  Set with the names of the cached resources
+     */
+    public Set<NamespaceAndName> names(String namespace) {
+        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            return resourcesByNamespace.values().stream()
+                    .flatMap(resources -> resources.values().stream())
+                    .map(ResourceCache::namespaceAndName)
+                    .collect(Collectors.toSet());
+        } else {
+            Map<String, T> resources = resourcesByNamespace.getOrDefault(namespace, Collections.emptyMap());
+            return resources.values().stream()
+                    .map(ResourceCache::namespaceAndName)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Adds or updates the resource received from the watch. The watch events are delivered in order, so the resource
+     * always replaces the cached one, even when it was re-created with a lower resourceVersion.
+     *
+     * @param resource  Resource which was added or modified
+     */
+    public synchronized void update(T resource) {
+        NamespaceAndName key = namespaceAndName(resource);
+        tombstones.remove(key);
+
+        resourcesByNamespace.computeIfAbsent(key.getNamespace(), ns -> new ConcurrentHashMap<>())
+                .put(key.getName(), resource);
+    }
+
+    /**
+     * Replaces the cached resource with the version returned by the Kubernetes API after it was changed by the
+     * operator (for example after a status update), so that the next reconciliation does not have to wait for the
+     * watch event. The resource is not added when it is not cached and it does not replace a newer cached version.
+     *
+     * @param resource  Resource returned by the Kubernetes API
+     */
+    public synchronized void refresh(T resource) {
+        NamespaceAndName key = namespaceAndName(resource);
+
+        Map<String, T> resources = resourcesByNamespace.get(key.getNamespace());
+        T current = resources != null ? resources.get(key.getName()) : null;
+
+        if (current != null
+                && Objects.equals(current.getMetadata().getUid(), resource.getMetadata().getUid())
+                && isNotNewer(current.getMetadata().getResourceVersion(), resource.getMetadata().getResourceVersion())) {
+            resources.put(key.getName(), resource);
+        }
+    }
+
+    /**
+     * Removes the resource deleted according to the watch and remembers its resourceVersion, so that a list
+     * result from before the deletion cannot bring it back.
+     *
+     * @param resource  The deleted resource as delivered by the watch
+     */
+    public synchronized void remove(T resource) {
+        NamespaceAndName key = namespaceAndName(resource);
+
+        Map<String, T> resources = resourcesByNamespace.get(key.getNamespace());
+        if (resources != null) {
+            resources.remove(key.getName());
+        }
+
+        pruneTombstones();
+        tombstones.put(key, new Tombstone(resource.getMetadata().getResourceVersion(), System.currentTimeMillis() + tombstoneTtlMs));
+    }
+
+    /**
+     * Seeds the cache with the result of a list operation and marks the namespace as synchronized. The listed
+     * resources do not replace newer cached versions or resources which were deleted since.
+     *
+     * @param namespace Namespace (or {@code *}) which was listed
+     * @param resources The listed resources
+     */
+    public synchronized void seed(String namespace, List<T> resources) {
+        pruneTombstones();
+
+        for (T resource : resources) {
+            NamespaceAndName key = namespaceAndName(resource);
+            String resourceVersion = resource.getMetadata().getResourceVersion();
+
+            Tombstone tombstone = tombstones.get(key);
+            if (tombstone != null && isNotNewer(resourceVersion, tombstone.resourceVersion)) {
+                continue;
+            }
+
+            Map<String, T> cached = resourcesByNamespace.computeIfAbsent(key.getNamespace(), ns -> new ConcurrentHashMap<>());
+            T current = cached.get(key.getName());
+            if (current == null || !isNotNewer(resourceVersion, current.getMetadata().getResourceVersion())) {
+                cached.put(key.getName(), resource);
+            }
+        }
+
+        syncedNamespaces.add(namespace);
+    }
+
+    /**
+     * Indicates whether the cache was seeded for given namespace and is kept up to date by a watch.
+     *
+     * @param namespace Namespace or {@code *}
+     *
+     * @return  True if the cache is synchronized
+     */
+    public boolean isSynced(String namespace) {
+        return syncedNamespaces.contains(namespace)
+                || syncedNamespaces.contains(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+    }
+
+    /**
+     * Drops the cached content for given namespace. This should be called when the watch feeding the cache is closed,
+     * because events might be lost until it is re-opened.
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     */
+    public synchronized void invalidate(String namespace) {
+        syncedNamespaces.remove(namespace);
+
+        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            resourcesByNamespace.clear();
+            tombstones.clear();
+        } else {
+            resourcesByNamespace.remove(namespace);
+            tombstones.keySet().removeIf(key -> namespace.equals(key.getNamespace()));
+        }
+    }
+
+    /**
+     * @return  Number of the remembered deleted resources
+     */
+    /*test*/ int tombstones() {
+        return tombstones.size();
+    }
+
+    private void pruneTombstones() {
+        long now = System.currentTimeMillis();
+        tombstones.values().removeIf(tombstone -> tombstone.expiresAt <= now);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static NamespaceAndName namespaceAndName(HasMetadata resource) {
+        return new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+    }
+
+    /**
+     * Compares two resource versions. Kubernetes documents resource versions as opaque strings, but in practice they
+     * are monotonically increasing integers. When they cannot be parsed, the candidate is assumed to be newer so that
+     * the most recently delivered object wins.
+     *
+     * @param candidate The resource version of the newly observed object
+     * @param reference The resource version of the object which is already known
+     *
+     * @return  True if the candidate is known to be the same or older than the reference
+     */
+    /*test*/ static boolean isNotNewer(String candidate, String reference) {
+        if (candidate == null || reference == null) {
+            return false;
+        }
+
+        try {
+            return Long.parseLong(candidate) <= Long.parseLong(reference);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The resourceVersion of a deleted resource and the time until which it is remembered
+     */
+    private static class Tombstone {
+        private final String resourceVersion;
+        private final long expiresAt;
+
+        private Tombstone(String resourceVersion, long expiresAt) {
+            this.resourceVersion = resourceVersion;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Runs batches of reconciliations (typically the periodic reconciliation of all resources of given kind) without
+ * starting all of them at once:
+ *
+ * <ul>
+ * <li>The start of each reconciliation is delayed by a random time within its slot of the {@code spreadMs}
+ *     window. The slots are assigned in random order so that the same resources are not always reconciled first.
+ * <li>At most {@code maxInFlight} reconciliations run at the same time. The limit is shared by all batches, so when
+ *     a new batch starts before the previous one completed (for example because the periodic reconciliation takes
+ *     longer than its interval), the batches do not add up. Reconciliations which are due while the limit is reached
+ *     wait until some other reconciliation completes.
+ * <li>A resource which is already waiting for its reconciliation is not queued again by a later batch. The later
+ *     batch waits for the queued reconciliation instead.
+ * </ul>
+ *
+ * The future returned for a batch completes once all its reconciliations complete. Like {@code CompositeFuture.join},
+ * it fails with the first failure when any of them failed.
+ */
+class ThrottledReconciler {
+    private static final Logger log = LogManager.getLogger(ThrottledReconciler.class);
+
+    private final Vertx vertx;
+    private final Function<Reconciliation, Future<Void>> reconciler;
+    private final int maxInFlight;
+    private final long spreadMs;
+
+    private final Deque<Due> due = new ArrayDeque<>();
+    private final Map<String, Due> dueByResource = new HashMap<>();
+    private int inFlight = 0;
+
+    /**
+     * Constructs the reconciler
+     *
+     * @param vertx         Vert.x instance used for the timers
+     * @param reconciler    Function used to reconcile the individual resources
+     * @param maxInFlight   Maximal number of reconciliations running at the same time or 0 for no limit
+     * @param spreadMs      Time window over which the start of the reconciliations is spread or 0 to start them
+     *                      immediately
+     */
+    ThrottledReconciler(Vertx vertx, Function<Reconciliation, Future<Void>> reconciler, int maxInFlight, long spreadMs) {
+        this.vertx = vertx;
+        this.reconciler = reconciler;
+        this.maxInFlight = maxInFlight;
+        this.spreadMs = spreadMs;
+    }
+
+    /**
+     * Reconciles the given resources
+     *
+     * @param reconciliations   List of reconciliations which should be executed
+     *
+     * @return  Future which completes when all reconciliations are complete
+     */
+    Future<Void> reconcile(List<Reconciliation> reconciliations) {
+        if (reconciliations.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        List<Reconciliation> shuffled = new ArrayList<>(reconciliations);
+        Collections.shuffle(shuffled);
+
+        return new Batch(shuffled).start();
+    }
+
+    /**
+     * Queues the reconciliation once it became due. When the same resource is already queued, the queued
+     * reconciliation is used instead.
+     *
+     * @param reconciliation    The reconciliation which became due
+     *
+     * @return  Future which completes when the reconciliation of the resource completes
+     */
+    private Future<Void> becameDue(Reconciliation reconciliation) {
+        Future<Void> result;
+
+        synchronized (this) {
+            String key = reconciliation.namespace() + "/" + reconciliation.name();
+            Due queued = dueByResource.get(key);
+
+            if (queued != null) {
+                log.debug("{}: Reconciliation is already queued by {}", reconciliation, queued.reconciliation);
+                return queued.result.future();
+            }
+
+            Due next = new Due(key, reconciliation);
+            due.add(next);
+            dueByResource.put(key, next);
+            result = next.result.future();
+        }
+
+        dispatch();
+        return result;
+    }
+
+    private void dispatch() {
+        while (true) {
+            Due next;
+
+            synchronized (this) {
+                if (due.isEmpty() || (maxInFlight > 0 && inFlight >= maxInFlight)) {
+                    return;
+                }
+
+                next = due.poll();
+                dueByResource.remove(next.key);
+                inFlight++;
+            }
+
+            Future<Void> reconcileResult;
+            try {
+                reconcileResult = reconciler.apply(next.reconciliation);
+            } catch (Throwable t) {
+                reconcileResult = Future.failedFuture(t);
+            }
+
+            reconcileResult.onComplete(res -> {
+                synchronized (this) {
+                    inFlight--;
+                }
+
+                next.result.handle(res);
+                dispatch();
+            });
+        }
+    }
+
+    /**
+     * Reconciliation waiting for a free slot
+     */
+    private static class Due {
+        private final String key;
+        private final Reconciliation reconciliation;
+        private final Promise<Void> result = Promise.promise();
+
+        Due(String key, Reconciliation reconciliation) {
+            this.key = key;
+            this.reconciliation = reconciliation;
+        }
+    }
+
+    /**
+     * State of one batch of reconciliations
+     */
+    private class Batch {
+        private final List<Reconciliation> reconciliations;
+        private final Promise<Void> result = Promise.promise();
+
+        private int remaining;
+        private Throwable firstFailure = null;
+
+        Batch(List<Reconciliation> reconciliations) {
+            this.reconciliations = reconciliations;
+            this.remaining = reconciliations.size();
+        }
+
+        Future<Void> start() {
+            long slotMs = spreadMs / reconciliations.size();
+
+            for (int i = 0; i < reconciliations.size(); i++) {
+                Reconciliation reconciliation = reconciliations.get(i);
+
+                if (slotMs > 0) {
+                    long delayMs = i * slotMs + ThreadLocalRandom.current().nextLong(slotMs);
+
+                    if (delayMs > 0) {
+                        log.debug("{}: Reconciliation will start in {}ms", reconciliation, delayMs);
+                        vertx.setTimer(delayMs, timerId -> becameDue(reconciliation).onComplete(res -> completed(res.cause())));
+                        continue;
+                    }
+                }
+
+                becameDue(reconciliation).onComplete(res -> completed(res.cause()));
+            }
+
+            return result.future();
+        }
+
+        private void completed(Throwable cause) {
+            boolean done;
+
+            synchronized (this) {
+                remaining--;
+
+                if (cause != null && firstFailure == null) {
+                    firstFailure = cause;
+                }
+
+                done = remaining == 0;
+            }
+
+            if (done) {
+                if (firstFailure != null) {
+                    result.fail(firstFailure);
+                } else {
+                    result.complete();
+                }
+            }
+        }
+    }
+}
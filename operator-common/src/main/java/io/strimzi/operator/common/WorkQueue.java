@@ -0,0 +1,306 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Work queue which sits between the {@link OperatorWatcher} (and the periodic reconciliation) and the
+ * {@link Operator#reconcile(Reconciliation)} method.
+ *
+ * <ul>
+ * <li>Requests for a resource which is already queued are coalesced with the queued reconciliation.
+ * <li>Requests for a resource which is currently being reconciled mark it as dirty. The resource is queued again once
+ *     (regardless of the number of requests received) when the running reconciliation completes. This avoids waiting
+ *     for the reconciliation lock and failing with {@link AbstractOperator.UnableToAcquireLockException}.
+ * <li>At most {@code maxInFlight} reconciliations are dispatched at the same time. The remaining ones wait in the
+ *     queue in the order in which they arrived.
+ * <li>At most {@code maxPerSecond} reconciliations are dispatched per second (with bursts of up to
+ *     {@code maxPerSecond} reconciliations). When the rate is exceeded, the remaining ones wait in the queue.
+ * </ul>
+ *
+ * Both limits are disabled by default, so that the queue does not delay any reconciliation unless configured to do so.
+ * The future returned by {@link #enqueue(Reconciliation)} completes once a reconciliation which started after the
+ * request was enqueued completes.
+ */
+public class WorkQueue {
+    private static final Logger log = LogManager.getLogger(WorkQueue.class);
+
+    private final Vertx vertx;
+    private final Function<Reconciliation, Future<Void>> reconciler;
+    private final int maxInFlight;
+    private final int maxPerSecond;
+
+    private final LinkedHashMap<NamespaceAndName, QueuedReconciliation> queued = new LinkedHashMap<>();
+    private final Map<NamespaceAndName, QueuedReconciliation> inFlight = new HashMap<>();
+    private final Map<NamespaceAndName, QueuedReconciliation> dirty = new HashMap<>();
+
+    // Token bucket used to limit the dispatch rate
+    private double tokens;
+    private long tokensUpdatedAt;
+    private boolean dispatchTimerSet = false;
+
+    private final AtomicInteger queueDepth;
+    private final Timer queueLatencyTimer;
+    private final Counter coalescedCounter;
+
+    /**
+     * Constructs the work queue without a limit for the dispatch rate
+     *
+     * @param kind          Kind of the resources reconciled through this queue (used for metrics)
+     * @param reconciler    Function used to reconcile the dispatched resources
+     * @param metrics       Metrics provider
+     * @param maxInFlight   Maximal number of reconciliations dispatched at the same time or 0 for no limit
+     */
+    public WorkQueue(String kind, Function<Reconciliation, Future<Void>> reconciler, MetricsProvider metrics, int maxInFlight) {
+        this(null, kind, reconciler, metrics, maxInFlight, 0);
+    }
+
+    /**
+     * Constructs the work queue
+     *
+     * @param vertx         Vert.x instance used for the timers of the rate limiter (can be null when {@code maxPerSecond} is 0)
+     * @param kind          Kind of the resources reconciled through this queue (used for metrics)
+     * @param reconciler    Function used to reconcile the dispatched resources
+     * @param metrics       Metrics provider
+     * @param maxInFlight   Maximal number of reconciliations dispatched at the same time or 0 for no limit
+     * @param maxPerSecond  Maximal number of reconciliations dispatched per second or 0 for no limit
+     */
+    public WorkQueue(Vertx vertx, String kind, Function<Reconciliation, Future<Void>> reconciler, MetricsProvider metrics,
+                     int maxInFlight, int maxPerSecond) {
+        if (maxInFlight < 0) {
+            throw new IllegalArgumentException("The maximal number of reconciliations in flight cannot be negative");
+        } else if (maxPerSecond < 0) {
+            throw new IllegalArgumentException("The maximal number of reconciliations per second cannot be negative");
+        } else if (maxPerSecond > 0 && vertx == null) {
+            throw new IllegalArgumentException("The Vert.x instance is required to limit the number of reconciliations per second");
+        }
+
+        this.vertx = vertx;
+        this.reconciler = reconciler;
+        this.maxInFlight = maxInFlight > 0 ? maxInFlight : Integer.MAX_VALUE;
+        this.maxPerSecond = maxPerSecond;
+        this.tokens = maxPerSecond;
+        this.tokensUpdatedAt = System.nanoTime();
+
+        Tags metricTags = Tags.of(Tag.of("kind", kind));
+
+        queueDepth = metrics.gauge(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.depth",
+                "Number of resources waiting in the work queue to be reconciled",
+                metricTags);
+
+        queueLatencyTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.latency",
+                "The time a resource waits in the work queue before its reconciliation starts",
+                metricTags);
+
+        coalescedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.coalesced",
+                "Number of events which were coalesced with an already queued or running reconciliation",
+                metricTags);
+    }
+
+    /**
+     * Adds the reconciliation to the queue unless the same resource is already queued. If the resource is being
+     * reconciled right now, it will be queued again after the current reconciliation completes.
+     *
+     * @param reconciliation    The reconciliation which should be queued
+     *
+     * @return  Future which completes with the result of the reconciliation which covers this request
+     */
+    public Future<Void> enqueue(Reconciliation reconciliation) {
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+        QueuedReconciliation request;
+
+        synchronized (this) {
+            if (inFlight.containsKey(key)) {
+                request = dirty.get(key);
+
+                if (request != null) {
+                    increment(coalescedCounter);
+                } else {
+                    request = new QueuedReconciliation(reconciliation);
+                    dirty.put(key, request);
+                }
+
+                log.debug("{}: Reconciliation is in progress, resource will be reconciled again once it completes", reconciliation);
+                return request.promise.future();
+            } else if (queued.containsKey(key)) {
+                request = queued.get(key);
+                increment(coalescedCounter);
+                log.debug("{}: Coalesced with {}", reconciliation, request.reconciliation);
+                return request.promise.future();
+            }
+
+            request = new QueuedReconciliation(reconciliation);
+            queued.put(key, request);
+            updateDepth();
+        }
+
+        dispatch();
+        return request.promise.future();
+    }
+
+    /**
+     * Starts as many queued reconciliations as allowed by the in-flight and rate limits. When the rate limit is
+     * reached, a timer is set to continue once the next reconciliation is allowed.
+     */
+    private void dispatch() {
+        while (true) {
+            QueuedReconciliation next;
+
+            synchronized (this) {
+                if (inFlight.size() >= maxInFlight || queued.isEmpty()) {
+                    return;
+                }
+
+                long delayMs = acquireToken();
+
+                if (delayMs > 0) {
+                    if (!dispatchTimerSet) {
+                        dispatchTimerSet = true;
+                        log.debug("Dispatch rate limit of {} reconciliations per second reached, {} resources are waiting", maxPerSecond, queued.size());
+                        vertx.setTimer(delayMs, ignored -> {
+                            synchronized (this) {
+                                dispatchTimerSet = false;
+                            }
+
+                            dispatch();
+                        });
+                    }
+
+                    return;
+                }
+
+                Iterator<Map.Entry<NamespaceAndName, QueuedReconciliation>> iterator = queued.entrySet().iterator();
+                Map.Entry<NamespaceAndName, QueuedReconciliation> entry = iterator.next();
+                iterator.remove();
+
+                next = entry.getValue();
+                inFlight.put(entry.getKey(), next);
+                updateDepth();
+            }
+
+            if (queueLatencyTimer != null) {
+                queueLatencyTimer.record(System.nanoTime() - next.queuedAt, TimeUnit.NANOSECONDS);
+            }
+
+            Reconciliation reconciliation = next.reconciliation;
+            Future<Void> result;
+
+            try {
+                result = reconciler.apply(reconciliation);
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+
+            QueuedReconciliation completed = next;
+            result.onComplete(res -> completed(completed, res));
+        }
+    }
+
+    /**
+     * Takes a token from the token bucket of the rate limiter. Has to be called while holding the lock.
+     *
+     * @return  0 when the token was taken or the number of milliseconds after which the next token is available
+     */
+    private long acquireToken() {
+        if (maxPerSecond == 0) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        tokens = Math.min(maxPerSecond, tokens + (now - tokensUpdatedAt) * maxPerSecond / 1_000_000_000.0);
+        tokensUpdatedAt = now;
+
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        } else {
+            return Math.max(1, (long) Math.ceil((1 - tokens) * 1_000 / maxPerSecond));
+        }
+    }
+
+    /**
+     * Called when a reconciliation dispatched from this queue completes
+     *
+     * @param completed The completed reconciliation
+     * @param result    Result of the reconciliation
+     */
+    private void completed(QueuedReconciliation completed, AsyncResult<Void> result) {
+        Reconciliation reconciliation = completed.reconciliation;
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+
+        synchronized (this) {
+            inFlight.remove(key);
+            QueuedReconciliation requeue = dirty.remove(key);
+
+            if (requeue != null) {
+                requeue.queuedAt = System.nanoTime();
+                queued.put(key, requeue);
+                updateDepth();
+            }
+        }
+
+        completed.promise.handle(result);
+        dispatch();
+    }
+
+    /**
+     * @return  Number of resources waiting in the queue
+     */
+    public synchronized int size() {
+        return queued.size();
+    }
+
+    /**
+     * @return  Number of reconciliations currently running
+     */
+    public synchronized int inFlight() {
+        return inFlight.size();
+    }
+
+    private void updateDepth() {
+        if (queueDepth != null) {
+            queueDepth.set(queued.size());
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Reconciliation waiting in the queue
+     */
+    private static class QueuedReconciliation {
+        private final Reconciliation reconciliation;
+        private final Promise<Void> promise = Promise.promise();
+        private long queuedAt;
+
+        QueuedReconciliation(Reconciliation reconciliation) {
+            this.reconciliation = reconciliation;
+            this.queuedAt = System.nanoTime();
+        }
+    }
+}
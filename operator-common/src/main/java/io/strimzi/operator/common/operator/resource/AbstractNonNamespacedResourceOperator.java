@@ -48,6 +48,8 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
 
+    private volatile DesiredStateTracker<T> desiredStateTracker = null;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -63,6 +65,32 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
 
     protected abstract NonNamespaceOperation<T, L, R> operation();
 
+    /**
+     * Enables or disables the tracking of the desired state hashes. When enabled, the hash of the desired resource is
+     * stored in the {@code strimzi.io/desired-state-hash} annotation and the resources which were not changed since
+     * they were last applied with the same desired state are not diffed and patched again.
+     *
+     * @param enabled   True to enable the tracking of the desired state hashes, false to disable it
+     */
+    public void setDesiredStateHashing(boolean enabled) {
+        this.desiredStateTracker = enabled ? new DesiredStateTracker<>() : null;
+    }
+
+    /**
+     * Forgets the desired states last applied to the resources which belong to a deleted custom resource. These
+     * resources are deleted by the Kubernetes garbage collector and not through this operator.
+     *
+     * @param namespace Namespace of the deleted custom resource
+     * @param kind      Kind of the deleted custom resource
+     * @param name      Name of the deleted custom resource
+     */
+    public void forgetDesiredState(String namespace, String kind, String name) {
+        DesiredStateTracker<T> tracker = desiredStateTracker;
+        if (tracker != null) {
+            tracker.forgetOwnedBy(namespace, kind, name);
+        }
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -93,16 +121,27 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
+                DesiredStateTracker<T> tracker = desiredStateTracker;
                 T current = operation().withName(name).get();
                 if (desired != null) {
+                    DesiredStateTracker.DesiredState<T> desiredState = tracker != null ? tracker.desiredState(desired) : null;
+                    String hash = desiredState != null ? desiredState.hash() : null;
+
                     if (current == null) {
                         log.debug("{} {} does not exist, creating it", resourceKind, name);
-                        internalCreate(name, desired).onComplete(future);
+                        trackApplied(tracker, name, hash, internalCreate(name, desiredState != null ? desiredState.stamped() : desired)).onComplete(future);
+                    } else if (tracker != null && tracker.isUnchanged(null, name, current, hash)) {
+                        log.debug("{} {} was not changed since the desired state was last applied, noop", resourceKind, name);
+                        future.complete(ReconcileResult.noop(current));
                     } else {
                         log.debug("{} {} already exists, patching it", resourceKind, name);
-                        internalPatch(name, current, desired).onComplete(future);
+                        trackApplied(tracker, name, hash, internalPatch(name, current, desiredState != null ? desiredState.stamped() : desired)).onComplete(future);
                     }
                 } else {
+                    if (tracker != null) {
+                        tracker.forget(null, name);
+                    }
+
                     if (current != null) {
                         // Deletion is desired
                         log.debug("{} {} exist, deleting it", resourceKind, name);
@@ -120,6 +159,30 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
         return promise.future();
     }
 
+    /**
+     * Records the result of applying the desired resource in the desired state tracker
+     *
+     * @param tracker   The desired state tracker or null if the tracking is disabled
+     * @param name      Name of the resource
+     * @param hash      Hash of the applied desired resource
+     * @param result    Future with the result of the apply
+     *
+     * @return  The future with the result of the apply
+     */
+    private Future<ReconcileResult<T>> trackApplied(DesiredStateTracker<T> tracker, String name, String hash, Future<ReconcileResult<T>> result) {
+        if (tracker != null) {
+            result.onComplete(res -> {
+                if (res.succeeded()) {
+                    tracker.applied(null, name, hash, res.result());
+                } else {
+                    tracker.forget(null, name);
+                }
+            });
+        }
+
+        return result;
+    }
+
     protected long deleteTimeoutMs() {
         return ResourceSupport.DEFAULT_TIMEOUT_MS;
     }
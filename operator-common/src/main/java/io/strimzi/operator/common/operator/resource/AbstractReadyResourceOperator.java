@@ -8,6 +8,8 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.internal.readiness.Readiness;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -36,8 +38,30 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
         super(vertx, client, resourceKind);
     }
 
+    /**
+     * Constructor.
+     *
+     * @param vertx        The vertx instance.
+     * @param client       The kubernetes client.
+     * @param resourceKind The mind of Kubernetes resource (used for logging).
+     * @param metrics      The metrics provider used to record the wait times or null to not record them.
+     */
+    public AbstractReadyResourceOperator(Vertx vertx, C client, String resourceKind, MetricsProvider metrics) {
+        super(vertx, client, resourceKind, metrics);
+    }
+
+    /**
+     * Returns a future that completes when the resource is ready. The readiness of the resource changes received by
+     * the watch is evaluated from the resource in the watch events.
+     *
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param pollIntervalMs The poll interval in milliseconds used when the resource cannot be watched.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @return A future that completes when the resource is ready.
+     */
     public Future<Void> readiness(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, pollIntervalMs, timeoutMs, this::isReady);
+        return waitFor(namespace, name, "ready", pollIntervalMs, timeoutMs, this::isReady, this::isReady);
     }
 
     /**
@@ -56,4 +80,14 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
             return false;
         }
     }
+
+    /**
+     * Check if the given resource is in the Ready state.
+     *
+     * @param resource The resource or null if it does not exist.
+     * @return Whether the resource is in the Ready state.
+     */
+    protected boolean isReady(T resource) {
+        return resource != null && Readiness.getInstance().isReady(resource);
+    }
 }
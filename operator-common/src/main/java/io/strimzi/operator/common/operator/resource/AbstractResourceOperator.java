@@ -15,7 +15,11 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
-import io.strimzi.operator.common.Util;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -28,7 +32,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 /**
@@ -55,6 +61,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
 
+    private final MetricsProvider metrics;
+    private volatile DesiredStateTracker<T> desiredStateTracker = null;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -62,14 +71,53 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @param resourceKind The mind of Kubernetes resource (used for logging).
      */
     public AbstractResourceOperator(Vertx vertx, C client, String resourceKind) {
+        this(vertx, client, resourceKind, null);
+    }
+
+    /**
+     * Constructor.
+     * @param vertx The vertx instance.
+     * @param client The kubernetes client.
+     * @param resourceKind The mind of Kubernetes resource (used for logging).
+     * @param metrics The metrics provider used to record how long the waits for the resources took or null to not
+     *                record them.
+     */
+    public AbstractResourceOperator(Vertx vertx, C client, String resourceKind, MetricsProvider metrics) {
         this.vertx = vertx;
         this.resourceSupport = new ResourceSupport(vertx);
         this.client = client;
         this.resourceKind = resourceKind;
+        this.metrics = metrics;
     }
 
     protected abstract MixedOperation<T, L, R> operation();
 
+    /**
+     * Enables or disables the tracking of the desired state hashes. When enabled, the hash of the desired resource is
+     * stored in the {@code strimzi.io/desired-state-hash} annotation and the resources which were not changed since
+     * they were last applied with the same desired state are not diffed and patched again.
+     *
+     * @param enabled   True to enable the tracking of the desired state hashes, false to disable it
+     */
+    public void setDesiredStateHashing(boolean enabled) {
+        this.desiredStateTracker = enabled ? new DesiredStateTracker<>() : null;
+    }
+
+    /**
+     * Forgets the desired states last applied to the resources which belong to a deleted custom resource. These
+     * resources are deleted by the Kubernetes garbage collector and not through this operator.
+     *
+     * @param namespace Namespace of the deleted custom resource
+     * @param kind      Kind of the deleted custom resource
+     * @param name      Name of the deleted custom resource
+     */
+    public void forgetDesiredState(String namespace, String kind, String name) {
+        DesiredStateTracker<T> tracker = desiredStateTracker;
+        if (tracker != null) {
+            tracker.forgetOwnedBy(namespace, kind, name);
+        }
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -102,16 +150,27 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
+                DesiredStateTracker<T> tracker = desiredStateTracker;
                 T current = operation().inNamespace(namespace).withName(name).get();
                 if (desired != null) {
+                    DesiredStateTracker.DesiredState<T> desiredState = tracker != null ? tracker.desiredState(desired) : null;
+                    String hash = desiredState != null ? desiredState.hash() : null;
+
                     if (current == null) {
                         log.debug("{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(namespace, name, desired).onComplete(future);
+                        trackApplied(tracker, namespace, name, hash, internalCreate(namespace, name, desiredState != null ? desiredState.stamped() : desired)).onComplete(future);
+                    } else if (tracker != null && tracker.isUnchanged(namespace, name, current, hash)) {
+                        log.debug("{} {}/{} was not changed since the desired state was last applied, noop", resourceKind, namespace, name);
+                        future.complete(ReconcileResult.noop(current));
                     } else {
                         log.debug("{} {}/{} already exists, patching it", resourceKind, namespace, name);
-                        internalPatch(namespace, name, current, desired).onComplete(future);
+                        trackApplied(tracker, namespace, name, hash, internalPatch(namespace, name, current, desiredState != null ? desiredState.stamped() : desired)).onComplete(future);
                     }
                 } else {
+                    if (tracker != null) {
+                        tracker.forget(namespace, name);
+                    }
+
                     if (current != null) {
                         // Deletion is desired
                         log.debug("{} {}/{} exist, deleting it", resourceKind, namespace, name);
@@ -129,6 +188,31 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return promise.future();
     }
 
+    /**
+     * Records the result of applying the desired resource in the desired state tracker
+     *
+     * @param tracker   The desired state tracker or null if the tracking is disabled
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     * @param hash      Hash of the applied desired resource
+     * @param result    Future with the result of the apply
+     *
+     * @return  The future with the result of the apply
+     */
+    private Future<ReconcileResult<T>> trackApplied(DesiredStateTracker<T> tracker, String namespace, String name, String hash, Future<ReconcileResult<T>> result) {
+        if (tracker != null) {
+            result.onComplete(res -> {
+                if (res.succeeded()) {
+                    tracker.applied(namespace, name, hash, res.result());
+                } else {
+                    tracker.forget(namespace, name);
+                }
+            });
+        }
+
+        return result;
+    }
+
     /**
      * Deletes the resource with the given namespace and name and completes the given future accordingly.
      * This method will do a cascading delete.
@@ -401,11 +485,56 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * is ready.
      */
     public Future<Void> waitFor(String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
-        return Util.waitFor(vertx,
+        return waitFor(namespace, name, logState, pollIntervalMs, timeoutMs, predicate, null);
+    }
+
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * reaches the given state. The {@code predicate} is used for the first check and when the resource cannot be
+     * watched. The changes received by the watch are checked by the {@code resourcePredicate} using the resource from
+     * the watch event, so they do not get the resource again.
+     *
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate.
+     * @param resourcePredicate The predicate evaluated on the watched resource, which is null when it does not exist.
+     *                          It must not block. When null, the {@code predicate} is used for the watch events too.
+     * @return A future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * reaches the given state.
+     */
+    public Future<Void> waitFor(String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs,
+                                BiPredicate<String, String> predicate, Predicate<T> resourcePredicate) {
+        long startTime = System.nanoTime();
+
+        return resourceSupport.waitFor(operation().inNamespace(namespace).withName(name),
             String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
             logState,
             pollIntervalMs,
             timeoutMs,
-            () -> predicate.test(namespace, name));
+            () -> predicate.test(namespace, name),
+            resourcePredicate)
+            .onComplete(res -> recordWaitTime(logState, res.succeeded(), startTime));
+    }
+
+    /**
+     * Records the duration of the wait for the resource
+     *
+     * @param logState  The state which was waited for
+     * @param succeeded Whether the resource reached the state
+     * @param startTime The time when the wait started in nanoseconds
+     */
+    private void recordWaitTime(String logState, boolean succeeded, long startTime) {
+        if (metrics != null) {
+            Timer timer = metrics.timer(AbstractOperator.METRICS_PREFIX + "resources.wait.duration",
+                    "The time the operator waited for the resources to reach the desired state",
+                    Tags.of(Tag.of("kind", resourceKind), Tag.of("state", logState), Tag.of("outcome", succeeded ? "success" : "failure")));
+
+            if (timer != null) {
+                timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+        }
     }
 }
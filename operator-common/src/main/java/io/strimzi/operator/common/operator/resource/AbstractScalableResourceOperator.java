@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.ScalableResource;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -44,6 +45,17 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
         super(vertx, client, resourceKind);
     }
 
+    /**
+     * Constructor
+     * @param vertx The Vertx instance
+     * @param client The Kubernetes client
+     * @param resourceKind The kind of resource.
+     * @param metrics The metrics provider used to record the wait times or null to not record them.
+     */
+    public AbstractScalableResourceOperator(Vertx vertx, C client, String resourceKind, MetricsProvider metrics) {
+        super(vertx, client, resourceKind, metrics);
+    }
+
     private R resource(String namespace, String name) {
         return operation().inNamespace(namespace).withName(name);
     }
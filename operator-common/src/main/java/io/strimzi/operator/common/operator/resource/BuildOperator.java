@@ -10,6 +10,7 @@ import io.fabric8.openshift.api.model.Build;
 import io.fabric8.openshift.api.model.BuildList;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.fabric8.openshift.client.dsl.BuildResource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Vertx;
 
 /**
@@ -26,6 +27,17 @@ public class BuildOperator extends AbstractResourceOperator<OpenShiftClient, Bui
         super(vertx, client, "Build");
     }
 
+    /**
+     * Constructor
+     *
+     * @param vertx The Vertx instance
+     * @param client The OpenShift client
+     * @param metrics The metrics provider used to record the wait times
+     */
+    public BuildOperator(Vertx vertx, OpenShiftClient client, MetricsProvider metrics) {
+        super(vertx, client, "Build", metrics);
+    }
+
     @Override
     protected MixedOperation<Build, BuildList, BuildResource<Build, LogWatch>> operation() {
         return client.builds();
@@ -10,6 +10,8 @@ import io.fabric8.openshift.api.model.DeploymentConfig;
 import io.fabric8.openshift.api.model.DeploymentConfigList;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.fabric8.openshift.client.dsl.DeployableScalableResource;
+import io.fabric8.openshift.client.internal.readiness.OpenShiftReadiness;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -27,6 +29,16 @@ public class DeploymentConfigOperator extends AbstractScalableResourceOperator<O
         super(vertx, client, "DeploymentConfig");
     }
 
+    /**
+     * Constructor
+     * @param vertx The Vertx instance
+     * @param client The Kubernetes client
+     * @param metrics The metrics provider used to record the wait times
+     */
+    public DeploymentConfigOperator(Vertx vertx, OpenShiftClient client, MetricsProvider metrics) {
+        super(vertx, client, "DeploymentConfig", metrics);
+    }
+
     @Override
     protected MixedOperation<DeploymentConfig, DeploymentConfigList, DeployableScalableResource<DeploymentConfig>> operation() {
         return client.deploymentConfigs();
@@ -60,7 +72,7 @@ public class DeploymentConfigOperator extends AbstractScalableResourceOperator<O
      * generation sequence number of the desired state.
      */
     public Future<Void> waitForObserved(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, "observed", pollIntervalMs, timeoutMs, this::isObserved);
+        return waitFor(namespace, name, "observed", pollIntervalMs, timeoutMs, this::isObserved, this::isObserved);
     }
 
     /**
@@ -71,7 +83,16 @@ public class DeploymentConfigOperator extends AbstractScalableResourceOperator<O
      * @return Whether the deployment has been observed.
      */
     private boolean isObserved(String namespace, String name) {
-        DeploymentConfig dep = get(namespace, name);
+        return isObserved(get(namespace, name));
+    }
+
+    /**
+     * Check if a deployment configuration has been observed.
+     *
+     * @param dep The deployment configuration or null if it does not exist.
+     * @return Whether the deployment has been observed.
+     */
+    private boolean isObserved(DeploymentConfig dep) {
         if (dep != null)   {
             // Get the roll out status
             //     => Sometimes it takes OCP some time before the generations are updated.
@@ -124,4 +145,9 @@ public class DeploymentConfigOperator extends AbstractScalableResourceOperator<O
             return false;
         }
     }
+
+    @Override
+    protected boolean isReady(DeploymentConfig resource) {
+        return resource != null && OpenShiftReadiness.getInstance().isReady(resource);
+    }
 }
@@ -11,6 +11,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.RollableScalableResource;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -31,6 +32,17 @@ public class DeploymentOperator extends AbstractScalableResourceOperator<Kuberne
         this(vertx, client, new PodOperator(vertx, client));
     }
 
+    /**
+     * Constructor
+     * @param vertx The Vertx instance
+     * @param client The Kubernetes client
+     * @param metrics The metrics provider used to record the wait times
+     */
+    public DeploymentOperator(Vertx vertx, KubernetesClient client, MetricsProvider metrics) {
+        super(vertx, client, "Deployment", metrics);
+        this.podOperations = new PodOperator(vertx, client, metrics);
+    }
+
     public DeploymentOperator(Vertx vertx, KubernetesClient client, PodOperator podOperations) {
         super(vertx, client, "Deployment");
         this.podOperations = podOperations;
@@ -96,7 +108,7 @@ public class DeploymentOperator extends AbstractScalableResourceOperator<Kuberne
      * generation sequence number of the desired state.
      */
     public Future<Void> waitForObserved(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, "observed", pollIntervalMs, timeoutMs, this::isObserved);
+        return waitFor(namespace, name, "observed", pollIntervalMs, timeoutMs, this::isObserved, this::isObserved);
     }
 
     /**
@@ -107,7 +119,16 @@ public class DeploymentOperator extends AbstractScalableResourceOperator<Kuberne
      * @return Whether the deployment has been observed.
      */
     private boolean isObserved(String namespace, String name) {
-        Deployment dep = get(namespace, name);
+        return isObserved(get(namespace, name));
+    }
+
+    /**
+     * Check if a deployment has been observed.
+     *
+     * @param dep The deployment or null if it does not exist.
+     * @return Whether the deployment has been observed.
+     */
+    private boolean isObserved(Deployment dep) {
         if (dep != null)   {
             return dep.getMetadata().getGeneration().equals(dep.getStatus().getObservedGeneration());
         } else {
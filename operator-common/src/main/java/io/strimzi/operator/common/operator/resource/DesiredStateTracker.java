@@ -0,0 +1,277 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.model.Labels;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
+/**
+ * Keeps track of the desired state last applied to the resources by a resource operator. The hash of the desired
+ * resource is stored in the {@link Annotations#ANNO_STRIMZI_IO_DESIRED_STATE_HASH} annotation of the resource and in an
+ * in-memory table together with the generation and resource version returned by the Kubernetes API after the resource
+ * was applied.
+ *
+ * When the desired resource has the same hash and the current resource still has the same hash annotation and the same
+ * generation (or, for the resources without generation, the same resource version) as after the last apply, nobody
+ * changed the resource since then and it does not need to be diffed or patched. The generation is used when available,
+ * because it changes only when the specification of the resource changes, while the resource version changes with
+ * every status update as well.
+ *
+ * The entries are removed when the resource is deleted through the resource operator or, for the resources which are
+ * deleted by the Kubernetes garbage collector, when the custom resource owning them is deleted (see
+ * {@link #forgetOwnedBy(String, String, String)}).
+ *
+ * @param <T>   Type of the resource
+ */
+class DesiredStateTracker<T extends HasMetadata> {
+    // Maps are sorted to make sure the same resource has always the same hash
+    private static final ObjectMapper HASH_MAPPER = patchMapper().copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final Map<String, AppliedState> applied = new ConcurrentHashMap<>();
+
+    /**
+     * Serializes the desired resource and calculates its hash. The copy of the desired resource with the hash
+     * annotation is created only when it is needed to apply it (see {@link DesiredState#stamped()}). The desired
+     * resource itself is not modified.
+     *
+     * @param desired   The desired resource
+     *
+     * @return  The desired state with the hash of the desired resource
+     */
+    DesiredState<T> desiredState(T desired) {
+        try {
+            byte[] json;
+
+            if (hashAnnotation(desired) == null) {
+                json = HASH_MAPPER.writeValueAsBytes(desired);
+            } else {
+                // The hash annotation itself is never part of the hash
+                ObjectNode tree = HASH_MAPPER.valueToTree(desired);
+                ObjectNode metadata = tree.with("metadata");
+                JsonNode annotations = metadata.get("annotations");
+                ((ObjectNode) annotations).remove(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH);
+
+                if (annotations.size() == 0) {
+                    metadata.remove("annotations");
+                }
+
+                json = HASH_MAPPER.writeValueAsBytes(tree);
+            }
+
+            return new DesiredState<>(desired, json, hash(json));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize the desired resource", e);
+        }
+    }
+
+    /**
+     * Calculates the hash of the desired resource and returns a copy of it with the hash stored in its annotation. The
+     * desired resource itself is not modified.
+     *
+     * @param desired   The desired resource
+     *
+     * @return  Copy of the desired resource with the hash annotation (see {@link #hashAnnotation(HasMetadata)})
+     */
+    T stamp(T desired) {
+        return desiredState(desired).stamped();
+    }
+
+    /**
+     * Checks whether the current resource is still in the state in which it was left by the last apply of the desired
+     * resource with the same hash.
+     *
+     * @param namespace Namespace of the resource (null for cluster-scoped resources)
+     * @param name      Name of the resource
+     * @param current   The current resource
+     * @param hash      The hash of the desired resource
+     *
+     * @return  True if the resource is unchanged since the last apply and does not need to be patched
+     */
+    boolean isUnchanged(String namespace, String name, T current, String hash) {
+        AppliedState state = applied.get(key(namespace, name));
+
+        if (state == null
+                || !state.hash.equals(hash)
+                || !hash.equals(hashAnnotation(current))) {
+            return false;
+        } else if (state.generation != null && current.getMetadata().getGeneration() != null) {
+            return state.generation.equals(current.getMetadata().getGeneration());
+        } else {
+            return Objects.equals(state.resourceVersion, current.getMetadata().getResourceVersion());
+        }
+    }
+
+    /**
+     * Records the state of the resource after the desired resource was applied. The state is recorded only if the
+     * resource carries the hash of the applied desired resource.
+     *
+     * @param namespace Namespace of the resource (null for cluster-scoped resources)
+     * @param name      Name of the resource
+     * @param hash      The hash of the applied desired resource
+     * @param result    Result of the apply
+     */
+    void applied(String namespace, String name, String hash, ReconcileResult<T> result) {
+        T resource = result.resourceOpt().orElse(null);
+
+        if (resource != null
+                && hash.equals(hashAnnotation(resource))
+                && resource.getMetadata().getResourceVersion() != null) {
+            Map<String, String> labels = resource.getMetadata().getLabels();
+            applied.put(key(namespace, name), new AppliedState(namespace, hash, resource.getMetadata().getGeneration(),
+                    resource.getMetadata().getResourceVersion(),
+                    labels != null ? labels.get(Labels.STRIMZI_KIND_LABEL) : null,
+                    labels != null ? labels.get(Labels.STRIMZI_CLUSTER_LABEL) : null));
+        } else {
+            forget(namespace, name);
+        }
+    }
+
+    /**
+     * Forgets the last applied state of the resource. This should be called when the resource is deleted or when
+     * applying it failed.
+     *
+     * @param namespace Namespace of the resource (null for cluster-scoped resources)
+     * @param name      Name of the resource
+     */
+    void forget(String namespace, String name) {
+        applied.remove(key(namespace, name));
+    }
+
+    /**
+     * Forgets the last applied state of all resources which belong to the given custom resource according to their
+     * {@code strimzi.io/kind} and {@code strimzi.io/cluster} labels. This should be called when the custom resource is
+     * deleted, because its resources are then deleted by the Kubernetes garbage collector and not through the resource
+     * operator.
+     *
+     * @param namespace Namespace of the custom resource. The cluster-scoped resources are matched in any namespace.
+     * @param kind      Kind of the custom resource
+     * @param name      Name of the custom resource
+     */
+    void forgetOwnedBy(String namespace, String kind, String name) {
+        applied.values().removeIf(state -> (state.namespace == null || state.namespace.equals(namespace))
+                && kind.equals(state.kind)
+                && name.equals(state.cluster));
+    }
+
+    /**
+     * @return  Number of the resources whose last applied state is known
+     */
+    /*test*/ int size() {
+        return applied.size();
+    }
+
+    /**
+     * @param resource  The resource
+     *
+     * @return  The desired state hash stored in the annotation of the resource or null if it has none
+     */
+    static String hashAnnotation(HasMetadata resource) {
+        Map<String, String> annotations = resource.getMetadata().getAnnotations();
+        return annotations != null ? annotations.get(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH) : null;
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace != null ? namespace + "/" + name : name;
+    }
+
+    /**
+     * Calculates the hash of the resource from its JSON representation
+     *
+     * @param json  Serialized JSON of the resource which should be hashed
+     *
+     * @return  Hexadecimal SHA-256 hash of the resource
+     */
+    private static String hash(byte[] json) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return String.format("%064x", new BigInteger(1, digest.digest(json)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to calculate the hash of the desired resource", e);
+        }
+    }
+
+    /**
+     * Hash of a desired resource together with its serialized JSON, from which the copy with the hash annotation is
+     * created when the resource has to be applied
+     *
+     * @param <T>   Type of the resource
+     */
+    static class DesiredState<T extends HasMetadata> {
+        private final T desired;
+        private final byte[] json;
+        private final String hash;
+
+        DesiredState(T desired, byte[] json, String hash) {
+            this.desired = desired;
+            this.json = json;
+            this.hash = hash;
+        }
+
+        /**
+         * @return  Hexadecimal SHA-256 hash of the desired resource
+         */
+        String hash() {
+            return hash;
+        }
+
+        /**
+         * @return  Copy of the desired resource with the hash annotation
+         */
+        @SuppressWarnings("unchecked")
+        T stamped() {
+            try {
+                T stamped = (T) HASH_MAPPER.readValue(json, desired.getClass());
+
+                Map<String, String> annotations = stamped.getMetadata().getAnnotations();
+                if (annotations == null) {
+                    annotations = new HashMap<>(1);
+                    stamped.getMetadata().setAnnotations(annotations);
+                }
+                annotations.put(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH, hash);
+
+                return stamped;
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to copy the desired resource", e);
+            }
+        }
+    }
+
+    /**
+     * State of the resource after the last apply
+     */
+    private static class AppliedState {
+        private final String namespace;
+        private final String hash;
+        private final Long generation;
+        private final String resourceVersion;
+        private final String kind;
+        private final String cluster;
+
+        AppliedState(String namespace, String hash, Long generation, String resourceVersion, String kind, String cluster) {
+            this.namespace = namespace;
+            this.hash = hash;
+            this.generation = generation;
+            this.resourceVersion = resourceVersion;
+            this.kind = kind;
+            this.cluster = cluster;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.EndpointsList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Vertx;
 
 /**
@@ -24,6 +25,16 @@ public class EndpointOperator extends AbstractReadyResourceOperator<KubernetesCl
         super(vertx, client, "Endpoints");
     }
 
+    /**
+     * Constructor
+     * @param vertx The Vertx instance
+     * @param client The Kubernetes client
+     * @param metrics The metrics provider used to record the wait times
+     */
+    EndpointOperator(Vertx vertx, KubernetesClient client, MetricsProvider metrics) {
+        super(vertx, client, "Endpoints", metrics);
+    }
+
     @Override
     protected MixedOperation<Endpoints, EndpointsList, Resource<Endpoints>> operation() {
         return client.endpoints();
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.networking.v1beta1.IngressList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -26,6 +27,16 @@ public class IngressV1Beta1Operator extends AbstractResourceOperator<KubernetesC
         super(vertx, client, "v1beta1.Ingress");
     }
 
+    /**
+     * Constructor
+     * @param vertx The Vertx instance
+     * @param client The Kubernetes client
+     * @param metrics The metrics provider used to record the wait times
+     */
+    public IngressV1Beta1Operator(Vertx vertx, KubernetesClient client, MetricsProvider metrics) {
+        super(vertx, client, "v1beta1.Ingress", metrics);
+    }
+
     @Override
     protected MixedOperation<Ingress, IngressList, Resource<Ingress>> operation() {
         return client.network().v1beta1().ingresses();
@@ -41,7 +52,7 @@ public class IngressV1Beta1Operator extends AbstractResourceOperator<KubernetesC
      * @return A future that succeeds when the Service has an assigned address.
      */
     public Future<Void> hasIngressAddress(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isIngressAddressReady);
+        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isIngressAddressReady, this::isIngressAddressReady);
     }
 
     /**
@@ -52,9 +63,16 @@ public class IngressV1Beta1Operator extends AbstractResourceOperator<KubernetesC
      * @return Whether the Ingress already has assigned ingress address.
      */
     public boolean isIngressAddressReady(String namespace, String name) {
-        Resource<Ingress> resourceOp = operation().inNamespace(namespace).withName(name);
-        Ingress resource = resourceOp.get();
+        return isIngressAddressReady(operation().inNamespace(namespace).withName(name).get());
+    }
 
+    /**
+     * Checks if the given Ingress already has assigned ingress address.
+     *
+     * @param resource The Ingress or null if it does not exist.
+     * @return Whether the address is ready.
+     */
+    private boolean isIngressAddressReady(Ingress resource) {
         if (resource != null && resource.getStatus() != null && resource.getStatus().getLoadBalancer() != null && resource.getStatus().getLoadBalancer().getIngress() != null && resource.getStatus().getLoadBalancer().getIngress().size() > 0) {
             if (resource.getStatus().getLoadBalancer().getIngress().get(0).getHostname() != null || resource.getStatus().getLoadBalancer().getIngress().get(0).getIp() != null) {
                 return true;
@@ -12,10 +12,13 @@ import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.function.Predicate;
+
 /**
  * Operations for {@code Pod}s, which support {@link #isReady(String, String)} and
  * {@link #watch(String, String, Watcher)} in addition to the usual operations.
@@ -33,6 +36,16 @@ public class PodOperator extends AbstractReadyResourceOperator<KubernetesClient,
         super(vertx, client, "Pods");
     }
 
+    /**
+     * Constructor
+     * @param vertx The Vertx instance
+     * @param client The Kubernetes client
+     * @param metrics The metrics provider used to record the wait times
+     */
+    public PodOperator(Vertx vertx, KubernetesClient client, MetricsProvider metrics) {
+        super(vertx, client, "Pods", metrics);
+    }
+
     @Override
     protected MixedOperation<Pod, PodList, PodResource<Pod>> operation() {
         return client.pods();
@@ -71,15 +84,16 @@ public class PodOperator extends AbstractReadyResourceOperator<KubernetesClient,
         log.debug("{}: Waiting for pod {} to be deleted", logContext, podName);
         Future<Void> podReconcileFuture =
                 reconcile(namespace, podName, null).compose(ignore -> {
-                    Future<Void> del = waitFor(namespace, podName, "deleted", pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
-                        // predicate - changed generation means pod has been updated
-                        String newUid = getPodUid(get(namespace, podName));
-                        boolean done = !deleted.equals(newUid);
+                    // predicate - changed generation means pod has been updated
+                    Predicate<Pod> recreated = current -> {
+                        boolean done = !deleted.equals(getPodUid(current));
                         if (done) {
                             log.debug("Rolling pod {} finished", podName);
                         }
                         return done;
-                    });
+                    };
+                    Future<Void> del = waitFor(namespace, podName, "deleted", pollingIntervalMs, timeoutMs,
+                        (ignore1, ignore2) -> recreated.test(get(namespace, podName)), recreated);
                     return del;
                 });
 
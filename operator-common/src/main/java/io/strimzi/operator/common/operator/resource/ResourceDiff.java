@@ -10,41 +10,158 @@ import io.fabric8.zjsonpatch.JsonDiff;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Iterator;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
 
-class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
+/**
+ * Decides whether the current and desired resources differ in any path which is not ignorable.
+ *
+ * Instead of computing the full JSON Patch between the two resources and matching every path of it against the
+ * ignorable paths, the resources are walked structurally and the walk stops at the first difference which is not
+ * ignorable. Objects are compared field by field, so the paths of the differences are the same as the paths of the
+ * operations in the JSON Patch. Only arrays which differ fall back to {@link JsonDiff} (for the array subtree only),
+ * because the array operations in the JSON Patch depend on the longest common subsequence of the arrays.
+ *
+ * @param <T>   Type of the resource
+ */
+public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
     private static final Logger log = LogManager.getLogger(ResourceDiff.class.getName());
 
+    private final String resourceKind;
+    private final String resourceName;
+    private final Pattern ignorableFields;
+    private final JsonNode source;
+    private final JsonNode target;
+
     private final boolean isEmpty;
 
     public ResourceDiff(String resourceKind, String resourceName, T current, T desired, Pattern ignorableFields) {
-        JsonNode source = patchMapper().valueToTree(current == null ? "{}" : current);
-        JsonNode target = patchMapper().valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
+        this.resourceKind = resourceKind;
+        this.resourceName = resourceName;
+        this.ignorableFields = ignorableFields;
+        this.source = patchMapper().valueToTree(current == null ? "{}" : current);
+        this.target = patchMapper().valueToTree(desired == null ? "{}" : desired);
+
+        if (source.isObject() && target.isObject()) {
+            this.isEmpty = !objectsDiffer("", source, target);
+        } else {
+            this.isEmpty = !jsonDiffDiffers("", source, target);
+        }
+    }
 
-        int num = 0;
+    /**
+     * Compares two JSON nodes
+     *
+     * @param path      JSON Pointer of the compared nodes
+     * @param source    Current node
+     * @param target    Desired node
+     *
+     * @return  True if the nodes differ in some path which is not ignorable
+     */
+    private boolean differs(String path, JsonNode source, JsonNode target) {
+        if (source.isObject() && target.isObject()) {
+            return objectsDiffer(path, source, target);
+        } else if (source.isArray() && target.isArray()) {
+            return !source.equals(target) && jsonDiffDiffers(path, source, target);
+        } else {
+            return !source.equals(target) && isRelevant(path);
+        }
+    }
 
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
+    /**
+     * Compares two JSON objects field by field
+     *
+     * @param path      JSON Pointer of the compared objects
+     * @param source    Current object
+     * @param target    Desired object
+     *
+     * @return  True if the objects differ in some path which is not ignorable
+     */
+    private boolean objectsDiffer(String path, JsonNode source, JsonNode target) {
+        Iterator<Map.Entry<String, JsonNode>> sourceFields = source.fields();
+        while (sourceFields.hasNext()) {
+            Map.Entry<String, JsonNode> field = sourceFields.next();
+            String fieldPath = path + "/" + escape(field.getKey());
+            JsonNode targetValue = target.get(field.getKey());
 
-            if (ignorableFields.matcher(pathValue).matches()) {
-                log.debug("Ignoring {} {} diff {}", resourceKind, resourceName, d);
-                continue;
+            if (targetValue == null) {
+                if (isRelevant(fieldPath)) {
+                    return true;
+                }
+            } else if (differs(fieldPath, field.getValue(), targetValue)) {
+                return true;
             }
+        }
+
+        Iterator<String> targetFields = target.fieldNames();
+        while (targetFields.hasNext()) {
+            String fieldName = targetFields.next();
 
-            if (log.isDebugEnabled()) {
-                log.debug("{} {} differs: {}", resourceKind, resourceName, d);
-                log.debug("Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(source, pathValue));
-                log.debug("Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
+            if (!source.has(fieldName) && isRelevant(path + "/" + escape(fieldName))) {
+                return true;
             }
+        }
+
+        return false;
+    }
+
+    /**
+     * Compares two JSON nodes using the full JSON Patch between them
+     *
+     * @param path      JSON Pointer of the compared nodes
+     * @param source    Current node
+     * @param target    Desired node
+     *
+     * @return  True if the JSON Patch contains some operation on a path which is not ignorable
+     */
+    private boolean jsonDiffDiffers(String path, JsonNode source, JsonNode target) {
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            if (isRelevant(path + d.get("path").asText())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks whether a difference in given path is relevant or whether it can be ignored
+     *
+     * @param path  JSON Pointer of the difference
+     *
+     * @return  True if the difference is relevant, false if it should be ignored
+     */
+    private boolean isRelevant(String path) {
+        if (ignorableFields.matcher(path).matches()) {
+            log.debug("Ignoring {} {} diff in path {}", resourceKind, resourceName, path);
+            return false;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("{} {} differs in path {}", resourceKind, resourceName, path);
+            log.debug("Current {} {} path {} has value {}", resourceKind, resourceName, path, lookupPath(source, path));
+            log.debug("Desired {} {} path {} has value {}", resourceKind, resourceName, path, lookupPath(target, path));
+        }
+
+        return true;
+    }
 
-            num++;
-            break;
+    /**
+     * Escapes the field name to be used in JSON Pointer
+     *
+     * @param fieldName Name of the field
+     *
+     * @return  Escaped field name
+     */
+    private static String escape(String fieldName) {
+        if (fieldName.indexOf('~') < 0 && fieldName.indexOf('/') < 0) {
+            return fieldName;
         }
 
-        this.isEmpty = num == 0;
+        return fieldName.replace("~", "~0").replace("/", "~1");
     }
 
     @Override
@@ -13,18 +13,23 @@ import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.Gettable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Watchable;
+import io.strimzi.operator.common.Util;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.Closeable;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
 public class ResourceSupport {
     public static final long DEFAULT_TIMEOUT_MS = 300_000;
@@ -183,6 +188,197 @@ public class ResourceSupport {
         }.resultPromise.future();
     }
 
+    /**
+     * Returns a Future which completes when the given {@code completed} supplier returns true, or fails after
+     * {@code timeoutMs} milliseconds. Instead of polling the Kubernetes API, the given {@code watchable} is watched
+     * and {@code completed} is evaluated on a worker thread once the watch is opened and then again for every
+     * event received by the watch. Only when the watch cannot be opened or when it is closed before the wait is
+     * complete, the waiting falls back to polling {@code completed} every {@code pollIntervalMs} milliseconds using
+     * {@link Util#waitFor(Vertx, String, String, long, long, BooleanSupplier)}.
+     *
+     * @param watchable The watchable resource on which {@code completed} depends.
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages.
+     * @param pollIntervalMs The poll interval in milliseconds used when the watch is not available.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines when the wait is complete by returning true.
+     * @param <T> The type of watched resource.
+     *
+     * @return A Future which completes when {@code completed} returns true.
+     */
+    <T> Future<Void> waitFor(Watchable<Watcher<T>> watchable,
+                             String logContext,
+                             String logState,
+                             long pollIntervalMs,
+                             long timeoutMs,
+                             BooleanSupplier completed) {
+        return waitFor(watchable, logContext, logState, pollIntervalMs, timeoutMs, completed, null);
+    }
+
+    /**
+     * Returns a Future which completes when the given {@code completed} supplier or the given {@code completedBy}
+     * predicate returns true, or fails after {@code timeoutMs} milliseconds. The given {@code watchable} is watched
+     * and {@code completed} is evaluated on a worker thread once the watch is opened, because the watch delivers
+     * only the later changes. The events received by the watch are then evaluated by {@code completedBy} using the
+     * resource from the event (or null when the resource was deleted), so they do not cause any further requests to
+     * the Kubernetes API. When {@code completedBy} is null, {@code completed} is evaluated again for every event
+     * instead. Only when the watch cannot be opened or when it is closed before the wait is complete, the waiting
+     * falls back to polling {@code completed} every {@code pollIntervalMs} milliseconds using
+     * {@link Util#waitFor(Vertx, String, String, long, long, BooleanSupplier)}.
+     *
+     * @param watchable The watchable resource on which {@code completed} depends.
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages.
+     * @param pollIntervalMs The poll interval in milliseconds used when the watch is not available.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines when the wait is complete by returning true.
+     * @param completedBy Determines from the watched resource when the wait is complete by returning true. It must
+     *                    not block. It can be null.
+     * @param <T> The type of watched resource.
+     *
+     * @return A Future which completes when {@code completed} or {@code completedBy} returns true.
+     */
+    <T> Future<Void> waitFor(Watchable<Watcher<T>> watchable,
+                             String logContext,
+                             String logState,
+                             long pollIntervalMs,
+                             long timeoutMs,
+                             BooleanSupplier completed,
+                             Predicate<T> completedBy) {
+        LOGGER.debug("Waiting for {} to get {}", logContext, logState);
+        long deadline = System.currentTimeMillis() + timeoutMs;
+
+        return new Watcher<T>() {
+            private final Context context = vertx.getOrCreateContext();
+            private final Promise<Void> promise = Promise.promise();
+            private final WorkerExecutor executor = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+            private final long timerId;
+            private volatile Watch watch;
+
+            /* init */
+            {
+                this.timerId = vertx.setTimer(timeoutMs, ignored -> {
+                    String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                    LOGGER.error(exceptionMessage);
+                    promise.tryFail(new TimeoutException(exceptionMessage));
+                });
+
+                promise.future().onComplete(ignored -> {
+                    vertx.cancelTimer(timerId);
+                    closeWatch();
+                });
+
+                executor.<Watch>executeBlocking(
+                    future -> future.complete(watchable.watch(this)),
+                    true,
+                    res -> {
+                        if (res.succeeded() && res.result() != null) {
+                            LOGGER.debug("Opened watch {} for waiting for {} to get {}", res.result(), logContext, logState);
+                            watch = res.result();
+
+                            if (promise.future().isComplete()) {
+                                closeWatch();
+                            } else {
+                                check();
+                            }
+                        } else {
+                            LOGGER.debug("Failed to open watch for waiting for {} to get {}", logContext, logState, res.cause());
+                            poll();
+                        }
+                    });
+            }
+
+            /**
+             * Evaluates the {@code completed} supplier on a worker thread and completes the wait if it returns true
+             */
+            private void check() {
+                executor.<Boolean>executeBlocking(
+                    future -> {
+                        if (promise.future().isComplete()) {
+                            future.complete(false);
+                        } else {
+                            future.complete(completed.getAsBoolean());
+                        }
+                    },
+                    true,
+                    res -> {
+                        if (res.succeeded()) {
+                            if (res.result() && promise.tryComplete()) {
+                                LOGGER.debug("{} is {}", logContext, logState);
+                            } else {
+                                LOGGER.trace("{} is not {}", logContext, logState);
+                            }
+                        } else {
+                            LOGGER.warn("Caught exception while waiting for {} to get {}", logContext, logState, res.cause());
+                        }
+                    });
+            }
+
+            /**
+             * Falls back to polling for the remaining time of the wait. The timeout is then handled by the polling.
+             */
+            private void poll() {
+                if (!promise.future().isComplete()) {
+                    vertx.cancelTimer(timerId);
+                    long timeLeft = Math.max(deadline - System.currentTimeMillis(), 0);
+                    Util.waitFor(vertx, logContext, logState, pollIntervalMs, timeLeft, completed)
+                            .onComplete(res -> {
+                                if (res.succeeded()) {
+                                    promise.tryComplete();
+                                } else {
+                                    promise.tryFail(res.cause());
+                                }
+                            });
+                }
+            }
+
+            private void closeWatch() {
+                Watch watch = this.watch;
+
+                if (watch != null) {
+                    this.watch = null;
+                    closeOnWorkerThread(watch);
+                }
+            }
+
+            /**
+             * Evaluates the {@code completedBy} predicate on the resource from the watch event and completes the wait
+             * if it returns true
+             */
+            private void check(T resource) {
+                try {
+                    if (completedBy.test(resource) && promise.tryComplete()) {
+                        LOGGER.debug("{} is {}", logContext, logState);
+                    } else {
+                        LOGGER.trace("{} is not {}", logContext, logState);
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Caught exception while waiting for {} to get {}", logContext, logState, e);
+                }
+            }
+
+            @Override
+            public void eventReceived(Action action, T resource) {
+                LOGGER.trace("Received {} event while waiting for {} to get {}", action, logContext, logState);
+                if (completedBy != null) {
+                    T current = action == Action.DELETED ? null : resource;
+                    context.runOnContext(ignored -> check(current));
+                } else {
+                    context.runOnContext(ignored -> check());
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                LOGGER.debug("Watch for waiting for {} to get {} was closed", logContext, logState, cause);
+                context.runOnContext(ignored -> {
+                    watch = null;
+                    poll();
+                });
+            }
+        }.promise.future();
+    }
+
     /**
      * Asynchronously deletes the given resource(s), returning a Future which completes on the context thread.
      * <strong>Note: The API server can return asynchronously, meaning the resource is still accessible from the API server
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.api.model.RouteList;
 import io.fabric8.openshift.client.OpenShiftClient;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -25,6 +26,16 @@ public class RouteOperator extends AbstractResourceOperator<OpenShiftClient, Rou
         super(vertx, client, "Route");
     }
 
+    /**
+     * Constructor
+     * @param vertx The Vertx instance
+     * @param client The OpenShift client
+     * @param metrics The metrics provider used to record the wait times
+     */
+    public RouteOperator(Vertx vertx, OpenShiftClient client, MetricsProvider metrics) {
+        super(vertx, client, "Route", metrics);
+    }
+
     @Override
     protected MixedOperation<Route, RouteList, Resource<Route>> operation() {
         return client.routes();
@@ -40,7 +51,7 @@ public class RouteOperator extends AbstractResourceOperator<OpenShiftClient, Rou
      * @return A future that succeeds when the Route has an assigned address.
      */
     public Future<Void> hasAddress(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isAddressReady);
+        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isAddressReady, this::isAddressReady);
     }
 
     /**
@@ -51,9 +62,16 @@ public class RouteOperator extends AbstractResourceOperator<OpenShiftClient, Rou
      * @return Whether the address is ready.
      */
     public boolean isAddressReady(String namespace, String name) {
-        Resource<Route> resourceOp = operation().inNamespace(namespace).withName(name);
-        Route resource = resourceOp.get();
+        return isAddressReady(operation().inNamespace(namespace).withName(name).get());
+    }
 
+    /**
+     * Checks if the given Route already has an assigned address.
+     *
+     * @param resource The Route or null if it does not exist.
+     * @return Whether the address is ready.
+     */
+    private boolean isAddressReady(Route resource) {
         if (resource != null && resource.getStatus() != null && resource.getStatus().getIngress() != null && resource.getStatus().getIngress().size() > 0) {
             if (resource.getStatus().getIngress().get(0).getHost() != null) {
                 return true;
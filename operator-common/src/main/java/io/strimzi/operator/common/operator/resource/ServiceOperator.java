@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.api.model.ServicePort;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.ServiceResource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -46,6 +47,17 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
         this.endpointOperations = new EndpointOperator(vertx, client);
     }
 
+    /**
+     * Constructor
+     * @param vertx The Vertx instance
+     * @param client The Kubernetes client
+     * @param metrics The metrics provider used to record the wait times
+     */
+    public ServiceOperator(Vertx vertx, KubernetesClient client, MetricsProvider metrics) {
+        super(vertx, client, "Service", metrics);
+        this.endpointOperations = new EndpointOperator(vertx, client, metrics);
+    }
+
     @Override
     protected MixedOperation<Service, ServiceList, ServiceResource<Service>> operation() {
         return client.services();
@@ -200,7 +212,7 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
      * @return A future that succeeds when the Service has an assigned address.
      */
     public Future<Void> hasIngressAddress(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isIngressAddressReady);
+        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isIngressAddressReady, this::isIngressAddressReady);
     }
 
     /**
@@ -211,9 +223,16 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
      * @return Whether the Service already has assigned ingress address.
      */
     public boolean isIngressAddressReady(String namespace, String name) {
-        ServiceResource<Service> resourceOp = operation().inNamespace(namespace).withName(name);
-        Service resource = resourceOp.get();
+        return isIngressAddressReady(operation().inNamespace(namespace).withName(name).get());
+    }
 
+    /**
+     * Checks if the given Service already has assigned ingress address.
+     *
+     * @param resource The Service or null if it does not exist.
+     * @return Whether the Service already has assigned ingress address.
+     */
+    private boolean isIngressAddressReady(Service resource) {
         if (resource != null && resource.getStatus() != null && resource.getStatus().getLoadBalancer() != null && resource.getStatus().getLoadBalancer().getIngress() != null && resource.getStatus().getLoadBalancer().getIngress().size() > 0) {
             if (resource.getStatus().getLoadBalancer().getIngress().get(0).getHostname() != null || resource.getStatus().getLoadBalancer().getIngress().get(0).getIp() != null) {
                 return true;
@@ -233,7 +252,7 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
      * @return A future that succeeds when the Service has an assigned node port
      */
     public Future<Void> hasNodePort(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, pollIntervalMs, timeoutMs, this::isNodePortReady);
+        return waitFor(namespace, name, "ready", pollIntervalMs, timeoutMs, this::isNodePortReady, this::isNodePortReady);
     }
 
     /**
@@ -244,9 +263,16 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
      * @return Whether the Service already has assigned node ports.
      */
     public boolean isNodePortReady(String namespace, String name) {
-        ServiceResource<Service> resourceOp = operation().inNamespace(namespace).withName(name);
-        Service resource = resourceOp.get();
+        return isNodePortReady(operation().inNamespace(namespace).withName(name).get());
+    }
 
+    /**
+     * Checks if the given Service already has assigned node ports.
+     *
+     * @param resource The Service or null if it does not exist.
+     * @return Whether the Service already has assigned node ports.
+     */
+    private boolean isNodePortReady(Service resource) {
         if (resource != null && resource.getSpec() != null && resource.getSpec().getPorts() != null) {
             boolean ready = true;
 
@@ -0,0 +1,171 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+public class ResourceCacheTest {
+    private static ConfigMap resource(String namespace, String name, String resourceVersion) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    private static ResourceCache<ConfigMap> cache(MeterRegistry registry, long tombstoneTtlMs) {
+        return new ResourceCache<>(new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        }, "TestResource", tombstoneTtlMs);
+    }
+
+    private static ResourceCache<ConfigMap> cache() {
+        return cache(new SimpleMeterRegistry(), ResourceCache.DEFAULT_TOMBSTONE_TTL_MS);
+    }
+
+    @Test
+    public void testSeedIgnoresOlderVersions() {
+        ResourceCache<ConfigMap> cache = cache();
+
+        cache.update(resource("ns", "name", "10"));
+        cache.remove(resource("ns", "other", "12"));
+
+        // Late list result with versions from before the watch events
+        cache.seed("ns", asList(resource("ns", "name", "5"), resource("ns", "other", "11"), resource("ns", "new", "3")));
+        assertThat(cache.names("ns"), containsInAnyOrder(new NamespaceAndName("ns", "name"), new NamespaceAndName("ns", "new")));
+    }
+
+    @Test
+    public void testRecreatedResourceIsCached() {
+        ResourceCache<ConfigMap> cache = cache();
+        cache.seed("ns", List.of(resource("ns", "name", "10")));
+
+        cache.remove(resource("ns", "name", "12"));
+        assertThat(cache.names("ns").isEmpty(), is(true));
+
+        // The watch events are authoritative, even when the re-created resource has a lower version
+        cache.update(resource("ns", "name", "1"));
+        assertThat(cache.names("ns"), containsInAnyOrder(new NamespaceAndName("ns", "name")));
+        assertThat(cache.tombstones(), is(0));
+    }
+
+    @Test
+    public void testTombstonesExpire() throws InterruptedException {
+        ResourceCache<ConfigMap> cache = cache(new SimpleMeterRegistry(), 1);
+
+        cache.remove(resource("ns", "a", "12"));
+        assertThat(cache.tombstones(), is(1));
+
+        Thread.sleep(5);
+        cache.remove(resource("ns", "b", "13"));
+        assertThat(cache.tombstones(), is(1));
+
+        Thread.sleep(5);
+        cache.seed("ns", List.of(resource("ns", "b", "10")));
+        assertThat(cache.tombstones(), is(0));
+        assertThat(cache.names("ns"), containsInAnyOrder(new NamespaceAndName("ns", "b")));
+    }
+
+    @Test
+    public void testNamesAndSync() {
+        ResourceCache<ConfigMap> cache = cache();
+
+        assertThat(cache.isSynced("ns1"), is(false));
+
+        cache.seed("*", asList(resource("ns1", "a", "1"), resource("ns2", "b", "2")));
+
+        assertThat(cache.isSynced("ns1"), is(true));
+        assertThat(cache.names("ns1"), containsInAnyOrder(new NamespaceAndName("ns1", "a")));
+        assertThat(cache.names("*"), containsInAnyOrder(new NamespaceAndName("ns1", "a"), new NamespaceAndName("ns2", "b")));
+
+        cache.invalidate("*");
+
+        assertThat(cache.isSynced("ns1"), is(false));
+        assertThat(cache.names("*").isEmpty(), is(true));
+    }
+
+    @Test
+    public void testGetServesOnlySyncedNamespacesAndCountsHitsAndMisses() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceCache<ConfigMap> cache = cache(registry, ResourceCache.DEFAULT_TOMBSTONE_TTL_MS);
+
+        // Not served until the namespace is seeded
+        cache.update(resource("ns", "name", "1"));
+        assertThat(cache.get("ns", "name"), is(nullValue()));
+
+        cache.seed("ns", List.of());
+        assertThat(cache.get("ns", "name").getMetadata().getResourceVersion(), is("1"));
+        assertThat(cache.get("ns", "name").getMetadata().getResourceVersion(), is("1"));
+        assertThat(cache.get("ns", "other"), is(nullValue()));
+
+        assertThat(registry.get("strimzi.resources.cache.hits").counter().count(), is(2.0));
+        assertThat(registry.get("strimzi.resources.cache.misses").counter().count(), is(2.0));
+    }
+
+    @Test
+    public void testRefreshDoesNotReplaceNewerOrAddMissingResources() {
+        ResourceCache<ConfigMap> cache = cache();
+        cache.seed("ns", List.of(resource("ns", "name", "10")));
+
+        cache.refresh(resource("ns", "name", "11"));
+        assertThat(cache.get("ns", "name").getMetadata().getResourceVersion(), is("11"));
+
+        // The watch already delivered a newer version
+        cache.update(resource("ns", "name", "13"));
+        cache.refresh(resource("ns", "name", "12"));
+        assertThat(cache.get("ns", "name").getMetadata().getResourceVersion(), is("13"));
+
+        // The resource was deleted in the meantime
+        cache.remove(resource("ns", "name", "14"));
+        cache.refresh(resource("ns", "name", "15"));
+        assertThat(cache.get("ns", "name"), is(nullValue()));
+    }
+
+    @Test
+    public void testResourceVersionComparison() {
+        assertThat(ResourceCache.isNotNewer("1", "2"), is(true));
+        assertThat(ResourceCache.isNotNewer("2", "2"), is(true));
+        assertThat(ResourceCache.isNotNewer("3", "2"), is(false));
+        assertThat(ResourceCache.isNotNewer("abc", "2"), is(false));
+        assertThat(ResourceCache.isNotNewer(null, "2"), is(false));
+    }
+}
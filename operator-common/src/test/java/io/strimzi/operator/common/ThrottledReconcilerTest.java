@@ -0,0 +1,156 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+@ExtendWith(VertxExtension.class)
+public class ThrottledReconcilerTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static List<Reconciliation> reconciliations(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Reconciliation("test", "TestResource", "ns", "name-" + i))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testMaxInFlight(VertxTestContext context) {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxSeen = new AtomicInteger();
+        AtomicInteger reconciled = new AtomicInteger();
+
+        ThrottledReconciler reconciler = new ThrottledReconciler(vertx, reconciliation -> {
+            maxSeen.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+            Promise<Void> promise = Promise.promise();
+            vertx.setTimer(10, timerId -> {
+                inFlight.decrementAndGet();
+                reconciled.incrementAndGet();
+                promise.complete();
+            });
+            return promise.future();
+        }, 3, 0);
+
+        reconciler.reconcile(reconciliations(20)).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(reconciled.get(), is(20));
+            assertThat(maxSeen.get(), is(3));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testMaxInFlightIsSharedByBatches(VertxTestContext context) {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxSeen = new AtomicInteger();
+        AtomicInteger reconciled = new AtomicInteger();
+
+        ThrottledReconciler reconciler = new ThrottledReconciler(vertx, reconciliation -> {
+            maxSeen.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+            Promise<Void> promise = Promise.promise();
+            vertx.setTimer(10, timerId -> {
+                inFlight.decrementAndGet();
+                reconciled.incrementAndGet();
+                promise.complete();
+            });
+            return promise.future();
+        }, 3, 0);
+
+        List<Reconciliation> first = reconciliations(10);
+        List<Reconciliation> second = IntStream.range(0, 10)
+                .mapToObj(i -> new Reconciliation("test", "TestResource", "other-ns", "name-" + i))
+                .collect(Collectors.toList());
+
+        CompositeFuture.join(reconciler.reconcile(first), reconciler.reconcile(second)).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(reconciled.get(), is(20));
+            assertThat(maxSeen.get(), is(3));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testQueuedReconciliationIsNotQueuedAgain(VertxTestContext context) {
+        Map<String, AtomicInteger> reconciled = new ConcurrentHashMap<>();
+
+        ThrottledReconciler reconciler = new ThrottledReconciler(vertx, reconciliation -> {
+            reconciled.computeIfAbsent(reconciliation.name(), name -> new AtomicInteger()).incrementAndGet();
+
+            Promise<Void> promise = Promise.promise();
+            vertx.setTimer(10, timerId -> promise.complete());
+            return promise.future();
+        }, 1, 0);
+
+        // The second batch starts while all but one reconciliation of the first batch are still queued
+        CompositeFuture.join(reconciler.reconcile(reconciliations(5)), reconciler.reconcile(reconciliations(5))).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(reconciled.size(), is(5));
+            // Only the resource which was already being reconciled is reconciled again
+            assertThat(reconciled.values().stream().mapToInt(AtomicInteger::get).sum(), is(6));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testSpreadAndFailure(VertxTestContext context) {
+        AtomicInteger reconciled = new AtomicInteger();
+        long start = System.currentTimeMillis();
+
+        ThrottledReconciler reconciler = new ThrottledReconciler(vertx, reconciliation -> {
+            reconciled.incrementAndGet();
+
+            if ("name-2".equals(reconciliation.name())) {
+                return Future.failedFuture("failure");
+            } else {
+                return Future.succeededFuture();
+            }
+        }, 0, 500);
+
+        reconciler.reconcile(reconciliations(5)).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e.getMessage(), is("failure"));
+            assertThat(reconciled.get(), is(5));
+            assertThat(System.currentTimeMillis() - start, is(greaterThanOrEqualTo(400L)));
+            assertThat(System.currentTimeMillis() - start, is(lessThanOrEqualTo(5_000L)));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testEmpty(VertxTestContext context) {
+        ThrottledReconciler reconciler = new ThrottledReconciler(vertx, reconciliation -> Future.failedFuture("unexpected"), 1, 1_000);
+
+        reconciler.reconcile(List.of()).onComplete(context.succeeding(v -> context.completeNow()));
+    }
+}
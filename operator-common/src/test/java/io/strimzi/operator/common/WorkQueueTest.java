@@ -0,0 +1,212 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+@ExtendWith(VertxExtension.class)
+public class WorkQueueTest {
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final MetricsProvider metrics = new MetricsProvider() {
+        @Override
+        public MeterRegistry meterRegistry() {
+            return registry;
+        }
+
+        @Override
+        public Counter counter(String name, String description, Tags tags) {
+            return Counter.builder(name).description(description).tags(tags).register(registry);
+        }
+
+        @Override
+        public Timer timer(String name, String description, Tags tags) {
+            return Timer.builder(name).description(description).tags(tags).register(registry);
+        }
+
+        @Override
+        public AtomicInteger gauge(String name, String description, Tags tags) {
+            return registry.gauge(name, tags, new AtomicInteger(0));
+        }
+    };
+
+    private final List<Reconciliation> started = new ArrayList<>();
+    private final List<Promise<Void>> running = new ArrayList<>();
+
+    private Future<Void> reconcile(Reconciliation reconciliation) {
+        Promise<Void> promise = Promise.promise();
+        started.add(reconciliation);
+        running.add(promise);
+        return promise.future();
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", "TestResource", "ns", name);
+    }
+
+    @Test
+    public void testQueuedEventsAreCoalesced() {
+        WorkQueue queue = new WorkQueue("TestResource", this::reconcile, metrics, 1);
+
+        queue.enqueue(reconciliation("a"));
+        queue.enqueue(reconciliation("b"));
+        queue.enqueue(reconciliation("b"));
+        queue.enqueue(reconciliation("b"));
+
+        assertThat(started.size(), is(1));
+        assertThat(queue.size(), is(1));
+        assertThat(registry.get("strimzi.reconciliations.queue.coalesced").counter().count(), is(2.0));
+
+        running.get(0).complete();
+
+        assertThat(started.size(), is(2));
+        assertThat(started.get(1).name(), is("b"));
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    public void testRunningResourceIsRequeuedOnce() {
+        WorkQueue queue = new WorkQueue("TestResource", this::reconcile, metrics, 5);
+
+        queue.enqueue(reconciliation("a"));
+        queue.enqueue(reconciliation("a"));
+        queue.enqueue(reconciliation("a"));
+        queue.enqueue(reconciliation("a"));
+
+        assertThat(started.size(), is(1));
+        assertThat(queue.inFlight(), is(1));
+
+        running.get(0).fail("failure");
+
+        assertThat(started.size(), is(2));
+
+        running.get(1).complete();
+
+        assertThat(started.size(), is(2));
+        assertThat(queue.inFlight(), is(0));
+    }
+
+    @Test
+    public void testMaxInFlight() {
+        WorkQueue queue = new WorkQueue("TestResource", this::reconcile, metrics, 2);
+
+        queue.enqueue(reconciliation("a"));
+        queue.enqueue(reconciliation("b"));
+        queue.enqueue(reconciliation("c"));
+        queue.enqueue(reconciliation("d"));
+
+        assertThat(started.size(), is(2));
+        assertThat(queue.size(), is(2));
+        assertThat(registry.get("strimzi.reconciliations.queue.depth").gauge().value(), is(2.0));
+
+        running.get(1).complete();
+
+        assertThat(started.size(), is(3));
+        assertThat(started.get(2).name(), is("c"));
+        assertThat(queue.size(), is(1));
+        assertThat(registry.get("strimzi.reconciliations.queue.latency").timer().count(), is(3L));
+    }
+
+    @Test
+    public void testNoInFlightLimitByDefault() {
+        WorkQueue queue = new WorkQueue("TestResource", this::reconcile, metrics, 0);
+
+        for (int i = 0; i < 50; i++) {
+            queue.enqueue(reconciliation("name-" + i));
+        }
+
+        assertThat(started.size(), is(50));
+        assertThat(queue.size(), is(0));
+        assertThat(queue.inFlight(), is(50));
+    }
+
+    @Test
+    public void testFuturesCompleteWithTheReconciliationWhichCoversThem() {
+        WorkQueue queue = new WorkQueue("TestResource", this::reconcile, metrics, 1);
+
+        Future<Void> a = queue.enqueue(reconciliation("a"));
+        Future<Void> b1 = queue.enqueue(reconciliation("b"));
+        Future<Void> b2 = queue.enqueue(reconciliation("b"));
+        Future<Void> a1 = queue.enqueue(reconciliation("a"));
+        Future<Void> a2 = queue.enqueue(reconciliation("a"));
+
+        assertThat(b1 == b2, is(true));
+        assertThat(a1 == a2, is(true));
+
+        running.get(0).complete();
+
+        // The first reconciliation of a started before a1 and a2 were enqueued, so it does not cover them
+        assertThat(a.succeeded(), is(true));
+        assertThat(a1.isComplete(), is(false));
+        assertThat(b1.isComplete(), is(false));
+        assertThat(started.get(1).name(), is("b"));
+
+        running.get(1).fail("failure");
+
+        assertThat(b1.failed(), is(true));
+        assertThat(started.get(2).name(), is("a"));
+
+        running.get(2).complete();
+
+        assertThat(a1.succeeded(), is(true));
+        assertThat(queue.inFlight(), is(0));
+    }
+
+    @Test
+    public void testMaxPerSecond(VertxTestContext context) {
+        Vertx vertx = Vertx.vertx();
+        List<Long> startedAt = new ArrayList<>();
+
+        WorkQueue queue = new WorkQueue(vertx, "TestResource", reconciliation -> {
+            synchronized (startedAt) {
+                startedAt.add(System.nanoTime());
+            }
+
+            return Future.succeededFuture();
+        }, metrics, 0, 5);
+
+        long start = System.nanoTime();
+        List<Future> futures = IntStream.range(0, 10)
+                .mapToObj(i -> queue.enqueue(reconciliation("name-" + i)))
+                .collect(Collectors.toList());
+
+        // The burst of 5 reconciliations is dispatched immediately, the rest waits for the rate limiter
+        synchronized (startedAt) {
+            assertThat(startedAt.size(), is(5));
+        }
+
+        CompositeFuture.join(futures).onComplete(context.succeeding(v -> context.verify(() -> {
+            synchronized (startedAt) {
+                assertThat(startedAt.size(), is(10));
+                assertThat(startedAt.get(9) - start, greaterThanOrEqualTo(900_000_000L));
+            }
+
+            vertx.close();
+            context.completeNow();
+        })));
+    }
+}
@@ -7,6 +7,9 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -16,13 +19,17 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -196,4 +203,78 @@ public abstract class AbstractReadyResourceOperatorTest<C extends KubernetesClie
                 async.flag();
             })));
     }
+
+    @Test
+    public void testWaitUntilReadyDrivenByWatchEvents(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.isReady()).thenReturn(Boolean.FALSE);
+
+        Watch mockWatch = mock(Watch.class);
+        AtomicReference<Watcher> watcher = new AtomicReference<>();
+        when(mockResource.watch(any(Watcher.class))).then(invocation -> {
+            watcher.set(invocation.getArgument(0));
+            return mockWatch;
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractReadyResourceOperator<C, T, L, R> op = spy(createResourceOperations(vertx, mockClient));
+        doReturn(true).when(op).isReady(resource);
+
+        // The resource is not polled, so it gets ready only after the event is received and the readiness is
+        // evaluated from the resource carried by the event instead of getting it from the API server again
+        vertx.setTimer(200, ignored -> watcher.get().eventReceived(Watcher.Action.MODIFIED, resource));
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> vertx.setTimer(100, ignored -> context.verify(() -> {
+                verify(mockResource, times(1)).isReady();
+                verify(op).isReady(resource);
+                verify(mockWatch).close();
+                async.flag();
+            }))));
+    }
+
+    @Test
+    public void testWaitUntilReadyFallsBackToPollingWhenWatchIsClosed(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.isReady()).thenReturn(Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, Boolean.TRUE);
+
+        AtomicReference<Watcher> watcher = new AtomicReference<>();
+        when(mockResource.watch(any(Watcher.class))).then(invocation -> {
+            watcher.set(invocation.getArgument(0));
+            return mock(Watch.class);
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractReadyResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        vertx.setTimer(200, ignored -> watcher.get().onClose(new WatcherException("Watch closed")));
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(mockResource, times(4)).isReady();
+                async.flag();
+            })));
+    }
 }
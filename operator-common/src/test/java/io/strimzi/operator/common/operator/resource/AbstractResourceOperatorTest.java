@@ -14,6 +14,7 @@ import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Annotations;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.is;
@@ -33,6 +35,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -158,6 +161,45 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
         })));
     }
 
+    @Test
+    public void testDesiredStateHashingSkipsUnchangedResource(VertxTestContext context) {
+        AtomicReference<T> current = new AtomicReference<>(resource());
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenAnswer(invocation -> current.get());
+        when(mockResource.withPropagationPolicy(any(DeletionPropagation.class))).thenReturn(mockResource);
+        when(mockResource.patch(any())).thenAnswer(invocation -> {
+            T patched = invocation.getArgument(0);
+            patched.getMetadata().setResourceVersion("2");
+            current.set(patched);
+            return patched;
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.setDesiredStateHashing(true);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(modifiedResource())
+            .compose(rr -> {
+                context.verify(() -> assertThat(current.get().getMetadata().getAnnotations().containsKey(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH), is(true)));
+                return op.createOrUpdate(modifiedResource());
+            })
+            .onComplete(context.succeeding(rr -> context.verify(() -> {
+                assertThat(rr instanceof ReconcileResult.Noop, is(true));
+                verify(mockResource, times(2)).get();
+                verify(mockResource, times(1)).patch(any());
+                async.flag();
+            })));
+    }
+
     @Test
     public void testExistenceCheckThrows(VertxTestContext context) {
         T resource = resource();
@@ -0,0 +1,131 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DesiredStateTrackerTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static ConfigMap configMap(String name, String kind, String cluster) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withLabels(Map.of(Labels.STRIMZI_KIND_LABEL, kind, Labels.STRIMZI_CLUSTER_LABEL, cluster))
+                .endMetadata()
+                .withData(Map.of("key", "value"))
+                .build();
+    }
+
+    private static void apply(DesiredStateTracker<ConfigMap> tracker, ConfigMap desired) {
+        ConfigMap stamped = tracker.stamp(desired);
+        stamped.getMetadata().setResourceVersion("1");
+        tracker.applied(NAMESPACE, desired.getMetadata().getName(), DesiredStateTracker.hashAnnotation(stamped), ReconcileResult.patched(stamped));
+    }
+
+    @Test
+    public void testStampDoesNotModifyDesiredResource() {
+        DesiredStateTracker<ConfigMap> tracker = new DesiredStateTracker<>();
+        ConfigMap desired = configMap("my-cluster-config", "Kafka", "my-cluster");
+
+        ConfigMap stamped = tracker.stamp(desired);
+
+        assertThat(desired.getMetadata().getAnnotations(), is(nullValue()));
+        assertThat(DesiredStateTracker.hashAnnotation(stamped), is(notNullValue()));
+        assertThat(stamped.getData(), is(desired.getData()));
+        assertThat(stamped.getMetadata().getLabels(), is(desired.getMetadata().getLabels()));
+
+        // Stamping the stamped resource again results in the same hash
+        assertThat(DesiredStateTracker.hashAnnotation(tracker.stamp(stamped)), is(DesiredStateTracker.hashAnnotation(stamped)));
+
+        ConfigMap changed = configMap("my-cluster-config", "Kafka", "my-cluster");
+        changed.setData(Map.of("key", "other-value"));
+        assertThat(DesiredStateTracker.hashAnnotation(tracker.stamp(changed)), is(not(DesiredStateTracker.hashAnnotation(stamped))));
+    }
+
+    @Test
+    public void testForgetOwnedByRemovesOnlyResourcesOfDeletedCustomResource() {
+        DesiredStateTracker<ConfigMap> tracker = new DesiredStateTracker<>();
+        apply(tracker, configMap("my-cluster-config", "Kafka", "my-cluster"));
+        apply(tracker, configMap("my-cluster-other-config", "Kafka", "my-cluster"));
+        apply(tracker, configMap("my-connect-config", "KafkaConnect", "my-cluster"));
+        apply(tracker, configMap("other-cluster-config", "Kafka", "other-cluster"));
+        assertThat(tracker.size(), is(4));
+
+        tracker.forgetOwnedBy("other-namespace", "Kafka", "my-cluster");
+        assertThat(tracker.size(), is(4));
+
+        tracker.forgetOwnedBy(NAMESPACE, "Kafka", "my-cluster");
+        assertThat(tracker.size(), is(2));
+
+        ConfigMap connect = tracker.stamp(configMap("my-connect-config", "KafkaConnect", "my-cluster"));
+        connect.getMetadata().setResourceVersion("1");
+        assertThat(tracker.isUnchanged(NAMESPACE, "my-connect-config", connect, DesiredStateTracker.hashAnnotation(connect)), is(true));
+    }
+
+    @Test
+    public void testStampedResourceKeepsHashAnnotationOutOfHash() {
+        DesiredStateTracker<ConfigMap> tracker = new DesiredStateTracker<>();
+        ConfigMap desired = configMap("my-cluster-config", "Kafka", "my-cluster");
+        desired.getMetadata().setAnnotations(Map.of(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH, "stale"));
+
+        ConfigMap stamped = tracker.stamp(desired);
+
+        assertThat(desired.getMetadata().getAnnotations().get(Annotations.ANNO_STRIMZI_IO_DESIRED_STATE_HASH), is("stale"));
+        assertThat(DesiredStateTracker.hashAnnotation(stamped), is(DesiredStateTracker.hashAnnotation(tracker.stamp(configMap("my-cluster-config", "Kafka", "my-cluster")))));
+    }
+
+    @Test
+    public void testGenerationIsUsedInsteadOfResourceVersionWhenAvailable() {
+        DesiredStateTracker<ConfigMap> tracker = new DesiredStateTracker<>();
+        DesiredStateTracker.DesiredState<ConfigMap> desiredState = tracker.desiredState(configMap("my-cluster-config", "Kafka", "my-cluster"));
+
+        ConfigMap applied = desiredState.stamped();
+        applied.getMetadata().setGeneration(1L);
+        applied.getMetadata().setResourceVersion("1");
+        tracker.applied(NAMESPACE, "my-cluster-config", desiredState.hash(), ReconcileResult.patched(applied));
+
+        // A status update changes only the resource version
+        ConfigMap current = desiredState.stamped();
+        current.getMetadata().setGeneration(1L);
+        current.getMetadata().setResourceVersion("2");
+        assertThat(tracker.isUnchanged(NAMESPACE, "my-cluster-config", current, desiredState.hash()), is(true));
+
+        // A change of the specification changes the generation as well
+        current.getMetadata().setGeneration(2L);
+        current.getMetadata().setResourceVersion("3");
+        assertThat(tracker.isUnchanged(NAMESPACE, "my-cluster-config", current, desiredState.hash()), is(false));
+    }
+
+    @Test
+    public void testResourceVersionIsUsedForResourcesWithoutGeneration() {
+        DesiredStateTracker<ConfigMap> tracker = new DesiredStateTracker<>();
+        DesiredStateTracker.DesiredState<ConfigMap> desiredState = tracker.desiredState(configMap("my-cluster-config", "Kafka", "my-cluster"));
+
+        ConfigMap applied = desiredState.stamped();
+        applied.getMetadata().setResourceVersion("1");
+        tracker.applied(NAMESPACE, "my-cluster-config", desiredState.hash(), ReconcileResult.patched(applied));
+
+        ConfigMap current = desiredState.stamped();
+        current.getMetadata().setResourceVersion("1");
+        assertThat(tracker.isUnchanged(NAMESPACE, "my-cluster-config", current, desiredState.hash()), is(true));
+
+        current.getMetadata().setResourceVersion("2");
+        assertThat(tracker.isUnchanged(NAMESPACE, "my-cluster-config", current, desiredState.hash()), is(false));
+    }
+}
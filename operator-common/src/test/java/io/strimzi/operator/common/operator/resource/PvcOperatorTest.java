@@ -11,14 +11,27 @@ import io.fabric8.kubernetes.api.model.PersistentVolumeClaimList;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -103,4 +116,56 @@ public class PvcOperatorTest extends AbstractResourceOperatorTest<KubernetesClie
         assertThat(current.getSpec().getSelector(), is(desired.getSpec().getSelector()));
         assertThat(current.getSpec().getVolumeName(), is(desired.getSpec().getVolumeName()));
     }
+
+    @Test
+    public void testWaitTimeIsRecordedWithTheMetricsProvider(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(null);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCms);
+
+        PvcOperator op = new PvcOperator(vertx, mockClient, metrics);
+
+        Checkpoint async = context.checkpoint();
+        op.waitFor(NAMESPACE, RESOURCE_NAME, "deleted", 20, 5_000, (namespace, name) -> op.get(namespace, name) == null, Objects::isNull)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                Timer timer = registry.find("strimzi.resources.wait.duration")
+                        .tags("kind", "PersistentVolumeClaim", "state", "deleted", "outcome", "success")
+                        .timer();
+
+                assertThat(timer, is(notNullValue()));
+                assertThat(timer.count(), is(1L));
+                async.flag();
+            })));
+    }
 }
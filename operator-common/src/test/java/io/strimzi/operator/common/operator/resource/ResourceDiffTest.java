@@ -0,0 +1,136 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResourceDiffTest {
+    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
+            "^(/metadata/managedFields"
+                    + "|/metadata/annotations/example.com~1ignored"
+                    + "|/spec/template/spec/containers/[0-9]+/imagePullPolicy"
+                    + "|/status)$");
+
+    private static Deployment deployment() {
+        return new DeploymentBuilder()
+                .withNewMetadata()
+                    .withNamespace("my-namespace")
+                    .withName("my-deployment")
+                    .withAnnotations(Map.of("example.com/ignored", "a", "example.com/other", "b"))
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                    .withNewTemplate()
+                        .withNewSpec()
+                            .withContainers(new ContainerBuilder()
+                                    .withName("container")
+                                    .withImage("image:1")
+                                    .withEnv(new EnvVarBuilder().withName("VAR1").withValue("value1").build(),
+                                            new EnvVarBuilder().withName("VAR2").withValue("value2").build())
+                                    .build())
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+    }
+
+    private static boolean isEmpty(Deployment current, Deployment desired) {
+        return new ResourceDiff<>("Deployment", "my-deployment", current, desired, IGNORABLE_PATHS).isEmpty();
+    }
+
+    @Test
+    public void testSameResources() {
+        assertThat(isEmpty(deployment(), deployment()), is(true));
+    }
+
+    @Test
+    public void testIgnorableDifferences() {
+        Deployment current = new DeploymentBuilder(deployment())
+                .editMetadata()
+                    .addToAnnotations("example.com/ignored", "changed")
+                .endMetadata()
+                .editSpec()
+                    .editTemplate()
+                        .editSpec()
+                            .editFirstContainer()
+                                .withImagePullPolicy("IfNotPresent")
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .withNewStatus()
+                    .withReplicas(1)
+                .endStatus()
+                .build();
+
+        assertThat(isEmpty(current, deployment()), is(true));
+    }
+
+    @Test
+    public void testObjectDifferences() {
+        Deployment changedValue = new DeploymentBuilder(deployment())
+                .editSpec()
+                    .withReplicas(2)
+                .endSpec()
+                .build();
+
+        Deployment addedField = new DeploymentBuilder(deployment())
+                .editMetadata()
+                    .addToLabels("label", "value")
+                .endMetadata()
+                .build();
+
+        assertThat(isEmpty(deployment(), changedValue), is(false));
+        assertThat(isEmpty(deployment(), addedField), is(false));
+        assertThat(isEmpty(addedField, deployment()), is(false));
+    }
+
+    @Test
+    public void testArrayDifferences() {
+        Deployment changedElement = new DeploymentBuilder(deployment())
+                .editSpec()
+                    .editTemplate()
+                        .editSpec()
+                            .editFirstContainer()
+                                .withImage("image:2")
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+
+        Deployment removedElement = new DeploymentBuilder(deployment())
+                .editSpec()
+                    .editTemplate()
+                        .editSpec()
+                            .editFirstContainer()
+                                .withEnv(new EnvVarBuilder().withName("VAR2").withValue("value2").build())
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+
+        assertThat(isEmpty(deployment(), changedElement), is(false));
+        assertThat(isEmpty(deployment(), removedElement), is(false));
+    }
+
+    @Test
+    public void testMissingResources() {
+        assertThat(isEmpty(null, null), is(true));
+        assertThat(isEmpty(null, deployment()), is(false));
+        assertThat(isEmpty(deployment(), null), is(false));
+    }
+}
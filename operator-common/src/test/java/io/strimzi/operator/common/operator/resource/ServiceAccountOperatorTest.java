@@ -110,4 +110,33 @@ public class ServiceAccountOperatorTest extends AbstractResourceOperatorTest<Kub
                 async.flag();
             }));
     }
+
+    @Override
+    @Test
+    public void testDesiredStateHashingSkipsUnchangedResource(VertxTestContext context) {
+        // This is overridden because SA patch is coded as a no op, so the hash annotation is never applied.
+        ServiceAccount resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<KubernetesClient, ServiceAccount, ServiceAccountList, Resource<ServiceAccount>> op = createResourceOperations(vertx, mockClient);
+        op.setDesiredStateHashing(true);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(modifiedResource())
+            .onComplete(context.succeeding(rr -> {
+                context.verify(() -> assertThat(rr, instanceOf(ReconcileResult.Noop.class)));
+                verify(mockResource, never()).patch(any());
+                async.flag();
+            }));
+    }
 }
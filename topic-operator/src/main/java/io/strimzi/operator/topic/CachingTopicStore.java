@@ -0,0 +1,87 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.vertx.core.Future;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-through in-memory cache in front of another {@link TopicStore}. The topic store is owned by the operator,
+ * so the cached topics are valid until the operator itself changes them and the reconciliations read them from
+ * memory instead of from ZooKeeper or the Kafka Streams store. The writes always go to the underlying store and the
+ * cache is only updated once the write succeeded. When a write fails, the cached topic is evicted, so that the next
+ * read goes to the underlying store again.
+ */
+class CachingTopicStore implements TopicStore {
+
+    private final TopicStore delegate;
+
+    private final Map<TopicName, Topic> cache = new ConcurrentHashMap<>();
+
+    CachingTopicStore(TopicStore delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Future<Topic> read(TopicName name) {
+        Topic cached = cache.get(name);
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        }
+
+        return delegate.read(name).map(topic -> {
+            // Missing topics are not cached, the read of a topic which doesn't exist is rare
+            if (topic != null) {
+                cache.put(name, topic);
+            }
+            return topic;
+        });
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        return write(topic, delegate.create(topic));
+    }
+
+    @Override
+    public Future<Void> update(Topic topic) {
+        return write(topic, delegate.update(topic));
+    }
+
+    @Override
+    public Future<Void> delete(TopicName name) {
+        return delegate.delete(name).onComplete(result -> cache.remove(name));
+    }
+
+    private Future<Void> write(Topic topic, Future<Void> result) {
+        return result.onComplete(ar -> {
+            if (ar.succeeded()) {
+                cache.put(topic.getTopicName(), stored(topic));
+            } else {
+                cache.remove(topic.getTopicName());
+            }
+        });
+    }
+
+    /**
+     * @param topic The written topic
+     * @return The topic as it would be read back from the underlying store, which keeps the resource name but not
+     * the resource metadata.
+     */
+    private static Topic stored(Topic topic) {
+        return new Topic.Builder(topic)
+                .withMapName(topic.getOrAsKubeName())
+                .withMetadata(new ObjectMeta())
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return "CachingTopicStore(" + delegate + ")";
+    }
+}
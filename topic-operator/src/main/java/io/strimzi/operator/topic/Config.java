@@ -109,6 +109,9 @@ public class Config {
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    public static final String TC_ADMIN_BATCH_WINDOW_MS = "STRIMZI_ADMIN_BATCH_WINDOW_MS";
+    public static final String TC_ADMIN_BATCH_MAX_SIZE = "STRIMZI_ADMIN_BATCH_MAX_SIZE";
+    public static final String TC_KUBERNETES_WRITE_POOL_SIZE = "STRIMZI_KUBERNETES_WRITE_POOL_SIZE";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
@@ -125,6 +128,8 @@ public class Config {
     public static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
+    public static final String TC_USE_CONFIG_CHANGE_NOTIFICATIONS = "STRIMZI_USE_CONFIG_CHANGE_NOTIFICATIONS";
+    public static final String TC_USE_BINARY_TOPIC_STORE_FORMAT = "STRIMZI_USE_BINARY_TOPIC_STORE_FORMAT";
 
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
@@ -164,6 +169,15 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** How long the single-topic metadata requests are collected before they are sent to Kafka in a single request (0 disables the batching) */
+    public static final Value<Long> ADMIN_BATCH_WINDOW_MS = new Value<>(TC_ADMIN_BATCH_WINDOW_MS, DURATION, "10");
+
+    /** The maximal number of topics in a single batched metadata request */
+    public static final Value<Integer> ADMIN_BATCH_MAX_SIZE = new Value<>(TC_ADMIN_BATCH_MAX_SIZE, POSITIVE_INTEGER, "500");
+
+    /** The maximal number of KafkaTopic writes and Event creations executed in parallel */
+    public static final Value<Integer> KUBERNETES_WRITE_POOL_SIZE = new Value<>(TC_KUBERNETES_WRITE_POOL_SIZE, POSITIVE_INTEGER, Integer.toString(K8sImpl.DEFAULT_WRITE_POOL_SIZE));
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
@@ -196,6 +210,12 @@ public class Config {
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /** Do we detect the topic config changes using the config change notifications instead of watching every topic in ZooKeeper */
+    public static final Value<Boolean> USE_CONFIG_CHANGE_NOTIFICATIONS = new Value<>(TC_USE_CONFIG_CHANGE_NOTIFICATIONS, BOOLEAN, "false");
+
+    /** Do we write the topics to the TopicStore in the compact binary format instead of JSON (which older versions cannot read) */
+    public static final Value<Boolean> USE_BINARY_TOPIC_STORE_FORMAT = new Value<>(TC_USE_BINARY_TOPIC_STORE_FORMAT, BOOLEAN, "false");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -209,6 +229,9 @@ public class Config {
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, ADMIN_BATCH_WINDOW_MS);
+        addConfigValue(configValues, ADMIN_BATCH_MAX_SIZE);
+        addConfigValue(configValues, KUBERNETES_WRITE_POOL_SIZE);
         addConfigValue(configValues, TOPICS_PATH);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
@@ -222,6 +245,8 @@ public class Config {
         addConfigValue(configValues, APPLICATION_SERVER);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, USE_CONFIG_CHANGE_NOTIFICATIONS);
+        addConfigValue(configValues, USE_BINARY_TOPIC_STORE_FORMAT);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
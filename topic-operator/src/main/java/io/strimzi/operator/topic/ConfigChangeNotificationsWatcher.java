@@ -0,0 +1,173 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ZooKeeper watcher for the topic config changes which uses a single children watch on the config change
+ * notifications ({@code /config/changes}) written by Kafka for every config change, instead of watching the znode
+ * of every topic in {@code /config/topics}. Only the notifications created since the last seen notification are
+ * read, and {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)} is called for the watched topics they
+ * refer to.
+ */
+class ConfigChangeNotificationsWatcher extends TopicConfigsWatcher {
+
+    private static final String CHANGES_ZNODE = "/config/changes";
+    private static final String CHANGE_PREFIX = "config_change_";
+    private static final String TOPICS_ENTITY_TYPE = "topics";
+
+    private volatile Zk zk;
+
+    /**
+     * The sequence number of the last seen notification (null until the initial notifications are known)
+     */
+    private Long lastSeenSequence;
+
+    ConfigChangeNotificationsWatcher(TopicOperator topicOperator) {
+        super(topicOperator);
+    }
+
+    @Override
+    protected void start(Zk zk) {
+        this.zk = zk;
+        synchronized (this) {
+            lastSeenSequence = null;
+        }
+        super.start(zk);
+        zk.watchChildren(CHANGES_ZNODE, this::onNotificationsChanged).compose(zk2 -> {
+            zk.children(CHANGES_ZNODE, childResult -> {
+                if (childResult.failed()) {
+                    // The changes znode does not exist until the first config change
+                    log.debug("Error on znode {} children", CHANGES_ZNODE, childResult.cause());
+                    onNotificationsChanged(Future.succeededFuture(Collections.emptyList()));
+                } else {
+                    onNotificationsChanged(childResult);
+                }
+            });
+            return Future.succeededFuture();
+        });
+    }
+
+    @Override
+    protected void stop() {
+        super.stop();
+        Zk zk = this.zk;
+        if (zk != null) {
+            zk.unwatchChildren(CHANGES_ZNODE);
+        }
+    }
+
+    @Override
+    protected void watchChild(String child) {
+        // The topic znodes are not watched, the notifications are used instead
+    }
+
+    @Override
+    protected void unwatchChild(String child) {
+        // The topic znodes are not watched, the notifications are used instead
+    }
+
+    private void onNotificationsChanged(AsyncResult<List<String>> childResult) {
+        if (!started()) {
+            return;
+        }
+        if (childResult.failed()) {
+            log.error("Error on znode {} children", CHANGES_ZNODE, childResult.cause());
+            return;
+        }
+
+        List<String> newNotifications = new ArrayList<>();
+        synchronized (this) {
+            long maxSequence = lastSeenSequence != null ? lastSeenSequence : -1;
+            // The children are null when the znode does not exist
+            if (childResult.result() != null) {
+                for (String notification : childResult.result()) {
+                    long sequence = sequence(notification);
+                    if (sequence > maxSequence) {
+                        maxSequence = sequence;
+                    }
+                    if (lastSeenSequence != null && sequence > lastSeenSequence) {
+                        newNotifications.add(notification);
+                    }
+                }
+            }
+
+            // The notifications which exist when the watcher starts were already handled by the initial reconciliation
+            lastSeenSequence = maxSequence;
+        }
+
+        newNotifications.sort((notification1, notification2) -> Long.compare(sequence(notification1), sequence(notification2)));
+        for (String notification : newNotifications) {
+            String path = CHANGES_ZNODE + "/" + notification;
+            zk.getData(path, dataResult -> {
+                if (dataResult.failed()) {
+                    // The notifications are deleted by Kafka after some time
+                    log.debug("Error getting data of znode {}", path, dataResult.cause());
+                    return;
+                }
+
+                String topicName = topicName(dataResult.result());
+                if (topicName != null && watching(topicName)) {
+                    notifyOperator(topicName);
+                }
+            });
+        }
+    }
+
+    /**
+     * @param notification  Name of the notification znode
+     * @return  The sequence number of the notification or -1 if the name is not a notification name
+     */
+    private static long sequence(String notification) {
+        if (notification.startsWith(CHANGE_PREFIX)) {
+            try {
+                return Long.parseLong(notification.substring(CHANGE_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses the topic name from the notification data, which is in the format
+     * {@code {"version":2,"entity_path":"topics/<topic>"}} (or {@code {"version":1,"entity_type":"topics","entity_name":"<topic>"}}
+     * for the notifications written by older Kafka versions).
+     *
+     * @param data  Data of the notification znode
+     * @return  The topic name or null if the notification is not a topic config change
+     */
+    /* test */ static String topicName(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        JsonObject json;
+        try {
+            json = new JsonObject(new String(data, StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        String entityPath = json.getValue("entity_path") instanceof String ? json.getString("entity_path") : null;
+        if (entityPath != null) {
+            String prefix = TOPICS_ENTITY_TYPE + "/";
+            return entityPath.startsWith(prefix) ? entityPath.substring(prefix.length()) : null;
+        } else if (TOPICS_ENTITY_TYPE.equals(json.getValue("entity_type"))) {
+            return json.getValue("entity_name") instanceof String ? json.getString("entity_name") : null;
+        } else {
+            return null;
+        }
+    }
+}
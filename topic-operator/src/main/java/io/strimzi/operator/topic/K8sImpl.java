@@ -10,22 +10,37 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Kubernetes API backed implementation of {@link K8s}. The KafkaTopic writes and the Event creations are executed
+ * on a bounded worker pool without ordering them against each other, so that the writes for different topics run in
+ * parallel. The writes for the same topic are ordered by the topic lock held by the {@link TopicOperator} while
+ * they are executed.
+ */
 public class K8sImpl implements K8s {
 
     private final static Logger LOGGER = LogManager.getLogger(K8sImpl.class);
 
+    public static final int DEFAULT_WRITE_POOL_SIZE = 10;
+    private static final String WRITE_POOL_NAME = "kubernetes-write-pool";
+
     private final Labels labels;
     private final String namespace;
 
@@ -34,18 +49,73 @@ public class K8sImpl implements K8s {
 
     private final Vertx vertx;
 
+    private final WorkerExecutor writeExecutor;
+    private final AtomicInteger queuedWrites;
+    private final AtomicInteger runningWrites;
+
     public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace) {
+        this(vertx, client, labels, namespace, DEFAULT_WRITE_POOL_SIZE, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vertx instance
+     * @param client        Kubernetes client
+     * @param labels        Labels of the KafkaTopic resources
+     * @param namespace     Namespace of the KafkaTopic resources
+     * @param writePoolSize Maximal number of the Kubernetes writes executed in parallel
+     * @param metrics       Metrics provider for the write pool saturation metrics (null if the metrics should not be collected)
+     */
+    public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace, int writePoolSize, MetricsProvider metrics) {
         this.vertx = vertx;
         this.client = client;
         this.crdOperator = new CrdOperator<>(vertx, client, KafkaTopic.class, KafkaTopicList.class, KafkaTopic.RESOURCE_KIND);
         this.labels = labels;
         this.namespace = namespace;
+        this.writeExecutor = vertx.createSharedWorkerExecutor(WRITE_POOL_NAME, writePoolSize);
+
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"), Tag.of("pool", WRITE_POOL_NAME));
+
+            this.queuedWrites = metrics.gauge(TopicOperator.METRICS_PREFIX + "kubernetes.writes.queued",
+                    "Number of the Kubernetes writes waiting for a thread of the write pool",
+                    metricTags);
+            this.runningWrites = metrics.gauge(TopicOperator.METRICS_PREFIX + "kubernetes.writes.running",
+                    "Number of the Kubernetes writes being executed by the write pool (saturated when equal to the pool size)",
+                    metricTags);
+        } else {
+            this.queuedWrites = new AtomicInteger();
+            this.runningWrites = new AtomicInteger();
+        }
+    }
+
+    /**
+     * Executes the blocking Kubernetes write on the write pool. The writes are not ordered against each other.
+     *
+     * @param blockingCode  The blocking code executing the write
+     * @param <T>           Type of the result
+     *
+     * @return  Future which completes with the result of the write
+     */
+    private <T> Future<T> executeWrite(Handler<Promise<T>> blockingCode) {
+        Promise<T> handler = Promise.promise();
+        queuedWrites.incrementAndGet();
+        writeExecutor.executeBlocking(future -> {
+            queuedWrites.decrementAndGet();
+            runningWrites.incrementAndGet();
+            try {
+                blockingCode.handle(future);
+            } finally {
+                runningWrites.decrementAndGet();
+            }
+        }, false, handler);
+        return handler.future();
     }
 
     @Override
     public Future<KafkaTopic> createResource(KafkaTopic topicResource) {
-        Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return executeWrite(future -> {
             try {
                 KafkaTopic kafkaTopic = operation().inNamespace(namespace).create(topicResource);
                 LOGGER.debug("KafkaTopic {} created with version {}->{}",
@@ -56,14 +126,12 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        });
     }
 
     @Override
     public Future<KafkaTopic> updateResource(KafkaTopic topicResource) {
-        Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return executeWrite(future -> {
             try {
                 KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(topicResource.getMetadata().getName()).patch(topicResource);
                 LOGGER.debug("KafkaTopic {} updated with version {}->{}",
@@ -74,8 +142,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        });
     }
 
     @Override
@@ -85,8 +152,7 @@ public class K8sImpl implements K8s {
 
     @Override
     public Future<Void> deleteResource(ResourceName resourceName) {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return executeWrite(future -> {
             try {
                 // Delete the resource by the topic name, because neither ZK nor Kafka know the resource name
                 if (!Boolean.TRUE.equals(operation().inNamespace(namespace).withName(resourceName.toString()).withPropagationPolicy(DeletionPropagation.FOREGROUND).delete())) {
@@ -103,8 +169,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        });
     }
 
     private MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> operation() {
@@ -126,8 +191,7 @@ public class K8sImpl implements K8s {
      */
     @Override
     public Future<Void> createEvent(Event event) {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return executeWrite(future -> {
             try {
                 try {
                     LOGGER.debug("Creating event {}", event);
@@ -139,7 +203,6 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        });
     }
 }
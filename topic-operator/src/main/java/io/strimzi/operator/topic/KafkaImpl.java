@@ -5,10 +5,13 @@
 package io.strimzi.operator.topic;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
+import io.strimzi.operator.common.AdminRequestBatcher;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -42,9 +45,43 @@ public class KafkaImpl implements Kafka {
 
     protected final Vertx vertx;
 
+    private final AdminRequestBatcher<String, Void> validateOnlyCreateTopicsBatcher;
+    private final AdminRequestBatcher<String, TopicDescription> describeTopicsBatcher;
+    private final AdminRequestBatcher<ConfigResource, Config> describeConfigsBatcher;
+
     public KafkaImpl(Admin adminClient, Vertx vertx) {
+        this(adminClient, vertx, 0, 1, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param adminClient       Kafka Admin client
+     * @param vertx             Vertx instance
+     * @param batchWindowMs     How long the single-topic metadata requests are collected before they are sent to Kafka
+     *                          in a single multi-topic request. When not positive, the requests are not batched.
+     * @param maxBatchSize      Maximal number of topics in a single batched request
+     * @param metrics           Metrics provider for the batching metrics (null if the metrics should not be collected)
+     */
+    public KafkaImpl(Admin adminClient, Vertx vertx, long batchWindowMs, int maxBatchSize, MetricsProvider metrics) {
         this.adminClient = adminClient;
         this.vertx = vertx;
+
+        this.validateOnlyCreateTopicsBatcher = new AdminRequestBatcher<>(vertx, "KafkaTopic", "createTopics", batchWindowMs, maxBatchSize,
+            topicNames -> {
+                Set<NewTopic> newTopics = new LinkedHashSet<>(topicNames.size());
+                for (String topicName : topicNames) {
+                    newTopics.add(new NewTopic(topicName, 1, (short) 1));
+                }
+                return adminClient.createTopics(newTopics, new CreateTopicsOptions().validateOnly(true)).values();
+            },
+            metrics);
+        this.describeTopicsBatcher = new AdminRequestBatcher<>(vertx, "KafkaTopic", "describeTopics", batchWindowMs, maxBatchSize,
+            topicNames -> adminClient.describeTopics(topicNames).values(),
+            metrics);
+        this.describeConfigsBatcher = new AdminRequestBatcher<>(vertx, "KafkaTopic", "describeConfigs", batchWindowMs, maxBatchSize,
+            resources -> adminClient.describeConfigs(resources).values(),
+            metrics);
     }
 
     /**
@@ -71,10 +108,9 @@ public class KafkaImpl implements Kafka {
         // Test existence by doing a validate-only creation and checking for topic exists exception.
         // This request goes to the controller, so is less susceptible to races
         // where we happen to query a broker which hasn't processed an UPDATE_METADATA
-        // request yet
-        return mapFuture(adminClient.createTopics(singleton(
-            new NewTopic(topicName.toString(), 1, (short) 1)),
-            new CreateTopicsOptions().validateOnly(true)).all())
+        // request yet.
+        // Concurrent requests for different topics are batched into a single request.
+        return validateOnlyCreateTopicsBatcher.submit(topicName.toString())
                 .map(ignored -> false)
                 .recover(
                     e -> {
@@ -109,10 +145,8 @@ public class KafkaImpl implements Kafka {
         ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
         return topicExists(topicName).compose(exists -> {
             if (exists) {
-                Future<TopicDescription> topicDescriptionFuture = mapFuture(adminClient.describeTopics(
-                        singleton(topicName.toString())).values().get(topicName.toString()));
-                Future<Config> configFuture = mapFuture(adminClient.describeConfigs(
-                        singleton(resource)).values().get(resource));
+                Future<TopicDescription> topicDescriptionFuture = describeTopicsBatcher.submit(topicName.toString());
+                Future<Config> configFuture = describeConfigsBatcher.submit(resource);
                 return CompositeFuture.all(topicDescriptionFuture, configFuture)
                         .map(compositeFuture -> new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)));
             } else {
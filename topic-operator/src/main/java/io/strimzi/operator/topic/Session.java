@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.client.Watch;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.topic.zk.Zk;
@@ -163,13 +164,15 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(kafkaClientProps);
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        MetricsProvider metricsProvider = new MicrometerMetricsProvider();
+        this.kafka = new KafkaImpl(adminClient, vertx, config.get(Config.ADMIN_BATCH_WINDOW_MS),
+                config.get(Config.ADMIN_BATCH_MAX_SIZE), metricsProvider);
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
         String namespace = config.get(Config.NAMESPACE);
         LOGGER.debug("Using namespace {}", namespace);
-        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace);
+        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace, config.get(Config.KUBERNETES_WRITE_POOL_SIZE), metricsProvider);
         LOGGER.debug("Using k8s {}", k8s);
 
         String clientId = config.get(Config.CLIENT_ID);
@@ -189,7 +192,7 @@ public class Session extends AbstractVerticle {
                 String topicsPath = config.get(Config.TOPICS_PATH);
                 TopicStore topicStore;
                 if (config.get(Config.USE_ZOOKEEPER_TOPIC_STORE)) {
-                    topicStore = new ZkTopicStore(zk, topicsPath);
+                    topicStore = new ZkTopicStore(zk, topicsPath, config.get(Config.USE_BINARY_TOPIC_STORE_FORMAT));
                 } else {
                     boolean exists = zk.getPathExists(topicsPath);
                     CompletionStage<KafkaStreamsTopicStoreService> cs;
@@ -215,14 +218,23 @@ public class Session extends AbstractVerticle {
                     }
                 }
 
+                // The topic store is only changed by the operator, so the reconciliations can read it from memory
+                topicStore = new CachingTopicStore(topicStore);
                 LOGGER.debug("Using TopicStore {}", topicStore);
 
-                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
+                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, metricsProvider);
                 LOGGER.debug("Using Operator {}", topicOperator);
 
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+                if (config.get(Config.USE_CONFIG_CHANGE_NOTIFICATIONS)) {
+                    // A constant number of watches: the config changes are detected from the change notifications
+                    // and the partition changes by the periodic reconciliation
+                    this.topicConfigsWatcher = new ConfigChangeNotificationsWatcher(topicOperator);
+                    this.topicWatcher = new ZkTopicWatcher(topicOperator, false);
+                } else {
+                    this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+                    this.topicWatcher = new ZkTopicWatcher(topicOperator);
+                }
                 LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
-                this.topicWatcher = new ZkTopicWatcher(topicOperator);
                 LOGGER.debug("Using TopicWatcher {}", topicWatcher);
                 this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
                 LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
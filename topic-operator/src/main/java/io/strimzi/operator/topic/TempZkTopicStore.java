@@ -28,7 +28,7 @@ class TempZkTopicStore implements TopicStore {
     public Future<Topic> read(TopicName topicName) {
         String topicPath = getTopicPath(topicName);
         byte[] bytes = zk.getData(topicPath);
-        Topic topic = TopicSerialization.fromJson(bytes);
+        Topic topic = TopicSerialization.fromBytes(bytes);
         return Future.succeededFuture(topic);
     }
 
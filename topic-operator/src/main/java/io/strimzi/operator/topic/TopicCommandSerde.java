@@ -11,7 +11,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 /**
- * TopicCommand Kafka Serde
+ * TopicCommand Kafka Serde, writing either the JSON or the compact binary format and reading both formats.
  */
 public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
@@ -21,8 +21,64 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
     private static final String KEY = "key";
     private static final String VERSION = "version";
 
+    private final boolean binary;
+
+    /**
+     * Creates the Serde writing the JSON format, which can be read by all operator versions
+     */
+    public TopicCommandSerde() {
+        this(false);
+    }
+
+    /**
+     * @param binary Whether the binary format should be written instead of the JSON format
+     */
+    public TopicCommandSerde(boolean binary) {
+        this.binary = binary;
+    }
+
     @Override
     public byte[] serialize(String topic, TopicCommand data) {
+        if (!binary) {
+            return serializeJson(data);
+        }
+
+        return TopicSerialization.toBinaryBytes(out -> {
+            TopicSerialization.writeBinaryHeader(out);
+            TopicSerialization.writeBinaryString(out, data.getUuid());
+            TopicCommand.Type type = data.getType();
+            out.writeInt(data.getVersion());
+            out.writeInt(type.getId());
+            if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+                TopicSerialization.writeBinaryTopic(out, data.getTopic());
+            } else {
+                TopicSerialization.writeBinaryString(out, data.getKey());
+            }
+        });
+    }
+
+    @Override
+    public TopicCommand deserialize(String t, byte[] data) {
+        if (!TopicSerialization.isBinary(data)) {
+            return deserializeJson(data);
+        }
+
+        return TopicSerialization.fromBinaryBytes(data, in -> {
+            String uuid = TopicSerialization.readBinaryString(in);
+            int version = in.readInt();
+            TopicCommand.Type type = TopicCommand.Type.fromId(in.readInt());
+            Topic topic = null;
+            TopicName name = null;
+            if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+                topic = TopicSerialization.readBinaryTopic(in);
+            } else {
+                name = new TopicName(TopicSerialization.readBinaryString(in));
+            }
+            return new TopicCommand(uuid, type, topic, name, version);
+        });
+    }
+
+    private byte[] serializeJson(TopicCommand data) {
         return TopicSerialization.toBytes((mapper, root) -> {
             root.put(UUID, data.getUuid());
             TopicCommand.Type type = data.getType();
@@ -37,8 +93,7 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
         });
     }
 
-    @Override
-    public TopicCommand deserialize(String t, byte[] data) {
+    private TopicCommand deserializeJson(byte[] data) {
         return TopicSerialization.fromJson(data, (mapper, bytes) -> {
             try {
                 JsonNode root = mapper.readTree(bytes);
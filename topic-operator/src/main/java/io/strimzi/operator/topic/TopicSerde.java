@@ -7,16 +7,32 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
 /**
- * Topic Kafka Serde
+ * Topic Kafka Serde, writing either the JSON or the compact binary format and reading both formats.
  */
 public class TopicSerde extends SelfSerde<Topic> {
+    private final boolean binary;
+
+    /**
+     * Creates the Serde writing the JSON format, which can be read by all operator versions
+     */
+    public TopicSerde() {
+        this(false);
+    }
+
+    /**
+     * @param binary Whether the binary format should be written instead of the JSON format
+     */
+    public TopicSerde(boolean binary) {
+        this.binary = binary;
+    }
+
     @Override
     public byte[] serialize(String topic, Topic data) {
-        return TopicSerialization.toJson(data);
+        return binary ? TopicSerialization.toBinary(data) : TopicSerialization.toJson(data);
     }
 
     @Override
     public Topic deserialize(String topic, byte[] data) {
-        return TopicSerialization.fromJson(data);
+        return TopicSerialization.fromBytes(data);
     }
 }
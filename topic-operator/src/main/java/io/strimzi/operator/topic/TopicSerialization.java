@@ -19,8 +19,13 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.config.ConfigResource;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,6 +50,10 @@ class TopicSerialization {
     public static final String JSON_KEY_REPLICAS = "replicas";
     public static final String JSON_KEY_CONFIG = "config";
 
+    // The first byte of the binary format, which can never be the first byte of the JSON format
+    static final byte BINARY_MAGIC = 0;
+    static final byte BINARY_VERSION = 1;
+
     @SuppressWarnings("unchecked")
     private static Map<String, String> topicConfigFromTopicConfig(KafkaTopic kafkaTopic) {
         if (kafkaTopic.getSpec().getConfig() != null) {
@@ -246,7 +255,7 @@ class TopicSerialization {
 
     /**
      * Returns the UTF-8 encoded JSON to reflect the given Topic.
-     * This is what is stored in the znodes owned by the {@link ZkTopicStore}.
+     * This is what is stored in the znodes owned by the {@link ZkTopicStore} unless the binary format is enabled.
      */
     public static byte[] toJson(Topic topic) {
         return toBytes((mapper, root) -> {
@@ -282,7 +291,7 @@ class TopicSerialization {
 
     /**
      * Returns the Topic represented by the given UTF-8 encoded JSON.
-     * This is what is stored in the znodes owned by the {@link ZkTopicStore}.
+     * This is what is stored in the znodes owned by the {@link ZkTopicStore} unless the binary format is enabled.
      */
     @SuppressWarnings("unchecked")
     public static Topic fromJson(byte[] json) {
@@ -324,6 +333,135 @@ class TopicSerialization {
         return builder.build();
     }
 
+    /**
+     * Returns the compact binary representation of the given Topic. The binary format starts with
+     * {@link #BINARY_MAGIC} and {@link #BINARY_VERSION}, followed by the map name, the topic name,
+     * the number of partitions and replicas and the config entries.
+     *
+     * @param topic the topic
+     * @return topic in the binary format
+     */
+    public static byte[] toBinary(Topic topic) {
+        return toBinaryBytes(out -> {
+            writeBinaryHeader(out);
+            writeBinaryTopic(out, topic);
+        });
+    }
+
+    /**
+     * Returns the Topic represented by the given bytes, which can be either in the binary format
+     * (see {@link #toBinary(Topic)}) or in the UTF-8 encoded JSON format (see {@link #toJson(Topic)}).
+     *
+     * @param bytes the topic in the binary or JSON format
+     * @return topic from the bytes
+     */
+    public static Topic fromBytes(byte[] bytes) {
+        if (!isBinary(bytes)) {
+            return fromJson(bytes);
+        }
+
+        return fromBinaryBytes(bytes, TopicSerialization::readBinaryTopic);
+    }
+
+    /**
+     * @param bytes the serialized data
+     * @return true if the data are in the binary format, false if they are in the JSON format
+     */
+    static boolean isBinary(byte[] bytes) {
+        return bytes.length > 0 && bytes[0] == BINARY_MAGIC;
+    }
+
+    static void writeBinaryHeader(DataOutputStream out) throws IOException {
+        out.writeByte(BINARY_MAGIC);
+        out.writeByte(BINARY_VERSION);
+    }
+
+    static void writeBinaryTopic(DataOutputStream out, Topic topic) throws IOException {
+        writeBinaryString(out, topic.getOrAsKubeName().toString());
+        writeBinaryString(out, topic.getTopicName().toString());
+        out.writeInt(topic.getNumPartitions());
+        out.writeShort(topic.getNumReplicas());
+        out.writeInt(topic.getConfig().size());
+        for (Map.Entry<String, String> entry : topic.getConfig().entrySet()) {
+            writeBinaryString(out, entry.getKey());
+            writeBinaryString(out, entry.getValue());
+        }
+    }
+
+    static Topic readBinaryTopic(DataInputStream in) throws IOException {
+        Topic.Builder builder = new Topic.Builder();
+        builder.withMapName(readBinaryString(in))
+                .withTopicName(readBinaryString(in))
+                .withNumPartitions(in.readInt())
+                .withNumReplicas(in.readShort());
+        int configSize = in.readInt();
+        for (int i = 0; i < configSize; i++) {
+            builder.withConfigEntry(readBinaryString(in), readBinaryString(in));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Writes the length of the UTF-8 encoded string followed by its bytes, or only the length -1 for null
+     */
+    static void writeBinaryString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readBinaryString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static byte[] toBinaryBytes(BinaryWriter writer) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Reads the data in the binary format, after checking their header.
+     */
+    static <T> T fromBinaryBytes(byte[] bytes, BinaryReader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            in.readByte();
+            byte version = in.readByte();
+            if (version != BINARY_VERSION) {
+                throw new IllegalArgumentException("Unsupported version " + version + " of the binary format");
+            }
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    interface BinaryWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface BinaryReader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
     static byte[] toBytes(BiConsumer<ObjectMapper, ObjectNode> consumer) {
         ObjectMapper mapper = objectMapper();
         ObjectNode root = mapper.createObjectNode();
@@ -30,17 +30,29 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
     private final String topicStoreName;
     private final Properties kafkaProperties;
     private final ForeachAction<? super String, ? super Integer> dispatcher;
+    private final boolean binary;
 
     public TopicStoreTopologyProvider(
             String storeTopic,
             String topicStoreName,
             Properties kafkaProperties,
             ForeachAction<? super String, ? super Integer> dispatcher
+    ) {
+        this(storeTopic, topicStoreName, kafkaProperties, dispatcher, false);
+    }
+
+    public TopicStoreTopologyProvider(
+            String storeTopic,
+            String topicStoreName,
+            Properties kafkaProperties,
+            ForeachAction<? super String, ? super Integer> dispatcher,
+            boolean binary
     ) {
         this.storeTopic = storeTopic;
         this.topicStoreName = topicStoreName;
         this.kafkaProperties = kafkaProperties;
         this.dispatcher = dispatcher;
+        this.binary = binary;
     }
 
     @Override
@@ -57,7 +69,7 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
         // Key is Kafka topic name -- which is also used for KeyValue store key
         KStream<String, TopicCommand> topicRequest = builder.stream(
                 storeTopic,
-                Consumed.with(Serdes.String(), new TopicCommandSerde())
+                Consumed.with(Serdes.String(), new TopicCommandSerde(binary))
         );
 
         // Data structure holds all topic information
@@ -65,7 +77,7 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
                 Stores
                         .keyValueStoreBuilder(
                                 Stores.inMemoryKeyValueStore(topicStoreName),
-                                Serdes.String(), new TopicSerde()
+                                Serdes.String(), new TopicSerde(binary)
                         )
                         .withCachingEnabled()
                         .withLoggingEnabled(configuration);
@@ -31,9 +31,21 @@ public class ZkTopicStore implements TopicStore {
 
     private final List<ACL> acl;
 
+    private final boolean binary;
+
     public ZkTopicStore(Zk zk, String topicsPath) {
+        this(zk, topicsPath, false);
+    }
+
+    /**
+     * @param zk ZooKeeper client
+     * @param topicsPath The path of the znode with the stored topics
+     * @param binary Whether the topics should be written in the binary format instead of the JSON format
+     */
+    public ZkTopicStore(Zk zk, String topicsPath, boolean binary) {
         this.zk = zk;
         this.topicsPath = topicsPath;
+        this.binary = binary;
         acl = new AclBuilder().setWorld(AclBuilder.Permission.values()).build();
         createStrimziTopicsPath();
     }
@@ -62,6 +74,10 @@ public class ZkTopicStore implements TopicStore {
         return topicsPath + "/" + name;
     }
 
+    private byte[] serialize(Topic topic) {
+        return binary ? TopicSerialization.toBinary(topic) : TopicSerialization.toJson(topic);
+    }
+
     @Override
     public Future<Topic> read(TopicName topicName) {
         Promise<Topic> handler = Promise.promise();
@@ -69,7 +85,7 @@ public class ZkTopicStore implements TopicStore {
         zk.getData(topicPath, result -> {
             final AsyncResult<Topic> fut;
             if (result.succeeded()) {
-                fut = Future.succeededFuture(TopicSerialization.fromJson(result.result()));
+                fut = Future.succeededFuture(TopicSerialization.fromBytes(result.result()));
             } else {
                 if (result.cause() instanceof ZkNoNodeException) {
                     fut = Future.succeededFuture(null);
@@ -85,7 +101,7 @@ public class ZkTopicStore implements TopicStore {
     @Override
     public Future<Void> create(Topic topic) {
         Promise<Void> handler = Promise.promise();
-        byte[] data = TopicSerialization.toJson(topic);
+        byte[] data = serialize(topic);
         String topicPath = getTopicPath(topic.getTopicName());
         LOGGER.debug("create znode {}", topicPath);
         zk.create(topicPath, data, acl, CreateMode.PERSISTENT, result -> {
@@ -101,7 +117,7 @@ public class ZkTopicStore implements TopicStore {
     @Override
     public Future<Void> update(Topic topic) {
         Promise<Void> handler = Promise.promise();
-        byte[] data = TopicSerialization.toJson(topic);
+        byte[] data = serialize(topic);
         // TODO pass a non-zero version
         String topicPath = getTopicPath(topic.getTopicName());
         LOGGER.debug("update znode {}", topicPath);
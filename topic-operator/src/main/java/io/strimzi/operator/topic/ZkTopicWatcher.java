@@ -13,8 +13,36 @@ public class ZkTopicWatcher extends ZkWatcher {
 
     private static final String TOPICS_ZNODE = "/brokers/topics";
 
+    private final boolean watchPartitions;
+
     ZkTopicWatcher(TopicOperator topicOperator) {
+        this(topicOperator, true);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator     Operator instance to notify
+     * @param watchPartitions   Whether the znode of every topic should be watched. When false, no watches are set and
+     *                          the partition changes are picked up by the periodic reconciliation.
+     */
+    ZkTopicWatcher(TopicOperator topicOperator, boolean watchPartitions) {
         super(topicOperator, TOPICS_ZNODE);
+        this.watchPartitions = watchPartitions;
+    }
+
+    @Override
+    protected void watchChild(String child) {
+        if (watchPartitions) {
+            super.watchChild(child);
+        }
+    }
+
+    @Override
+    protected void unwatchChild(String child) {
+        if (watchPartitions) {
+            super.unwatchChild(child);
+        }
     }
 
     @Override
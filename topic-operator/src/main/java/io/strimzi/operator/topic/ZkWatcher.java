@@ -69,6 +69,15 @@ public abstract class ZkWatcher {
      */
     protected void addChild(String child) {
         this.children.put(child, false);
+        watchChild(child);
+    }
+
+    /**
+     * Set up the watch of the znode of the child
+     *
+     * @param child child to watch
+     */
+    protected void watchChild(String child) {
         String path = getPath(child);
         log.debug("Watching znode {} for changes", path);
         Handler<AsyncResult<byte[]>> handler = dataResult -> {
@@ -95,8 +104,17 @@ public abstract class ZkWatcher {
      * @param child child to unwatch
      */
     protected void removeChild(String child) {
-        log.debug("Unwatching znode {} for changes", child);
         this.children.remove(child);
+        unwatchChild(child);
+    }
+
+    /**
+     * Remove the watch of the znode of the child
+     *
+     * @param child child to unwatch
+     */
+    protected void unwatchChild(String child) {
+        log.debug("Unwatching znode {} for changes", child);
         zk.unwatchData(getPath(child));
     }
 
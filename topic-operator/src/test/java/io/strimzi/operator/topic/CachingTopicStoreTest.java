@@ -0,0 +1,72 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.vertx.core.Future;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class CachingTopicStoreTest {
+
+    private final TopicName topicName = new TopicName("my-topic");
+    // The stores return the topics with empty metadata
+    private final Topic topic = new Topic.Builder(topicName, 2, (short) 3, Collections.singletonMap("foo", "bar"), new ObjectMeta()).build();
+
+    @Test
+    public void testReadsWrittenTopicFromCache(VertxTestContext context) {
+        MockTopicStore delegate = new MockTopicStore()
+                .setCreateTopicResponse(topicName, null)
+                .setDeleteTopicResponse(topicName, null);
+        CachingTopicStore store = new CachingTopicStore(delegate);
+
+        Checkpoint async = context.checkpoint();
+        store.create(topic)
+            .compose(v -> {
+                // Any read from the underlying store fails from now on
+                delegate.setGetTopicResponse(topicName, Future.failedFuture("Unexpected read from the underlying store"));
+                return store.read(topicName);
+            })
+            .onComplete(context.succeeding(readTopic -> context.verify(() -> assertThat(readTopic, is(topic)))))
+
+            // Once the topic is deleted, it is read from the underlying store again
+            .compose(v -> store.delete(topicName))
+            .compose(v -> store.read(topicName))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e.getMessage(), is("Unexpected read from the underlying store"));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFailedWriteEvictsCachedTopic(VertxTestContext context) {
+        MockTopicStore delegate = new MockTopicStore()
+                .setCreateTopicResponse(topicName, null);
+        CachingTopicStore store = new CachingTopicStore(delegate);
+
+        Checkpoint async = context.checkpoint();
+        store.create(topic)
+            .compose(v -> store.create(topic))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TopicStore.EntityExistsException.class));
+
+                delegate.setGetTopicResponse(topicName, Future.failedFuture("Unexpected read from the underlying store"));
+                store.read(topicName).onComplete(context.failing(e2 -> context.verify(() -> {
+                    assertThat(e2.getMessage(), is("Unexpected read from the underlying store"));
+                    async.flag();
+                })));
+            })));
+    }
+}
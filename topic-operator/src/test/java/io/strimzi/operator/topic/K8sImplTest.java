@@ -11,6 +11,7 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -22,6 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -73,4 +76,36 @@ public class K8sImplTest {
             async.flag();
         })));
     }
+
+    @Test
+    public void testCreatesResourcesInParallel(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
+        when(mockClient.customResources(any(Class.class), any(Class.class))).thenReturn(mockResources);
+        when(mockResources.inNamespace(any())).thenReturn(mockResources);
+
+        // Each creation waits for the other one to start, so the creations complete only when they run in parallel
+        CountDownLatch started = new CountDownLatch(2);
+        when(mockResources.create(any(KafkaTopic.class))).thenAnswer(invocation -> {
+            started.countDown();
+            if (!started.await(10, TimeUnit.SECONDS)) {
+                throw new RuntimeException("The other creation did not start");
+            }
+            return invocation.getArgument(0);
+        });
+
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+
+        KafkaTopic topic1 = new KafkaTopicBuilder().withNewMetadata().withName("topic1").endMetadata().build();
+        KafkaTopic topic2 = new KafkaTopicBuilder().withNewMetadata().withName("topic2").endMetadata().build();
+
+        CompositeFuture.all(k8s.createResource(topic1), k8s.createResource(topic2))
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result.resultAt(0), is(topic1));
+                    assertThat(result.resultAt(1), is(topic2));
+                    async.flag();
+                })));
+    }
 }
@@ -6,10 +6,19 @@ package io.strimzi.operator.topic;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.CreateTopicsOptions;
@@ -32,18 +41,29 @@ import org.mockito.ArgumentMatcher;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
 public class KafkaImplTest {
 
-    private final Vertx vertx = Vertx.vertx();
+    private final Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+            new MicrometerMetricsOptions()
+                    .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                    .setEnabled(true)
+    ));
 
     static class Either<Left, Right> {
         private final boolean isLeft;
@@ -103,6 +123,15 @@ public class KafkaImplTest {
 
     private void mockCreateTopicsValidateOnly(Admin admin, NewTopic topic, Exception result) {
         CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
+        when(createTopicsResult.values()).then(invocation -> {
+            KafkaFutureImpl<Void> kafkaFuture1 = new KafkaFutureImpl<>();
+            if (result == null) {
+                kafkaFuture1.complete(null);
+            } else {
+                kafkaFuture1.completeExceptionally(result);
+            }
+            return singletonMap(topic.name(), kafkaFuture1);
+        });
         when(createTopicsResult.all()).then(invocation -> {
             KafkaFutureImpl<Void> kafkaFuture1 = new KafkaFutureImpl<>();
             if (result == null) {
@@ -116,6 +145,20 @@ public class KafkaImplTest {
                 argThat(isValidateOnly()))).thenReturn(createTopicsResult);
     }
 
+    private void mockCreateTopicsValidateOnly(Admin admin, Map<String, Exception> result) {
+        CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
+        when(createTopicsResult.values()).then(invocation -> result.entrySet().stream().collect(toMap(
+            Map.Entry::getKey,
+            entry -> {
+                KafkaFutureImpl<Void> kafkaFuture = new KafkaFutureImpl<>();
+                kafkaFuture.completeExceptionally(entry.getValue());
+                return kafkaFuture;
+            })));
+        Set<NewTopic> newTopics = result.keySet().stream().map(name -> new NewTopic(name, 1, (short) 1)).collect(toSet());
+        when(admin.createTopics(eq(newTopics),
+                argThat(isValidateOnly()))).thenReturn(createTopicsResult);
+    }
+
     private ArgumentMatcher<CreateTopicsOptions> isValidateOnly() {
         return CreateTopicsOptions::shouldValidateOnly;
     }
@@ -245,6 +288,42 @@ public class KafkaImplTest {
         })));
     }
 
+    @Test
+    public void testTopicMetadataBatched(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        mockCreateTopicsValidateOnly(admin, Map.of("a", new TopicExistsException(""), "b", new TopicExistsException("")));
+        mockDescribeTopics(admin, Map.of("a", Either.ofLeft(mock(TopicDescription.class)),
+                "b", Either.ofLeft(mock(TopicDescription.class))));
+        mockDescribeConfigs(admin, Map.of(new ConfigResource(ConfigResource.Type.TOPIC, "a"), Either.ofLeft(mock(Config.class)),
+                new ConfigResource(ConfigResource.Type.TOPIC, "b"), Either.ofRight(new TimeoutException())));
+
+        MetricsProvider metrics = new MicrometerMetricsProvider();
+        MeterRegistry registry = metrics.meterRegistry();
+        registry.forEachMeter(registry::remove);
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 60_000, 2, metrics);
+        Future<TopicMetadata> a = impl.topicMetadata(new TopicName("a"));
+        Future<TopicMetadata> b = impl.topicMetadata(new TopicName("b"));
+
+        CompositeFuture.join(a, b).onComplete(ignored -> testContext.verify(() -> {
+            assertTrue(a.succeeded());
+            assertNotNull(a.result().getDescription());
+            assertNotNull(a.result().getConfig());
+            assertTrue(b.failed());
+            assertTrue(b.cause() instanceof TimeoutException);
+
+            // The batches are sent as soon as they are full, so the window does not need to expire
+            verify(admin, times(1)).createTopics(any(), any());
+            verify(admin, times(1)).describeTopics(anyCollection());
+            verify(admin, times(1)).describeConfigs(anyCollection());
+
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "admin.batches").tag("operation", "describeTopics").counter().count(), is(1.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "admin.batches.requests").tag("operation", "describeTopics").counter().count(), is(2.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "admin.batches.window").tag("operation", "describeTopics").timer().count(), is(1L));
+            testContext.completeNow();
+        }));
+    }
+
     @Test
     public void testDelete(VertxTestContext testContext) {
         Admin admin = mock(Admin.class);
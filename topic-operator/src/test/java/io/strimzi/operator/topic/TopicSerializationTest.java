@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -147,6 +148,67 @@ public class TopicSerializationTest {
         assertThat(readTopic, is(wroteTopic));
     }
 
+    @Test
+    public void testBinarySerializationRoundTrip() {
+        Topic wroteTopic = new Topic.Builder()
+                .withTopicName("tom")
+                .withMapName("bob")
+                .withNumReplicas((short) 1)
+                .withNumPartitions(2)
+                .withConfigEntry("foo", "bar")
+                .withConfigEntry("unicode", "\u00e9\u4e2d")
+                .withConfigEntry("null", null)
+                .build();
+        byte[] bytes = TopicSerialization.toBinary(wroteTopic);
+        assertThat(bytes.length < TopicSerialization.toJson(wroteTopic).length, is(true));
+
+        Topic readTopic = TopicSerialization.fromBytes(bytes);
+        assertThat(readTopic, is(wroteTopic));
+        assertThat(readTopic.getResourceName(), is(new ResourceName("bob")));
+
+        // The topics stored in the JSON format by the previous versions can still be read
+        readTopic = TopicSerialization.fromBytes(TopicSerialization.toJson(wroteTopic));
+        assertThat(readTopic, is(wroteTopic));
+        assertThat(readTopic.getResourceName(), is(new ResourceName("bob")));
+    }
+
+    @Test
+    public void testBinaryTopicCommandSerde() {
+        Topic topic = new Topic.Builder()
+                .withTopicName("foobar")
+                .withNumReplicas((short) 1)
+                .withNumPartitions(2)
+                .withConfigEntry("cleanup.policy", "bar")
+                .build();
+
+        TopicCommand data = TopicCommand.update(topic);
+        byte[] bytes = new TopicCommandSerde(true).serialize("dummy", data);
+        assertThat(TopicSerialization.isBinary(bytes), is(true));
+
+        // Any serde reads both formats
+        data = new TopicCommandSerde().deserialize("dummy", bytes);
+        assertThat(data.getType(), is(TopicCommand.Type.UPDATE));
+        assertThat(data.getTopic(), is(topic));
+        assertThat(data.getVersion(), is(TopicCommand.CURRENT_VERSION));
+
+        // The JSON format is written by default, so that the previous versions can read it
+        assertThat(TopicSerialization.isBinary(new TopicCommandSerde().serialize("dummy", data)), is(false));
+        assertThat(TopicSerialization.isBinary(new TopicSerde().serialize("dummy", topic)), is(false));
+        assertThat(TopicSerialization.isBinary(new TopicSerde(true).serialize("dummy", topic)), is(true));
+    }
+
+    @Test
+    public void testTopicCommandSerdeReadsJson() {
+        TopicCommandSerde serde = new TopicCommandSerde();
+        String json = "{\"uuid\":\"my-uuid\",\"version\":1,\"type\":" + TopicCommand.Type.DELETE.getId() + ",\"key\":\"deleteme\"}";
+
+        TopicCommand data = serde.deserialize("dummy", json.getBytes(StandardCharsets.UTF_8));
+        assertThat(data.getUuid(), is("my-uuid"));
+        assertThat(data.getType(), is(TopicCommand.Type.DELETE));
+        assertThat(data.getName(), is(new TopicName("deleteme")));
+        assertThat(data.getVersion(), is(1));
+    }
+
 
     @Test
     public void testToNewTopic() {
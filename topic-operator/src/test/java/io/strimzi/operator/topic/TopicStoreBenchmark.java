@@ -0,0 +1,143 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the time the topic store reads take during a reconciliation of all topics, comparing the JSON and the
+ * binary format of the stored topics, with and without the {@link CachingTopicStore}. The underlying store keeps the
+ * serialized topics in memory, so that only the serialization and caching costs are measured and not the ZooKeeper
+ * or Kafka Streams round trips, which the cache saves as well.
+ *
+ * This is not a unit test and is not run by the build. Run it with the test classpath of this module, for example
+ * from the IDE using the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopicStoreBenchmark {
+    @Param({"10000"})
+    public int numTopics;
+
+    @Param({"json", "binary"})
+    public String format;
+
+    private List<TopicName> topicNames;
+    private TopicStore store;
+    private TopicStore cachingStore;
+
+    @Setup
+    public void setup() {
+        Function<Topic, byte[]> serializer = "json".equals(format) ? TopicSerialization::toJson : TopicSerialization::toBinary;
+        store = new InMemoryTopicStore(serializer);
+
+        topicNames = new ArrayList<>(numTopics);
+        for (int i = 0; i < numTopics; i++) {
+            Topic topic = new Topic.Builder("my-topic-" + i, 12, (short) 3, Map.of(
+                    "cleanup.policy", "compact",
+                    "min.insync.replicas", "2",
+                    "retention.ms", "604800000",
+                    "segment.bytes", "1073741824")).build();
+            store.create(topic).result();
+            topicNames.add(topic.getTopicName());
+        }
+
+        cachingStore = new CachingTopicStore(store);
+        for (TopicName topicName : topicNames) {
+            cachingStore.read(topicName).result();
+        }
+    }
+
+    @Benchmark
+    public void readAllTopics(Blackhole blackhole) {
+        for (TopicName topicName : topicNames) {
+            blackhole.consume(store.read(topicName).result());
+        }
+    }
+
+    @Benchmark
+    public void readAllTopicsCached(Blackhole blackhole) {
+        for (TopicName topicName : topicNames) {
+            blackhole.consume(cachingStore.read(topicName).result());
+        }
+    }
+
+    @Benchmark
+    public void updateAllTopics() {
+        for (TopicName topicName : topicNames) {
+            Topic topic = store.read(topicName).result();
+            store.update(new Topic.Builder(topic).withConfigEntry("retention.ms", "86400000").build()).result();
+        }
+    }
+
+    /**
+     * Topic store keeping the serialized topics in memory and deserializing them on every read, like the ZooKeeper
+     * and Kafka Streams stores do.
+     */
+    static class InMemoryTopicStore implements TopicStore {
+        private final Map<TopicName, byte[]> topics = new ConcurrentHashMap<>();
+        private final Function<Topic, byte[]> serializer;
+
+        InMemoryTopicStore(Function<Topic, byte[]> serializer) {
+            this.serializer = serializer;
+        }
+
+        @Override
+        public Future<Topic> read(TopicName name) {
+            byte[] bytes = topics.get(name);
+            return Future.succeededFuture(bytes != null ? TopicSerialization.fromBytes(bytes) : null);
+        }
+
+        @Override
+        public Future<Void> create(Topic topic) {
+            topics.put(topic.getTopicName(), serializer.apply(topic));
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> update(Topic topic) {
+            topics.put(topic.getTopicName(), serializer.apply(topic));
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> delete(TopicName name) {
+            topics.remove(name);
+            return Future.succeededFuture();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TopicStoreBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
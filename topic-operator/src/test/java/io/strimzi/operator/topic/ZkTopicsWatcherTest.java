@@ -11,9 +11,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.nio.charset.StandardCharsets;
+
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ExtendWith(VertxExtension.class)
@@ -81,4 +85,44 @@ public class ZkTopicsWatcherTest {
                 Type.DELETE, new TopicName("bar")))));
         assertThat(topicConfigsWatcher.watching("baz"), is(false));
     }
+
+    @Test
+    public void testTopicConfigChangeNotification() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+        mockZk.childrenResults.put("/config/changes", Future.succeededFuture(singletonList("config_change_0000000001")));
+        mockZk.dataResults.put("/config/changes/config_change_0000000002",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/foo\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000003",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"brokers/0\"}".getBytes(StandardCharsets.UTF_8)));
+
+        TopicConfigsWatcher topicConfigsWatcher = new ConfigChangeNotificationsWatcher(operator);
+        ZkTopicWatcher topicWatcher = new ZkTopicWatcher(operator, false);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, topicConfigsWatcher, topicWatcher);
+        topicsWatcher.start(mockZk);
+        assertThat(topicConfigsWatcher.watching("foo"), is(true));
+
+        // The topic znodes are not watched
+        mockZk.triggerData("/config/topics/foo", Future.succeededFuture(new byte[0]));
+        mockZk.triggerData("/brokers/topics/foo", Future.succeededFuture(new byte[0]));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+        // Only the new notifications are read
+        mockZk.triggerChildren("/config/changes", Future.succeededFuture(asList("config_change_0000000001",
+                "config_change_0000000002", "config_change_0000000003")));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")))));
+
+        operator.clearEvents();
+        mockZk.triggerChildren("/config/changes", Future.succeededFuture(asList("config_change_0000000002", "config_change_0000000003")));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+    }
+
+    @Test
+    public void testTopicNameFromConfigChangeNotification() {
+        assertThat(ConfigChangeNotificationsWatcher.topicName("{\"version\":2,\"entity_path\":\"topics/foo\"}".getBytes(StandardCharsets.UTF_8)), is("foo"));
+        assertThat(ConfigChangeNotificationsWatcher.topicName("{\"version\":1,\"entity_type\":\"topics\",\"entity_name\":\"foo\"}".getBytes(StandardCharsets.UTF_8)), is("foo"));
+        assertThat(ConfigChangeNotificationsWatcher.topicName("{\"version\":2,\"entity_path\":\"users/foo\"}".getBytes(StandardCharsets.UTF_8)), is(nullValue()));
+        assertThat(ConfigChangeNotificationsWatcher.topicName("not-json".getBytes(StandardCharsets.UTF_8)), is(nullValue()));
+    }
 }
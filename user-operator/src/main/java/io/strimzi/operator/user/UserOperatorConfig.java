@@ -5,9 +5,11 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -29,12 +31,31 @@ public class UserOperatorConfig {
     public static final String STRIMZI_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
+    public static final String STRIMZI_SCRAM_SHA_CREDENTIALS_BACKEND = "STRIMZI_SCRAM_SHA_CREDENTIALS_BACKEND";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_ZOOKEEPER_CONNECT = "localhost:2181";
     public static final long DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS = 18_000;
     public static final String DEFAULT_SECRET_PREFIX = "";
+    public static final ScramShaCredentialsBackend DEFAULT_SCRAM_SHA_CREDENTIALS_BACKEND = ScramShaCredentialsBackend.ZOOKEEPER;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
+
+    /**
+     * Backends which can be used to manage the SCRAM-SHA credentials of the users
+     */
+    public enum ScramShaCredentialsBackend {
+        /**
+         * The credentials are written directly to ZooKeeper
+         */
+        ZOOKEEPER,
+
+        /**
+         * The credentials are altered through the Kafka Admin API
+         */
+        ADMIN
+    }
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -48,6 +69,8 @@ public class UserOperatorConfig {
     private final String eoKeySecretName;
     private final String caNamespace;
     private final String secretPrefix;
+    private final ScramShaCredentialsBackend scramShaCredentialsBackend;
+    private final CertManagerType certManagerType;
 
     /**
      * Constructor
@@ -77,6 +100,43 @@ public class UserOperatorConfig {
                               String eoKeySecretName,
                               String caNamespace,
                               String secretPrefix) {
+        this(namespace, reconciliationIntervalMs, kafkaBootstrapServers, zookeperConnect, zookeeperSessionTimeoutMs, labels,
+                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix,
+                DEFAULT_SCRAM_SHA_CREDENTIALS_BACKEND, DEFAULT_CERT_MANAGER);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param namespace namespace in which the operator will run and create resources.
+     * @param reconciliationIntervalMs How many milliseconds between reconciliation runs.
+     * @param kafkaBootstrapServers Kafka bootstrap servers list
+     * @param zookeperConnect Connecton URL for Zookeeper.
+     * @param zookeeperSessionTimeoutMs Session timeout for Zookeeper connections.
+     * @param labels Map with labels which should be used to find the KafkaUser resources.
+     * @param caCertSecretName Name of the secret containing the clients Certification Authority certificate.
+     * @param caKeySecretName The name of the secret containing the clients Certification Authority key.
+     * @param clusterCaCertSecretName Name of the secret containing the cluster Certification Authority certificate.
+     * @param eoKeySecretName The name of the secret containing the Entity Operator key and certificate
+     * @param caNamespace Namespace with the CA secret.
+     * @param secretPrefix Prefix used for the Secret names
+     * @param scramShaCredentialsBackend Backend used to manage the SCRAM-SHA credentials
+     * @param certManagerType Implementation of the certificate manager used to generate the user certificates
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"}) //TODO: to remove when removing the zookeeper related parameters
+    public UserOperatorConfig(String namespace,
+                              long reconciliationIntervalMs,
+                              String kafkaBootstrapServers,
+                              String zookeperConnect,
+                              long zookeeperSessionTimeoutMs,
+                              Labels labels, String caCertSecretName,
+                              String caKeySecretName,
+                              String clusterCaCertSecretName,
+                              String eoKeySecretName,
+                              String caNamespace,
+                              String secretPrefix,
+                              ScramShaCredentialsBackend scramShaCredentialsBackend,
+                              CertManagerType certManagerType) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -89,6 +149,8 @@ public class UserOperatorConfig {
         this.eoKeySecretName = eoKeySecretName;
         this.caNamespace = caNamespace;
         this.secretPrefix = secretPrefix;
+        this.scramShaCredentialsBackend = scramShaCredentialsBackend;
+        this.certManagerType = certManagerType;
     }
 
     /**
@@ -161,8 +223,58 @@ public class UserOperatorConfig {
             secretPrefix = DEFAULT_SECRET_PREFIX;
         }
 
+        ScramShaCredentialsBackend scramShaCredentialsBackend = parseScramShaCredentialsBackend(map.get(UserOperatorConfig.STRIMZI_SCRAM_SHA_CREDENTIALS_BACKEND));
+
+        CertManagerType certManagerType = parseCertManager(map.get(UserOperatorConfig.STRIMZI_CERT_MANAGER));
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, zookeeperConnect, zookeeperSessionTimeoutMs, labels,
-                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix);
+                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix, scramShaCredentialsBackend, certManagerType);
+    }
+
+    /**
+     * Parse the backend used to manage the SCRAM-SHA credentials
+     *
+     * @param scramShaCredentialsBackendEnvVar  The value of the STRIMZI_SCRAM_SHA_CREDENTIALS_BACKEND environment variable
+     *
+     * @return  The SCRAM-SHA credentials backend
+     */
+    private static ScramShaCredentialsBackend parseScramShaCredentialsBackend(String scramShaCredentialsBackendEnvVar) {
+        if (scramShaCredentialsBackendEnvVar == null || scramShaCredentialsBackendEnvVar.isEmpty()) {
+            return DEFAULT_SCRAM_SHA_CREDENTIALS_BACKEND;
+        }
+
+        switch (scramShaCredentialsBackendEnvVar.trim().toLowerCase(Locale.ENGLISH)) {
+            case "zookeeper":
+                return ScramShaCredentialsBackend.ZOOKEEPER;
+            case "admin":
+                return ScramShaCredentialsBackend.ADMIN;
+            default:
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_SCRAM_SHA_CREDENTIALS_BACKEND
+                        + ": Unknown value " + scramShaCredentialsBackendEnvVar + ". Allowed values are zookeeper and admin.");
+        }
+    }
+
+    /**
+     * Parse the implementation of the certificate manager
+     *
+     * @param certManagerEnvVar  The value of the STRIMZI_CERT_MANAGER environment variable
+     *
+     * @return  The certificate manager type
+     */
+    private static CertManagerType parseCertManager(String certManagerEnvVar) {
+        if (certManagerEnvVar == null || certManagerEnvVar.isEmpty()) {
+            return DEFAULT_CERT_MANAGER;
+        }
+
+        switch (certManagerEnvVar.trim().toLowerCase(Locale.ENGLISH)) {
+            case "openssl":
+                return CertManagerType.OPENSSL;
+            case "java":
+                return CertManagerType.JAVA;
+            default:
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_CERT_MANAGER
+                        + ": Unknown value " + certManagerEnvVar + ". Allowed values are openssl and java.");
+        }
     }
 
     public static int getClientsCaValidityDays() {
@@ -266,6 +378,20 @@ public class UserOperatorConfig {
         return secretPrefix;
     }
 
+    /**
+     * @return  The backend used to manage the SCRAM-SHA credentials
+     */
+    public ScramShaCredentialsBackend getScramShaCredentialsBackend() {
+        return scramShaCredentialsBackend;
+    }
+
+    /**
+     * @return  The implementation of the certificate manager used to generate the user certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -279,6 +405,8 @@ public class UserOperatorConfig {
                 ",clusterCaCertSecretName=" + clusterCaCertSecretName +
                 ",eoKeySecretName=" + eoKeySecretName +
                 ",caNamespace=" + caNamespace +
+                ",scramShaCredentialsBackend=" + scramShaCredentialsBackend +
+                ",certManagerType=" + certManagerType +
                 ")";
     }
 }
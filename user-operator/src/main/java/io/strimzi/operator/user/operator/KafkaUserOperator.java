@@ -25,8 +25,10 @@ import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
@@ -92,6 +94,22 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         this.secretPrefix = secretPrefix;
     }
 
+    /**
+     * Reconciles all users. The ACL snapshot taken when listing the users with ACLs is valid only for this periodic
+     * reconciliation, so it is dropped once the reconciliation completes.
+     *
+     * @param trigger A description of the triggering event (timer or watch), used for logging
+     * @param namespace The namespace
+     * @param handler Handler called on completion
+     */
+    @Override
+    public void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        super.reconcileAll(trigger, namespace, result -> {
+            aclOperations.dropSnapshot();
+            handler.handle(result);
+        });
+    }
+
     @Override
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
         return CompositeFuture.join(super.allResourceNames(namespace),
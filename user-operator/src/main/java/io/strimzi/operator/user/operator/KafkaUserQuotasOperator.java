@@ -5,11 +5,13 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.AdminRequestBatcher;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
 import org.apache.kafka.common.quota.ClientQuotaFilter;
 import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
@@ -18,48 +20,124 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Operator for managing the quotas of the users through the Kafka Admin API. The quotas described and altered by the
+ * reconciliations of different users are submitted to Kafka in batches. The alterations of a batch are sent in a single
+ * request, while the quotas of the users in a batch are described by separate requests sent at the same time.
+ */
 public class KafkaUserQuotasOperator {
     private static final Logger log = LogManager.getLogger(KafkaUserQuotasOperator.class.getName());
 
-    private final Vertx vertx;
+    private static final long ADMIN_BATCH_WINDOW_MS = 10;
+    private static final int ADMIN_BATCH_MAX_SIZE = 500;
+
     private final Admin adminClient;
+    private final AdminRequestBatcher<String, Map<String, Double>> describeQuotasBatcher;
+    private final AdminRequestBatcher<ClientQuotaAlteration, Void> alterQuotasBatcher;
 
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     */
     public KafkaUserQuotasOperator(Vertx vertx, Admin adminClient) {
-        this.vertx = vertx;
+        this(vertx, adminClient, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metrics Metrics provider for the batching metrics (null if the metrics should not be collected)
+     */
+    public KafkaUserQuotasOperator(Vertx vertx, Admin adminClient, MetricsProvider metrics) {
         this.adminClient = adminClient;
+        this.describeQuotasBatcher = new AdminRequestBatcher<>(vertx, "KafkaUser", "describeClientQuotas", ADMIN_BATCH_WINDOW_MS, ADMIN_BATCH_MAX_SIZE,
+            this::describeUsersQuotas,
+            metrics);
+        this.alterQuotasBatcher = new AdminRequestBatcher<>(vertx, "KafkaUser", "alterClientQuotas", ADMIN_BATCH_WINDOW_MS, ADMIN_BATCH_MAX_SIZE,
+            alterations -> {
+                Map<ClientQuotaEntity, KafkaFuture<Void>> results = adminClient.alterClientQuotas(alterations).values();
+
+                Map<ClientQuotaAlteration, KafkaFuture<Void>> resultsByAlteration = new HashMap<>(alterations.size());
+                for (ClientQuotaAlteration alteration : alterations) {
+                    resultsByAlteration.put(alteration, results.get(alteration.entity()));
+                }
+                return resultsByAlteration;
+            },
+            metrics);
     }
 
     Future<ReconcileResult<KafkaUserQuotas>> reconcile(String username, KafkaUserQuotas quotas) {
-        Promise<ReconcileResult<KafkaUserQuotas>> prom = Promise.promise();
-        
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
-            future -> {
-                try {
-                    boolean exists = exists(username);
+        return describeQuotasBatcher.submit(username)
+                .recover(e -> {
+                    log.error("Getting quotas for user {} failed", username, e);
+                    return Future.failedFuture(e);
+                })
+                .compose(currentQuotas -> {
+                    KafkaUserQuotas current = currentQuotas != null ? fromClientQuota(currentQuotas) : null;
+
                     if (quotas != null) {
-                        createOrUpdate(username, quotas);
-                        future.complete(exists ? ReconcileResult.created(quotas) : ReconcileResult.patched(quotas));
-                    } else {
-                        if (exists) {
-                            delete(username);
-                            future.complete(ReconcileResult.deleted());
+                        if (current == null) {
+                            log.debug("Creating quotas for user {}", username);
+                            return alterUserQuotasAsync(username, toClientQuotaAlterationOps(quotas))
+                                    .map(ReconcileResult.created(quotas));
+                        } else if (!quotasEquals(current, quotas)) {
+                            log.debug("Updating quotas for user {}", username);
+                            return alterUserQuotasAsync(username, toClientQuotaAlterationOps(quotas))
+                                    .map(ReconcileResult.patched(quotas));
                         } else {
-                            future.complete(ReconcileResult.noop(null));
+                            log.debug("Nothing to update in quotas for user {}", username);
+                            return Future.succeededFuture(ReconcileResult.noop(quotas));
                         }
+                    } else if (current != null) {
+                        log.debug("Deleting quotas for user {}", username);
+                        return alterUserQuotasAsync(username, toClientQuotaAlterationOps(new KafkaUserQuotas()))
+                                .map(ReconcileResult.deleted());
+                    } else {
+                        return Future.succeededFuture(ReconcileResult.noop(null));
                     }
-                } catch (Throwable t) {
-                    prom.fail(t);
-                }
-            },
-            false,
-            prom);
+                });
+    }
+
+    private Future<Void> alterUserQuotasAsync(String username, Set<ClientQuotaAlteration.Op> ops) {
+        ClientQuotaEntity cqe = new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+
+        return alterQuotasBatcher.submit(new ClientQuotaAlteration(cqe, ops))
+                .recover(e -> {
+                    log.error("Creating/Altering quotas for user {} failed", username, e);
+                    return Future.failedFuture(e);
+                });
+    }
+
+    /**
+     * Describes the quotas of a batch of users. The client quota filters cannot match a set of users, so every user is
+     * described using a filter matching only this user instead of describing the quotas of all users in the cluster.
+     * The requests for all users in the batch are sent at the same time.
+     *
+     * @param usernames Names of the users
+     *
+     * @return Map with the futures of the quotas of each user (completing with null for users without quotas)
+     */
+    private Map<String, KafkaFuture<Map<String, Double>>> describeUsersQuotas(Set<String> usernames) {
+        Map<String, KafkaFuture<Map<String, Double>>> results = new HashMap<>(usernames.size());
+
+        for (String username : usernames) {
+            ClientQuotaEntity cqe = new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+            ClientQuotaFilter f = ClientQuotaFilter.contains(Collections.singleton(ClientQuotaFilterComponent.ofEntity(ClientQuotaEntity.USER, username)));
+
+            results.put(username, adminClient.describeClientQuotas(f).entities().thenApply(map -> map.get(cqe)));
+        }
 
-        return prom.future();
+        return results;
     }
 
     /**
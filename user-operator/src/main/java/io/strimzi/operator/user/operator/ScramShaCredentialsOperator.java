@@ -4,24 +4,92 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.AdminRequestBatcher;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
+/**
+ * Operator for managing the SCRAM-SHA credentials of the users. The credentials are managed either directly in
+ * Zookeeper using {@link ScramShaCredentials} or through the Kafka Admin API. When the Admin API is used, the
+ * credentials altered by the reconciliations of different users are submitted to Kafka in batches.
+ */
 public class ScramShaCredentialsOperator {
+    private static final Logger log = LogManager.getLogger(ScramShaCredentialsOperator.class.getName());
+
+    private final static int ITERATIONS = 4096;
+    private final static ScramMechanism MECHANISM = ScramMechanism.SCRAM_SHA_512;
+
+    private static final long ADMIN_BATCH_WINDOW_MS = 10;
+    private static final int ADMIN_BATCH_MAX_SIZE = 500;
 
     private ScramShaCredentials credsManager;
 
     private Vertx vertx;
 
+    private final Admin adminClient;
+    private final AdminRequestBatcher<UserScramCredentialAlteration, Void> alterCredentialsBatcher;
+
+    /**
+     * Constructs the operator managing the credentials directly in Zookeeper
+     *
+     * @param vertx Vertx instance
+     * @param credsManager Zookeeper based SCRAM-SHA credentials manager
+     */
     public ScramShaCredentialsOperator(Vertx vertx, ScramShaCredentials credsManager) {
         this.credsManager = credsManager;
         this.vertx = vertx;
+        this.adminClient = null;
+        this.alterCredentialsBatcher = null;
+    }
+
+    /**
+     * Constructs the operator managing the credentials through the Kafka Admin API
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metrics Metrics provider for the batching metrics (null if the metrics should not be collected)
+     */
+    public ScramShaCredentialsOperator(Vertx vertx, Admin adminClient, MetricsProvider metrics) {
+        this.credsManager = null;
+        this.vertx = vertx;
+        this.adminClient = adminClient;
+        this.alterCredentialsBatcher = new AdminRequestBatcher<>(vertx, "KafkaUser", "alterUserScramCredentials", ADMIN_BATCH_WINDOW_MS, ADMIN_BATCH_MAX_SIZE,
+            alterations -> {
+                Map<String, KafkaFuture<Void>> results = adminClient.alterUserScramCredentials(new ArrayList<>(alterations)).values();
+
+                Map<UserScramCredentialAlteration, KafkaFuture<Void>> resultsByAlteration = new HashMap<>(alterations.size());
+                for (UserScramCredentialAlteration alteration : alterations) {
+                    resultsByAlteration.put(alteration, results.get(alteration.user()));
+                }
+                return resultsByAlteration;
+            },
+            metrics);
     }
 
     Future<Void> reconcile(String username, String password) {
+        if (adminClient != null) {
+            return reconcileWithAdmin(username, password);
+        }
+
         Promise<Void> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
@@ -43,7 +111,51 @@ public class ScramShaCredentialsOperator {
         return promise.future();
     }
 
+    private Future<Void> reconcileWithAdmin(String username, String password) {
+        if (password != null) {
+            log.debug("Creating or updating {} credentials for user {}", MECHANISM.mechanismName(), username);
+            return alterCredentialsBatcher.submit(new UserScramCredentialUpsertion(username, new ScramCredentialInfo(MECHANISM, ITERATIONS), password));
+        } else {
+            log.debug("Deleting {} credentials for user {}", MECHANISM.mechanismName(), username);
+            return alterCredentialsBatcher.submit(new UserScramCredentialDeletion(username, MECHANISM))
+                    .recover(e -> {
+                        // It is not an error if the user doesn't have any SCRAM-SHA credentials
+                        if (e instanceof ResourceNotFoundException) {
+                            return Future.succeededFuture();
+                        } else {
+                            return Future.failedFuture(e);
+                        }
+                    });
+        }
+    }
+
     public List<String> list() {
+        if (adminClient != null) {
+            return listWithAdmin();
+        }
+
         return credsManager.list();
     }
+
+    private List<String> listWithAdmin() {
+        List<String> result = new ArrayList<>();
+
+        Map<String, UserScramCredentialsDescription> descriptions;
+        try {
+            descriptions = adminClient.describeUserScramCredentials().all().get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to list the users with " + MECHANISM.mechanismName() + " credentials", e);
+        }
+
+        for (UserScramCredentialsDescription description : descriptions.values()) {
+            for (ScramCredentialInfo credentialInfo : description.credentialInfos()) {
+                if (credentialInfo.mechanism() == MECHANISM) {
+                    result.add(description.name());
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
 }
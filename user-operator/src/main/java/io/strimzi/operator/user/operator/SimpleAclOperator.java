@@ -4,7 +4,13 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.AdminRequestBatcher;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
@@ -13,6 +19,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -29,21 +36,45 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * SimlpeAclOperator is responsible for managing the authorization rules in Apache Kafka / Apache Zookeeper.
+ *
+ * All the ACLs are described in a single request at the beginning of every periodic reconciliation (when listing the
+ * users with ACLs) and kept in a snapshot indexed by the principal. The ACLs of every user are taken from the snapshot
+ * the first time the user is reconciled after the snapshot was taken. Any further reconciliations of the user (e.g. the
+ * reconciliations triggered by watch events) describe the current ACLs of the user. The snapshot is used only during
+ * the periodic reconciliation which took it and is dropped once it completes, so that the reconciliations which
+ * happen later never rely on outdated ACLs.
+ * The ACLs created and deleted by the reconciliations of different users are submitted to Kafka in batches.
  */
 public class SimpleAclOperator {
     private static final Logger log = LogManager.getLogger(SimpleAclOperator.class.getName());
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
 
+    /*test*/ static final long ADMIN_BATCH_WINDOW_MS = 10;
+    private static final int ADMIN_BATCH_MAX_SIZE = 500;
+
     private final Vertx vertx;
     private final Admin adminClient;
+    private final AdminRequestBatcher<AclBinding, Void> createAclsBatcher;
+    private final AdminRequestBatcher<AclBindingFilter, DeleteAclsResult.FilterResults> deleteAclsBatcher;
+
+    private final Timer snapshotRefreshTimer;
+    private final AtomicInteger snapshotSize;
+
+    private volatile AclSnapshot snapshot;
 
     /**
      * Constructor
@@ -52,8 +83,52 @@ public class SimpleAclOperator {
      * @param adminClient Kafka Admin client instance
      */
     public SimpleAclOperator(Vertx vertx, Admin adminClient)  {
+        this(vertx, adminClient, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metrics Metrics provider for the ACL snapshot and batching metrics (null if the metrics should not be collected)
+     */
+    public SimpleAclOperator(Vertx vertx, Admin adminClient, MetricsProvider metrics)  {
+        this(vertx, adminClient, metrics, ADMIN_BATCH_WINDOW_MS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metrics Metrics provider for the ACL snapshot and batching metrics (null if the metrics should not be collected)
+     * @param batchWindowMs How long the created and deleted ACL bindings are collected before they are sent in a batch
+     */
+    /*test*/ SimpleAclOperator(Vertx vertx, Admin adminClient, MetricsProvider metrics, long batchWindowMs)  {
         this.vertx = vertx;
         this.adminClient = adminClient;
+        this.createAclsBatcher = new AdminRequestBatcher<>(vertx, "KafkaUser", "createAcls", batchWindowMs, ADMIN_BATCH_MAX_SIZE,
+            aclBindings -> adminClient.createAcls(aclBindings).values(),
+            metrics);
+        this.deleteAclsBatcher = new AdminRequestBatcher<>(vertx, "KafkaUser", "deleteAcls", batchWindowMs, ADMIN_BATCH_MAX_SIZE,
+            aclBindingFilters -> adminClient.deleteAcls(aclBindingFilters).values(),
+            metrics);
+
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", "KafkaUser"));
+
+            snapshotRefreshTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "acls.snapshot.refresh",
+                    "Time taken to describe all the ACLs for the ACL snapshot",
+                    metricTags);
+
+            snapshotSize = metrics.gauge(AbstractOperator.METRICS_PREFIX + "acls.snapshot.bindings",
+                    "Number of the ACL bindings in the last ACL snapshot",
+                    metricTags);
+        } else {
+            snapshotRefreshTimer = null;
+            snapshotSize = null;
+        }
     }
 
     /**
@@ -64,63 +139,77 @@ public class SimpleAclOperator {
      * @return the Future with reconcile result
      */
     public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(String username, Set<SimpleAclRule> desired) {
-        Promise<ReconcileResult<Set<SimpleAclRule>>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
-            future -> {
-                Set<SimpleAclRule> current;
-
-                try {
-                    current = getAcls(username);
-                } catch (Exception e)   {
-                    // if authorization is not enabled in the Kafka resource, but the KafkaUser resource doesn't
-                    // have ACLs, the UO can just ignore the corresponding exception
-                    if (e instanceof InvalidResourceException && (desired == null || desired.isEmpty())) {
-                        future.complete();
-                        return;
-                    } else {
-                        log.error("Reconciliation failed for user {}", username, e);
+        AclSnapshot currentSnapshot = snapshot;
+        Set<SimpleAclRule> snapshotAcls = currentSnapshot != null ? currentSnapshot.take(username) : null;
+
+        Future<Set<SimpleAclRule>> currentFuture;
+        if (snapshotAcls != null) {
+            log.debug("User {}: Using the Acl rules from the ACL snapshot", username);
+            currentFuture = Future.succeededFuture(snapshotAcls);
+        } else {
+            Promise<Set<SimpleAclRule>> currentPromise = Promise.promise();
+            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                future -> {
+                    try {
+                        future.complete(getAcls(username));
+                    } catch (Exception e) {
                         future.fail(e);
-                        return;
                     }
-                }
+                },
+                false,
+                currentPromise
+            );
+            currentFuture = currentPromise.future();
+        }
 
-                if (desired == null || desired.isEmpty()) {
-                    if (current.size() == 0)    {
-                        log.debug("User {}: No expected Acl rules and no existing Acl rules -> NoOp", username);
-                        future.complete(ReconcileResult.noop(desired));
-                    } else {
-                        log.debug("User {}: No expected Acl rules, but {} existing Acl rules -> Deleting rules", username, current.size());
-                        internalDelete(username, current).onComplete(future);
-                    }
+        return currentFuture.compose(current -> {
+            if (desired == null || desired.isEmpty()) {
+                if (current.size() == 0)    {
+                    log.debug("User {}: No expected Acl rules and no existing Acl rules -> NoOp", username);
+                    return Future.succeededFuture(ReconcileResult.noop(desired));
                 } else {
-                    if (current.isEmpty())  {
-                        log.debug("User {}: {} expected Acl rules, but no existing Acl rules -> Adding rules", username, desired.size());
-                        internalCreate(username, desired).onComplete(future);
-                    } else  {
-                        log.debug("User {}: {} expected Acl rules and {} existing Acl rules -> Reconciling rules", username, desired.size(), current.size());
-                        internalUpdate(username, desired, current).onComplete(future);
-                    }
+                    log.debug("User {}: No expected Acl rules, but {} existing Acl rules -> Deleting rules", username, current.size());
+                    return internalDelete(username, current);
                 }
-            },
-            false,
-            promise
-        );
-        return promise.future();
+            } else {
+                if (current.isEmpty())  {
+                    log.debug("User {}: {} expected Acl rules, but no existing Acl rules -> Adding rules", username, desired.size());
+                    return internalCreate(username, desired);
+                } else  {
+                    log.debug("User {}: {} expected Acl rules and {} existing Acl rules -> Reconciling rules", username, desired.size(), current.size());
+                    return internalUpdate(username, desired, current);
+                }
+            }
+        }, e -> onGetAclsFailure(username, desired, e));
+    }
+
+    private Future<ReconcileResult<Set<SimpleAclRule>>> onGetAclsFailure(String username, Set<SimpleAclRule> desired, Throwable e) {
+        // if authorization is not enabled in the Kafka resource, but the KafkaUser resource doesn't
+        // have ACLs, the UO can just ignore the corresponding exception
+        if (e instanceof InvalidResourceException && (desired == null || desired.isEmpty())) {
+            return Future.succeededFuture();
+        } else {
+            log.error("Reconciliation failed for user {}", username, e);
+            return Future.failedFuture(e);
+        }
     }
 
     /**
      * Create all ACLs for given user
      */
+    @SuppressWarnings({ "rawtypes" })
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(String username, Set<SimpleAclRule> desired) {
-        try {
-            Collection<AclBinding> aclBindings = getAclBindings(username, desired);
-            adminClient.createAcls(aclBindings).all().get();
-        } catch (Exception e) {
-            log.error("Adding Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
+        List<Future> creations = new ArrayList<>(desired.size());
+        for (AclBinding aclBinding : getAclBindings(username, desired)) {
+            creations.add(createAclsBatcher.submit(aclBinding));
         }
 
-        return Future.succeededFuture(ReconcileResult.created(desired));
+        return CompositeFuture.all(creations)
+                .<ReconcileResult<Set<SimpleAclRule>>>map(ReconcileResult.created(desired))
+                .recover(e -> {
+                    log.error("Adding Acl rules for user {} failed", username, e);
+                    return Future.failedFuture(e);
+                });
     }
 
     /**
@@ -174,16 +263,19 @@ public class SimpleAclOperator {
     /**
      * Deletes all ACLs for given user
      */
+    @SuppressWarnings({ "rawtypes" })
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(String username, Set<SimpleAclRule> current) {
-
-        try {
-            Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
-            adminClient.deleteAcls(aclBindingFilters).all().get();
-        } catch (Exception e) {
-            log.error("Deleting Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
+        List<Future> deletions = new ArrayList<>(current.size());
+        for (AclBindingFilter aclBindingFilter : getAclBindingFilters(username, current)) {
+            deletions.add(deleteAclsBatcher.submit(aclBindingFilter));
         }
-        return Future.succeededFuture(ReconcileResult.deleted());
+
+        return CompositeFuture.all(deletions)
+                .<ReconcileResult<Set<SimpleAclRule>>>map(ReconcileResult.deleted())
+                .recover(e -> {
+                    log.error("Deleting Acl rules for user {} failed", username, e);
+                    return Future.failedFuture(e);
+                });
     }
 
     /**
@@ -224,7 +316,8 @@ public class SimpleAclOperator {
     }
 
     /**
-     * Returns set with all usernames which have some ACLs.
+     * Returns set with all usernames which have some ACLs. The described ACLs are kept as the ACL snapshot used by the
+     * next reconciliation of each user until {@link #dropSnapshot()} is called.
      *
      * @return The set with all usernames which have some ACLs.
      */
@@ -234,13 +327,23 @@ public class SimpleAclOperator {
 
         log.debug("Searching for Users with any ACL rules");
 
+        long refreshStart = System.nanoTime();
         Collection<AclBinding> aclBindings;
         try {
             aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
         } catch (InterruptedException | ExecutionException e) {
+            snapshot = null;
             return result;
         }
 
+        snapshot = new AclSnapshot(aclBindings);
+        log.debug("Took an ACL snapshot with {} ACL bindings", aclBindings.size());
+
+        if (snapshotRefreshTimer != null) {
+            snapshotRefreshTimer.record(System.nanoTime() - refreshStart, TimeUnit.NANOSECONDS);
+            snapshotSize.set(aclBindings.size());
+        }
+
         for (AclBinding aclBinding : aclBindings) {
             KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
@@ -266,4 +369,51 @@ public class SimpleAclOperator {
 
         return result;
     }
+
+    /**
+     * Drops the ACL snapshot. This should be called once the periodic reconciliation which took the snapshot
+     * completed, so that the later reconciliations describe the current ACLs of the users.
+     */
+    public void dropSnapshot() {
+        if (snapshot != null) {
+            log.debug("Dropping the ACL snapshot");
+            snapshot = null;
+        }
+    }
+
+    /**
+     * The ACL bindings of all principals described at some point in time. The ACLs of every principal can be taken
+     * from the snapshot only once.
+     */
+    static class AclSnapshot {
+        private final Map<String, List<AclBinding>> aclBindingsByPrincipal = new HashMap<>();
+        private final Set<String> taken = ConcurrentHashMap.newKeySet();
+
+        AclSnapshot(Collection<AclBinding> aclBindings) {
+            for (AclBinding aclBinding : aclBindings) {
+                aclBindingsByPrincipal.computeIfAbsent(aclBinding.entry().principal(), principal -> new ArrayList<>()).add(aclBinding);
+            }
+        }
+
+        /**
+         * Takes the ACLs of given user from the snapshot
+         *
+         * @param username  Name of the user
+         *
+         * @return  The ACL rules of the user or null if they were already taken from this snapshot
+         */
+        Set<SimpleAclRule> take(String username) {
+            String principal = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, username).toString();
+
+            if (!taken.add(principal)) {
+                return null;
+            }
+
+            Set<SimpleAclRule> result = new HashSet<>();
+            for (AclBinding aclBinding : aclBindingsByPrincipal.getOrDefault(principal, Collections.emptyList())) {
+                result.add(SimpleAclRule.fromAclBinding(aclBinding));
+            }
+            return result;
+        }
+    }
 }
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,8 @@ public class UserOperatorConfigTest {
         assertThat(config.getCaNamespace(), is(envVars.get(UserOperatorConfig.STRIMZI_CA_NAMESPACE)));
         assertThat(config.getZookeperConnect(), is(envVars.get(UserOperatorConfig.STRIMZI_ZOOKEEPER_CONNECT)));
         assertThat(config.getZookeeperSessionTimeoutMs(), is(Long.parseLong(envVars.get(UserOperatorConfig.STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS))));
+        assertThat(config.getScramShaCredentialsBackend(), is(UserOperatorConfig.DEFAULT_SCRAM_SHA_CREDENTIALS_BACKEND));
+        assertThat(config.getCertManagerType(), is(UserOperatorConfig.DEFAULT_CERT_MANAGER));
     }
 
     @Test
@@ -107,4 +110,42 @@ public class UserOperatorConfigTest {
 
         assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
     }
+
+    @Test
+    public void testFromMapScramShaCredentialsBackend()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+
+        envVars.put(UserOperatorConfig.STRIMZI_SCRAM_SHA_CREDENTIALS_BACKEND, "admin");
+        assertThat(UserOperatorConfig.fromMap(envVars).getScramShaCredentialsBackend(), is(UserOperatorConfig.ScramShaCredentialsBackend.ADMIN));
+
+        envVars.put(UserOperatorConfig.STRIMZI_SCRAM_SHA_CREDENTIALS_BACKEND, "ZooKeeper");
+        assertThat(UserOperatorConfig.fromMap(envVars).getScramShaCredentialsBackend(), is(UserOperatorConfig.ScramShaCredentialsBackend.ZOOKEEPER));
+    }
+
+    @Test
+    public void testFromMapInvalidScramShaCredentialsBackendThrows()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_SCRAM_SHA_CREDENTIALS_BACKEND, "kraft");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapCertManager()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "java");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.JAVA));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "OpenSSL");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.OPENSSL));
+    }
+
+    @Test
+    public void testFromMapInvalidCertManagerThrows()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
 }
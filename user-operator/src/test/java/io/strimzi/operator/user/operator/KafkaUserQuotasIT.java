@@ -8,6 +8,8 @@ import io.debezium.kafka.KafkaCluster;
 import io.debezium.util.Testing;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -386,6 +388,37 @@ public class KafkaUserQuotasIT {
             })));
     }
 
+    @Test
+    public void testReconcileMultipleUsersInOneBatch(VertxTestContext testContext) throws Exception {
+        KafkaUserQuotas otherQuotas = new KafkaUserQuotas();
+        otherQuotas.setRequestPercentage(10);
+        kuq.createOrUpdate("batchOtherUser", otherQuotas);
+
+        KafkaUserQuotas existingQuotas = new KafkaUserQuotas();
+        existingQuotas.setProducerByteRate(1_000_000);
+        kuq.createOrUpdate("batchExistingUser", existingQuotas);
+
+        KafkaUserQuotas newQuotas = new KafkaUserQuotas();
+        newQuotas.setConsumerByteRate(2_000_000);
+
+        KafkaUserQuotas updatedQuotas = new KafkaUserQuotas();
+        updatedQuotas.setProducerByteRate(3_000_000);
+
+        Checkpoint async = testContext.checkpoint();
+        CompositeFuture.all(kuq.reconcile("batchNewUser", newQuotas), kuq.reconcile("CN=batchNewUser", null), kuq.reconcile("batchExistingUser", updatedQuotas))
+            .onComplete(testContext.succeeding(rr -> testContext.verify(() -> {
+                assertThat(rr.resultAt(0) instanceof ReconcileResult.Created, is(true));
+                assertThat(rr.resultAt(1) instanceof ReconcileResult.Noop, is(true));
+                assertThat(rr.resultAt(2) instanceof ReconcileResult.Patched, is(true));
+
+                testDescribeUserQuotas("batchNewUser", newQuotas);
+                testUserQuotasNotExist("CN=batchNewUser");
+                testDescribeUserQuotas("batchExistingUser", updatedQuotas);
+                testDescribeUserQuotas("batchOtherUser", otherQuotas);
+                async.flag();
+            })));
+    }
+
     private boolean isPathExist(String path) {
         return zkClient.exists(path);
     }
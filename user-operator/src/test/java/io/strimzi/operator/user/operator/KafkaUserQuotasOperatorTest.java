@@ -0,0 +1,175 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaUserQuotasOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testReconcileBatchesQuotasOfMultipleUsers(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        KafkaUserQuotasOperator quotasOp = new KafkaUserQuotasOperator(vertx, mockAdminClient);
+
+        Map<ClientQuotaEntity, Map<String, Double>> currentQuotas = new HashMap<>();
+        currentQuotas.put(userEntity("bar"), Collections.singletonMap("producer_byte_rate", 1_000_000d));
+        currentQuotas.put(userEntity("baz"), Collections.singletonMap("producer_byte_rate", 1_000_000d));
+        mockDescribeClientQuotas(mockAdminClient, currentQuotas);
+
+        ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor = ArgumentCaptor.forClass(Collection.class);
+        mockAlterClientQuotas(mockAdminClient, alterationsCaptor);
+
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setProducerByteRate(1_000_000);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(quotasOp.reconcile("foo", quotas), quotasOp.reconcile("bar", quotas), quotasOp.reconcile("baz", null))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr.resultAt(0) instanceof ReconcileResult.Created, is(true));
+                    assertThat(rr.resultAt(1) instanceof ReconcileResult.Noop, is(true));
+                    assertThat(rr.resultAt(2), is(ReconcileResult.deleted()));
+
+                    // The quotas of every user are described separately and altered in a single request
+                    verify(mockAdminClient, times(3)).describeClientQuotas(any());
+                    verify(mockAdminClient, times(1)).alterClientQuotas(any());
+                    assertThat(alterationsCaptor.getValue().stream().map(ClientQuotaAlteration::entity).collect(Collectors.toList()),
+                            containsInAnyOrder(userEntity("foo"), userEntity("baz")));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileWithoutQuotas(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        KafkaUserQuotasOperator quotasOp = new KafkaUserQuotasOperator(vertx, mockAdminClient);
+
+        mockDescribeClientQuotas(mockAdminClient, Collections.emptyMap());
+
+        Checkpoint async = context.checkpoint();
+        quotasOp.reconcile("foo", null)
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr instanceof ReconcileResult.Noop, is(true));
+                    verify(mockAdminClient, never()).alterClientQuotas(any());
+                    async.flag();
+                })));
+    }
+
+    private ClientQuotaEntity userEntity(String username) {
+        return new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+    }
+
+    @Test
+    public void testDescribeUsesFilterForEachUser(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        KafkaUserQuotasOperator quotasOp = new KafkaUserQuotasOperator(vertx, mockAdminClient);
+
+        Map<ClientQuotaEntity, Map<String, Double>> currentQuotas = new HashMap<>();
+        currentQuotas.put(userEntity("foo"), Collections.singletonMap("producer_byte_rate", 1_000_000d));
+        currentQuotas.put(userEntity("bar"), Collections.singletonMap("producer_byte_rate", 1_000_000d));
+        currentQuotas.put(userEntity("other"), Collections.singletonMap("producer_byte_rate", 1_000_000d));
+        ArgumentCaptor<ClientQuotaFilter> filterCaptor = mockDescribeClientQuotas(mockAdminClient, currentQuotas);
+
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setProducerByteRate(1_000_000);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(quotasOp.reconcile("foo", quotas), quotasOp.reconcile("bar", quotas))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr.resultAt(0) instanceof ReconcileResult.Noop, is(true));
+                    assertThat(rr.resultAt(1) instanceof ReconcileResult.Noop, is(true));
+
+                    assertThat(filterCaptor.getAllValues(), containsInAnyOrder(userFilter("foo"), userFilter("bar")));
+                    verify(mockAdminClient, never()).alterClientQuotas(any());
+                    async.flag();
+                })));
+    }
+
+    private ClientQuotaFilter userFilter(String username) {
+        return ClientQuotaFilter.contains(Collections.singleton(ClientQuotaFilterComponent.ofEntity(ClientQuotaEntity.USER, username)));
+    }
+
+    /**
+     * Mocks the describeClientQuotas method to return the given quotas matching the user in the filter
+     */
+    private ArgumentCaptor<ClientQuotaFilter> mockDescribeClientQuotas(Admin mockAdminClient, Map<ClientQuotaEntity, Map<String, Double>> quotas) {
+        ArgumentCaptor<ClientQuotaFilter> filterCaptor = ArgumentCaptor.forClass(ClientQuotaFilter.class);
+
+        when(mockAdminClient.describeClientQuotas(filterCaptor.capture())).thenAnswer(invocation -> {
+            ClientQuotaFilter filter = invocation.getArgument(0);
+            Map<ClientQuotaEntity, Map<String, Double>> matching = quotas.entrySet().stream()
+                    .filter(entry -> filter.components().stream()
+                            .allMatch(component -> component.match().equals(Optional.ofNullable(entry.getKey().entries().get(component.entityType())))))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+            DescribeClientQuotasResult result = mock(DescribeClientQuotasResult.class);
+            when(result.entities()).thenReturn(KafkaFuture.completedFuture(matching));
+            return result;
+        });
+
+        return filterCaptor;
+    }
+
+    private void mockAlterClientQuotas(Admin mockAdminClient, ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor) {
+        when(mockAdminClient.alterClientQuotas(alterationsCaptor.capture())).thenAnswer(invocation -> {
+            Map<ClientQuotaEntity, KafkaFuture<Void>> futures = new HashMap<>();
+            for (ClientQuotaAlteration alteration : invocation.<Collection<ClientQuotaAlteration>>getArgument(0)) {
+                futures.put(alteration.entity(), KafkaFuture.completedFuture(null));
+            }
+
+            AlterClientQuotasResult result = mock(AlterClientQuotasResult.class);
+            when(result.values()).thenReturn(futures);
+            return result;
+        });
+    }
+}
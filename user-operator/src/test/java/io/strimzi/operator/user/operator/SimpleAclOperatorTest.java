@@ -7,9 +7,11 @@ package io.strimzi.operator.user.operator;
 import io.strimzi.api.kafka.model.AclOperation;
 import io.strimzi.api.kafka.model.AclResourcePatternType;
 import io.strimzi.api.kafka.model.AclRuleType;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -37,8 +39,10 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -53,6 +57,9 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -228,6 +235,106 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testReconcileUsesAclSnapshotOnce(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding)));
+        assertThat(aclOp.getUsersWithAcls(), is(Collections.singleton("foo")));
+
+        Checkpoint async = context.checkpoint();
+        aclOp.reconcile("CN=foo", Collections.singleton(readRule))
+                .compose(rr -> {
+                    context.verify(() -> {
+                        assertThat(rr instanceof ReconcileResult.Patched, is(true));
+                        // Only the snapshot was described
+                        verify(mockAdminClient, times(1)).describeAcls(any());
+                    });
+                    return aclOp.reconcile("CN=foo", Collections.singleton(readRule));
+                })
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // The snapshot is used only by the first reconciliation of the user
+                    verify(mockAdminClient, times(2)).describeAcls(any());
+                    verify(mockAdminClient, never()).createAcls(any());
+                    verify(mockAdminClient, never()).deleteAcls(any());
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileDoesNotUseDroppedAclSnapshot(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding)));
+        assertThat(aclOp.getUsersWithAcls(), is(Collections.singleton("foo")));
+
+        // The periodic reconciliation which took the snapshot completed
+        aclOp.dropSnapshot();
+
+        Checkpoint async = context.checkpoint();
+        aclOp.reconcile("CN=foo", Collections.singleton(readRule))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // The ACLs of the user were described again
+                    verify(mockAdminClient, times(2)).describeAcls(any());
+                    verify(mockAdminClient, never()).createAcls(any());
+                    verify(mockAdminClient, never()).deleteAcls(any());
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileBatchesAclsOfMultipleUsers(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        // The window is long enough for both reconciliations to submit their ACLs to the same batch
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient, null, 1_000);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding fooAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        KafkaPrincipal bar = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=bar");
+        AclBinding barAclBinding = new AclBinding(resource, new AccessControlEntry(bar.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, null, emptyList());
+            mockCreateAcls(mockAdminClient, aclBindingsCaptor);
+        });
+
+        // Takes an empty snapshot, so that the reconciliations do not describe the ACLs
+        aclOp.getUsersWithAcls();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(aclOp.reconcile("CN=foo", Collections.singleton(readRule)), aclOp.reconcile("CN=bar", Collections.singleton(readRule)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).createAcls(any());
+                    assertThat(aclBindingsCaptor.getValue(), hasSize(2));
+                    assertThat(aclBindingsCaptor.getValue(), hasItems(fooAclBinding, barAclBinding));
+                    async.flag();
+                })));
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings)
             throws InterruptedException, ExecutionException {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
@@ -239,19 +346,29 @@ public class SimpleAclOperatorTest {
 
     private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor)
             throws InterruptedException, ExecutionException {
-        CreateAclsResult result = mock(CreateAclsResult.class);
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(null);
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenReturn(result);
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            Map<AclBinding, KafkaFuture<Void>> futures = new HashMap<>();
+            for (AclBinding aclBinding : invocation.<Collection<AclBinding>>getArgument(0)) {
+                futures.put(aclBinding, KafkaFuture.completedFuture(null));
+            }
+
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(futures);
+            return result;
+        });
     }
 
     private void mockDeleteAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor)
             throws InterruptedException, ExecutionException {
-        DeleteAclsResult result = mock(DeleteAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(aclBindings);
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenReturn(result);
+        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenAnswer(invocation -> {
+            Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> futures = new HashMap<>();
+            for (AclBindingFilter aclBindingFilter : invocation.<Collection<AclBindingFilter>>getArgument(0)) {
+                futures.put(aclBindingFilter, KafkaFuture.completedFuture(mock(DeleteAclsResult.FilterResults.class)));
+            }
+
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            when(result.values()).thenReturn(futures);
+            return result;
+        });
     }
 }